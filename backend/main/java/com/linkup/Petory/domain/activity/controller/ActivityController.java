@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.linkup.Petory.domain.activity.dto.ActivityCursorPageResponseDTO;
 import com.linkup.Petory.domain.activity.dto.ActivityDTO;
 import com.linkup.Petory.domain.activity.dto.ActivityPageResponseDTO;
 import com.linkup.Petory.domain.activity.service.ActivityService;
@@ -44,4 +45,15 @@ public class ActivityController {
                 + ", filter: " + filter + ", page: " + page + ", size: " + size + " ===");
         return ResponseEntity.ok(activityService.getUserActivitiesWithPaging(userId, filter, page, size));
     }
+
+    // 커서 페이징 API - 다음 페이지는 응답의 nextCursor를 cursor로 전달 (필터를 바꾸면 cursor 없이 다시 시작)
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ActivityCursorPageResponseDTO> getMyActivitiesWithCursor(
+            @RequestParam("userId") Long userId,
+            @RequestParam(value = "filter", required = false, defaultValue = "ALL") String filter,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeCounts", defaultValue = "false") boolean includeCounts) {
+        return ResponseEntity.ok(activityService.getUserActivitiesWithCursor(userId, filter, cursor, size, includeCounts));
+    }
 }
@@ -0,0 +1,64 @@
+package com.linkup.Petory.domain.activity.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.linkup.Petory.domain.board.dto.PageCursor;
+import com.linkup.Petory.domain.board.exception.BoardValidationException;
+
+/**
+ * 활동 피드 커서. 활동 유형(소스)별 마지막으로 내려준 행의 (createdAt, idx)를 담는다.
+ * <p>
+ * 소스마다 독립된 키셋 위치를 가지므로 다음 페이지는 각 소스에서 자기 위치 이후만 읽으면 된다.
+ * 위치가 없는 소스는 아직 한 건도 내려가지 않은 것이므로 처음부터 읽는다.
+ * 클라이언트에는 Base64(URL-safe) 불투명 토큰으로만 노출한다.
+ * </p>
+ */
+public record ActivityCursor(Map<String, PageCursor> positions) {
+
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String KEY_SEPARATOR = ":";
+
+    public static ActivityCursor empty() {
+        return new ActivityCursor(Map.of());
+    }
+
+    public PageCursor positionOf(String type) {
+        return positions.get(type);
+    }
+
+    public String encode() {
+        String raw = positions.entrySet().stream()
+                .map(e -> e.getKey() + KEY_SEPARATOR + e.getValue().encode())
+                .collect(Collectors.joining(ENTRY_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 이전 응답의 nextCursor (null/빈 값이면 첫 페이지)
+     * @throws BoardValidationException 해석할 수 없는 커서 (PageCursor와 같은 400 응답)
+     */
+    public static ActivityCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return empty();
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw BoardValidationException.invalidCursor();
+        }
+        Map<String, PageCursor> positions = new LinkedHashMap<>();
+        for (String entry : raw.split(ENTRY_SEPARATOR)) {
+            int sep = entry.indexOf(KEY_SEPARATOR);
+            if (sep <= 0) {
+                throw BoardValidationException.invalidCursor();
+            }
+            positions.put(entry.substring(0, sep), PageCursor.decode(entry.substring(sep + 1)));
+        }
+        return new ActivityCursor(positions);
+    }
+}
@@ -0,0 +1,26 @@
+package com.linkup.Petory.domain.activity.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** 사용자 활동 내역 커서 페이징 응답 DTO. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회한다. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityCursorPageResponseDTO {
+    private List<ActivityDTO> activities;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+    private int pageSize;
+
+    // 필터별 개수 (includeCounts=true로 요청한 경우에만, 아니면 null)
+    private Long allCount;
+    private Long postsCount;
+    private Long commentsCount;
+    private Long reviewsCount;
+}
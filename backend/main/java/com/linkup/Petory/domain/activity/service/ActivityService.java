@@ -1,8 +1,15 @@
 package com.linkup.Petory.domain.activity.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
@@ -13,8 +20,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.activity.converter.ActivityConverter;
+import com.linkup.Petory.domain.activity.dto.ActivityCursor;
+import com.linkup.Petory.domain.activity.dto.ActivityCursorPageResponseDTO;
 import com.linkup.Petory.domain.activity.dto.ActivityDTO;
 import com.linkup.Petory.domain.activity.dto.ActivityPageResponseDTO;
+import com.linkup.Petory.domain.board.dto.PageCursor;
+import com.linkup.Petory.domain.board.exception.BoardValidationException;
 import com.linkup.Petory.domain.board.repository.BoardRepository;
 import com.linkup.Petory.domain.board.repository.CommentRepository;
 import com.linkup.Petory.domain.board.repository.MissingPetBoardRepository;
@@ -67,30 +78,23 @@ public class ActivityService {
                                 .toList();
         }
 
-        @SuppressWarnings("null")
+        /**
+         * 활동 내역 페이징 조회
+         * [리팩토링] 6개 소스 전체 로드 + 메모리 정렬 → 소스별 (page + 1) * size건만 키셋 조회 후 k-way 병합,
+         * 필터별 개수는 COUNT 쿼리
+         */
         public ActivityPageResponseDTO getUserActivitiesWithPaging(long userId, String filter, int page, int size) {
-                List<ActivityDTO> allActivities = getUserActivities(userId);
-                List<ActivityDTO> filteredActivities = filterActivities(allActivities, filter);
-
-                long allCount = allActivities.size();
-                long postsCount = 0, commentsCount = 0, reviewsCount = 0;
-                for (ActivityDTO a : allActivities) {
-                        if (isPostType(a.getType()))
-                                postsCount++;
-                        else if (isCommentType(a.getType()))
-                                commentsCount++;
-                        else if ("LOCATION_REVIEW".equals(a.getType()))
-                                reviewsCount++;
-                }
-
                 Pageable pageable = PageRequest.of(page, size);
-                int totalFiltered = filteredActivities.size();
-                int start = Math.min((int) pageable.getOffset(), totalFiltered);
-                int end = Math.min(start + pageable.getPageSize(), totalFiltered);
-                List<ActivityDTO> pageContent = start >= end
+                usersRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+
+                ActivityCounts counts = countActivities(userId);
+                int offset = (int) pageable.getOffset();
+                List<ActivityDTO> merged = merge(userId, sourcesFor(filter), ActivityCursor.empty(), offset + size)
+                                .activities();
+                List<ActivityDTO> pageContent = offset >= merged.size()
                                 ? Collections.emptyList()
-                                : filteredActivities.subList(start, end);
-                Page<ActivityDTO> activityPage = new PageImpl<>(pageContent, pageable, filteredActivities.size());
+                                : merged.subList(offset, merged.size());
+                Page<ActivityDTO> activityPage = new PageImpl<>(pageContent, pageable, counts.filtered(filter));
 
                 return ActivityPageResponseDTO.builder()
                                 .activities(activityPage.getContent())
@@ -100,41 +104,170 @@ public class ActivityService {
                                 .pageSize(size)
                                 .hasNext(activityPage.hasNext())
                                 .hasPrevious(activityPage.hasPrevious())
-                                .allCount(allCount)
-                                .postsCount(postsCount)
-                                .commentsCount(commentsCount)
-                                .reviewsCount(reviewsCount)
+                                .allCount(counts.all())
+                                .postsCount(counts.posts())
+                                .commentsCount(counts.comments())
+                                .reviewsCount(counts.reviews())
                                 .build();
         }
 
-        private List<ActivityDTO> filterActivities(List<ActivityDTO> activities, String filter) {
-                if (filter == null || "ALL".equals(filter)) {
-                        return activities;
+        /**
+         * 활동 내역 커서 페이징 조회
+         * - 소스별 커서 이후 size + 1건만 조회해 k-way 병합 (깊은 페이지도 조회량 일정)
+         * - 필터별 개수는 includeCounts=true일 때만 COUNT
+         */
+        public ActivityCursorPageResponseDTO getUserActivitiesWithCursor(long userId, String filter, String cursor,
+                        int size, boolean includeCounts) {
+                if (size < 1) {
+                        throw new BoardValidationException("size는 1 이상이어야 합니다.");
+                }
+                ActivityCursor after = ActivityCursor.decode(cursor);
+                usersRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+
+                MergeResult result = merge(userId, sourcesFor(filter), after, size);
+                ActivityCounts counts = includeCounts ? countActivities(userId) : null;
+
+                return ActivityCursorPageResponseDTO.builder()
+                                .activities(result.activities())
+                                .nextCursor(result.hasNext() ? result.next().encode() : null)
+                                .hasNext(result.hasNext())
+                                .pageSize(size)
+                                .allCount(counts != null ? counts.all() : null)
+                                .postsCount(counts != null ? counts.posts() : null)
+                                .commentsCount(counts != null ? counts.comments() : null)
+                                .reviewsCount(counts != null ? counts.reviews() : null)
+                                .build();
+        }
+
+        /**
+         * 소스별 키셋 조회 결과를 (createdAt desc, 소스 순서, idx desc)로 병합해 limit건을 뽑는다.
+         * 소스마다 limit + 1건만 읽으므로, 병합 후 남은 행이 있으면 다음 페이지가 있다.
+         */
+        private MergeResult merge(long userId, List<ActivitySource> sources, ActivityCursor after, int limit) {
+                Pageable fetch = PageRequest.of(0, limit + 1);
+                PriorityQueue<SourceHead> heads = new PriorityQueue<>(HEAD_ORDER);
+                for (int order = 0; order < sources.size(); order++) {
+                        ActivitySource source = sources.get(order);
+                        PageCursor position = after.positionOf(source.type());
+                        List<ActivityDTO> rows = source.query().fetch(userId,
+                                        position != null ? position.createdAt() : null,
+                                        position != null ? position.idx() : null,
+                                        fetch);
+                        SourceHead head = new SourceHead(order, source.type(), rows.iterator());
+                        if (head.advance()) {
+                                heads.add(head);
+                        }
                 }
 
+                List<ActivityDTO> activities = new ArrayList<>(limit);
+                Map<String, PageCursor> next = new LinkedHashMap<>(after.positions());
+                while (activities.size() < limit && !heads.isEmpty()) {
+                        SourceHead head = heads.poll();
+                        ActivityDTO current = head.current;
+                        activities.add(current);
+                        next.put(head.type, PageCursor.of(current.getCreatedAt(), current.getIdx()));
+                        if (head.advance()) {
+                                heads.add(head);
+                        }
+                }
+                return new MergeResult(activities, new ActivityCursor(next), !heads.isEmpty());
+        }
+
+        /** 필터에 해당하는 활동 소스. 소스 순서가 createdAt 동률 시 병합 순서다. */
+        private List<ActivitySource> sourcesFor(String filter) {
+                List<ActivitySource> posts = List.of(
+                                source("CARE_REQUEST", careRequestRepository::findActivityByUserIdAndCursor,
+                                                activityConverter::toActivityDto),
+                                source("BOARD", boardRepository::findActivityByUserIdAndCursor,
+                                                activityConverter::toActivityDto),
+                                source("MISSING_PET", missingPetBoardRepository::findActivityByUserIdAndCursor,
+                                                activityConverter::toActivityDto));
+                List<ActivitySource> comments = List.of(
+                                source("CARE_COMMENT", careRequestCommentRepository::findActivityByUserIdAndCursor,
+                                                activityConverter::toActivityDto),
+                                source("COMMENT", commentRepository::findActivityByUserIdAndCursor,
+                                                activityConverter::toActivityDto),
+                                source("MISSING_COMMENT", missingPetCommentRepository::findActivityByUserIdAndCursor,
+                                                activityConverter::toActivityDto));
+
+                if (filter == null || "ALL".equals(filter)) {
+                        return Stream.concat(posts.stream(), comments.stream()).toList();
+                }
                 return switch (filter) {
-                        case "POSTS" -> activities.stream()
-                                        .filter(a -> isPostType(a.getType()))
-                                        .toList();
-                        case "COMMENTS" -> activities.stream()
-                                        .filter(a -> isCommentType(a.getType()))
-                                        .toList();
-                        case "REVIEWS" -> activities.stream()
-                                        .filter(a -> "LOCATION_REVIEW".equals(a.getType()))
-                                        .toList();
-                        default -> activities;
+                        case "POSTS" -> posts;
+                        case "COMMENTS" -> comments;
+                        case "REVIEWS" -> List.of(); // 활동 피드에 리뷰 소스 없음
+                        default -> Stream.concat(posts.stream(), comments.stream()).toList();
                 };
         }
 
-        private boolean isPostType(String type) {
-                return "CARE_REQUEST".equals(type)
-                                || "BOARD".equals(type)
-                                || "MISSING_PET".equals(type);
+        private static <T> ActivitySource source(String type, SeekQuery<T> query,
+                        Function<T, ActivityDTO> converter) {
+                return new ActivitySource(type, (userId, createdAt, idx, pageable) -> query
+                                .fetch(userId, createdAt, idx, pageable).stream().map(converter).toList());
         }
 
-        private boolean isCommentType(String type) {
-                return "CARE_COMMENT".equals(type)
-                                || "COMMENT".equals(type)
-                                || "MISSING_COMMENT".equals(type);
+        private ActivityCounts countActivities(long userId) {
+                long posts = careRequestRepository.countActivityByUserId(userId)
+                                + boardRepository.countActivityByUserId(userId)
+                                + missingPetBoardRepository.countActivityByUserId(userId);
+                long comments = careRequestCommentRepository.countActivityByUserId(userId)
+                                + commentRepository.countActivityByUserId(userId)
+                                + missingPetCommentRepository.countActivityByUserId(userId);
+                return new ActivityCounts(posts, comments, 0);
+        }
+
+        private static final Comparator<SourceHead> HEAD_ORDER = Comparator
+                        .comparing((SourceHead h) -> h.current.getCreatedAt(),
+                                        Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparingInt(h -> h.order)
+                        .thenComparing(h -> h.current.getIdx(), Comparator.reverseOrder());
+
+        @FunctionalInterface
+        private interface SeekQuery<T> {
+                List<T> fetch(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx, Pageable pageable);
+        }
+
+        private record ActivitySource(String type, SeekQuery<ActivityDTO> query) {
+        }
+
+        private record MergeResult(List<ActivityDTO> activities, ActivityCursor next, boolean hasNext) {
+        }
+
+        private record ActivityCounts(long posts, long comments, long reviews) {
+                long all() {
+                        return posts + comments + reviews;
+                }
+
+                long filtered(String filter) {
+                        if (filter == null) {
+                                return all();
+                        }
+                        return switch (filter) {
+                                case "POSTS" -> posts;
+                                case "COMMENTS" -> comments;
+                                case "REVIEWS" -> reviews;
+                                default -> all();
+                        };
+                }
+        }
+
+        /** 병합 중인 소스별 현재 행 */
+        private static final class SourceHead {
+                private final int order;
+                private final String type;
+                private final Iterator<ActivityDTO> rows;
+                private ActivityDTO current;
+
+                SourceHead(int order, String type, Iterator<ActivityDTO> rows) {
+                        this.order = order;
+                        this.type = type;
+                        this.rows = rows;
+                }
+
+                boolean advance() {
+                        current = rows.hasNext() ? rows.next() : null;
+                        return current != null;
+                }
         }
 }
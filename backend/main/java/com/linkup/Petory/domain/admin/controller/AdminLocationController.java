@@ -92,14 +92,15 @@ public class AdminLocationController {
      * @return 배치 임포트 결과
      */
     /**
-     * 공공데이터 CSV 파일 임포트 (MASTER만)
+     * 공공데이터 CSV 파일 임포트 (MASTER만). startLine: 이전 임포트 결과의 lastCommittedLine (이어서 임포트)
      */
     @PostMapping(value = "/import-public-data", consumes = "multipart/form-data")
     @PreAuthorize("hasRole('MASTER')")
     public ResponseEntity<BatchImportResult> importPublicData(
-            @RequestParam("file") MultipartFile file) {
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "startLine", defaultValue = "0") int startLine) {
 
-        if (file == null || file.isEmpty()) {
+        if (file == null || file.isEmpty() || startLine < 0) {
             return ResponseEntity.badRequest()
                     .body(BatchImportResult.builder()
                             .error(1)
@@ -147,7 +148,7 @@ public class AdminLocationController {
         log.info("공공데이터 CSV 파일 업로드 임포트 요청: {} ({} bytes)", safeFilename, file.getSize());
 
         try {
-            BatchImportResult result = publicDataLocationService.importFromCsv(file);
+            BatchImportResult result = publicDataLocationService.importFromCsv(file, startLine);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             log.error("공공데이터 CSV 임포트 실패: {}", e.getMessage(), e);
@@ -165,17 +166,18 @@ public class AdminLocationController {
      * @return 배치 임포트 결과
      */
     /**
-     * 공공데이터 CSV 파일 경로 임포트 (MASTER만)
+     * 공공데이터 CSV 파일 경로 임포트 (MASTER만). startLine 생략 시 체크포인트 파일부터 이어서 임포트
      */
     @PostMapping("/import-public-data-path")
     @PreAuthorize("hasRole('MASTER')")
     public ResponseEntity<BatchImportResult> importPublicDataByPath(
-            @RequestParam("csvFilePath") String csvFilePath) {
+            @RequestParam("csvFilePath") String csvFilePath,
+            @RequestParam(value = "startLine", required = false) Integer startLine) {
 
-        log.info("공공데이터 CSV 경로 임포트 요청: {}", csvFilePath);
+        log.info("공공데이터 CSV 경로 임포트 요청: {} (시작 라인: {})", csvFilePath, startLine);
 
         try {
-            BatchImportResult result = publicDataLocationService.importFromCsv(csvFilePath);
+            BatchImportResult result = publicDataLocationService.importFromCsv(csvFilePath, startLine);
             return ResponseEntity.ok(result);
         } catch (Exception e) {
             log.error("공공데이터 CSV 임포트 실패: {}", e.getMessage(), e);
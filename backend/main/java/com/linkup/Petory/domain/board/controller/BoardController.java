@@ -17,8 +17,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.linkup.Petory.domain.board.dto.BoardCursorPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.BoardDTO;
 import com.linkup.Petory.domain.board.dto.BoardPageResponseDTO;
+import com.linkup.Petory.domain.board.dto.CommentCursorPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.CommentDTO;
 import com.linkup.Petory.domain.board.dto.CommentPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.ReactionRequest;
@@ -53,6 +55,17 @@ public class BoardController {
         return ResponseEntity.ok(boardService.getAllBoardsWithPaging(category, page, size));
     }
 
+    // 전체 게시글 조회 (커서 페이징) - 다음 페이지는 응답의 nextCursor를 cursor로 전달
+    @PreAuthorize("permitAll()")
+    @GetMapping("/cursor")
+    public ResponseEntity<BoardCursorPageResponseDTO> getAllBoardsByCursor(
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(boardService.getAllBoardsWithCursor(category, cursor, size, includeTotal));
+    }
+
     // 단일 게시글 조회
     @PreAuthorize("permitAll()")
     @GetMapping("/{id}")
@@ -125,6 +138,21 @@ public class BoardController {
         return ResponseEntity.ok(commentService.getCommentsWithPaging(boardId, page, size));
     }
 
+    /**
+     * 댓글 목록 조회 (커서 페이징)
+     * GET /api/boards/{boardId}/comments/cursor?cursor={nextCursor}&size={size}&includeTotal={includeTotal}
+     * 서비스: CommentService.getCommentsWithCursor()
+     */
+    @PreAuthorize("permitAll()")
+    @GetMapping("/{boardId}/comments/cursor")
+    public ResponseEntity<CommentCursorPageResponseDTO> getCommentsByCursor(
+            @PathVariable("boardId") Long boardId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(commentService.getCommentsWithCursor(boardId, cursor, size, includeTotal));
+    }
+
     @PreAuthorize("isAuthenticated()")
     @PostMapping("/{boardId}/comments")
     public ResponseEntity<CommentDTO> addComment(
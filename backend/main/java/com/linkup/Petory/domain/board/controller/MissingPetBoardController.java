@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.linkup.Petory.domain.board.dto.MissingPetBoardCursorPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.MissingPetBoardDTO;
 import com.linkup.Petory.domain.board.dto.MissingPetBoardPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.MissingPetCommentDTO;
@@ -79,6 +80,20 @@ public class MissingPetBoardController {
         return ResponseEntity.ok(missingPetBoardService.getBoardsWithPaging(status, page, size));
     }
 
+    /**
+     * 실종 제보 목록 조회 (커서 페이징).
+     * 쿼리: status, cursor(이전 응답의 nextCursor), size, includeTotal.
+     * 서비스: MissingPetBoardService.getBoardsWithCursor()
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<MissingPetBoardCursorPageResponseDTO> listBoardsByCursor(
+            @RequestParam(name = "status", required = false) MissingPetStatus status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(missingPetBoardService.getBoardsWithCursor(status, cursor, size, includeTotal));
+    }
+
     /**
      * 실종 제보 상세 조회 (댓글 페이징 지원).
      * path: 게시글 id. 쿼리: commentPage, commentSize.
@@ -16,8 +16,8 @@ public class CommentConverter {
                 .userId(comment.getUser().getIdx())
                 .username(comment.getUser().getUsername())
                 .userLocation(comment.getUser().getLocation())
-                .likeCount(0)
-                .dislikeCount(0)
+                .likeCount(comment.getLikeCount() != null ? comment.getLikeCount() : 0)
+                .dislikeCount(comment.getDislikeCount() != null ? comment.getDislikeCount() : 0)
                 .content(comment.getContent())
                 .createdAt(comment.getCreatedAt())
                 .status(comment.getStatus() != null ? comment.getStatus().name() : null)
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  *
  * @param snapshotId    스냅샷 ID
  * @param boardId       게시글 ID
- * @param periodType    집계 기간 타입 (WEEKLY, MONTHLY)
+ * @param periodType    집계 기간 타입 (DAILY, WEEKLY, MONTHLY)
  * @param periodStartDate 집계 시작일
  * @param periodEndDate   집계 종료일
  * @param ranking       순위
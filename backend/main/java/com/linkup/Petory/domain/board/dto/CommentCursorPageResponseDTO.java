@@ -0,0 +1,18 @@
+package com.linkup.Petory.domain.board.dto;
+
+import java.util.List;
+
+/**
+ * 댓글 커서 페이징 응답 DTO
+ * record: 불변 데이터 캐리어. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회한다.
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param totalCount 전체 건수 (includeTotal=true로 요청한 경우에만, 아니면 null)
+ */
+public record CommentCursorPageResponseDTO(
+        List<CommentDTO> comments,
+        String nextCursor,
+        boolean hasNext,
+        int pageSize,
+        Long totalCount) {
+}
@@ -0,0 +1,49 @@
+package com.linkup.Petory.domain.board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.linkup.Petory.domain.board.exception.BoardValidationException;
+
+/**
+ * 키셋(커서) 페이징 위치. 목록 정렬 키 (createdAt, idx)의 마지막 행 값이다.
+ * <p>
+ * 클라이언트에는 Base64(URL-safe) 불투명 토큰으로만 노출하고, 다음 요청의 cursor 파라미터로 그대로 받는다.
+ * 토큰 형식이 바뀌어도 클라이언트는 영향을 받지 않는다.
+ * </p>
+ */
+public record PageCursor(LocalDateTime createdAt, Long idx) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PageCursor of(LocalDateTime createdAt, Long idx) {
+        return new PageCursor(createdAt, idx);
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + idx;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 이전 응답의 nextCursor (null/빈 값이면 첫 페이지)
+     * @return 커서, 첫 페이지면 null
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            if (sep <= 0) {
+                throw BoardValidationException.invalidCursor();
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BoardValidationException.invalidCursor();
+        }
+    }
+}
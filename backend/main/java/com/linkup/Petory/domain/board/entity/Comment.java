@@ -32,6 +32,15 @@ public class Comment extends BaseTimeEntity {
 	@Lob
 	private String content;
 
+	/** 좋아요/싫어요 비정규화 카운터. 반응 배치 동기화(ReactionSyncService)가 comment_reaction 기준으로 갱신한다 */
+	@Builder.Default
+	@Column(name = "like_count", nullable = false)
+	private Integer likeCount = 0;
+
+	@Builder.Default
+	@Column(name = "dislike_count", nullable = false)
+	private Integer dislikeCount = 0;
+
 	@Enumerated(EnumType.STRING)
 	@Column(name = "status", nullable = false)
 	@Builder.Default
@@ -1,7 +1,25 @@
 package com.linkup.Petory.domain.board.entity;
 
-/** 인기 집계 기간 유형. WEEKLY(주간) / MONTHLY(월간). */
+import java.time.LocalDate;
+
+/** 인기 집계 기간 유형. DAILY(일간) / WEEKLY(주간) / MONTHLY(월간). 오늘을 포함한 집계 일수를 가진다. */
 public enum PopularityPeriodType {
-    WEEKLY,
-    MONTHLY
+    DAILY(1),
+    WEEKLY(7),
+    MONTHLY(30);
+
+    private final int days;
+
+    PopularityPeriodType(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /** today를 포함해 days일을 거슬러 올라간 집계 시작일 */
+    public LocalDate startDate(LocalDate today) {
+        return today.minusDays(days - 1L);
+    }
 }
@@ -0,0 +1,66 @@
+package com.linkup.Petory.domain.board.event;
+
+import com.linkup.Petory.domain.board.entity.Board;
+
+/**
+ * 게시글 인기도 카운터 변경 이벤트.
+ * 좋아요·댓글·조회수 변경, 게시글 생성·수정·삭제 시 발행되며
+ * BoardPopularityRanker가 커밋 이후(AFTER_COMMIT) 받아 당일 버킷과 메모리 랭킹을 갱신한다.
+ *
+ * @param boardId      게시글 ID
+ * @param category     게시글 카테고리 (랭킹 대상 여부 판단용)
+ * @param removed      게시글 삭제 여부 (true면 랭킹에서 제외)
+ * @param likeDelta    좋아요 증감
+ * @param commentDelta 댓글 증감
+ * @param viewDelta    조회수 증감
+ */
+public record BoardActivityEvent(
+        Long boardId,
+        String category,
+        boolean removed,
+        int likeDelta,
+        int commentDelta,
+        int viewDelta) {
+
+    public static BoardActivityEvent liked(Board board, int delta) {
+        return of(board, false, delta, 0, 0);
+    }
+
+    /** Redis 반응 카운터처럼 Board 엔티티 없이 좋아요 증감만 알 때 사용 */
+    public static BoardActivityEvent liked(Long boardId, String category, int delta) {
+        return new BoardActivityEvent(boardId, category, false, delta, 0, 0);
+    }
+
+    public static BoardActivityEvent commented(Board board, int delta) {
+        return of(board, false, 0, delta, 0);
+    }
+
+    public static BoardActivityEvent viewed(Board board) {
+        return viewed(board, 1);
+    }
+
+    /** 조회수 버퍼 플러시에서 실제로 반영된 증가분 */
+    public static BoardActivityEvent viewed(Board board, int delta) {
+        return of(board, false, 0, 0, delta);
+    }
+
+    /** 생성·카테고리 변경·복구 등 카운터 변화 없이 메타데이터만 갱신 */
+    public static BoardActivityEvent touched(Board board) {
+        return of(board, false, 0, 0, 0);
+    }
+
+    public static BoardActivityEvent removed(Board board) {
+        return of(board, true, 0, 0, 0);
+    }
+
+    private static BoardActivityEvent of(Board board, boolean removed, int likeDelta, int commentDelta,
+            int viewDelta) {
+        return new BoardActivityEvent(
+                board.getIdx(),
+                board.getCategory(),
+                removed || Boolean.TRUE.equals(board.getIsDeleted()),
+                likeDelta,
+                commentDelta,
+                viewDelta);
+    }
+}
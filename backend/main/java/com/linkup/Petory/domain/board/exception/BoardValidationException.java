@@ -31,4 +31,9 @@ public class BoardValidationException extends ApiException {
         return new BoardValidationException(
                 "유효하지 않은 상태입니다. " + validValues + " 중 하나를 선택해주세요.");
     }
+
+    /** 유효하지 않은 페이징 커서 */
+    public static BoardValidationException invalidCursor() {
+        return new BoardValidationException("유효하지 않은 커서입니다. 첫 페이지부터 다시 조회해주세요.");
+    }
 }
@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,4 +35,27 @@ public interface BoardReactionRepository {
      * 반환값: List<Object[]> [boardId, count]
      */
     List<Object[]> countByBoardsAndReactionType(List<Long> boardIds, ReactionType reactionType);
+
+    /**
+     * 카테고리 게시글의 특정 반응 타입 카운트를 일자 단위로 조회 (since 이후)
+     * 반환값: List<Object[]> [boardId, date, count]
+     */
+    List<Object[]> countDailyByCategoriesSince(List<String> categories, ReactionType reactionType,
+            LocalDateTime since);
+
+    /**
+     * 게시글의 사용자별 반응 전체 조회 (Redis 카운터 적재용)
+     * 반환값: List<Object[]> [userId, reactionType(String)]
+     */
+    List<Object[]> findUserReactionsByBoardId(Long boardId);
+
+    /**
+     * 한 게시글에 대한 여러 사용자의 반응을 같은 타입으로 일괄 저장 (있으면 타입 변경, 존재하지 않는 사용자 제외)
+     */
+    int upsertAll(Long boardId, List<Long> userIds, ReactionType reactionType);
+
+    /**
+     * 한 게시글에 대한 여러 사용자의 반응 일괄 삭제
+     */
+    int deleteByBoardIdAndUserIds(Long boardId, List<Long> userIds);
 }
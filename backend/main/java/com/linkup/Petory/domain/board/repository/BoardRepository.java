@@ -32,6 +32,8 @@ public interface BoardRepository {
 
     Optional<Board> findById(Long id);
 
+    List<Board> findAllById(List<Long> ids);
+
     /**
      * 게시글 단건 조회 (작성자 포함, Fetch Join)
      */
@@ -58,6 +60,15 @@ public interface BoardRepository {
         // 카테고리별 삭제되지 않은 게시글 조회 (최신순) - 페이징 - 작성자도 활성 상태여야 함
         Page<Board> findByCategoryAndIsDeletedFalseOrderByCreatedAtDesc(String category, Pageable pageable);
 
+        // 키셋(커서) 페이징 - (createdAt, idx) 내림차순, cursor가 null이면 첫 페이지 - 작성자도 활성 상태여야 함
+        List<Board> findAllByCursor(LocalDateTime cursorCreatedAt, Long cursorIdx, Pageable pageable);
+
+        List<Board> findByCategoryAndCursor(String category, LocalDateTime cursorCreatedAt, Long cursorIdx,
+                        Pageable pageable);
+
+        // 목록 전체 건수 (category가 null이면 전체) - 커서 페이징 includeTotal용
+        long countListable(String category);
+
         // 사용자별 삭제되지 않은 게시글 조회 (최신순) - 작성자도 활성 상태여야 함
         List<Board> findByUserAndIsDeletedFalseOrderByCreatedAtDesc(Users user);
 
@@ -81,6 +92,18 @@ public interface BoardRepository {
 
         void incrementViewCount(Long idx);
 
+        /**
+         * 여러 게시글의 조회수를 같은 증가분만큼 한 번의 UPDATE로 반영 (조회수 쓰기 버퍼 플러시용)
+         */
+        int addViewCount(List<Long> ids, int delta);
+
+        /**
+         * 좋아요/싫어요 카운터를 board_reaction 기준으로 재계산 (반응 배치 동기화용)
+         */
+        int syncReactionCounts(List<Long> ids);
+
+        void updateLastReactionAtAll(List<Long> ids, LocalDateTime at);
+
         void adjustLikeCount(Long idx, int delta);
 
         void adjustDislikeCount(Long idx, int delta);
@@ -88,4 +111,15 @@ public interface BoardRepository {
         void adjustCommentCount(Long idx, int delta);
 
         void updateLastReactionAt(Long idx, java.time.LocalDateTime at);
+
+        /**
+         * 활동 피드용 키셋 조회 - (createdAt, idx) 내림차순, cursor가 null이면 최신부터
+         */
+        List<Board> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+                Pageable pageable);
+
+        /**
+         * 활동 피드 필터별 건수용 COUNT
+         */
+        long countActivityByUserId(Long userId);
 }
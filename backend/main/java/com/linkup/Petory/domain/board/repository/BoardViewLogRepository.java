@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.linkup.Petory.domain.board.entity.Board;
@@ -17,10 +18,22 @@ public interface BoardViewLogRepository {
 
     int insertIgnore(Long boardId, Long userId);
 
+    /**
+     * 한 게시글의 조회자 로그 일괄 INSERT IGNORE
+     * 반환값: 새로 기록된 행 수 (이미 조회한 사용자·존재하지 않는 사용자 제외)
+     */
+    int insertIgnoreAll(Long boardId, List<Long> userIds);
+
     /**
      * 여러 게시글의 조회수 카운트를 한 번에 조회 (배치 조회)
      * 반환값: List<Object[]> [boardId, count]
      */
     List<Object[]> countByBoards(List<Long> boardIds);
+
+    /**
+     * 카테고리 게시글의 조회 로그 카운트를 일자 단위로 조회 (since 이후)
+     * 반환값: List<Object[]> [boardId, date, count]
+     */
+    List<Object[]> countDailyByCategoriesSince(List<String> categories, LocalDateTime since);
 }
 
@@ -29,4 +29,20 @@ public interface CommentReactionRepository {
      * 반환값: List<Object[]> [commentId, reactionType, count]
      */
     List<Object[]> countByCommentsGroupByReactionType(List<Long> commentIds);
+
+    /**
+     * 댓글의 사용자별 반응 전체 조회 (Redis 카운터 적재용)
+     * 반환값: List<Object[]> [userId, reactionType(String)]
+     */
+    List<Object[]> findUserReactionsByCommentId(Long commentId);
+
+    /**
+     * 한 댓글에 대한 여러 사용자의 반응을 같은 타입으로 일괄 저장 (있으면 타입 변경, 존재하지 않는 사용자 제외)
+     */
+    int upsertAll(Long commentId, List<Long> userIds, ReactionType reactionType);
+
+    /**
+     * 한 댓글에 대한 여러 사용자의 반응 일괄 삭제
+     */
+    int deleteByCommentIdAndUserIds(Long commentId, List<Long> userIds);
 }
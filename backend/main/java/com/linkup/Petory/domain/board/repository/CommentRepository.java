@@ -49,6 +49,12 @@ public interface CommentRepository {
      */
     List<Object[]> countByBoardsAndIsDeletedFalse(List<Long> boardIds);
 
+    /**
+     * 카테고리 게시글의 댓글 카운트를 일자 단위로 조회 (since 이후, 삭제 제외)
+     * 반환값: List<Object[]> [boardId, date, count]
+     */
+    List<Object[]> countDailyByCategoriesSince(List<String> categories, LocalDateTime since);
+
     /**
      * 관리자용: 작성자 상태 체크 없이 조회 (삭제된 사용자 댓글도 포함)
      */
@@ -59,5 +65,39 @@ public interface CommentRepository {
      */
     Page<Comment> findByBoardIdAndIsDeletedFalseOrderByCreatedAtAsc(Long boardId, Pageable pageable);
 
+    /**
+     * 키셋(커서) 페이징 - 게시글별 댓글 (createdAt, idx) 오름차순, cursor가 null이면 첫 페이지
+     */
+    List<Comment> findByBoardIdAndCursor(Long boardId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable);
+
+    /**
+     * 게시글별 댓글 목록 전체 건수 (커서 페이징 includeTotal용)
+     */
+    long countListableByBoardId(Long boardId);
+
     void softDeleteByBoardIdx(Long boardIdx, LocalDateTime now);
+
+    /**
+     * 좋아요/싫어요 카운터를 comment_reaction 기준으로 재계산 (반응 배치 동기화용)
+     */
+    int syncReactionCounts(List<Long> ids);
+
+    /**
+     * idx 구간 [fromIdx, toIdx] 카운터 재계산 (백필·정합성 복구 배치용)
+     */
+    int syncReactionCountsInRange(Long fromIdx, Long toIdx);
+
+    Long findMaxIdx();
+
+    /**
+     * 활동 피드용 키셋 조회 - (createdAt, idx) 내림차순, cursor가 null이면 최신부터
+     */
+    List<Comment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable);
+
+    /**
+     * 활동 피드 필터별 건수용 COUNT
+     */
+    long countActivityByUserId(Long userId);
 }
@@ -58,6 +58,12 @@ public class JpaBoardAdapter implements BoardRepository {
         return jpaRepository.findById(id);
     }
 
+    @SuppressWarnings("null")
+    @Override
+    public List<Board> findAllById(List<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @Override
     public Optional<Board> findByIdWithUser(Long id) {
         return jpaRepository.findByIdWithUser(id);
@@ -97,6 +103,22 @@ public class JpaBoardAdapter implements BoardRepository {
         return jpaRepository.findAllByIsDeletedFalseOrderByCreatedAtDesc(pageable);
     }
 
+    @Override
+    public List<Board> findAllByCursor(LocalDateTime cursorCreatedAt, Long cursorIdx, Pageable pageable) {
+        return jpaRepository.findAllByCursor(cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public List<Board> findByCategoryAndCursor(String category, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return jpaRepository.findByCategoryAndCursor(category, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countListable(String category) {
+        return jpaRepository.countListable(category);
+    }
+
     @Override
     public List<Board> findByCategoryAndIsDeletedFalseOrderByCreatedAtDesc(String category) {
         return jpaRepository.findByCategoryAndIsDeletedFalseOrderByCreatedAtDesc(category);
@@ -147,6 +169,21 @@ public class JpaBoardAdapter implements BoardRepository {
         jpaRepository.incrementViewCount(idx);
     }
 
+    @Override
+    public int addViewCount(List<Long> ids, int delta) {
+        return jpaRepository.addViewCount(ids, delta);
+    }
+
+    @Override
+    public int syncReactionCounts(List<Long> ids) {
+        return jpaRepository.syncReactionCounts(ids);
+    }
+
+    @Override
+    public void updateLastReactionAtAll(List<Long> ids, LocalDateTime at) {
+        jpaRepository.updateLastReactionAtAll(ids, at);
+    }
+
     @Override
     public void adjustLikeCount(Long idx, int delta) {
         jpaRepository.adjustLikeCount(idx, delta);
@@ -166,4 +203,15 @@ public class JpaBoardAdapter implements BoardRepository {
     public void updateLastReactionAt(Long idx, java.time.LocalDateTime at) {
         jpaRepository.updateLastReactionAt(idx, at);
     }
+
+    @Override
+    public List<Board> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return jpaRepository.findActivityByUserIdAndCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countActivityByUserId(Long userId) {
+        return jpaRepository.countActivityByUserId(userId);
+    }
 }
@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,8 +57,29 @@ public class JpaBoardReactionAdapter implements BoardReactionRepository {
         return jpaRepository.countByBoardsAndReactionType(boardIds, reactionType);
     }
 
+    @Override
+    public List<Object[]> countDailyByCategoriesSince(List<String> categories, ReactionType reactionType,
+            LocalDateTime since) {
+        return jpaRepository.countDailyByCategoriesSince(categories, reactionType.name(), since);
+    }
+
     @Override
     public int insertIgnore(Long boardId, Long userId, String reactionType) {
         return jpaRepository.insertIgnore(boardId, userId, reactionType);
     }
+
+    @Override
+    public List<Object[]> findUserReactionsByBoardId(Long boardId) {
+        return jpaRepository.findUserReactionsByBoardId(boardId);
+    }
+
+    @Override
+    public int upsertAll(Long boardId, List<Long> userIds, ReactionType reactionType) {
+        return jpaRepository.upsertAll(boardId, userIds, reactionType.name());
+    }
+
+    @Override
+    public int deleteByBoardIdAndUserIds(Long boardId, List<Long> userIds) {
+        return jpaRepository.deleteByBoardIdAndUserIds(boardId, userIds);
+    }
 }
@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.context.annotation.Primary;
@@ -37,8 +38,18 @@ public class JpaBoardViewLogAdapter implements BoardViewLogRepository {
         return jpaRepository.countByBoards(boardIds);
     }
 
+    @Override
+    public List<Object[]> countDailyByCategoriesSince(List<String> categories, LocalDateTime since) {
+        return jpaRepository.countDailyByCategoriesSince(categories, since);
+    }
+
     @Override
     public int insertIgnore(Long boardId, Long userId) {
         return jpaRepository.insertIgnore(boardId, userId);
     }
+
+    @Override
+    public int insertIgnoreAll(Long boardId, List<Long> userIds) {
+        return jpaRepository.insertIgnoreAll(boardId, userIds);
+    }
 }
@@ -79,6 +79,11 @@ public class JpaCommentAdapter implements CommentRepository {
         return jpaRepository.countByBoardsAndIsDeletedFalse(boardIds);
     }
 
+    @Override
+    public List<Object[]> countDailyByCategoriesSince(List<String> categories, LocalDateTime since) {
+        return jpaRepository.countDailyByCategoriesSince(categories, since);
+    }
+
     @Override
     public List<Comment> findByBoardAndIsDeletedFalseForAdmin(Board board) {
         return jpaRepository.findByBoardAndIsDeletedFalseForAdmin(board);
@@ -89,8 +94,45 @@ public class JpaCommentAdapter implements CommentRepository {
         return jpaRepository.findByBoardIdAndIsDeletedFalseOrderByCreatedAtAsc(boardId, pageable);
     }
 
+    @Override
+    public List<Comment> findByBoardIdAndCursor(Long boardId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return jpaRepository.findByBoardIdAndCursor(boardId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countListableByBoardId(Long boardId) {
+        return jpaRepository.countListableByBoardId(boardId);
+    }
+
     @Override
     public void softDeleteByBoardIdx(Long boardIdx, LocalDateTime now) {
         jpaRepository.softDeleteByBoardIdx(boardIdx, now);
     }
+
+    @Override
+    public int syncReactionCounts(List<Long> ids) {
+        return jpaRepository.syncReactionCounts(ids);
+    }
+
+    @Override
+    public int syncReactionCountsInRange(Long fromIdx, Long toIdx) {
+        return jpaRepository.syncReactionCountsInRange(fromIdx, toIdx);
+    }
+
+    @Override
+    public Long findMaxIdx() {
+        return jpaRepository.findMaxIdx();
+    }
+
+    @Override
+    public List<Comment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return jpaRepository.findActivityByUserIdAndCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countActivityByUserId(Long userId) {
+        return jpaRepository.countActivityByUserId(userId);
+    }
 }
@@ -54,4 +54,19 @@ public class JpaCommentReactionAdapter implements CommentReactionRepository {
     public int insertIgnore(Long commentId, Long userId, String reactionType) {
         return jpaRepository.insertIgnore(commentId, userId, reactionType);
     }
+
+    @Override
+    public List<Object[]> findUserReactionsByCommentId(Long commentId) {
+        return jpaRepository.findUserReactionsByCommentId(commentId);
+    }
+
+    @Override
+    public int upsertAll(Long commentId, List<Long> userIds, ReactionType reactionType) {
+        return jpaRepository.upsertAll(commentId, userIds, reactionType.name());
+    }
+
+    @Override
+    public int deleteByCommentIdAndUserIds(Long commentId, List<Long> userIds) {
+        return jpaRepository.deleteByCommentIdAndUserIds(commentId, userIds);
+    }
 }
@@ -1,6 +1,7 @@
 package com.linkup.Petory.domain.board.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -106,6 +107,17 @@ public class JpaMissingPetBoardAdapter implements MissingPetBoardRepository {
         return jpaRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
     }
 
+    @Override
+    public List<MissingPetBoard> findByStatusAndCursor(MissingPetStatus status, LocalDateTime cursorCreatedAt,
+            Long cursorIdx, Pageable pageable) {
+        return jpaRepository.findByStatusAndCursor(status, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countListable(MissingPetStatus status) {
+        return jpaRepository.countListable(status);
+    }
+
     @Override
     public Page<MissingPetBoard> findHomeCandidatesByStatusOrderByLostDateDesc(
             MissingPetStatus status, Pageable pageable) {
@@ -135,4 +147,15 @@ public class JpaMissingPetBoardAdapter implements MissingPetBoardRepository {
     public Optional<Long> findUserIdByIdx(Long idx) {
         return jpaRepository.findUserIdByIdx(idx);
     }
+
+    @Override
+    public List<MissingPetBoard> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return jpaRepository.findActivityByUserIdAndCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countActivityByUserId(Long userId) {
+        return jpaRepository.countActivityByUserId(userId);
+    }
 }
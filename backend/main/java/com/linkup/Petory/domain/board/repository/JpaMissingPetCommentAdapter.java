@@ -106,4 +106,15 @@ public class JpaMissingPetCommentAdapter implements MissingPetCommentRepository
         // [리팩토링] 배치 UPDATE - N건 루프 save 대체
         return jpaRepository.softDeleteAllByBoardIdx(boardIdx, deletedAt);
     }
+
+    @Override
+    public List<MissingPetComment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return jpaRepository.findActivityByUserIdAndCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countActivityByUserId(Long userId) {
+        return jpaRepository.countActivityByUserId(userId);
+    }
 }
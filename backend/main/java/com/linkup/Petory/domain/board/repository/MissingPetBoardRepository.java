@@ -1,6 +1,7 @@
 package com.linkup.Petory.domain.board.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +60,17 @@ public interface MissingPetBoardRepository {
      */
     Page<MissingPetBoard> findByStatusOrderByCreatedAtDesc(MissingPetStatus status, Pageable pageable);
 
+    /**
+     * 키셋(커서) 페이징 - (createdAt, idx) 내림차순. status가 null이면 전체, cursor가 null이면 첫 페이지
+     */
+    List<MissingPetBoard> findByStatusAndCursor(MissingPetStatus status, LocalDateTime cursorCreatedAt,
+            Long cursorIdx, Pageable pageable);
+
+    /**
+     * 목록 전체 건수 (status가 null이면 전체) - 커서 페이징 includeTotal용
+     */
+    long countListable(MissingPetStatus status);
+
     /**
      * 홈 실종 추천용 - 실종일 최신순 후보 조회
      */
@@ -84,4 +96,15 @@ public interface MissingPetBoardRepository {
      * [리팩토링] 게시글 작성자 ID만 조회 (프로젝션) - startMissingPetChat 등 경량 조회용
      */
     Optional<Long> findUserIdByIdx(Long idx);
+
+    /**
+     * 활동 피드용 키셋 조회 - (createdAt, idx) 내림차순, cursor가 null이면 최신부터
+     */
+    List<MissingPetBoard> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable);
+
+    /**
+     * 활동 피드 필터별 건수용 COUNT
+     */
+    long countActivityByUserId(Long userId);
 }
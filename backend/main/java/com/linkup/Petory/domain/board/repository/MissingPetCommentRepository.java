@@ -68,4 +68,15 @@ public interface MissingPetCommentRepository {
      * @return 업데이트된 행 수
      */
     int softDeleteAllByBoardIdx(Long boardIdx, LocalDateTime deletedAt);
+
+    /**
+     * 활동 피드용 키셋 조회 - (createdAt, idx) 내림차순, cursor가 null이면 최신부터
+     */
+    List<MissingPetComment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable);
+
+    /**
+     * 활동 피드 필터별 건수용 COUNT
+     */
+    long countActivityByUserId(Long userId);
 }
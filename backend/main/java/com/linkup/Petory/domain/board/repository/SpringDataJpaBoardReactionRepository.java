@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,9 +41,35 @@ public interface SpringDataJpaBoardReactionRepository extends JpaRepository<Boar
            "GROUP BY br.board.idx")
     List<Object[]> countByBoardsAndReactionType(@Param("boardIds") List<Long> boardIds, @Param("reactionType") ReactionType reactionType);
 
+    @RepositoryMethod("게시글 반응: 카테고리별 일자 단위 카운트 (인기 랭커 초기 적재)")
+    @Query(value = "SELECT br.board_idx, DATE(br.created_at), COUNT(*) " +
+           "FROM board_reaction br " +
+           "INNER JOIN board b ON b.idx = br.board_idx " +
+           "WHERE b.category IN (:categories) AND b.is_deleted = false " +
+           "AND br.reaction_type = :reactionType AND br.created_at >= :since " +
+           "GROUP BY br.board_idx, DATE(br.created_at)", nativeQuery = true)
+    List<Object[]> countDailyByCategoriesSince(@Param("categories") List<String> categories,
+            @Param("reactionType") String reactionType, @Param("since") LocalDateTime since);
+
     @Modifying
     @Transactional
     @Query(value = "INSERT IGNORE INTO board_reaction (board_idx, user_idx, reaction_type) VALUES (:boardId, :userId, :reactionType)", nativeQuery = true)
     int insertIgnore(@Param("boardId") Long boardId, @Param("userId") Long userId, @Param("reactionType") String reactionType);
-}
 
+    @RepositoryMethod("게시글 반응: 게시글의 사용자별 반응 전체 (Redis 카운터 적재용)")
+    @Query(value = "SELECT br.user_idx, br.reaction_type FROM board_reaction br WHERE br.board_idx = :boardId", nativeQuery = true)
+    List<Object[]> findUserReactionsByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO board_reaction (board_idx, user_idx, reaction_type, created_at, updated_at) " +
+           "SELECT :boardId, u.idx, :reactionType, NOW(), NOW() FROM users u WHERE u.idx IN (:userIds) " +
+           "ON DUPLICATE KEY UPDATE reaction_type = VALUES(reaction_type), updated_at = NOW()", nativeQuery = true)
+    int upsertAll(@Param("boardId") Long boardId, @Param("userIds") List<Long> userIds,
+            @Param("reactionType") String reactionType);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM board_reaction WHERE board_idx = :boardId AND user_idx IN (:userIds)", nativeQuery = true)
+    int deleteByBoardIdAndUserIds(@Param("boardId") Long boardId, @Param("userIds") List<Long> userIds);
+}
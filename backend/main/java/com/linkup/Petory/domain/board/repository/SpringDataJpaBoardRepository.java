@@ -44,6 +44,51 @@ public interface SpringDataJpaBoardRepository extends JpaRepository<Board, Long>
     Page<Board> findByCategoryAndIsDeletedFalseOrderByCreatedAtDesc(@Param("category") String category,
             Pageable pageable);
 
+    // 커서 유무로 첫 페이지 / seek 쿼리를 나눔 — (:cursor IS NULL OR ...)는 (is_deleted, created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("게시글: 전체 목록 커서 페이징")
+    default List<Board> findAllByCursor(LocalDateTime cursorCreatedAt, Long cursorIdx, Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findAllFirstPage(pageable)
+                : findAllAfterCursor(cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("게시글: 전체 목록 커서 첫 페이지")
+    @Query("SELECT b FROM Board b JOIN FETCH b.user u WHERE b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<Board> findAllFirstPage(Pageable pageable);
+
+    @RepositoryMethod("게시글: 전체 목록 커서 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT b FROM Board b JOIN FETCH b.user u WHERE b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (b.createdAt, b.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<Board> findAllAfterCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorIdx") Long cursorIdx, Pageable pageable);
+
+    @RepositoryMethod("게시글: 카테고리별 목록 커서 페이징")
+    default List<Board> findByCategoryAndCursor(String category, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findByCategoryFirstPage(category, pageable)
+                : findByCategoryAfterCursor(category, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("게시글: 카테고리별 목록 커서 첫 페이지")
+    @Query("SELECT b FROM Board b JOIN FETCH b.user u WHERE b.category = :category AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<Board> findByCategoryFirstPage(@Param("category") String category, Pageable pageable);
+
+    @RepositoryMethod("게시글: 카테고리별 목록 커서 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT b FROM Board b JOIN FETCH b.user u WHERE b.category = :category AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (b.createdAt, b.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<Board> findByCategoryAfterCursor(@Param("category") String category,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("게시글: 목록 전체 건수")
+    @Query("SELECT COUNT(b) FROM Board b JOIN b.user u WHERE (:category IS NULL OR b.category = :category) AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
+    long countListable(@Param("category") String category);
+
     @RepositoryMethod("게시글: 사용자별 목록 조회")
     @Query("SELECT b FROM Board b JOIN FETCH b.user u WHERE b.user = :user AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' ORDER BY b.createdAt DESC")
     List<Board> findByUserAndIsDeletedFalseOrderByCreatedAtDesc(@Param("user") Users user);
@@ -95,6 +140,11 @@ public interface SpringDataJpaBoardRepository extends JpaRepository<Board, Long>
     @Query("UPDATE Board b SET b.viewCount = COALESCE(b.viewCount, 0) + 1 WHERE b.idx = :idx")
     void incrementViewCount(@Param("idx") Long idx);
 
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.viewCount = COALESCE(b.viewCount, 0) + :delta WHERE b.idx IN :ids")
+    int addViewCount(@Param("ids") List<Long> ids, @Param("delta") int delta);
+
     @Transactional
     @Modifying
     @Query("UPDATE Board b SET b.likeCount = GREATEST(0, COALESCE(b.likeCount, 0) + :delta) WHERE b.idx = :idx")
@@ -114,4 +164,46 @@ public interface SpringDataJpaBoardRepository extends JpaRepository<Board, Long>
     @Modifying
     @Query("UPDATE Board b SET b.lastReactionAt = :at WHERE b.idx = :idx")
     void updateLastReactionAt(@Param("idx") Long idx, @Param("at") java.time.LocalDateTime at);
+
+    /**
+     * 좋아요/싫어요 카운터를 board_reaction 기준으로 재계산 (반응 배치 동기화용, 재실행해도 결과 동일)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE board b SET " +
+           "b.like_count = (SELECT COUNT(*) FROM board_reaction r WHERE r.board_idx = b.idx AND r.reaction_type = 'LIKE'), " +
+           "b.dislike_count = (SELECT COUNT(*) FROM board_reaction r WHERE r.board_idx = b.idx AND r.reaction_type = 'DISLIKE') " +
+           "WHERE b.idx IN (:ids)", nativeQuery = true)
+    int syncReactionCounts(@Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Board b SET b.lastReactionAt = :at WHERE b.idx IN :ids")
+    int updateLastReactionAtAll(@Param("ids") List<Long> ids, @Param("at") LocalDateTime at);
+
+    // 커서 유무로 쿼리를 나눔 — (:cursorCreatedAt IS NULL OR ...)는 작성자별 (created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("게시글: 사용자 활동 피드 커서 조회")
+    default List<Board> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findActivityFirstPage(userId, pageable)
+                : findActivityAfterCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("게시글: 사용자 활동 피드 첫 페이지")
+    @Query("SELECT b FROM Board b JOIN b.user u WHERE u.idx = :userId AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<Board> findActivityFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("게시글: 사용자 활동 피드 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT b FROM Board b JOIN b.user u WHERE u.idx = :userId AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (b.createdAt, b.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<Board> findActivityAfterCursor(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("게시글: 사용자 활동 건수")
+    @Query("SELECT COUNT(b) FROM Board b JOIN b.user u WHERE u.idx = :userId AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
+    long countActivityByUserId(@Param("userId") Long userId);
 }
@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.board.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,9 +29,28 @@ public interface SpringDataJpaBoardViewLogRepository extends JpaRepository<Board
            "GROUP BY bvl.board.idx")
     List<Object[]> countByBoards(@Param("boardIds") List<Long> boardIds);
 
+    @RepositoryMethod("조회수 로그: 카테고리별 일자 단위 카운트 (인기 랭커 초기 적재)")
+    @Query(value = "SELECT bvl.board_id, DATE(bvl.viewed_at), COUNT(*) " +
+           "FROM board_view_log bvl " +
+           "INNER JOIN board b ON b.idx = bvl.board_id " +
+           "WHERE b.category IN (:categories) AND b.is_deleted = false AND bvl.viewed_at >= :since " +
+           "GROUP BY bvl.board_id, DATE(bvl.viewed_at)", nativeQuery = true)
+    List<Object[]> countDailyByCategoriesSince(@Param("categories") List<String> categories,
+            @Param("since") LocalDateTime since);
+
     @Modifying
     @Transactional
     @Query(value = "INSERT IGNORE INTO board_view_log (board_id, user_id, viewed_at) VALUES (:boardId, :userId, NOW())", nativeQuery = true)
     int insertIgnore(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    /**
+     * 한 게시글의 여러 조회자 로그를 한 번에 INSERT IGNORE (존재하지 않는 사용자는 제외)
+     * 이미 기록된 (board_id, user_id)는 unique 제약으로 무시되므로 재실행해도 결과가 같다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO board_view_log (board_id, user_id, viewed_at) " +
+           "SELECT :boardId, u.idx, NOW() FROM users u WHERE u.idx IN (:userIds)", nativeQuery = true)
+    int insertIgnoreAll(@Param("boardId") Long boardId, @Param("userIds") List<Long> userIds);
 }
 
@@ -37,5 +37,21 @@ public interface SpringDataJpaCommentReactionRepository extends JpaRepository<Co
     @Transactional
     @Query(value = "INSERT IGNORE INTO comment_reaction (comment_idx, user_idx, reaction_type) VALUES (:commentId, :userId, :reactionType)", nativeQuery = true)
     int insertIgnore(@Param("commentId") Long commentId, @Param("userId") Long userId, @Param("reactionType") String reactionType);
-}
 
+    @RepositoryMethod("댓글 반응: 댓글의 사용자별 반응 전체 (Redis 카운터 적재용)")
+    @Query(value = "SELECT cr.user_idx, cr.reaction_type FROM comment_reaction cr WHERE cr.comment_idx = :commentId", nativeQuery = true)
+    List<Object[]> findUserReactionsByCommentId(@Param("commentId") Long commentId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO comment_reaction (comment_idx, user_idx, reaction_type, created_at, updated_at) " +
+           "SELECT :commentId, u.idx, :reactionType, NOW(), NOW() FROM users u WHERE u.idx IN (:userIds) " +
+           "ON DUPLICATE KEY UPDATE reaction_type = VALUES(reaction_type), updated_at = NOW()", nativeQuery = true)
+    int upsertAll(@Param("commentId") Long commentId, @Param("userIds") List<Long> userIds,
+            @Param("reactionType") String reactionType);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM comment_reaction WHERE comment_idx = :commentId AND user_idx IN (:userIds)", nativeQuery = true)
+    int deleteByCommentIdAndUserIds(@Param("commentId") Long commentId, @Param("userIds") List<Long> userIds);
+}
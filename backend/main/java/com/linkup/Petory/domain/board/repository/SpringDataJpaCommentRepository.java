@@ -41,6 +41,16 @@ public interface SpringDataJpaCommentRepository extends JpaRepository<Comment, L
            "GROUP BY c.board.idx")
     List<Object[]> countByBoardsAndIsDeletedFalse(@Param("boardIds") List<Long> boardIds);
 
+    @RepositoryMethod("댓글: 카테고리별 일자 단위 카운트 (인기 랭커 초기 적재)")
+    @Query(value = "SELECT c.board_idx, DATE(c.created_at), COUNT(*) " +
+           "FROM comment c " +
+           "INNER JOIN board b ON b.idx = c.board_idx " +
+           "WHERE b.category IN (:categories) AND b.is_deleted = false " +
+           "AND c.is_deleted = false AND c.created_at >= :since " +
+           "GROUP BY c.board_idx, DATE(c.created_at)", nativeQuery = true)
+    List<Object[]> countDailyByCategoriesSince(@Param("categories") List<String> categories,
+            @Param("since") LocalDateTime since);
+
     @RepositoryMethod("댓글: 관리자용 게시글별 목록")
     @Query("SELECT c FROM Comment c JOIN FETCH c.user u WHERE c.board = :board AND c.isDeleted = false ORDER BY c.createdAt ASC")
     List<Comment> findByBoardAndIsDeletedFalseForAdmin(@Param("board") Board board);
@@ -50,10 +60,87 @@ public interface SpringDataJpaCommentRepository extends JpaRepository<Comment, L
            countQuery = "SELECT COUNT(c) FROM Comment c JOIN c.user u WHERE c.board.idx = :boardId AND c.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
     Page<Comment> findByBoardIdAndIsDeletedFalseOrderByCreatedAtAsc(@Param("boardId") Long boardId, Pageable pageable);
 
+    // 커서 유무로 첫 페이지 / seek 쿼리를 나눔 — (:cursor IS NULL OR ...)는 (board_idx, is_deleted, created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("댓글: 게시글별 커서 페이징")
+    default List<Comment> findByBoardIdAndCursor(Long boardId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findByBoardIdFirstPage(boardId, pageable)
+                : findByBoardIdAfterCursor(boardId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("댓글: 게시글별 커서 첫 페이지")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u WHERE c.board.idx = :boardId AND c.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY c.createdAt ASC, c.idx ASC")
+    List<Comment> findByBoardIdFirstPage(@Param("boardId") Long boardId, Pageable pageable);
+
+    @RepositoryMethod("댓글: 게시글별 커서 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user u WHERE c.board.idx = :boardId AND c.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (c.createdAt, c.idx) > (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY c.createdAt ASC, c.idx ASC")
+    List<Comment> findByBoardIdAfterCursor(@Param("boardId") Long boardId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("댓글: 게시글별 목록 전체 건수")
+    @Query("SELECT COUNT(c) FROM Comment c JOIN c.user u WHERE c.board.idx = :boardId AND c.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
+    long countListableByBoardId(@Param("boardId") Long boardId);
+
     @Transactional
     @Modifying
     @Query("UPDATE Comment c SET c.isDeleted = true, c.deletedAt = :now, c.status = 'DELETED' " +
            "WHERE c.board.idx = :boardIdx AND c.isDeleted = false")
     void softDeleteByBoardIdx(@Param("boardIdx") Long boardIdx, @Param("now") LocalDateTime now);
-}
 
+    /**
+     * 좋아요/싫어요 카운터를 comment_reaction 기준으로 재계산 (반응 배치 동기화용, 재실행해도 결과 동일)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comment c SET " +
+           "c.like_count = (SELECT COUNT(*) FROM comment_reaction r WHERE r.comment_idx = c.idx AND r.reaction_type = 'LIKE'), " +
+           "c.dislike_count = (SELECT COUNT(*) FROM comment_reaction r WHERE r.comment_idx = c.idx AND r.reaction_type = 'DISLIKE') " +
+           "WHERE c.idx IN (:ids)", nativeQuery = true)
+    int syncReactionCounts(@Param("ids") List<Long> ids);
+
+    /**
+     * idx 구간 단위 카운터 재계산 (백필·정합성 복구 배치용)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comment c SET " +
+           "c.like_count = (SELECT COUNT(*) FROM comment_reaction r WHERE r.comment_idx = c.idx AND r.reaction_type = 'LIKE'), " +
+           "c.dislike_count = (SELECT COUNT(*) FROM comment_reaction r WHERE r.comment_idx = c.idx AND r.reaction_type = 'DISLIKE') " +
+           "WHERE c.idx BETWEEN :fromIdx AND :toIdx", nativeQuery = true)
+    int syncReactionCountsInRange(@Param("fromIdx") Long fromIdx, @Param("toIdx") Long toIdx);
+
+    @RepositoryMethod("댓글: 최대 idx (카운터 복구 배치 범위)")
+    @Query("SELECT COALESCE(MAX(c.idx), 0) FROM Comment c")
+    Long findMaxIdx();
+
+    // 커서 유무로 쿼리를 나눔 — (:cursorCreatedAt IS NULL OR ...)는 작성자별 (created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("댓글: 사용자 활동 피드 커서 조회")
+    default List<Comment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findActivityFirstPage(userId, pageable)
+                : findActivityAfterCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("댓글: 사용자 활동 피드 첫 페이지")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.board b JOIN c.user u WHERE u.idx = :userId AND c.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY c.createdAt DESC, c.idx DESC")
+    List<Comment> findActivityFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("댓글: 사용자 활동 피드 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT c FROM Comment c JOIN FETCH c.board b JOIN c.user u WHERE u.idx = :userId AND c.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (c.createdAt, c.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY c.createdAt DESC, c.idx DESC")
+    List<Comment> findActivityAfterCursor(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("댓글: 사용자 활동 건수")
+    @Query("SELECT COUNT(c) FROM Comment c JOIN c.user u WHERE u.idx = :userId AND c.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
+    long countActivityByUserId(@Param("userId") Long userId);
+}
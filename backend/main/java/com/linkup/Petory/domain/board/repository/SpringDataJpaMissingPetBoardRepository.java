@@ -1,6 +1,7 @@
 package com.linkup.Petory.domain.board.repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,6 +54,49 @@ public interface SpringDataJpaMissingPetBoardRepository extends JpaRepository<Mi
            countQuery = "SELECT COUNT(b) FROM MissingPetBoard b JOIN b.user u WHERE b.status = :status AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
     Page<MissingPetBoard> findByStatusOrderByCreatedAtDesc(@Param("status") MissingPetStatus status, Pageable pageable);
 
+    // 상태 필터·커서 유무로 쿼리를 나눔 — (:x IS NULL OR ...)는 (status, is_deleted, created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("실종 제보: 커서 페이징 (상태 필터 선택)")
+    default List<MissingPetBoard> findByStatusAndCursor(MissingPetStatus status, LocalDateTime cursorCreatedAt,
+            Long cursorIdx, Pageable pageable) {
+        if (status == null) {
+            return cursorCreatedAt == null
+                    ? findAllFirstPage(pageable)
+                    : findAllAfterCursor(cursorCreatedAt, cursorIdx, pageable);
+        }
+        return cursorCreatedAt == null
+                ? findByStatusFirstPage(status, pageable)
+                : findByStatusAfterCursor(status, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("실종 제보: 전체 커서 첫 페이지")
+    @Query("SELECT b FROM MissingPetBoard b JOIN FETCH b.user u WHERE b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<MissingPetBoard> findAllFirstPage(Pageable pageable);
+
+    @RepositoryMethod("실종 제보: 전체 커서 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT b FROM MissingPetBoard b JOIN FETCH b.user u WHERE b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (b.createdAt, b.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<MissingPetBoard> findAllAfterCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorIdx") Long cursorIdx, Pageable pageable);
+
+    @RepositoryMethod("실종 제보: 상태별 커서 첫 페이지")
+    @Query("SELECT b FROM MissingPetBoard b JOIN FETCH b.user u WHERE b.status = :status AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<MissingPetBoard> findByStatusFirstPage(@Param("status") MissingPetStatus status, Pageable pageable);
+
+    @RepositoryMethod("실종 제보: 상태별 커서 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT b FROM MissingPetBoard b JOIN FETCH b.user u WHERE b.status = :status AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (b.createdAt, b.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<MissingPetBoard> findByStatusAfterCursor(@Param("status") MissingPetStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("실종 제보: 목록 전체 건수 (상태 필터 선택)")
+    @Query("SELECT COUNT(b) FROM MissingPetBoard b JOIN b.user u WHERE (:status IS NULL OR b.status = :status) AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
+    long countListable(@Param("status") MissingPetStatus status);
+
     @RepositoryMethod("실종 제보: 홈 추천 후보 조회 (실종일 최신순)")
     @Query(value = "SELECT b FROM MissingPetBoard b JOIN FETCH b.user u "
             + "WHERE b.status = :status "
@@ -100,4 +144,30 @@ public interface SpringDataJpaMissingPetBoardRepository extends JpaRepository<Mi
     @RepositoryMethod("실종 제보: 작성자 ID 조회 (경량)")
     @Query("SELECT b.user.idx FROM MissingPetBoard b WHERE b.idx = :idx AND b.isDeleted = false")
     Optional<Long> findUserIdByIdx(@Param("idx") Long idx);
+
+    // 커서 유무로 쿼리를 나눔 — (:cursorCreatedAt IS NULL OR ...)는 작성자별 (created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("실종 제보: 사용자 활동 피드 커서 조회")
+    default List<MissingPetBoard> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findActivityFirstPage(userId, pageable)
+                : findActivityAfterCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("실종 제보: 사용자 활동 피드 첫 페이지")
+    @Query("SELECT b FROM MissingPetBoard b JOIN b.user u WHERE u.idx = :userId AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<MissingPetBoard> findActivityFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("실종 제보: 사용자 활동 피드 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT b FROM MissingPetBoard b JOIN b.user u WHERE u.idx = :userId AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (b.createdAt, b.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY b.createdAt DESC, b.idx DESC")
+    List<MissingPetBoard> findActivityAfterCursor(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("실종 제보: 사용자 활동 건수")
+    @Query("SELECT COUNT(b) FROM MissingPetBoard b JOIN b.user u WHERE u.idx = :userId AND b.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
+    long countActivityByUserId(@Param("userId") Long userId);
 }
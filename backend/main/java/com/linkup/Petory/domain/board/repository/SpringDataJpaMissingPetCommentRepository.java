@@ -55,5 +55,30 @@ public interface SpringDataJpaMissingPetCommentRepository extends JpaRepository<
     @Modifying(clearAutomatically = true)
     @Query("UPDATE MissingPetComment mc SET mc.isDeleted = true, mc.deletedAt = :deletedAt WHERE mc.board.idx = :boardIdx AND mc.isDeleted = false")
     int softDeleteAllByBoardIdx(@Param("boardIdx") Long boardIdx, @Param("deletedAt") LocalDateTime deletedAt);
-}
 
+    // 커서 유무로 쿼리를 나눔 — (:cursorCreatedAt IS NULL OR ...)는 작성자별 (created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("실종 댓글: 사용자 활동 피드 커서 조회")
+    default List<MissingPetComment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findActivityFirstPage(userId, pageable)
+                : findActivityAfterCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("실종 댓글: 사용자 활동 피드 첫 페이지")
+    @Query("SELECT mc FROM MissingPetComment mc JOIN FETCH mc.board b JOIN mc.user u WHERE u.idx = :userId AND mc.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "ORDER BY mc.createdAt DESC, mc.idx DESC")
+    List<MissingPetComment> findActivityFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("실종 댓글: 사용자 활동 피드 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT mc FROM MissingPetComment mc JOIN FETCH mc.board b JOIN mc.user u WHERE u.idx = :userId AND mc.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE' " +
+           "AND (mc.createdAt, mc.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY mc.createdAt DESC, mc.idx DESC")
+    List<MissingPetComment> findActivityAfterCursor(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("실종 댓글: 사용자 활동 건수")
+    @Query("SELECT COUNT(mc) FROM MissingPetComment mc JOIN mc.user u WHERE u.idx = :userId AND mc.isDeleted = false AND u.isDeleted = false AND u.status = 'ACTIVE'")
+    long countActivityByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,182 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 × 일자 단위 인기도 카운터 저장소 (슬라이딩 윈도우).
+ *
+ * <p>
+ * 게시글마다 최근 {@code capacity}일치 버킷을 링 버퍼로 둔다. 슬롯은 {@code epochDay % capacity}로
+ * 고정되어, 날짜가 바뀌면 가장 오래된 버킷 자리를 새 날짜가 덮어쓴다(별도 이동 없음).
+ * N일 기간 점수는 최대 N개 버킷의 합이므로 원본 로그 테이블을 다시 집계하지 않고 임의 길이 기간에 답할 수 있다.
+ *
+ * <p>
+ * 메모리 상한: 게시글당 버킷 수는 capacity로 고정이고, {@link #compact(LocalDate)}가
+ * 모든 버킷이 만료된 게시글을 제거한다.
+ */
+final class BoardDailyCounterStore {
+
+    private final int capacity;
+    private final ConcurrentHashMap<Long, DayBuckets> boards = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity 보관 일수 (가장 긴 집계 기간 이상이어야 함)
+     */
+    BoardDailyCounterStore(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * day 버킷에 증감 반영. 보관 범위보다 오래된 날짜는 무시한다.
+     */
+    void add(Long boardId, LocalDate day, int likeDelta, int commentDelta, int viewDelta) {
+        if (likeDelta == 0 && commentDelta == 0 && viewDelta == 0) {
+            return;
+        }
+        // compute로 묶어 compact의 제거와 경합해도 증감이 유실되지 않게 한다
+        boards.compute(boardId, (id, buckets) -> {
+            DayBuckets target = buckets != null ? buckets : new DayBuckets(capacity);
+            target.add(day.toEpochDay(), likeDelta, commentDelta, viewDelta);
+            return target;
+        });
+    }
+
+    /**
+     * [from, to] 기간 버킷 합계. 항목별로 0 미만이면 0으로 본다(기간 이전 좋아요의 취소 등).
+     */
+    Counts sum(Long boardId, LocalDate from, LocalDate to) {
+        DayBuckets buckets = boards.get(boardId);
+        if (buckets == null) {
+            return Counts.EMPTY;
+        }
+        return buckets.sum(from.toEpochDay(), to.toEpochDay());
+    }
+
+    Set<Long> boardIds() {
+        return boards.keySet();
+    }
+
+    boolean remove(Long boardId) {
+        return boards.remove(boardId) != null;
+    }
+
+    void clear() {
+        boards.clear();
+    }
+
+    /**
+     * today 기준 보관 범위를 벗어난 버킷을 비우고, 남은 버킷이 없는 게시글을 제거한다.
+     *
+     * @return 제거된 게시글 수
+     */
+    int compact(LocalDate today) {
+        long oldest = today.toEpochDay() - capacity + 1;
+        int removed = 0;
+        for (Long boardId : boards.keySet()) {
+            if (boards.computeIfPresent(boardId, (id, buckets) -> buckets.expire(oldest) ? null : buckets) == null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return boards.size();
+    }
+
+    /**
+     * 기간 합계
+     *
+     * @param likes    좋아요 수
+     * @param comments 댓글 수
+     * @param views    조회수
+     */
+    record Counts(int likes, int comments, int views) {
+        static final Counts EMPTY = new Counts(0, 0, 0);
+
+        boolean isEmpty() {
+            return likes == 0 && comments == 0 && views == 0;
+        }
+    }
+
+    /**
+     * 게시글 하나의 일자 버킷 링 버퍼. days[slot]이 해당 슬롯의 날짜(epochDay)이며, 없으면 Long.MIN_VALUE.
+     */
+    private static final class DayBuckets {
+        private final long[] days;
+        private final int[] likes;
+        private final int[] comments;
+        private final int[] views;
+
+        DayBuckets(int capacity) {
+            days = new long[capacity];
+            likes = new int[capacity];
+            comments = new int[capacity];
+            views = new int[capacity];
+            Arrays.fill(days, Long.MIN_VALUE);
+        }
+
+        synchronized void add(long day, int likeDelta, int commentDelta, int viewDelta) {
+            int slot = slot(day);
+            if (days[slot] != day) {
+                if (days[slot] > day) {
+                    return; // 이미 더 최근 날짜가 차지한 슬롯 → 보관 범위 밖
+                }
+                days[slot] = day;
+                likes[slot] = 0;
+                comments[slot] = 0;
+                views[slot] = 0;
+            }
+            likes[slot] += likeDelta;
+            comments[slot] += commentDelta;
+            views[slot] += viewDelta;
+        }
+
+        synchronized Counts sum(long from, long to) {
+            int l = 0;
+            int c = 0;
+            int v = 0;
+            for (int slot = 0; slot < days.length; slot++) {
+                if (days[slot] >= from && days[slot] <= to) {
+                    l += likes[slot];
+                    c += comments[slot];
+                    v += views[slot];
+                }
+            }
+            return new Counts(Math.max(0, l), Math.max(0, c), Math.max(0, v));
+        }
+
+        /**
+         * oldest 이전 버킷을 비운다.
+         *
+         * @return 남은 버킷이 없으면 true
+         */
+        synchronized boolean expire(long oldest) {
+            boolean empty = true;
+            for (int slot = 0; slot < days.length; slot++) {
+                if (days[slot] == Long.MIN_VALUE) {
+                    continue;
+                }
+                if (days[slot] < oldest) {
+                    days[slot] = Long.MIN_VALUE;
+                    likes[slot] = 0;
+                    comments[slot] = 0;
+                    views[slot] = 0;
+                } else {
+                    empty = false;
+                }
+            }
+            return empty;
+        }
+
+        private int slot(long day) {
+            return (int) Math.floorMod(day, (long) days.length);
+        }
+    }
+}
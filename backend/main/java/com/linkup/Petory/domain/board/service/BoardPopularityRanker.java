@@ -0,0 +1,309 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.board.entity.PopularityPeriodType;
+import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
+import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
+import com.linkup.Petory.domain.board.repository.BoardViewLogRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 게시글 스트리밍 랭킹 엔진.
+ *
+ * <p>
+ * 동작: 기동 시 원본 로그 테이블(board_reaction, comment, board_view_log)을 게시글 × 일자 단위로 한 번 집계해
+ * {@link BoardDailyCounterStore}에 적재한 뒤, 이후에는 {@link BoardActivityEvent}를 커밋 이후 받아
+ * 당일 버킷만 증감한다. 기간 유형마다 상위 K개만 유지하는 {@link TopK}를 두어 조회 시 재집계하지 않는다.
+ *
+ * <p>
+ * 집계 기준: 기간(오늘 포함 N일) 동안 "자랑" 게시글에 발생한 좋아요*3 + 댓글*2 + 조회수.
+ * 기간 점수는 N개 일자 버킷의 합이므로 새 기간 유형(DAILY 등)도 추가 쿼리 없이 계산된다.
+ * 메모리 상태는 노드 로컬이며, 스냅샷 영속화와 만료 버킷 정리는 BoardPopularityScheduler가 주기적으로 수행한다.
+ *
+ * <p>
+ * 삭제·카테고리 변경된 게시글은 버킷을 지우지 않고 랭킹 후보에서만 숨긴다.
+ * 복구되거나 대상 카테고리로 돌아오면 남아 있던 기간 이력 그대로 다시 순위에 오른다.
+ */
+@Slf4j
+@Component
+public class BoardPopularityRanker {
+
+    /** 랭킹 대상 카테고리. "PRIDE"는 레거시 데이터 호환용 */
+    static final Set<String> TARGET_CATEGORIES = Set.of("자랑", "PRIDE");
+
+    static final int TOP_K = 30;
+
+    /** 순위 비교: 점수 내림차순 → idx 내림차순(최신 게시글 우선) (compare 결과가 음수면 앞 순위) */
+    static final Comparator<RankedBoard> RANK_ORDER = Comparator
+            .comparingInt(RankedBoard::score).reversed()
+            .thenComparing(RankedBoard::boardId, Comparator.reverseOrder());
+
+    private final BoardReactionRepository boardReactionRepository;
+    private final CommentRepository commentRepository;
+    private final BoardViewLogRepository boardViewLogRepository;
+    private final BoardDailyCounterStore store = new BoardDailyCounterStore(maxPeriodDays());
+    private final Map<PopularityPeriodType, TopK> rankings = new EnumMap<>(PopularityPeriodType.class);
+    /** 버킷은 유지하되 랭킹 후보에서 제외된 게시글 (삭제·대상 외 카테고리) */
+    private final Set<Long> hidden = ConcurrentHashMap.newKeySet();
+
+    public BoardPopularityRanker(BoardReactionRepository boardReactionRepository,
+            CommentRepository commentRepository,
+            BoardViewLogRepository boardViewLogRepository) {
+        this.boardReactionRepository = boardReactionRepository;
+        this.commentRepository = commentRepository;
+        this.boardViewLogRepository = boardViewLogRepository;
+        for (PopularityPeriodType type : PopularityPeriodType.values()) {
+            rankings.put(type, new TopK(TOP_K));
+        }
+    }
+
+    /**
+     * 인기도 점수 계산
+     */
+    static int calculatePopularityScore(int likes, int comments, int views) {
+        return (likes * 3) + (comments * 2) + views;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 적재 실패 시에도 이후 이벤트로 점진적으로 채워진다
+            log.error("인기 게시글 랭커 초기 적재 실패", e);
+        }
+    }
+
+    /**
+     * 가장 긴 집계 기간의 원본 로그를 게시글 × 일자 단위로 다시 적재한다.
+     * 기존 버킷은 비운 뒤 채우므로, 적재 중 도착한 이벤트는 DB 집계에 이미 포함된 것으로 본다.
+     */
+    public void reload() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime since = oldestStartDate(today).atStartOfDay();
+        List<String> categories = List.copyOf(TARGET_CATEGORIES);
+
+        store.clear();
+        hidden.clear();
+        loadDaily(boardReactionRepository.countDailyByCategoriesSince(categories, ReactionType.LIKE, since),
+                Metric.LIKE);
+        loadDaily(commentRepository.countDailyByCategoriesSince(categories, since), Metric.COMMENT);
+        loadDaily(boardViewLogRepository.countDailyByCategoriesSince(categories, since), Metric.VIEW);
+        rankings.values().forEach(TopK::invalidate);
+        log.info("인기 게시글 랭커 적재 완료 - 기간: {} ~ {}, 게시글 수: {}", since.toLocalDate(), today, store.size());
+    }
+
+    private void loadDaily(List<Object[]> rows, Metric metric) {
+        for (Object[] row : rows) {
+            Long boardId = ((Number) row[0]).longValue();
+            LocalDate day = toLocalDate(row[1]);
+            int count = ((Number) row[2]).intValue();
+            switch (metric) {
+                case LIKE -> store.add(boardId, day, count, 0, 0);
+                case COMMENT -> store.add(boardId, day, 0, count, 0);
+                case VIEW -> store.add(boardId, day, 0, 0, count);
+            }
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+
+    /**
+     * 카운터 변경 반영. 롤백된 변경이 랭킹에 섞이지 않도록 커밋 이후에 처리하고,
+     * 트랜잭션 밖에서 발행된 경우(fallbackExecution)에도 즉시 반영한다.
+     * 삭제·대상 외 카테고리 이벤트는 랭킹에서만 빼고, 복구(touched) 이벤트가 오면 다시 후보로 되돌린다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivity(BoardActivityEvent event) {
+        if (event.boardId() == null) {
+            return;
+        }
+        if (event.removed() || !TARGET_CATEGORIES.contains(event.category())) {
+            if (store.boardIds().contains(event.boardId()) && hidden.add(event.boardId())) {
+                rankings.values().forEach(ranking -> ranking.remove(event.boardId()));
+            }
+            return;
+        }
+        hidden.remove(event.boardId());
+
+        LocalDate today = LocalDate.now();
+        store.add(event.boardId(), today, event.likeDelta(), event.commentDelta(), event.viewDelta());
+        rankings.forEach((type, ranking) -> ranking.update(rank(event.boardId(), type, today)));
+    }
+
+    /**
+     * 기간 유형별 상위 게시글 (순위순). 날짜가 바뀌었거나 순위 하락이 있었으면 후보 전체로 재구성한다.
+     */
+    public List<RankedBoard> topBoards(PopularityPeriodType periodType) {
+        LocalDate today = LocalDate.now();
+        return rankings.get(periodType).top(today, () -> store.boardIds().stream()
+                .filter(boardId -> !hidden.contains(boardId))
+                .map(boardId -> rank(boardId, periodType, today))
+                .filter(ranked -> ranked.score() > 0)
+                .toList());
+    }
+
+    /**
+     * 모든 집계 기간을 벗어난 일자 버킷 정리 (메모리 상한 유지)
+     *
+     * @return 버킷이 모두 만료되어 제거된 게시글 수
+     */
+    public int evictExpired() {
+        int evicted = store.compact(LocalDate.now());
+        hidden.retainAll(store.boardIds());
+        return evicted;
+    }
+
+    int trackedCount() {
+        return store.size();
+    }
+
+    private RankedBoard rank(Long boardId, PopularityPeriodType type, LocalDate today) {
+        BoardDailyCounterStore.Counts counts = store.sum(boardId, type.startDate(today), today);
+        return new RankedBoard(boardId,
+                calculatePopularityScore(counts.likes(), counts.comments(), counts.views()),
+                counts.likes(), counts.comments(), counts.views());
+    }
+
+    private static LocalDate oldestStartDate(LocalDate today) {
+        return today.minusDays(maxPeriodDays() - 1L);
+    }
+
+    private static int maxPeriodDays() {
+        int max = 1;
+        for (PopularityPeriodType type : PopularityPeriodType.values()) {
+            max = Math.max(max, type.getDays());
+        }
+        return max;
+    }
+
+    private enum Metric {
+        LIKE, COMMENT, VIEW
+    }
+
+    /**
+     * 랭킹 결과 항목
+     *
+     * @param boardId  게시글 ID
+     * @param score    기간 인기도 점수
+     * @param likes    기간 좋아요 수
+     * @param comments 기간 댓글 수
+     * @param views    기간 조회수
+     */
+    public record RankedBoard(Long boardId, int score, int likes, int comments, int views) {
+    }
+
+    /**
+     * 상위 K개만 유지하는 랭킹 구조.
+     *
+     * <p>
+     * 불변식: 재구성 직후 멤버는 후보 중 상위 min(K, N)개이고, 비멤버는 모두 마지막 멤버보다 낮은 순위다.
+     * 점수 상승은 O(log K)로 바로 반영하고, 멤버의 순위 하락·제거는 밖의 후보가 추월했을 수 있으므로
+     * dirty로 표시해 다음 조회 때 후보 전체를 크기 K 힙으로 한 번 훑어 재구성한다.
+     */
+    static final class TopK {
+        private final int capacity;
+        private final NavigableSet<RankedBoard> entries = new TreeSet<>(RANK_ORDER);
+        private final Map<Long, RankedBoard> members = new HashMap<>();
+        private LocalDate builtFor;
+        private boolean dirty = true;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        synchronized void update(RankedBoard next) {
+            if (dirty) {
+                return;
+            }
+            RankedBoard prev = members.remove(next.boardId());
+            if (prev != null) {
+                entries.remove(prev);
+                if (RANK_ORDER.compare(next, prev) > 0) {
+                    dirty = true;
+                    return;
+                }
+            }
+            if (next.score() <= 0) {
+                return;
+            }
+            if (entries.size() < capacity || RANK_ORDER.compare(next, entries.last()) < 0) {
+                entries.add(next);
+                members.put(next.boardId(), next);
+                if (entries.size() > capacity) {
+                    RankedBoard evicted = entries.pollLast();
+                    members.remove(evicted.boardId());
+                }
+            }
+        }
+
+        synchronized void remove(Long boardId) {
+            if (members.containsKey(boardId)) {
+                dirty = true;
+            }
+        }
+
+        synchronized void invalidate() {
+            dirty = true;
+        }
+
+        synchronized List<RankedBoard> top(LocalDate today, Supplier<Collection<RankedBoard>> candidates) {
+            if (dirty || !today.equals(builtFor)) {
+                rebuild(candidates.get());
+                builtFor = today;
+                dirty = false;
+            }
+            return new ArrayList<>(entries);
+        }
+
+        private void rebuild(Collection<RankedBoard> candidates) {
+            // 크기 K 힙: 루트가 현재 K개 중 가장 낮은 순위 → 더 높은 후보가 오면 교체
+            PriorityQueue<RankedBoard> heap = new PriorityQueue<>(capacity + 1, RANK_ORDER.reversed());
+            for (RankedBoard candidate : candidates) {
+                heap.offer(candidate);
+                if (heap.size() > capacity) {
+                    heap.poll();
+                }
+            }
+            entries.clear();
+            members.clear();
+            for (RankedBoard ranked : heap) {
+                entries.add(ranked);
+                members.put(ranked.boardId(), ranked);
+            }
+        }
+    }
+}
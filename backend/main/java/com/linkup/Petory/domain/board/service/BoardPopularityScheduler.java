@@ -8,7 +8,6 @@ import java.time.LocalDateTime;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -16,36 +15,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class BoardPopularityScheduler {
 
     private final BoardPopularityService boardPopularityService;
+    private final BoardPopularityRanker boardPopularityRanker;
 
     /**
-     * 매일 오후 6시 30분(18:30:00)에 실행되어 주간 인기 게시글 스냅샷 생성
+     * 10분마다 랭커의 메모리 랭킹을 기간 유형별 인기 게시글 스냅샷으로 영속화
+     * [리팩토링] 하루 1회 전체 재집계(cron) → 이벤트 기반 랭킹의 주기적 저장
+     * - 기간 유형마다 독립 트랜잭션 (한 유형 실패가 다른 유형 저장을 막지 않음)
      */
-    @Scheduled(cron = "0 30 18 * * ?")
-    @Transactional
-    public void generateWeeklyPopularitySnapshots() {
-        log.info("주간 인기 게시글 스냅샷 생성 시작 - {}", LocalDateTime.now());
-
-        try {
-            boardPopularityService.generateSnapshots(PopularityPeriodType.WEEKLY);
-            log.info("주간 인기 게시글 스냅샷 생성 완료 - {}", LocalDateTime.now());
-        } catch (Exception e) {
-            log.error("주간 인기 게시글 스냅샷 생성 중 오류 발생", e);
-        }
-    }
-
-    /**
-     * 매주 월요일 오후 6시 30분(18:30:00)에 실행되어 월간 인기 게시글 스냅샷 생성
-     */
-    @Scheduled(cron = "0 30 18 ? * MON")
-    @Transactional
-    public void generateMonthlyPopularitySnapshots() {
-        log.info("월간 인기 게시글 스냅샷 생성 시작 - {}", LocalDateTime.now());
-
-        try {
-            boardPopularityService.generateSnapshots(PopularityPeriodType.MONTHLY);
-            log.info("월간 인기 게시글 스냅샷 생성 완료 - {}", LocalDateTime.now());
-        } catch (Exception e) {
-            log.error("월간 인기 게시글 스냅샷 생성 중 오류 발생", e);
+    @Scheduled(fixedDelayString = "${app.board.popularity.flush-interval-ms:600000}",
+            initialDelayString = "${app.board.popularity.flush-interval-ms:600000}")
+    public void persistPopularitySnapshots() {
+        int evicted = boardPopularityRanker.evictExpired();
+        log.debug("인기 게시글 스냅샷 저장 시작 - {}, 만료 제거: {}", LocalDateTime.now(), evicted);
+
+        for (PopularityPeriodType periodType : PopularityPeriodType.values()) {
+            try {
+                boardPopularityService.generateSnapshots(periodType);
+            } catch (Exception e) {
+                log.error("인기 게시글 스냅샷 저장 중 오류 발생 - periodType: {}", periodType, e);
+            }
         }
     }
 }
@@ -23,15 +23,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.board.converter.BoardConverter;
+import com.linkup.Petory.domain.board.dto.BoardCursorPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.BoardDTO;
 import com.linkup.Petory.domain.board.dto.BoardPageResponseDTO;
+import com.linkup.Petory.domain.board.dto.PageCursor;
 import com.linkup.Petory.domain.board.entity.Board;
 import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
 import com.linkup.Petory.domain.board.exception.BoardForbiddenException;
 import com.linkup.Petory.domain.board.exception.BoardNotFoundException;
 import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
 import com.linkup.Petory.domain.board.repository.BoardRepository;
-import com.linkup.Petory.domain.board.repository.BoardViewLogRepository;
 import com.linkup.Petory.domain.board.repository.CommentRepository;
 import com.linkup.Petory.domain.common.ContentStatus;
 import com.linkup.Petory.domain.file.dto.FileDTO;
@@ -58,7 +60,7 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final UsersRepository usersRepository;
     private final BoardReactionRepository boardReactionRepository;
-    private final BoardViewLogRepository boardViewLogRepository;
+    private final BoardViewCountBuffer boardViewCountBuffer;
     private final AttachmentFileService attachmentFileService;
     private final BoardConverter boardConverter;
     private final ApplicationEventPublisher eventPublisher;
@@ -136,6 +138,33 @@ public class BoardService {
                 boardPage.hasPrevious());
     }
 
+    /**
+     * 전체 게시글 조회 (키셋 커서 페이징)
+     * [리팩토링] OFFSET + COUNT → (createdAt, idx) seek 조건. 깊은 페이지도 앞 행을 읽고 버리지 않아 응답 시간이 일정
+     * - size + 1건 조회로 다음 페이지 여부 판단, 전체 건수는 includeTotal=true일 때만 COUNT
+     */
+    public BoardCursorPageResponseDTO getAllBoardsWithCursor(String category, String cursor, int size,
+            boolean includeTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        LocalDateTime cursorCreatedAt = after != null ? after.createdAt() : null;
+        Long cursorIdx = after != null ? after.idx() : null;
+        Pageable limit = CursorPaging.fetchLimit(size);
+        String categoryFilter = category != null && !category.equals("ALL") ? category : null;
+
+        List<Board> rows = categoryFilter != null
+                ? boardRepository.findByCategoryAndCursor(categoryFilter, cursorCreatedAt, cursorIdx, limit)
+                : boardRepository.findAllByCursor(cursorCreatedAt, cursorIdx, limit);
+        List<Board> boards = CursorPaging.page(rows, size);
+        Long totalCount = includeTotal ? boardRepository.countListable(categoryFilter) : null;
+
+        return new BoardCursorPageResponseDTO(
+                mapBoardsWithReactionsBatch(boards),
+                CursorPaging.nextCursor(rows, size, Board::getCreatedAt, Board::getIdx),
+                CursorPaging.hasNext(rows, size),
+                size,
+                totalCount);
+    }
+
     /**
      * 관리자용 단일 게시글 조회 (조회수 증가 없음) [리팩토링] listBoards 전체 로드 제거 → 단건 조회 API로 대체 -
      * AdminBoardController에서 사용 - 삭제된 게시글도 조회 가능
@@ -152,20 +181,18 @@ public class BoardService {
 
     // 단일 게시글 조회 + 조회수 증가
     // [리팩토링] Fetch Join - Board + User 1회 쿼리 / @Cacheable 제거: 조회수 실시간 반영
-    @Transactional
+    // [리팩토링] 조회수 write-behind - 요청마다 사용자 조회·로그 INSERT·board UPDATE 제거 → BoardViewCountBuffer 적재
+    // 인기 랭킹 이벤트는 BoardViewCountFlusher가 실제로 반영한 증가분으로 발행 (중복 조회자는 플러시에서 걸러짐)
     public BoardDTO getBoard(long idx, Long viewerId) {
         Board board = boardRepository.findByIdWithUser(idx)
                 .orElseThrow(() -> new BoardNotFoundException());
 
-        boolean incremented = shouldIncrementView(board, viewerId);
-        if (incremented) {
-            boardRepository.incrementViewCount(board.getIdx());
-        }
+        boardViewCountBuffer.record(board.getIdx(), viewerId);
 
         BoardDTO dto = mapBoardWithDetails(board);
-        if (incremented) {
-            dto.setViews((board.getViewCount() != null ? board.getViewCount() : 0) + 1);
-        }
+        // 반영이 확정된 대기분(비로그인 조회)만 더한다 - 로그인 조회는 플러시 후 DB 값에 나타난다
+        dto.setViews((board.getViewCount() != null ? board.getViewCount() : 0)
+                + boardViewCountBuffer.pendingViews(board.getIdx()));
         return dto;
     }
 
@@ -184,6 +211,7 @@ public class BoardService {
                 .build();
 
         Board saved = boardRepository.save(board);
+        eventPublisher.publishEvent(BoardActivityEvent.touched(saved));
         eventPublisher.publishEvent(new CommunityPostCreatedEvent(
                 this, user.getIdx(), saved.getIdx(),
                 saved.getTitle() + " " + saved.getContent()));
@@ -225,6 +253,7 @@ public class BoardService {
             board.setCategory(dto.getCategory());
         }
         Board updated = boardRepository.save(board);
+        eventPublisher.publishEvent(BoardActivityEvent.touched(updated));
         if (dto.getBoardFilePath() != null) {
             attachmentFileService.syncSingleAttachment(FileTargetType.BOARD, updated.getIdx(), dto.getBoardFilePath(),
                     null);
@@ -255,6 +284,7 @@ public class BoardService {
 
         board.softDelete();
         boardRepository.saveAndFlush(board);
+        eventPublisher.publishEvent(BoardActivityEvent.removed(board));
         commentRepository.softDeleteByBoardIdx(board.getIdx(), LocalDateTime.now());
     }
 
@@ -452,17 +482,6 @@ public class BoardService {
         return countsMap;
     }
 
-    private boolean shouldIncrementView(Board board, Long viewerId) {
-        if (viewerId == null) {
-            return true;
-        }
-        Users viewer = usersRepository.findById(viewerId).orElse(null);
-        if (viewer == null) {
-            return true;
-        }
-        return boardViewLogRepository.insertIgnore(board.getIdx(), viewer.getIdx()) > 0;
-    }
-
     /**
      * 게시글 상태 변경 (관리자용) - AdminBoardController에서 사용
      */
@@ -475,6 +494,9 @@ public class BoardService {
         Board board = boardRepository.findByIdWithUser(id).orElseThrow(() -> new BoardNotFoundException());
         board.changeStatus(status);
         Board saved = boardRepository.save(board);
+        eventPublisher.publishEvent(status == ContentStatus.ACTIVE
+                ? BoardActivityEvent.touched(saved)
+                : BoardActivityEvent.removed(saved));
         return mapBoardWithDetails(saved);
     }
 
@@ -490,6 +512,7 @@ public class BoardService {
         Board board = boardRepository.findByIdWithUser(id).orElseThrow(() -> new BoardNotFoundException());
         board.restore();
         Board saved = boardRepository.save(board);
+        eventPublisher.publishEvent(BoardActivityEvent.touched(saved));
         return mapBoardWithDetails(saved);
     }
 
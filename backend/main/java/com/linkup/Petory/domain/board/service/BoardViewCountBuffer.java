@@ -0,0 +1,221 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 쓰기 버퍼 (write-behind).
+ *
+ * <p>
+ * 조회 요청마다 board 행 UPDATE·board_view_log INSERT를 하던 방식 대신, 조회를 메모리에 모아 두고
+ * BoardViewCountScheduler가 주기적으로 {@link #drain()} → BoardViewCountFlusher로 일괄 반영한다.
+ * 인기 게시글 행이 요청마다 잠기던 핫스팟을 제거하기 위한 구조다.
+ *
+ * <ul>
+ * <li>비로그인 조회: 게시글별 증가분만 합산</li>
+ * <li>로그인 조회: (게시글, 조회자) 중복을 크기 고정 블룸 필터로 먼저 거르고, 통과한 조회자만 대기열에 적재.
+ * 최종 중복 판정은 플러시 시 board_view_log unique 제약(INSERT IGNORE)이 한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 블룸 필터 오탐(기본 1%)으로 처음 조회한 사용자가 드물게 누락될 수 있으나, 중복 집계는 발생하지 않는다.
+ * 메모리는 필터 2세대 + 플러시 주기 동안의 대기분으로 제한된다.
+ */
+@Component
+public class BoardViewCountBuffer {
+
+    private final ViewerBloomFilter seenViewers;
+    private final ConcurrentHashMap<Long, Integer> anonymousViews = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> pendingViewers = new ConcurrentHashMap<>();
+
+    public BoardViewCountBuffer(
+            @Value("${app.board.view-count.dedup-capacity:1000000}") int dedupCapacity,
+            @Value("${app.board.view-count.dedup-fpp:0.01}") double dedupFpp) {
+        this.seenViewers = new ViewerBloomFilter(dedupCapacity, dedupFpp);
+    }
+
+    /**
+     * 조회 1건 기록
+     *
+     * @param boardId  게시글 ID
+     * @param viewerId 조회자 ID (비로그인이면 null)
+     * @return 조회수 증가 대상으로 적재했으면 true (이미 조회한 사용자로 판단되면 false)
+     */
+    public boolean record(Long boardId, Long viewerId) {
+        if (viewerId == null) {
+            anonymousViews.merge(boardId, 1, Integer::sum);
+            return true;
+        }
+        if (!seenViewers.put(boardId, viewerId)) {
+            return false;
+        }
+        pendingViewers.compute(boardId, (id, viewers) -> {
+            Set<Long> target = viewers != null ? viewers : ConcurrentHashMap.newKeySet();
+            target.add(viewerId);
+            return target;
+        });
+        return true;
+    }
+
+    /**
+     * 아직 플러시되지 않았지만 반영이 확정된 조회수 증가분 (조회 응답 보정용)
+     * 로그인 조회자는 플러시 때 board_view_log 중복으로 빠질 수 있으므로(재시작 후 빈 블룸 필터 등) 포함하지 않는다.
+     */
+    public int pendingViews(Long boardId) {
+        return anonymousViews.getOrDefault(boardId, 0);
+    }
+
+    /**
+     * 대기 중인 조회분을 모두 꺼낸다. 키 단위 remove로 꺼내므로 동시에 기록되는 조회는
+     * 이번 배치 또는 다음 배치 중 정확히 한 곳에만 포함된다.
+     */
+    public Batch drain() {
+        Map<Long, Integer> anonymous = new HashMap<>();
+        for (Long boardId : anonymousViews.keySet()) {
+            Integer views = anonymousViews.remove(boardId);
+            if (views != null) {
+                anonymous.put(boardId, views);
+            }
+        }
+        Map<Long, Set<Long>> viewers = new HashMap<>();
+        for (Long boardId : pendingViewers.keySet()) {
+            Set<Long> drained = pendingViewers.remove(boardId);
+            if (drained != null && !drained.isEmpty()) {
+                viewers.put(boardId, drained);
+            }
+        }
+        return new Batch(anonymous, viewers);
+    }
+
+    /**
+     * 플러시 실패(롤백) 시 꺼냈던 배치를 되돌린다. 다음 플러시에서 다시 반영된다.
+     */
+    public void restore(Batch batch) {
+        batch.anonymousViews().forEach((boardId, views) -> anonymousViews.merge(boardId, views, Integer::sum));
+        batch.viewers().forEach((boardId, viewers) -> pendingViewers.compute(boardId, (id, current) -> {
+            Set<Long> target = current != null ? current : ConcurrentHashMap.newKeySet();
+            target.addAll(viewers);
+            return target;
+        }));
+    }
+
+    /**
+     * 플러시 단위
+     *
+     * @param anonymousViews 게시글별 비로그인 조회 증가분
+     * @param viewers        게시글별 로그인 조회자 ID (board_view_log 기록 대상)
+     */
+    public record Batch(Map<Long, Integer> anonymousViews, Map<Long, Set<Long>> viewers) {
+        public boolean isEmpty() {
+            return anonymousViews.isEmpty() && viewers.isEmpty();
+        }
+    }
+
+    /**
+     * (게시글, 조회자) 블룸 필터. 세대당 capacity건을 넘으면 새 세대로 교체하고 직전 세대만 함께 조회한다.
+     * 오래된 조회자를 잊어도 플러시 시 INSERT IGNORE가 중복을 걸러내므로 정확도에는 영향이 없다.
+     */
+    static final class ViewerBloomFilter {
+        private final int capacity;
+        private final int bitCount;
+        private final int hashCount;
+        private volatile Generation current;
+        private volatile Generation previous;
+
+        ViewerBloomFilter(int capacity, double fpp) {
+            if (capacity < 1 || fpp <= 0 || fpp >= 1) {
+                throw new IllegalArgumentException("invalid bloom filter config: " + capacity + ", " + fpp);
+            }
+            this.capacity = capacity;
+            long bits = (long) Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.bitCount = (int) Math.min(Integer.MAX_VALUE - 64L, Math.max(64L, bits));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+            this.current = new Generation(bitCount);
+        }
+
+        /**
+         * @return 처음 보는 쌍이면 true (false면 이미 기록했을 가능성이 높음)
+         */
+        boolean put(long boardId, long viewerId) {
+            long hash = mix(boardId * 0x9E3779B97F4A7C15L ^ viewerId);
+            Generation prev = previous;
+            if (prev != null && prev.mightContain(hash, hashCount, bitCount)) {
+                return false;
+            }
+            Generation gen = current;
+            if (!gen.put(hash, hashCount, bitCount)) {
+                return false;
+            }
+            if (gen.size.incrementAndGet() >= capacity) {
+                rotate(gen);
+            }
+            return true;
+        }
+
+        private synchronized void rotate(Generation full) {
+            if (current == full) {
+                previous = full;
+                current = new Generation(bitCount);
+            }
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+            z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+            return z ^ (z >>> 33);
+        }
+
+        private static final class Generation {
+            private final AtomicLongArray words;
+            private final AtomicInteger size = new AtomicInteger();
+
+            Generation(int bitCount) {
+                words = new AtomicLongArray((bitCount + 63) / 64);
+            }
+
+            boolean put(long hash, int hashCount, int bitCount) {
+                boolean changed = false;
+                int h1 = (int) hash;
+                int h2 = (int) (hash >>> 32);
+                for (int i = 1; i <= hashCount; i++) {
+                    int bit = Math.floorMod(h1 + i * h2, bitCount);
+                    changed |= setBit(bit);
+                }
+                return changed;
+            }
+
+            boolean mightContain(long hash, int hashCount, int bitCount) {
+                int h1 = (int) hash;
+                int h2 = (int) (hash >>> 32);
+                for (int i = 1; i <= hashCount; i++) {
+                    int bit = Math.floorMod(h1 + i * h2, bitCount);
+                    if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            private boolean setBit(int bit) {
+                int index = bit >>> 6;
+                long mask = 1L << bit;
+                while (true) {
+                    long word = words.get(index);
+                    if ((word & mask) != 0) {
+                        return false;
+                    }
+                    if (words.compareAndSet(index, word, word | mask)) {
+                        return true;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.linkup.Petory.domain.board.entity.Board;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.BoardViewLogRepository;
+import com.linkup.Petory.domain.board.service.BoardViewCountBuffer.Batch;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회수 버퍼 배치를 DB에 반영한다.
+ *
+ * <p>
+ * 1. 로그인 조회자는 게시글별로 board_view_log에 INSERT IGNORE 한 번 → 실제로 기록된 행 수만 증가분으로 사용
+ * 2. 게시글별 증가분을 같은 값끼리 묶어 {@code UPDATE board ... WHERE idx IN (...)}로 반영
+ * 3. 반영한 증가분만큼 게시글별 {@link BoardActivityEvent}를 발행 (인기 랭킹은 커밋 후 DB와 같은 증가분을 받는다)
+ *
+ * <p>
+ * 멱등성: 로그인 조회는 unique 제약으로 재실행해도 추가 증가가 없고, 비로그인 증가분은 버퍼에서 꺼낸 뒤
+ * 이 트랜잭션이 롤백된 경우에만 되돌리므로 한 번만 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardViewCountFlusher {
+
+    /** UPDATE ... IN 절 최대 크기 */
+    static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final BoardViewLogRepository boardViewLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 반영된 조회수 증가 합계
+     */
+    @Transactional
+    public int flush(Batch batch) {
+        Map<Long, Integer> increments = new HashMap<>(batch.anonymousViews());
+        batch.viewers().forEach((boardId, viewers) -> {
+            int inserted = boardViewLogRepository.insertIgnoreAll(boardId, new ArrayList<>(viewers));
+            if (inserted > 0) {
+                increments.merge(boardId, inserted, Integer::sum);
+            }
+        });
+
+        // 증가분이 같은 게시글끼리 묶는다 (대부분 1~수 건이라 UPDATE 수가 게시글 수보다 훨씬 적다)
+        Map<Integer, List<Long>> boardsByDelta = new TreeMap<>();
+        increments.forEach((boardId, delta) -> boardsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(boardId));
+
+        int total = 0;
+        for (Map.Entry<Integer, List<Long>> entry : boardsByDelta.entrySet()) {
+            List<Long> boardIds = entry.getValue();
+            for (int from = 0; from < boardIds.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = boardIds.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, boardIds.size()));
+                boardRepository.addViewCount(new ArrayList<>(chunk), entry.getKey());
+            }
+            total += entry.getKey() * boardIds.size();
+        }
+
+        if (!increments.isEmpty()) {
+            for (Board board : boardRepository.findAllById(new ArrayList<>(increments.keySet()))) {
+                eventPublisher.publishEvent(BoardActivityEvent.viewed(board, increments.get(board.getIdx())));
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,48 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.service.BoardViewCountBuffer.Batch;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardViewCountScheduler {
+
+    private final BoardViewCountBuffer boardViewCountBuffer;
+    private final BoardViewCountFlusher boardViewCountFlusher;
+
+    /**
+     * 조회수 버퍼를 주기적으로 DB에 반영 (기본 5초)
+     * - 조회 응답은 버퍼 대기분을 더해 보여주므로, DB 값은 최대 한 주기만큼 늦는다
+     * - 반영 실패 시 배치를 버퍼로 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${app.board.view-count.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        Batch batch = boardViewCountBuffer.drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            int applied = boardViewCountFlusher.flush(batch);
+            log.debug("조회수 버퍼 반영 완료 - 게시글 수: {}, 증가 합계: {}",
+                    batch.anonymousViews().size() + batch.viewers().size(), applied);
+        } catch (Exception e) {
+            boardViewCountBuffer.restore(batch);
+            log.error("조회수 버퍼 반영 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
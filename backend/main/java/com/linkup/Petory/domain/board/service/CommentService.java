@@ -2,12 +2,12 @@ package com.linkup.Petory.domain.board.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,13 +28,14 @@ import com.linkup.Petory.domain.user.entity.Users;
 import com.linkup.Petory.domain.user.exception.EmailVerificationRequiredException;
 import com.linkup.Petory.domain.user.exception.UserNotFoundException;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
+import com.linkup.Petory.domain.board.dto.CommentCursorPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.CommentDTO;
 import com.linkup.Petory.domain.board.dto.CommentPageResponseDTO;
+import com.linkup.Petory.domain.board.dto.PageCursor;
 import com.linkup.Petory.domain.board.entity.Board;
 import com.linkup.Petory.domain.board.entity.Comment;
-import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
 import com.linkup.Petory.domain.board.repository.BoardRepository;
-import com.linkup.Petory.domain.board.repository.CommentReactionRepository;
 import com.linkup.Petory.domain.board.repository.CommentRepository;
 import com.linkup.Petory.domain.common.ContentStatus;
 import com.linkup.Petory.domain.file.dto.FileDTO;
@@ -53,10 +54,10 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final UsersRepository usersRepository;
-    private final CommentReactionRepository commentReactionRepository;
     private final CommentConverter commentConverter;
     private final AttachmentFileService attachmentFileService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private boolean isAdmin() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -81,17 +82,18 @@ public class CommentService {
      * - 삭제된 댓글 제외
      * - 각 댓글의 파일 정보 포함
      * - 댓글 파일 배치 조회 (N+1 문제 해결)
+     * [리팩토링] 반응 카운트 GROUP BY 제거 → comment.like_count / dislike_count 컬럼 사용,
+     * 게시글 존재 확인은 결과가 비었을 때만 (댓글이 있으면 게시글도 존재)
      */
     public CommentPageResponseDTO getCommentsWithPaging(Long boardId, int page, int size) {
-        // 게시글 존재 확인
-        boardRepository.findById(boardId)
-                .orElseThrow(() -> new BoardNotFoundException());
-
         Pageable pageable = PageRequest.of(page, size);
         Page<Comment> commentPage = commentRepository.findByBoardIdAndIsDeletedFalseOrderByCreatedAtAsc(boardId,
                 pageable);
 
         if (commentPage.isEmpty()) {
+            // 게시글 존재 확인
+            boardRepository.findById(boardId)
+                    .orElseThrow(() -> new BoardNotFoundException());
             return new CommentPageResponseDTO(
                     new ArrayList<>(),
                     0,
@@ -113,12 +115,8 @@ public class CommentService {
         Map<Long, List<FileDTO>> filesByCommentId = attachmentFileService.getAttachmentsBatch(
                 FileTargetType.COMMENT, commentIds);
 
-        // [리팩토링] 댓글 반응(좋아요/싫어요) 배치 조회 - 2N 쿼리 → 1~2 쿼리
-        Map<Long, Map<ReactionType, Long>> reactionCountsMap = getReactionCountsBatch(commentIds);
-
-        // DTO 변환 (배치 조회된 반응/파일 정보 사용)
-        List<CommentDTO> commentDTOs = mapCommentsWithReactionCountsBatch(
-                comments, reactionCountsMap, filesByCommentId);
+        // DTO 변환 (반응 카운트는 댓글 컬럼, 파일은 배치 조회 결과 사용)
+        List<CommentDTO> commentDTOs = mapCommentsBatch(comments, filesByCommentId);
 
         return new CommentPageResponseDTO(
                 commentDTOs,
@@ -130,6 +128,41 @@ public class CommentService {
                 commentPage.hasPrevious());
     }
 
+    /**
+     * 댓글 목록 조회 (키셋 커서 페이징)
+     * 엔드포인트: GET /api/boards/{boardId}/comments/cursor?cursor={nextCursor}&size={size}
+     * [리팩토링] OFFSET + COUNT → (createdAt, idx) seek 조건. 댓글이 많은 게시글의 뒤쪽 페이지도 응답 시간이 일정
+     * - 생성일 기준 오름차순, 전체 건수는 includeTotal=true일 때만 COUNT
+     */
+    public CommentCursorPageResponseDTO getCommentsWithCursor(Long boardId, String cursor, int size,
+            boolean includeTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<Comment> rows = commentRepository.findByBoardIdAndCursor(boardId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.idx() : null,
+                CursorPaging.fetchLimit(size));
+
+        if (rows.isEmpty() && after == null) {
+            // 게시글 존재 확인
+            boardRepository.findById(boardId)
+                    .orElseThrow(() -> new BoardNotFoundException());
+        }
+
+        List<Comment> comments = CursorPaging.page(rows, size);
+        List<Long> commentIds = comments.stream().map(Comment::getIdx).collect(Collectors.toList());
+        Map<Long, List<FileDTO>> filesByCommentId = comments.isEmpty()
+                ? Map.of()
+                : attachmentFileService.getAttachmentsBatch(FileTargetType.COMMENT, commentIds);
+        Long totalCount = includeTotal ? commentRepository.countListableByBoardId(boardId) : null;
+
+        return new CommentCursorPageResponseDTO(
+                mapCommentsBatch(comments, filesByCommentId),
+                CursorPaging.nextCursor(rows, size, Comment::getCreatedAt, Comment::getIdx),
+                CursorPaging.hasNext(rows, size),
+                size,
+                totalCount);
+    }
+
     /**
      * 댓글 목록 조회 (페이징 없음 - 하위 호환성)
      * 엔드포인트: GET /api/boards/{boardId}/comments
@@ -146,10 +179,9 @@ public class CommentService {
             return new ArrayList<>();
         }
         List<Long> commentIds = comments.stream().map(Comment::getIdx).collect(Collectors.toList());
-        Map<Long, Map<ReactionType, Long>> reactionCountsMap = getReactionCountsBatch(commentIds);
         Map<Long, List<FileDTO>> filesByCommentId = attachmentFileService.getAttachmentsBatch(
                 FileTargetType.COMMENT, commentIds);
-        return mapCommentsWithReactionCountsBatch(comments, reactionCountsMap, filesByCommentId);
+        return mapCommentsBatch(comments, filesByCommentId);
     }
 
     /**
@@ -165,10 +197,9 @@ public class CommentService {
             return new ArrayList<>();
         }
         List<Long> commentIds = comments.stream().map(Comment::getIdx).collect(Collectors.toList());
-        Map<Long, Map<ReactionType, Long>> reactionCountsMap = getReactionCountsBatch(commentIds);
         Map<Long, List<FileDTO>> filesByCommentId = attachmentFileService.getAttachmentsBatch(
                 FileTargetType.COMMENT, commentIds);
-        return mapCommentsWithReactionCountsBatch(comments, reactionCountsMap, filesByCommentId);
+        return mapCommentsBatch(comments, filesByCommentId);
     }
 
     @CacheEvict(value = "boardDetail", key = "#p0")
@@ -188,6 +219,7 @@ public class CommentService {
         Comment saved = commentRepository.save(comment);
 
         boardRepository.adjustCommentCount(board.getIdx(), 1);
+        eventPublisher.publishEvent(BoardActivityEvent.commented(board, 1));
 
         if (dto.getCommentFilePath() != null) {
             attachmentFileService.syncSingleAttachment(FileTargetType.COMMENT, saved.getIdx(), dto.getCommentFilePath(),
@@ -278,15 +310,12 @@ public class CommentService {
         commentRepository.save(comment);
 
         boardRepository.adjustCommentCount(board.getIdx(), -1);
+        eventPublisher.publishEvent(BoardActivityEvent.commented(board, -1));
         // keep attachments and reactions for audit/possible restore
     }
 
     private CommentDTO mapWithReactionCounts(Comment comment) {
         CommentDTO dto = commentConverter.toDTO(comment);
-        long likeCount = commentReactionRepository.countByCommentAndReactionType(comment, ReactionType.LIKE);
-        long dislikeCount = commentReactionRepository.countByCommentAndReactionType(comment, ReactionType.DISLIKE);
-        dto.setLikeCount(Math.toIntExact(likeCount));
-        dto.setDislikeCount(Math.toIntExact(dislikeCount));
         List<FileDTO> attachments = attachmentFileService.getAttachments(FileTargetType.COMMENT, comment.getIdx());
         dto.setAttachments(attachments);
         dto.setCommentFilePath(attachmentFileService.extractPrimaryFileUrl(attachments));
@@ -294,45 +323,16 @@ public class CommentService {
     }
 
     /**
-     * 여러 댓글의 반응(좋아요/싫어요) 카운트를 배치로 조회
-     * [리팩토링] countByCommentsGroupByReactionType - N개 댓글 시 2N 쿼리 → 1~2 쿼리
-     * 반환값: Map<CommentId, Map<ReactionType, Count>>
-     */
-    private Map<Long, Map<ReactionType, Long>> getReactionCountsBatch(List<Long> commentIds) {
-        if (commentIds.isEmpty()) {
-            return new HashMap<>();
-        }
-        final int BATCH_SIZE = 500;
-        Map<Long, Map<ReactionType, Long>> countsMap = new HashMap<>();
-        for (int i = 0; i < commentIds.size(); i += BATCH_SIZE) {
-            int end = Math.min(i + BATCH_SIZE, commentIds.size());
-            List<Long> batch = commentIds.subList(i, end);
-            List<Object[]> results = commentReactionRepository.countByCommentsGroupByReactionType(batch);
-            for (Object[] result : results) {
-                Long commentId = ((Number) result[0]).longValue();
-                ReactionType reactionType = (ReactionType) result[1];
-                Long count = ((Number) result[2]).longValue();
-                countsMap.computeIfAbsent(commentId, k -> new HashMap<>()).put(reactionType, count);
-            }
-        }
-        return countsMap;
-    }
-
-    /**
-     * 댓글 목록을 DTO로 변환 (배치 조회된 반응/파일 정보 사용)
+     * 댓글 목록을 DTO로 변환 (배치 조회된 파일 정보 사용)
      * [리팩토링] mapWithReactionCounts 3N 쿼리 → 배치 조회로 3~4 쿼리
+     * [리팩토링] 반응 카운트 배치 GROUP BY 제거 → CommentConverter가 like_count / dislike_count 컬럼 사용
      */
-    private List<CommentDTO> mapCommentsWithReactionCountsBatch(
+    private List<CommentDTO> mapCommentsBatch(
             List<Comment> comments,
-            Map<Long, Map<ReactionType, Long>> reactionCountsMap,
             Map<Long, List<FileDTO>> filesByCommentId) {
         return comments.stream()
                 .map(comment -> {
                     CommentDTO dto = commentConverter.toDTO(comment);
-                    Map<ReactionType, Long> counts = reactionCountsMap.getOrDefault(
-                            comment.getIdx(), new HashMap<>());
-                    dto.setLikeCount(Math.toIntExact(counts.getOrDefault(ReactionType.LIKE, 0L)));
-                    dto.setDislikeCount(Math.toIntExact(counts.getOrDefault(ReactionType.DISLIKE, 0L)));
                     List<FileDTO> attachments = filesByCommentId.getOrDefault(comment.getIdx(), List.of());
                     dto.setAttachments(attachments);
                     dto.setCommentFilePath(attachmentFileService.extractPrimaryFileUrl(attachments));
@@ -381,6 +381,7 @@ public class CommentService {
         Comment saved = commentRepository.save(comment);
 
         boardRepository.adjustCommentCount(board.getIdx(), 1);
+        eventPublisher.publishEvent(BoardActivityEvent.commented(board, 1));
 
         return mapWithReactionCounts(saved);
     }
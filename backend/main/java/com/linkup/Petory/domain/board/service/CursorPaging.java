@@ -0,0 +1,55 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.linkup.Petory.domain.board.dto.PageCursor;
+import com.linkup.Petory.domain.board.exception.BoardValidationException;
+
+/**
+ * 키셋(커서) 페이징 공통 처리.
+ * 목록 조회는 size + 1건을 가져와 초과분이 있으면 다음 페이지가 있다고 판단한다 (COUNT 쿼리 불필요).
+ * size는 {@link #MAX_SIZE}로 잘라 쓰며, 모든 메서드가 같은 값으로 판단하므로 호출 측은 요청 size를 그대로 넘긴다.
+ */
+final class CursorPaging {
+
+    /** 한 페이지 최대 건수 (요청 size가 커도 LIMIT은 MAX_SIZE + 1) */
+    static final int MAX_SIZE = 100;
+
+    private CursorPaging() {
+    }
+
+    /** size + 1건 조회용 Pageable (OFFSET 항상 0) */
+    static Pageable fetchLimit(int size) {
+        if (size < 1) {
+            throw new BoardValidationException("size는 1 이상이어야 합니다.");
+        }
+        return PageRequest.of(0, capped(size) + 1);
+    }
+
+    static <T> boolean hasNext(List<T> rows, int size) {
+        return rows.size() > capped(size);
+    }
+
+    static <T> List<T> page(List<T> rows, int size) {
+        return hasNext(rows, size) ? rows.subList(0, capped(size)) : rows;
+    }
+
+    /** 페이지 마지막 행 기준 다음 커서, 마지막 페이지면 null */
+    static <T> String nextCursor(List<T> rows, int size,
+            Function<T, LocalDateTime> createdAt, Function<T, Long> idx) {
+        if (!hasNext(rows, size)) {
+            return null;
+        }
+        T last = rows.get(capped(size) - 1);
+        return PageCursor.of(createdAt.apply(last), idx.apply(last)).encode();
+    }
+
+    private static int capped(int size) {
+        return Math.min(size, MAX_SIZE);
+    }
+}
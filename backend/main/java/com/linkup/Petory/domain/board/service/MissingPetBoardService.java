@@ -24,10 +24,12 @@ import com.linkup.Petory.domain.board.converter.MissingPetConverter;
 import com.linkup.Petory.domain.board.exception.MissingPetBoardNotFoundException;
 import com.linkup.Petory.domain.board.exception.MissingPetForbiddenException;
 import com.linkup.Petory.global.security.RoleConstants;
+import com.linkup.Petory.domain.board.dto.MissingPetBoardCursorPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.MissingPetBoardDTO;
 import com.linkup.Petory.domain.board.dto.MissingPetBoardPageResponseDTO;
 import com.linkup.Petory.domain.board.dto.MissingPetCommentDTO;
 import com.linkup.Petory.domain.board.dto.MissingPetCommentPageResponseDTO;
+import com.linkup.Petory.domain.board.dto.PageCursor;
 import com.linkup.Petory.domain.board.entity.MissingPetBoard;
 import com.linkup.Petory.domain.board.entity.MissingPetStatus;
 import com.linkup.Petory.domain.user.entity.EmailVerificationPurpose;
@@ -105,8 +107,45 @@ public class MissingPetBoardService {
                     false);
         }
 
-        List<MissingPetBoard> boards = boardPage.getContent();
+        List<MissingPetBoardDTO> boardDTOs = mapBoardsBatch(boardPage.getContent());
+
+        return new MissingPetBoardPageResponseDTO(
+                boardDTOs,
+                boardPage.getTotalElements(),
+                boardPage.getTotalPages(),
+                page,
+                size,
+                boardPage.hasNext(),
+                boardPage.hasPrevious());
+    }
+
+    /**
+     * 실종 제보 목록 조회 (키셋 커서 페이징)
+     * [리팩토링] OFFSET + COUNT → (createdAt, idx) seek 조건. 깊은 페이지도 응답 시간이 일정
+     * - 전체 건수는 includeTotal=true일 때만 COUNT
+     */
+    public MissingPetBoardCursorPageResponseDTO getBoardsWithCursor(MissingPetStatus status, String cursor, int size,
+            boolean includeTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        List<MissingPetBoard> rows = missingPetBoardRepository.findByStatusAndCursor(status,
+                after != null ? after.createdAt() : null,
+                after != null ? after.idx() : null,
+                CursorPaging.fetchLimit(size));
+        List<MissingPetBoard> boards = CursorPaging.page(rows, size);
+        Long totalCount = includeTotal ? missingPetBoardRepository.countListable(status) : null;
+
+        return new MissingPetBoardCursorPageResponseDTO(
+                boards.isEmpty() ? new ArrayList<>() : mapBoardsBatch(boards),
+                CursorPaging.nextCursor(rows, size, MissingPetBoard::getCreatedAt, MissingPetBoard::getIdx),
+                CursorPaging.hasNext(rows, size),
+                size,
+                totalCount);
+    }
 
+    /**
+     * 목록 DTO 변환 - 파일·댓글 수 배치 조회 (N+1 문제 해결)
+     */
+    private List<MissingPetBoardDTO> mapBoardsBatch(List<MissingPetBoard> boards) {
         // 게시글 ID 목록 추출
         List<Long> boardIds = boards.stream()
                 .map(MissingPetBoard::getIdx)
@@ -121,7 +160,7 @@ public class MissingPetBoardService {
 
         // DTO 변환 (파일 정보 포함, 댓글은 빈 리스트)
         // toBoardDTOWithoutComments 사용으로 N+1 문제 방지 (댓글 lazy loading 트리거 안함)
-        List<MissingPetBoardDTO> boardDTOs = boards.stream()
+        return boards.stream()
                 .map(board -> {
                     MissingPetBoardDTO dto = missingPetConverter.toBoardDTOWithoutComments(board);
                     // 파일 정보 추가
@@ -134,15 +173,6 @@ public class MissingPetBoardService {
                     return dto;
                 })
                 .collect(Collectors.toList());
-
-        return new MissingPetBoardPageResponseDTO(
-                boardDTOs,
-                boardPage.getTotalElements(),
-                boardPage.getTotalPages(),
-                page,
-                size,
-                boardPage.hasNext(),
-                boardPage.hasPrevious());
     }
 
     /**
@@ -0,0 +1,309 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.linkup.Petory.domain.board.entity.ReactionType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글·댓글 좋아요/싫어요의 Redis 원본 저장소.
+ *
+ * <p>
+ * 반응 요청은 DB 대신 이 저장소에서 Lua 스크립트 1회로 처리된다 (토글 판정 + 카운터 증감 + 대기열 기록이 원자적).
+ * <ul>
+ * <li>{@code reaction:{target}:{id}} (Hash) - LIKE / DISLIKE 카운터, 게시글이면 category</li>
+ * <li>{@code reaction:{target}:{id}:users} (Hash) - 사용자 ID → 반응 타입</li>
+ * <li>{@code reaction:pending:{target}} (Hash) - "{id}:{userId}" → 최종 반응 타입(취소는 NONE). ReactionSyncScheduler가
+ * 주기적으로 DB(board_reaction / comment_reaction, board 카운터)에 일괄 반영</li>
+ * </ul>
+ *
+ * <p>
+ * 대상 키가 없으면(첫 반응·TTL 만료) 호출자가 DB 상태로 {@link #hydrate}한 뒤 다시 시도한다.
+ * 대기열은 최종 상태만 담으므로 DB 반영은 재실행해도 결과가 같다.
+ */
+@Slf4j
+@Component
+public class ReactionCounterStore {
+
+    static final String NONE = "NONE";
+    static final String CATEGORY_FIELD = "category";
+
+    private static final RedisScript<List> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return {'MISS'} end
+            local prev = redis.call('HGET', KEYS[2], ARGV[1])
+            local cur = ARGV[2]
+            if prev == cur then
+              cur = false
+              redis.call('HDEL', KEYS[2], ARGV[1])
+            else
+              redis.call('HSET', KEYS[2], ARGV[1], cur)
+            end
+            if prev then redis.call('HINCRBY', KEYS[1], prev, -1) end
+            if cur then redis.call('HINCRBY', KEYS[1], cur, 1) end
+            redis.call('HSET', KEYS[3], ARGV[3], cur or 'NONE')
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            local counts = redis.call('HMGET', KEYS[1], 'LIKE', 'DISLIKE', 'category')
+            return {'OK', prev or '', cur or '', counts[1] or '0', counts[2] or '0', counts[3] or ''}
+            """, List.class);
+
+    private static final RedisScript<Long> HYDRATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('DEL', KEYS[2])
+            redis.call('HSET', KEYS[1], 'LIKE', ARGV[2], 'DISLIKE', ARGV[3], 'category', ARGV[4])
+            for i = 5, #ARGV, 2 do
+              redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /** 처리 중 키가 남아 있으면(이전 동기화 실패) 그것부터 다시 처리, 없으면 대기열을 처리 중 키로 옮긴다 */
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+              if redis.call('EXISTS', KEYS[1]) == 0 then return {} end
+              redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlSeconds;
+
+    public ReactionCounterStore(
+            @Qualifier("reactionCountRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${app.reaction.cache-ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = Duration.ofHours(ttlHours).toSeconds();
+    }
+
+    /**
+     * 반응 대상 유형
+     */
+    public enum Target {
+        BOARD("board"), COMMENT("comment");
+
+        private final String key;
+
+        Target(String key) {
+            this.key = key;
+        }
+
+        String countsKey(Long id) {
+            return "reaction:" + key + ":" + id;
+        }
+
+        String usersKey(Long id) {
+            return countsKey(id) + ":users";
+        }
+
+        String pendingKey() {
+            return "reaction:pending:" + key;
+        }
+
+        String processingKey() {
+            return pendingKey() + ":processing";
+        }
+
+        String syncLockKey() {
+            return "reaction:sync-lock:" + key;
+        }
+    }
+
+    /**
+     * 반응 토글 (같은 타입 재요청이면 취소, 다른 타입이면 변경, 없으면 추가)
+     *
+     * @return 대상이 적재되어 있지 않으면 empty → {@link #hydrate} 후 재시도
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<ToggleResult> toggle(Target target, Long id, Long userId, ReactionType type) {
+        List<Object> result = redisTemplate.execute(TOGGLE_SCRIPT,
+                List.of(target.countsKey(id), target.usersKey(id), target.pendingKey()),
+                String.valueOf(userId), type.name(), id + ":" + userId, String.valueOf(ttlSeconds));
+        if (result == null || result.isEmpty() || "MISS".equals(String.valueOf(result.get(0)))) {
+            return Optional.empty();
+        }
+        return Optional.of(new ToggleResult(
+                parseType(String.valueOf(result.get(1))),
+                parseType(String.valueOf(result.get(2))),
+                parseCount(result.get(3)),
+                parseCount(result.get(4)),
+                String.valueOf(result.get(5))));
+    }
+
+    /**
+     * DB 상태로 대상 카운터를 적재한다. 이미 적재되어 있으면(다른 요청이 먼저 적재) 아무것도 하지 않는다.
+     *
+     * @param category      게시글 카테고리 (댓글이거나 랭킹 제외 대상이면 빈 문자열)
+     * @param userReactions 사용자 ID → 반응 타입
+     */
+    public void hydrate(Target target, Long id, String category, Map<Long, ReactionType> userReactions) {
+        int likes = 0;
+        int dislikes = 0;
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        args.add(null);
+        args.add(null);
+        args.add(category != null ? category : "");
+        for (Map.Entry<Long, ReactionType> entry : userReactions.entrySet()) {
+            if (entry.getValue() == ReactionType.LIKE) {
+                likes++;
+            } else {
+                dislikes++;
+            }
+            args.add(String.valueOf(entry.getKey()));
+            args.add(entry.getValue().name());
+        }
+        args.set(1, String.valueOf(likes));
+        args.set(2, String.valueOf(dislikes));
+        redisTemplate.execute(HYDRATE_SCRIPT, List.of(target.countsKey(id), target.usersKey(id)), args.toArray());
+    }
+
+    /**
+     * 적재된 카운터와 사용자 반응 조회
+     *
+     * @return 적재되어 있지 않으면 empty
+     */
+    public Optional<Snapshot> read(Target target, Long id, Long userId) {
+        List<Object> counts = redisTemplate.<String, Object>opsForHash()
+                .multiGet(target.countsKey(id), List.of("LIKE", "DISLIKE"));
+        if (counts == null || counts.get(0) == null) {
+            return Optional.empty();
+        }
+        ReactionType userReaction = null;
+        if (userId != null) {
+            Object value = redisTemplate.opsForHash().get(target.usersKey(id), String.valueOf(userId));
+            userReaction = value != null ? parseType(value.toString()) : null;
+        }
+        return Optional.of(new Snapshot(parseCount(counts.get(0)), parseCount(counts.get(1)), userReaction));
+    }
+
+    /**
+     * 적재된 게시글의 카테고리 갱신 (수정·삭제 반영). 적재되지 않은 게시글은 다음 적재 때 DB 값을 쓴다.
+     */
+    public void refreshCategory(Long boardId, String category) {
+        String key = Target.BOARD.countsKey(boardId);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            redisTemplate.opsForHash().put(key, CATEGORY_FIELD, category != null ? category : "");
+        }
+    }
+
+    /**
+     * 동기화 잠금 획득 (여러 노드가 같은 대기열을 동시에 처리하지 않도록)
+     *
+     * @return 잠금 토큰, 획득 실패 시 null
+     */
+    public String tryLockSync(Target target, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(target.syncLockKey(), token, lease);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    public void unlockSync(Target target, String token) {
+        redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(target.syncLockKey()), token);
+    }
+
+    /**
+     * DB 반영 대기 중인 반응 변경을 가져온다. {@link #completeSync}를 호출하기 전까지는 다음 호출에서도 같은 목록을 돌려준다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<PendingReaction> claimPending(Target target) {
+        List<Object> flat = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(target.pendingKey(), target.processingKey()));
+        if (flat == null || flat.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<PendingReaction> pending = new ArrayList<>(flat.size() / 2);
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            String[] ids = String.valueOf(flat.get(i)).split(":");
+            if (ids.length != 2) {
+                log.warn("잘못된 반응 대기열 항목 무시: {}", Arrays.toString(ids));
+                continue;
+            }
+            pending.add(new PendingReaction(Long.valueOf(ids[0]), Long.valueOf(ids[1]),
+                    parseType(String.valueOf(flat.get(i + 1)))));
+        }
+        return pending;
+    }
+
+    public void completeSync(Target target) {
+        redisTemplate.delete(target.processingKey());
+    }
+
+    private static ReactionType parseType(String value) {
+        if (value == null || value.isEmpty() || NONE.equals(value)) {
+            return null;
+        }
+        return ReactionType.valueOf(value);
+    }
+
+    private static int parseCount(Object value) {
+        return value == null ? 0 : Math.max(0, Integer.parseInt(value.toString()));
+    }
+
+    /**
+     * 토글 결과
+     *
+     * @param previous     이전 반응 (없으면 null)
+     * @param current      현재 반응 (취소면 null)
+     * @param likeCount    토글 후 좋아요 수
+     * @param dislikeCount 토글 후 싫어요 수
+     * @param category     게시글 카테고리 (댓글이면 빈 문자열)
+     */
+    public record ToggleResult(ReactionType previous, ReactionType current, int likeCount, int dislikeCount,
+            String category) {
+
+        public int likeDelta() {
+            return delta(ReactionType.LIKE);
+        }
+
+        public int dislikeDelta() {
+            return delta(ReactionType.DISLIKE);
+        }
+
+        private int delta(ReactionType type) {
+            return (current == type ? 1 : 0) - (previous == type ? 1 : 0);
+        }
+    }
+
+    /**
+     * 조회 결과
+     *
+     * @param likeCount    좋아요 수
+     * @param dislikeCount 싫어요 수
+     * @param userReaction 요청 사용자의 반응 (없으면 null)
+     */
+    public record Snapshot(int likeCount, int dislikeCount, ReactionType userReaction) {
+    }
+
+    /**
+     * DB 반영 대기 항목
+     *
+     * @param targetId 게시글/댓글 ID
+     * @param userId   사용자 ID
+     * @param type     최종 반응 (취소면 null)
+     */
+    public record PendingReaction(Long targetId, Long userId, ReactionType type) {
+    }
+}
@@ -1,16 +1,20 @@
 package com.linkup.Petory.domain.board.service;
 
-import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.linkup.Petory.domain.board.exception.BoardNotFoundException;
 import com.linkup.Petory.domain.board.exception.CommentNotFoundException;
 import com.linkup.Petory.domain.user.entity.Users;
-import com.linkup.Petory.domain.user.exception.UserNotFoundException;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
 import com.linkup.Petory.domain.board.dto.ReactionSummaryDTO;
 import com.linkup.Petory.domain.board.entity.Board;
@@ -18,16 +22,19 @@ import com.linkup.Petory.domain.board.entity.BoardReaction;
 import com.linkup.Petory.domain.board.entity.Comment;
 import com.linkup.Petory.domain.board.entity.CommentReaction;
 import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
 import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
 import com.linkup.Petory.domain.board.repository.BoardRepository;
 import com.linkup.Petory.domain.board.repository.CommentReactionRepository;
 import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.Snapshot;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.Target;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.ToggleResult;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ReactionService {
 
     private final BoardReactionRepository boardReactionRepository;
@@ -35,57 +42,30 @@ public class ReactionService {
     private final BoardRepository boardRepository;
     private final CommentRepository commentRepository;
     private final UsersRepository usersRepository;
-
+    private final ReactionCounterStore reactionCounterStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 반응 토글
+     * [리팩토링] 요청마다 find → delete/insert → updateLastReactionAt → adjustLikeCount(행 잠금) 제거
+     * → Redis 원자적 토글 1회. DB 반영은 ReactionSyncScheduler가 일괄 처리
+     */
     @CacheEvict(value = "boardDetail", key = "#p0")
     public ReactionSummaryDTO reactToBoard(Long boardId, Long userId, ReactionType reactionType) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new BoardNotFoundException());
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException());
-
-        Optional<BoardReaction> existing = boardReactionRepository.findByBoardAndUser(board, user);
-        ReactionType previousReactionType = null;
-        ReactionType currentReactionType = reactionType;
-        boolean toggledOff = false;
-
-        if (existing.isPresent() && existing.get().getReactionType() == reactionType) {
-            previousReactionType = existing.get().getReactionType();
-            currentReactionType = null;
-            toggledOff = true;
-            boardReactionRepository.delete(existing.get());
-        } else if (existing.isPresent()) {
-            previousReactionType = existing.get().getReactionType();
-            existing.get().changeReactionType(reactionType);
-            boardReactionRepository.save(existing.get());
-            boardRepository.updateLastReactionAt(boardId, LocalDateTime.now());
-        } else {
-            int inserted = boardReactionRepository.insertIgnore(boardId, userId, reactionType.name());
-            if (inserted == 0) {
-                return getBoardSummary(boardId, userId);
-            }
-            boardRepository.updateLastReactionAt(boardId, LocalDateTime.now());
-        }
+        ToggleResult result = toggle(Target.BOARD, boardId, userId, reactionType);
 
-        // 원자적 카운트 조정
-        int likeDelta = 0;
-        int dislikeDelta = 0;
-        if (previousReactionType == ReactionType.LIKE) likeDelta--;
-        else if (previousReactionType == ReactionType.DISLIKE) dislikeDelta--;
-        if (currentReactionType == ReactionType.LIKE) likeDelta++;
-        else if (currentReactionType == ReactionType.DISLIKE) dislikeDelta++;
-
-        if (likeDelta != 0) boardRepository.adjustLikeCount(boardId, likeDelta);
-        if (dislikeDelta != 0) boardRepository.adjustDislikeCount(boardId, dislikeDelta);
-
-        // 반환값: 메모리 내 기존 값 + delta (DB 재조회 불필요)
-        int newLikeCount = Math.max(0, (board.getLikeCount() != null ? board.getLikeCount() : 0) + likeDelta);
-        int newDislikeCount = Math.max(0, (board.getDislikeCount() != null ? board.getDislikeCount() : 0) + dislikeDelta);
-        ReactionType userReaction = toggledOff ? null : reactionType;
-        return buildBoardSummaryFromCounts(newLikeCount, newDislikeCount, userReaction);
+        if (result.likeDelta() != 0) {
+            eventPublisher.publishEvent(BoardActivityEvent.liked(boardId, result.category(), result.likeDelta()));
+        }
+        return new ReactionSummaryDTO(result.likeCount(), result.dislikeCount(), result.current());
     }
 
     @Transactional(readOnly = true)
     public ReactionSummaryDTO getBoardSummary(Long boardId, Long userId) {
+        Optional<Snapshot> cached = reactionCounterStore.read(Target.BOARD, boardId, userId);
+        if (cached.isPresent()) {
+            return toSummary(cached.get());
+        }
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(() -> new BoardNotFoundException());
         Users user = userId != null
@@ -94,35 +74,20 @@ public class ReactionService {
         return buildBoardSummary(board, user);
     }
 
+    /**
+     * 댓글 반응 토글 (게시글과 동일하게 Redis 토글 후 일괄 동기화)
+     */
     public ReactionSummaryDTO reactToComment(Long commentId, Long userId, ReactionType reactionType) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CommentNotFoundException());
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException());
-
-        Optional<CommentReaction> existing = commentReactionRepository.findByCommentAndUser(comment, user);
-        // 뮤테이션 전에 이전 타입을 저장 — 이후 setReactionType이 같은 객체를 변경하기 때문
-        ReactionType previousType = existing.map(CommentReaction::getReactionType).orElse(null);
-
-        if (existing.isPresent() && previousType == reactionType) {
-            commentReactionRepository.delete(existing.get());
-        } else if (existing.isPresent()) {
-            existing.get().changeReactionType(reactionType);
-            commentReactionRepository.save(existing.get());
-        } else {
-            int inserted = commentReactionRepository.insertIgnore(commentId, userId, reactionType.name());
-            if (inserted == 0) {
-                return getCommentSummary(commentId, userId);
-            }
-        }
-
-        boolean toggledOff = (previousType == reactionType);
-        ReactionType userReaction = toggledOff ? null : reactionType;
-        return buildCommentSummaryWithUserReaction(comment, userReaction);
+        ToggleResult result = toggle(Target.COMMENT, commentId, userId, reactionType);
+        return new ReactionSummaryDTO(result.likeCount(), result.dislikeCount(), result.current());
     }
 
     @Transactional(readOnly = true)
     public ReactionSummaryDTO getCommentSummary(Long commentId, Long userId) {
+        Optional<Snapshot> cached = reactionCounterStore.read(Target.COMMENT, commentId, userId);
+        if (cached.isPresent()) {
+            return toSummary(cached.get());
+        }
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException());
         Users user = userId != null
@@ -131,6 +96,61 @@ public class ReactionService {
         return buildCommentSummary(comment, user);
     }
 
+    /**
+     * Redis 토글. 대상이 아직 적재되지 않았으면 DB에서 한 번 적재(존재 여부 검증 포함)한 뒤 다시 시도한다.
+     */
+    private ToggleResult toggle(Target target, Long targetId, Long userId, ReactionType reactionType) {
+        Optional<ToggleResult> result = reactionCounterStore.toggle(target, targetId, userId, reactionType);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        if (target == Target.BOARD) {
+            hydrateBoard(targetId);
+        } else {
+            hydrateComment(targetId);
+        }
+        return reactionCounterStore.toggle(target, targetId, userId, reactionType)
+                .orElseThrow(() -> new IllegalStateException("반응 카운터 적재 실패: " + target + " " + targetId));
+    }
+
+    private void hydrateBoard(Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException());
+        String category = Boolean.TRUE.equals(board.getIsDeleted()) ? "" : board.getCategory();
+        reactionCounterStore.hydrate(Target.BOARD, boardId, category,
+                toUserReactions(boardReactionRepository.findUserReactionsByBoardId(boardId)));
+    }
+
+    private void hydrateComment(Long commentId) {
+        commentRepository.findById(commentId)
+                .orElseThrow(() -> new CommentNotFoundException());
+        reactionCounterStore.hydrate(Target.COMMENT, commentId, "",
+                toUserReactions(commentReactionRepository.findUserReactionsByCommentId(commentId)));
+    }
+
+    private static Map<Long, ReactionType> toUserReactions(List<Object[]> rows) {
+        Map<Long, ReactionType> userReactions = new HashMap<>();
+        for (Object[] row : rows) {
+            userReactions.put(((Number) row[0]).longValue(), ReactionType.valueOf(row[1].toString()));
+        }
+        return userReactions;
+    }
+
+    /**
+     * 게시글 수정·삭제 시 Redis에 적재된 카테고리 갱신 (랭킹 이벤트의 카테고리 판단용)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardActivityEvent event) {
+        if (event.boardId() == null || event.likeDelta() != 0 || event.commentDelta() != 0 || event.viewDelta() != 0) {
+            return;
+        }
+        reactionCounterStore.refreshCategory(event.boardId(), event.removed() ? "" : event.category());
+    }
+
+    private static ReactionSummaryDTO toSummary(Snapshot snapshot) {
+        return new ReactionSummaryDTO(snapshot.likeCount(), snapshot.dislikeCount(), snapshot.userReaction());
+    }
+
     private ReactionSummaryDTO buildBoardSummary(Board board, Users user) {
         long likeCount = boardReactionRepository.countByBoardAndReactionType(board, ReactionType.LIKE);
         long dislikeCount = boardReactionRepository.countByBoardAndReactionType(board, ReactionType.DISLIKE);
@@ -146,35 +166,16 @@ public class ReactionService {
                 userReaction);
     }
 
-    /** [리팩토링] reactToBoard 반환용 - count 2회 + find 1회 제거, 엔티티 likeCount/dislikeCount 사용 */
-    private ReactionSummaryDTO buildBoardSummaryFromCounts(int likeCount, int dislikeCount,
-            ReactionType userReaction) {
-        return new ReactionSummaryDTO(likeCount, dislikeCount, userReaction);
-    }
-
+    /** [리팩토링] count 쿼리 2회 제거 - comment.like_count / dislike_count 컬럼 사용 */
     private ReactionSummaryDTO buildCommentSummary(Comment comment, Users user) {
-        long likeCount = commentReactionRepository.countByCommentAndReactionType(comment, ReactionType.LIKE);
-        long dislikeCount = commentReactionRepository.countByCommentAndReactionType(comment, ReactionType.DISLIKE);
+        int likeCount = comment.getLikeCount() != null ? comment.getLikeCount() : 0;
+        int dislikeCount = comment.getDislikeCount() != null ? comment.getDislikeCount() : 0;
         ReactionType userReaction = null;
         if (user != null) {
             userReaction = commentReactionRepository.findByCommentAndUser(comment, user)
                     .map(CommentReaction::getReactionType)
                     .orElse(null);
         }
-        return new ReactionSummaryDTO(
-                Math.toIntExact(likeCount),
-                Math.toIntExact(dislikeCount),
-                userReaction);
-    }
-
-    /** [리팩토링] reactToComment 반환용 - findByCommentAndUser 1회 제거, userReaction 계산값 전달 */
-    private ReactionSummaryDTO buildCommentSummaryWithUserReaction(Comment comment, ReactionType userReaction) {
-        long likeCount = commentReactionRepository.countByCommentAndReactionType(comment, ReactionType.LIKE);
-        long dislikeCount = commentReactionRepository.countByCommentAndReactionType(comment, ReactionType.DISLIKE);
-        return new ReactionSummaryDTO(
-                Math.toIntExact(likeCount),
-                Math.toIntExact(dislikeCount),
-                userReaction);
+        return new ReactionSummaryDTO(likeCount, dislikeCount, userReaction);
     }
-
 }
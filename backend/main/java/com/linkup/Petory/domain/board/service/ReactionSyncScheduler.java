@@ -0,0 +1,74 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.PendingReaction;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.Target;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactionSyncScheduler {
+
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(1);
+    private static final int REPAIR_CHUNK_SIZE = 1000;
+
+    private final ReactionCounterStore reactionCounterStore;
+    private final ReactionSyncService reactionSyncService;
+
+    /**
+     * Redis 반응 대기열을 주기적으로 DB에 반영 (기본 3초)
+     * - board_reaction / comment_reaction 일괄 upsert·삭제, board.like_count / dislike_count 재계산
+     * - 실패하면 처리 중 목록이 Redis에 남아 다음 주기에 같은 목록부터 재시도
+     */
+    @Scheduled(fixedDelayString = "${app.reaction.sync-interval-ms:3000}")
+    public void syncReactions() {
+        sync(Target.BOARD);
+        sync(Target.COMMENT);
+    }
+
+    /**
+     * 매일 새벽 댓글 반응 카운터 정합성 복구 (컬럼 추가 직후 백필 겸용)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void repairCommentReactionCounts() {
+        try {
+            int updated = reactionSyncService.repairCommentReactionCounts(REPAIR_CHUNK_SIZE);
+            log.info("댓글 반응 카운터 복구 완료 - 갱신 수: {}", updated);
+        } catch (Exception e) {
+            log.error("댓글 반응 카운터 복구 실패", e);
+        }
+    }
+
+    private void sync(Target target) {
+        String token = null;
+        try {
+            token = reactionCounterStore.tryLockSync(target, LOCK_LEASE);
+            if (token == null) {
+                return; // 다른 노드가 처리 중
+            }
+            List<PendingReaction> pending = reactionCounterStore.claimPending(target);
+            if (pending.isEmpty()) {
+                return;
+            }
+            int applied = target == Target.BOARD
+                    ? reactionSyncService.applyBoardReactions(pending)
+                    : reactionSyncService.applyCommentReactions(pending);
+            reactionCounterStore.completeSync(target);
+            log.debug("반응 배치 동기화 완료 - target: {}, 반영 수: {}", target, applied);
+        } catch (Exception e) {
+            log.error("반응 배치 동기화 실패 - target: {}, 다음 주기에 재시도", target, e);
+        } finally {
+            if (token != null) {
+                reactionCounterStore.unlockSync(target, token);
+            }
+        }
+    }
+}
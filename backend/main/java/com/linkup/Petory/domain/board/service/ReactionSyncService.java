@@ -0,0 +1,105 @@
+package com.linkup.Petory.domain.board.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.CommentReactionRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.PendingReaction;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 반응 대기열을 DB에 일괄 반영한다.
+ *
+ * <p>
+ * 대기 항목은 (대상, 사용자)별 최종 상태이므로 대상·반응 타입별로 묶어
+ * 삭제 1회 / 타입별 upsert 1회로 처리하고, 게시글·댓글 카운터는 같은 트랜잭션에서 반응 테이블 기준으로 재계산한다.
+ * 모두 최종 상태로 덮어쓰는 연산이라 같은 배치를 다시 반영해도 결과가 같다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactionSyncService {
+
+    private final BoardReactionRepository boardReactionRepository;
+    private final CommentReactionRepository commentReactionRepository;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+
+    @Transactional
+    public int applyBoardReactions(List<PendingReaction> pending) {
+        Map<Long, Grouped> byBoard = group(pending);
+        List<Long> reactedBoardIds = new ArrayList<>();
+        byBoard.forEach((boardId, grouped) -> {
+            if (!grouped.removed.isEmpty()) {
+                boardReactionRepository.deleteByBoardIdAndUserIds(boardId, grouped.removed);
+            }
+            grouped.upserts.forEach((type, userIds) -> boardReactionRepository.upsertAll(boardId, userIds, type));
+            if (!grouped.upserts.isEmpty()) {
+                reactedBoardIds.add(boardId);
+            }
+        });
+
+        List<Long> boardIds = new ArrayList<>(byBoard.keySet());
+        boardRepository.syncReactionCounts(boardIds);
+        if (!reactedBoardIds.isEmpty()) {
+            boardRepository.updateLastReactionAtAll(reactedBoardIds, LocalDateTime.now());
+        }
+        return pending.size();
+    }
+
+    @Transactional
+    public int applyCommentReactions(List<PendingReaction> pending) {
+        Map<Long, Grouped> byComment = group(pending);
+        byComment.forEach((commentId, grouped) -> {
+            if (!grouped.removed.isEmpty()) {
+                commentReactionRepository.deleteByCommentIdAndUserIds(commentId, grouped.removed);
+            }
+            grouped.upserts.forEach((type, userIds) -> commentReactionRepository.upsertAll(commentId, userIds, type));
+        });
+        commentRepository.syncReactionCounts(new ArrayList<>(byComment.keySet()));
+        return pending.size();
+    }
+
+    /**
+     * 댓글 좋아요/싫어요 카운터 백필·정합성 복구.
+     * idx 구간(chunkSize)마다 별도 트랜잭션으로 재계산하므로 긴 잠금 없이 전체 댓글을 훑는다.
+     *
+     * @return 갱신된 댓글 수
+     */
+    public int repairCommentReactionCounts(int chunkSize) {
+        long maxIdx = commentRepository.findMaxIdx();
+        int updated = 0;
+        for (long from = 1; from <= maxIdx; from += chunkSize) {
+            updated += commentRepository.syncReactionCountsInRange(from, from + chunkSize - 1);
+        }
+        return updated;
+    }
+
+    private static Map<Long, Grouped> group(List<PendingReaction> pending) {
+        Map<Long, Grouped> grouped = new HashMap<>();
+        for (PendingReaction reaction : pending) {
+            Grouped target = grouped.computeIfAbsent(reaction.targetId(), id -> new Grouped());
+            if (reaction.type() == null) {
+                target.removed.add(reaction.userId());
+            } else {
+                target.upserts.computeIfAbsent(reaction.type(), type -> new ArrayList<>()).add(reaction.userId());
+            }
+        }
+        return grouped;
+    }
+
+    private static final class Grouped {
+        private final List<Long> removed = new ArrayList<>();
+        private final Map<ReactionType, List<Long>> upserts = new HashMap<>();
+    }
+}
@@ -0,0 +1,17 @@
+package com.linkup.Petory.domain.care.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 펫케어 요청 날짜 변경 이벤트 (생성·날짜 수정·삭제).
+ * 커밋 후 CareRequestExpiryTimer가 만료 마감을 다시 등록하거나 취소한다.
+ */
+public record CareRequestScheduleChangedEvent(
+        Long careRequestIdx,
+        LocalDateTime date  // 새 케어 날짜, 삭제면 null
+) {
+
+    public static CareRequestScheduleChangedEvent removed(Long careRequestIdx) {
+        return new CareRequestScheduleChangedEvent(careRequestIdx, null);
+    }
+}
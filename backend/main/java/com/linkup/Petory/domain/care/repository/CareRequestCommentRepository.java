@@ -1,8 +1,11 @@
 package com.linkup.Petory.domain.care.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+
 import com.linkup.Petory.domain.care.entity.CareRequest;
 import com.linkup.Petory.domain.care.entity.CareRequestComment;
 import com.linkup.Petory.domain.user.entity.Users;
@@ -25,4 +28,15 @@ public interface CareRequestCommentRepository {
      * 사용자별 댓글 조회 (삭제되지 않은 것만, 최신순)
      */
     List<CareRequestComment> findByUserAndIsDeletedFalseOrderByCreatedAtDesc(Users user);
+
+    /**
+     * 활동 피드용 키셋 조회 - (createdAt, idx) 내림차순, cursor가 null이면 최신부터
+     */
+    List<CareRequestComment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable);
+
+    /**
+     * 활동 피드 필터별 건수용 COUNT
+     */
+    long countActivityByUserId(Long userId);
 }
@@ -1,6 +1,7 @@
 package com.linkup.Petory.domain.care.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,10 +59,25 @@ public interface CareRequestRepository {
                         String descKeyword);
 
         /**
-         * 날짜가 지났고 특정 상태인 요청 조회 (스케줄러용)
+         * 날짜가 지났고 특정 상태인 요청 idx (afterIdx 초과, idx 오름차순 limit건) — 만료 스케줄러 키셋 페이징용
          */
-        List<CareRequest> findByDateBeforeAndStatusIn(
+        List<Long> findExpiredIdxAfter(
                         LocalDateTime now,
+                        List<CareRequestStatus> statuses,
+                        long afterIdx,
+                        int limit);
+
+        /**
+         * idx 목록으로 만료 처리용 조회 (작성자·지원·제공자 FETCH — 제재 여부 확인 N+1 방지)
+         */
+        List<CareRequest> findByIdxInForExpiry(Collection<Long> ids);
+
+        /**
+         * (from, to] 구간에 날짜가 있는 특정 상태 요청의 [idx, date] (삭제 제외) — 만료 타이머 휠 적재용
+         */
+        List<Object[]> findUpcomingDeadlines(
+                        LocalDateTime from,
+                        LocalDateTime to,
                         List<CareRequestStatus> statuses);
 
         /**
@@ -123,4 +139,15 @@ public interface CareRequestRepository {
 
         /** 이벤트 리스너용: BANNED 사용자의 OPEN 케어 취소 처리 */
         List<CareRequest> findOpenByUserId(Long userId);
+
+        /**
+         * 활동 피드용 키셋 조회 - (createdAt, idx) 내림차순, cursor가 null이면 최신부터
+         */
+        List<CareRequest> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+                Pageable pageable);
+
+        /**
+         * 활동 피드 필터별 건수용 COUNT
+         */
+        long countActivityByUserId(Long userId);
 }
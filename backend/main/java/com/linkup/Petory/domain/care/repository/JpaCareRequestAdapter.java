@@ -1,6 +1,7 @@
 package com.linkup.Petory.domain.care.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -11,6 +12,7 @@ import java.util.stream.Collectors;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -100,10 +102,28 @@ public class JpaCareRequestAdapter implements CareRequestRepository {
     }
 
     @Override
-    public List<CareRequest> findByDateBeforeAndStatusIn(
+    public List<Long> findExpiredIdxAfter(
             LocalDateTime now,
+            List<CareRequestStatus> statuses,
+            long afterIdx,
+            int limit) {
+        return jpaRepository.findExpiredIdxAfter(now, statuses, afterIdx, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<CareRequest> findByIdxInForExpiry(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByIdxInForExpiry(ids);
+    }
+
+    @Override
+    public List<Object[]> findUpcomingDeadlines(
+            LocalDateTime from,
+            LocalDateTime to,
             List<CareRequestStatus> statuses) {
-        return jpaRepository.findByDateBeforeAndStatusIn(now, statuses);
+        return jpaRepository.findUpcomingDeadlines(from, to, statuses);
     }
 
     @Override
@@ -185,4 +205,15 @@ public class JpaCareRequestAdapter implements CareRequestRepository {
     public List<CareRequest> findOpenByUserId(Long userId) {
         return jpaRepository.findByUser_IdxAndStatusAndIsDeletedFalse(userId, CareRequestStatus.OPEN);
     }
+
+    @Override
+    public List<CareRequest> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return jpaRepository.findActivityByUserIdAndCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @Override
+    public long countActivityByUserId(Long userId) {
+        return jpaRepository.countActivityByUserId(userId);
+    }
 }
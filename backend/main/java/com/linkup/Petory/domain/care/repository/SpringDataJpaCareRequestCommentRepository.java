@@ -1,7 +1,9 @@
 package com.linkup.Petory.domain.care.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,5 +25,30 @@ public interface SpringDataJpaCareRequestCommentRepository extends JpaRepository
     @RepositoryMethod("펫케어 댓글: 사용자별 목록 조회")
     @Query("SELECT cc FROM CareRequestComment cc JOIN FETCH cc.careRequest WHERE cc.user = :user AND cc.isDeleted = false ORDER BY cc.createdAt DESC")
     List<CareRequestComment> findByUserAndIsDeletedFalseOrderByCreatedAtDesc(@Param("user") Users user);
-}
 
+    // 커서 유무로 쿼리를 나눔 — (:cursorCreatedAt IS NULL OR ...)는 작성자별 (created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("펫케어 댓글: 사용자 활동 피드 커서 조회")
+    default List<CareRequestComment> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findActivityFirstPage(userId, pageable)
+                : findActivityAfterCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("펫케어 댓글: 사용자 활동 피드 첫 페이지")
+    @Query("SELECT cc FROM CareRequestComment cc JOIN FETCH cc.careRequest cr WHERE cc.user.idx = :userId AND cc.isDeleted = false " +
+           "ORDER BY cc.createdAt DESC, cc.idx DESC")
+    List<CareRequestComment> findActivityFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("펫케어 댓글: 사용자 활동 피드 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT cc FROM CareRequestComment cc JOIN FETCH cc.careRequest cr WHERE cc.user.idx = :userId AND cc.isDeleted = false " +
+           "AND (cc.createdAt, cc.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY cc.createdAt DESC, cc.idx DESC")
+    List<CareRequestComment> findActivityAfterCursor(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("펫케어 댓글: 사용자 활동 건수")
+    @Query("SELECT COUNT(cc) FROM CareRequestComment cc WHERE cc.user.idx = :userId AND cc.isDeleted = false")
+    long countActivityByUserId(@Param("userId") Long userId);
+}
@@ -58,15 +58,35 @@ public interface SpringDataJpaCareRequestRepository extends JpaRepository<CareRe
     @Query("SELECT DISTINCT cr FROM CareRequest cr JOIN FETCH cr.user u LEFT JOIN FETCH cr.pet LEFT JOIN FETCH cr.applications WHERE cr.idx IN :ids")
     List<CareRequest> findByIdxInWithAssociations(@Param("ids") Collection<Long> ids);
 
-    // 날짜가 지났고 특정 상태인 요청 조회 (스케줄러용)
-    @RepositoryMethod("펫케어 요청: 만료된 요청 조회 (스케줄러)")
+    // 날짜가 지났고 특정 상태인 요청 idx (스케줄러 키셋 페이징용 — 엔티티는 청크 단위로 따로 FETCH)
+    // 삭제된 요청은 updateStatus에서 NotFound로 실패하므로 대상에서 제외
+    @RepositoryMethod("펫케어 요청: 만료된 요청 idx 키셋 조회 (스케줄러)")
+    @Query("SELECT cr.idx FROM CareRequest cr "
+                    + "WHERE cr.date < :now AND cr.status IN :statuses AND cr.idx > :afterIdx "
+                    + "AND (cr.isDeleted = false OR cr.isDeleted IS NULL) "
+                    + "ORDER BY cr.idx")
+    List<Long> findExpiredIdxAfter(
+                    @Param("now") LocalDateTime now,
+                    @Param("statuses") List<CareRequestStatus> statuses,
+                    @Param("afterIdx") long afterIdx,
+                    Pageable pageable);
+
+    @RepositoryMethod("펫케어 요청: 만료 처리 대상 청크 조회 (지원·제공자 포함)")
     @Query("SELECT DISTINCT cr FROM CareRequest cr "
                     + "JOIN FETCH cr.user "
                     + "LEFT JOIN FETCH cr.applications a "
                     + "LEFT JOIN FETCH a.provider "
-                    + "WHERE cr.date < :now AND cr.status IN :statuses")
-    List<CareRequest> findByDateBeforeAndStatusIn(
-                    @Param("now") LocalDateTime now,
+                    + "WHERE cr.idx IN :ids")
+    List<CareRequest> findByIdxInForExpiry(@Param("ids") Collection<Long> ids);
+
+    // 구간 내 만료 예정 요청 (만료 타이머 휠 적재용, idx·date만)
+    @RepositoryMethod("펫케어 요청: 구간 내 만료 예정 요청 조회 (타이머 휠)")
+    @Query("SELECT cr.idx, cr.date FROM CareRequest cr "
+                    + "WHERE cr.date > :from AND cr.date <= :to AND cr.status IN :statuses "
+                    + "AND (cr.isDeleted = false OR cr.isDeleted IS NULL)")
+    List<Object[]> findUpcomingDeadlines(
+                    @Param("from") LocalDateTime from,
+                    @Param("to") LocalDateTime to,
                     @Param("statuses") List<CareRequestStatus> statuses);
 
     // 단일 케어 요청 조회 (작성자 포함) - 수정/삭제 시 권한 확인용
@@ -173,4 +193,30 @@ public interface SpringDataJpaCareRequestRepository extends JpaRepository<CareRe
 
     @RepositoryMethod("펫케어 요청: 상태+기간별 통계 (취소 케어 집계용)")
     long countByStatusAndUpdatedAtBetween(CareRequestStatus status, LocalDateTime start, LocalDateTime end);
+
+    // 커서 유무로 쿼리를 나눔 — (:cursorCreatedAt IS NULL OR ...)는 작성자별 (created_at, idx) 범위 스캔을 막는다
+    @RepositoryMethod("펫케어 요청: 사용자 활동 피드 커서 조회")
+    default List<CareRequest> findActivityByUserIdAndCursor(Long userId, LocalDateTime cursorCreatedAt, Long cursorIdx,
+            Pageable pageable) {
+        return cursorCreatedAt == null
+                ? findActivityFirstPage(userId, pageable)
+                : findActivityAfterCursor(userId, cursorCreatedAt, cursorIdx, pageable);
+    }
+
+    @RepositoryMethod("펫케어 요청: 사용자 활동 피드 첫 페이지")
+    @Query("SELECT cr FROM CareRequest cr JOIN cr.user u WHERE u.idx = :userId AND cr.isDeleted = false AND u.isDeleted = false AND (u.status = 'ACTIVE' OR (u.status = 'SUSPENDED' AND u.suspendedUntil <= CURRENT_TIMESTAMP)) " +
+           "ORDER BY cr.createdAt DESC, cr.idx DESC")
+    List<CareRequest> findActivityFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("펫케어 요청: 사용자 활동 피드 다음 페이지 (행 값 비교 seek)")
+    @Query("SELECT cr FROM CareRequest cr JOIN cr.user u WHERE u.idx = :userId AND cr.isDeleted = false AND u.isDeleted = false AND (u.status = 'ACTIVE' OR (u.status = 'SUSPENDED' AND u.suspendedUntil <= CURRENT_TIMESTAMP)) " +
+           "AND (cr.createdAt, cr.idx) < (:cursorCreatedAt, :cursorIdx) " +
+           "ORDER BY cr.createdAt DESC, cr.idx DESC")
+    List<CareRequest> findActivityAfterCursor(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt, @Param("cursorIdx") Long cursorIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("펫케어 요청: 사용자 활동 건수")
+    @Query("SELECT COUNT(cr) FROM CareRequest cr JOIN cr.user u WHERE u.idx = :userId AND cr.isDeleted = false AND u.isDeleted = false AND (u.status = 'ACTIVE' OR (u.status = 'SUSPENDED' AND u.suspendedUntil <= CURRENT_TIMESTAMP))")
+    long countActivityByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,105 @@
+package com.linkup.Petory.domain.care.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.care.event.CareRequestScheduleChangedEvent;
+import com.linkup.Petory.domain.care.repository.CareRequestRepository;
+import com.linkup.Petory.global.scheduling.DeadlineTimerWheel;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 펫케어 요청 날짜가 지나는 순간 해당 요청만 자동 완료 (모임 종료와 같은 타이머 휠 사용).
+ * 기동 시와 매시간 앞으로 2시간 구간을 DB에서 적재하고, 생성·날짜 수정·삭제는 커밋 후 이벤트로 반영한다.
+ * 발화한 요청은 {@link CareRequestScheduler}의 작업 풀로 넘겨, 틱 스레드는 단건 등록·취소 크기의 일만 한다.
+ * 완료 처리(제재 당사자 스킵·에스크로)는 {@link CareRequestScheduler#completeExpired}와 같고,
+ * 매시 일괄 스윕은 휠이 놓친 건만 처리하는 안전망으로 남는다.
+ */
+@Slf4j
+@Service
+public class CareRequestExpiryTimer {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final int WHEEL_SIZE = 2 * 60 * 60;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final CareRequestRepository careRequestRepository;
+    private final CareRequestScheduler careRequestScheduler;
+    private final boolean enabled;
+    private final DeadlineTimerWheel<Long> wheel;
+
+    public CareRequestExpiryTimer(
+            CareRequestRepository careRequestRepository,
+            CareRequestScheduler careRequestScheduler,
+            @Value("${app.care.expiry-timer.enabled:true}") boolean enabled) {
+        this.careRequestRepository = careRequestRepository;
+        this.careRequestScheduler = careRequestScheduler;
+        this.enabled = enabled;
+        this.wheel = new DeadlineTimerWheel<>("care-expiry", TICK, WHEEL_SIZE, this::expire);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            wheel.start();
+            reload();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.shutdown();
+    }
+
+    /**
+     * 앞으로 휠 한 바퀴 구간의 요청 날짜를 DB에서 다시 등록 (기동 직후 + 매시간)
+     */
+    @Scheduled(cron = "0 0 * * * ?")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> deadlines = careRequestRepository.findUpcomingDeadlines(
+                now, now.plus(wheel.horizon()), CareRequestScheduler.EXPIRABLE_STATUSES);
+        for (Object[] row : deadlines) {
+            wheel.schedule((Long) row[0], toEpochMillis((LocalDateTime) row[1]));
+        }
+        log.info("펫케어 요청 만료 타이머 적재: {}건 (대기 {}건)", deadlines.size(), wheel.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(CareRequestScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.date() == null) {
+            wheel.cancel(event.careRequestIdx());
+        } else {
+            wheel.schedule(event.careRequestIdx(), toEpochMillis(event.date()));
+        }
+    }
+
+    /** 휠 발화 — 조회·완료 처리는 작업 풀에서 하고, 큐가 가득 차면 잠시 뒤 다시 발화 */
+    void expire(Long careRequestIdx) {
+        if (!careRequestScheduler.trySubmitExpiry(careRequestIdx)) {
+            wheel.schedule(careRequestIdx, System.currentTimeMillis() + RETRY_DELAY.toMillis());
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,8 +1,18 @@
 package com.linkup.Petory.domain.care.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -11,7 +21,10 @@ import com.linkup.Petory.domain.care.entity.CareRequest;
 import com.linkup.Petory.domain.care.entity.CareRequestStatus;
 import com.linkup.Petory.domain.care.repository.CareRequestRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -20,14 +33,61 @@ import lombok.extern.slf4j.Slf4j;
  * 
  * 변경 이력:
  * - 2026-01-28: CareRequestService.updateStatus()를 호출하여 에스크로 처리 포함
+ * - 만료 대상을 idx 키셋으로 청크 단위 조회(작성자·지원·제공자 일괄 FETCH)하고, 청크 안 요청은
+ *   고정 크기 작업 풀에서 요청별 트랜잭션(updateStatus)으로 병렬 처리. 실행 중이면 다음 실행은 건너뜀
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CareRequestScheduler {
 
+    /** 날짜가 지나면 자동 완료되는 상태 */
+    static final List<CareRequestStatus> EXPIRABLE_STATUSES = List.of(CareRequestStatus.OPEN,
+            CareRequestStatus.IN_PROGRESS);
+
     private final CareRequestRepository careRequestRepository;
     private final CareRequestService careRequestService;
+    private final int chunkSize;
+    private final ThreadPoolExecutor workers;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Counter completedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final Counter overlapCounter;
+    private final Timer runTimer;
+
+    public CareRequestScheduler(
+            CareRequestRepository careRequestRepository,
+            CareRequestService careRequestService,
+            MeterRegistry meterRegistry,
+            @Value("${app.care.expiry.chunk-size:200}") int chunkSize,
+            @Value("${app.care.expiry.worker-threads:4}") int workerThreads) {
+        this.careRequestRepository = careRequestRepository;
+        this.careRequestService = careRequestService;
+        this.chunkSize = chunkSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐 용량 = 청크 크기 → 한 청크를 invokeAll로 한 번에 넣어도 거절되지 않음
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(chunkSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "care-expiry-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.completedCounter = meterRegistry.counter("care.expiry.requests", "result", "completed");
+        this.skippedCounter = meterRegistry.counter("care.expiry.requests", "result", "skipped");
+        this.failedCounter = meterRegistry.counter("care.expiry.requests", "result", "failed");
+        this.overlapCounter = meterRegistry.counter("care.expiry.overlap-skipped");
+        this.runTimer = meterRegistry.timer("care.expiry.run");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
 
     /**
      * 매 시간마다 실행 (정각에 실행)
@@ -39,55 +99,156 @@ public class CareRequestScheduler {
      * - 개별 요청별 예외 처리 추가
      * 스케줄러 메서드에 @Transactional을 두지 않음 — 루프 전체를 한 TX로 묶으면
      * updateStatus(에스크로 등)와 합쳐져 {@code UnexpectedRollbackException}이 날 수 있음.
+     * - 평소 만료는 {@link CareRequestExpiryTimer}가 날짜 시점에 단건 처리하므로, 여기서는 놓친 건만 걸리는 안전망
+     * - 자정 추가 실행은 제거 (매시 정각 실행이 자정도 포함)
      */
     @Scheduled(cron = "0 0 * * * ?") // 매 시간 정각에 실행
     public void updateExpiredCareRequests() {
+        if (!running.compareAndSet(false, true)) {
+            overlapCounter.increment();
+            log.warn("펫케어 요청 상태 자동 업데이트가 이미 실행 중이라 건너뜀");
+            return;
+        }
+        try {
+            runTimer.record(this::processExpired);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void processExpired() {
         log.info("펫케어 요청 상태 자동 업데이트 시작");
 
         LocalDateTime now = LocalDateTime.now();
+        int[] totals = new int[3]; // 성공, 스킵, 실패
+        long afterIdx = 0;
+        while (true) {
+            // 날짜가 지났고, OPEN 또는 IN_PROGRESS 상태인 요청 idx (키셋 — 처리된 요청이 빠져도 건너뛰는 행 없음)
+            List<Long> ids = careRequestRepository.findExpiredIdxAfter(now, EXPIRABLE_STATUSES, afterIdx, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterIdx = ids.get(ids.size() - 1);
+            processChunk(careRequestRepository.findByIdxInForExpiry(ids), totals);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
 
-        // 날짜가 지났고, OPEN 또는 IN_PROGRESS 상태인 요청 조회
-        List<CareRequest> expiredRequests = careRequestRepository
-                .findByDateBeforeAndStatusIn(
-                        now,
-                        List.of(CareRequestStatus.OPEN, CareRequestStatus.IN_PROGRESS));
-
-        if (expiredRequests.isEmpty()) {
+        int totalCount = totals[0] + totals[1] + totals[2];
+        if (totalCount == 0) {
             log.info("만료된 펫케어 요청이 없습니다.");
             return;
         }
+        log.info("펫케어 요청 상태 자동 업데이트 완료: 총 {}건 중 성공 {}건, 스킵 {}건, 실패 {}건",
+                totalCount, totals[0], totals[1], totals[2]);
+    }
 
-        int totalCount = expiredRequests.size();
-        int successCount = 0;
-        int failureCount = 0;
+    private void processChunk(List<CareRequest> requests, int[] totals) {
+        List<Callable<Boolean>> tasks = new ArrayList<>(requests.size());
+        for (CareRequest request : requests) {
+            tasks.add(() -> completeExpired(request));
+        }
+        List<Future<Boolean>> results;
+        try {
+            results = workers.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("펫케어 요청 만료 처리 중단", e);
+        }
 
-        for (CareRequest request : expiredRequests) {
+        for (int i = 0; i < results.size(); i++) {
+            CareRequest request = requests.get(i);
             try {
-                // 제재된 당사자가 있는 케어는 자동 완료하지 않음 (해제/관리자 검토 대상)
-                if (hasSanctionedParty(request)) {
-                    log.warn("자동 완료 스킵 (케어 당사자 제재 중): careId={}, requesterId={}",
-                            request.getIdx(), request.getUser().getIdx());
-                    continue;
+                if (results.get(i).get()) {
+                    totals[0]++;
+                    completedCounter.increment();
+                } else {
+                    totals[1]++;
+                    skippedCounter.increment();
                 }
-
-                // 서비스 메서드를 통해 상태 변경 (에스크로 처리 포함)
-                // 스케줄러는 시스템 작업이므로 currentUserId는 null
-                careRequestService.updateStatus(
-                        request.getIdx(),
-                        "COMPLETED",
-                        null);
-                successCount++;
-                log.debug("펫케어 요청 상태 변경 완료: id={}, title={}, date={}, status=OPEN/IN_PROGRESS -> COMPLETED",
-                        request.getIdx(), request.getTitle(), request.getDate());
-            } catch (Exception e) {
-                failureCount++;
+            } catch (ExecutionException e) {
+                totals[2]++;
+                failedCounter.increment();
                 log.error("펫케어 요청 상태 변경 실패: id={}, title={}, date={}, error={}",
-                        request.getIdx(), request.getTitle(), request.getDate(), e.getMessage(), e);
+                        request.getIdx(), request.getTitle(), request.getDate(), e.getCause().getMessage(),
+                        e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("펫케어 요청 만료 처리 중단", e);
+            }
+        }
+    }
+
+    /**
+     * 만료 타이머 발화분을 작업 풀로 넘김 — 휠 틱 스레드는 조회·에스크로 처리를 하지 않는다
+     *
+     * @return 작업 큐가 가득 차 넘기지 못했으면 false (호출 측이 잠시 뒤 다시 발화)
+     */
+    public boolean trySubmitExpiry(Long careRequestIdx) {
+        if (workers.getQueue().remainingCapacity() == 0) {
+            return false;
+        }
+        workers.execute(() -> expireIfDue(careRequestIdx));
+        return true;
+    }
+
+    /**
+     * 아직 OPEN/IN_PROGRESS이고 날짜가 지난 요청만 완료.
+     * 모든 노드의 타이머가 같은 요청을 같은 초에 발화하므로, 이미 COMPLETED면 updateStatus 전에 건너뛰고
+     * 경합에서 진 노드의 실패도 요청이 완료돼 있으면 오류로 남기지 않는다.
+     */
+    void expireIfDue(Long careRequestIdx) {
+        CareRequest request = careRequestRepository.findByIdWithApplications(careRequestIdx).orElse(null);
+        if (request == null
+                || Boolean.TRUE.equals(request.getIsDeleted())
+                || !EXPIRABLE_STATUSES.contains(request.getStatus())
+                || request.getDate() == null
+                || request.getDate().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        try {
+            if (completeExpired(request)) {
+                completedCounter.increment();
+            } else {
+                skippedCounter.increment();
             }
+        } catch (Exception e) {
+            boolean completedElsewhere = careRequestRepository.findById(careRequestIdx)
+                    .map(current -> current.getStatus() == CareRequestStatus.COMPLETED)
+                    .orElse(false);
+            if (completedElsewhere) {
+                skippedCounter.increment();
+                log.debug("펫케어 요청 만료 처리 경합 - 다른 노드에서 완료됨: id={}", careRequestIdx);
+                return;
+            }
+            failedCounter.increment();
+            log.error("펫케어 요청 만료 처리 실패: id={}, error={}", careRequestIdx, e.getMessage(), e);
         }
+    }
 
-        log.info("펫케어 요청 상태 자동 업데이트 완료: 총 {}건 중 성공 {}건, 실패 {}건",
-                totalCount, successCount, failureCount);
+    /**
+     * 날짜가 지난 요청 한 건 자동 완료 (매시 스윕·만료 타이머 공용)
+     *
+     * @return 완료했으면 true, 제재된 당사자가 있어 건너뛰었으면 false
+     */
+    public boolean completeExpired(CareRequest request) {
+        // 제재된 당사자가 있는 케어는 자동 완료하지 않음 (해제/관리자 검토 대상)
+        if (hasSanctionedParty(request)) {
+            log.warn("자동 완료 스킵 (케어 당사자 제재 중): careId={}, requesterId={}",
+                    request.getIdx(), request.getUser().getIdx());
+            return false;
+        }
+
+        // 서비스 메서드를 통해 상태 변경 (에스크로 처리 포함)
+        // 스케줄러는 시스템 작업이므로 currentUserId는 null
+        careRequestService.updateStatus(
+                request.getIdx(),
+                "COMPLETED",
+                null);
+        log.debug("펫케어 요청 상태 변경 완료: id={}, title={}, date={}, status=OPEN/IN_PROGRESS -> COMPLETED",
+                request.getIdx(), request.getTitle(), request.getDate());
+        return true;
     }
 
     private boolean hasSanctionedParty(CareRequest request) {
@@ -101,14 +262,4 @@ public class CareRequestScheduler {
                 .filter(app -> app.getStatus() == CareApplicationStatus.ACCEPTED)
                 .anyMatch(app -> app.getProvider().isSanctioned());
     }
-
-    /**
-     * 매일 자정에 실행 (더 정확한 시간 체크)
-     * 위의 매시간 실행과 중복되지만, 더 정확한 처리를 위해 유지
-     */
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행
-    public void updateExpiredCareRequestsDaily() {
-        log.info("펫케어 요청 일일 상태 업데이트 시작");
-        updateExpiredCareRequests();
-    }
 }
@@ -22,12 +22,14 @@ import com.linkup.Petory.domain.care.entity.CareApplicationStatus;
 import com.linkup.Petory.domain.care.entity.CareRequest;
 import com.linkup.Petory.domain.care.entity.CareRequestStatus;
 import com.linkup.Petory.domain.care.entity.CareScheduleMode;
+import com.linkup.Petory.domain.care.event.CareRequestScheduleChangedEvent;
 import com.linkup.Petory.domain.care.exception.CareForbiddenException;
 import com.linkup.Petory.domain.care.exception.CareRequestNotFoundException;
 import com.linkup.Petory.domain.care.exception.CareValidationException;
 import com.linkup.Petory.domain.care.repository.CareRequestRepository;
 import com.linkup.Petory.domain.payment.entity.EscrowStatus;
 import com.linkup.Petory.domain.payment.entity.PetCoinEscrow;
+import com.linkup.Petory.domain.payment.repository.PetCoinWalletRepository;
 import com.linkup.Petory.domain.payment.service.PetCoinEscrowService;
 import com.linkup.Petory.domain.petRecommendation.event.CareRequestCreatedEvent;
 import com.linkup.Petory.domain.user.entity.EmailVerificationPurpose;
@@ -53,6 +55,7 @@ public class CareRequestService {
     private final PetRepository petRepository;
     private final CareRequestConverter careRequestConverter;
     private final PetCoinEscrowService petCoinEscrowService;
+    private final PetCoinWalletRepository walletRepository;
     private final ApplicationEventPublisher eventPublisher;
 
     /**
@@ -186,8 +189,9 @@ public class CareRequestService {
                     EmailVerificationPurpose.PET_CARE);
         }
 
-        // 사용자 잔액 확인
-        if (user.getPetCoinBalance() < dto.getOfferedCoins()) {
+        // 사용자 잔액 확인 (지갑이 없으면 기존 잔액)
+        int balance = walletRepository.findBalance(user.getIdx()).orElseGet(user::getPetCoinBalance);
+        if (balance < dto.getOfferedCoins()) {
             throw CareValidationException.insufficientBalance();
         }
 
@@ -223,6 +227,7 @@ public class CareRequestService {
         eventPublisher.publishEvent(new CareRequestCreatedEvent(
                 this, user.getIdx(), saved.getIdx(),
                 saved.getTitle() + " " + saved.getDescription(), petType));
+        eventPublisher.publishEvent(new CareRequestScheduleChangedEvent(saved.getIdx(), saved.getDate()));
         return careRequestConverter.toDTO(saved);
     }
 
@@ -245,6 +250,7 @@ public class CareRequestService {
         }
         if (dto.getDate() != null) {
             request.setDate(dto.getDate());
+            eventPublisher.publishEvent(new CareRequestScheduleChangedEvent(idx, dto.getDate()));
         }
         if (dto.getScheduleMode() != null) {
             request.setScheduleMode(dto.getScheduleMode());
@@ -293,6 +299,7 @@ public class CareRequestService {
 
         request.softDelete();
         careRequestRepository.save(request);
+        eventPublisher.publishEvent(CareRequestScheduleChangedEvent.removed(idx));
     }
 
     // 내 케어 요청 조회
@@ -413,6 +420,7 @@ public class CareRequestService {
         CareRequest request = careRequestRepository.findById(id)
                 .orElseThrow(CareRequestNotFoundException::new);
         request.restore();
+        eventPublisher.publishEvent(new CareRequestScheduleChangedEvent(id, request.getDate()));
         return careRequestConverter.toDTO(careRequestRepository.save(request));
     }
 }
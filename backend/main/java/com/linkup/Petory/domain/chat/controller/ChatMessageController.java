@@ -88,8 +88,9 @@ public class ChatMessageController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Void> markAsRead(
             @PathVariable("conversationIdx") Long conversationIdx,
-            @RequestParam(value = "lastMessageIdx", required = false) Long lastMessageIdx) {
-        chatMessageService.markAsRead(conversationIdx, getCurrentUserId(), lastMessageIdx);
+            @RequestParam(value = "lastMessageIdx", required = false) Long lastMessageIdx,
+            @RequestParam(value = "lastSeq", required = false) Long lastSeq) {
+        chatMessageService.markAsRead(conversationIdx, getCurrentUserId(), lastMessageIdx, lastSeq);
         return ResponseEntity.noContent().build();
     }
 
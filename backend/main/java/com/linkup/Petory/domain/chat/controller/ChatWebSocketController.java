@@ -18,8 +18,11 @@ import com.linkup.Petory.domain.chat.entity.MessageType;
 import com.linkup.Petory.domain.chat.exception.ChatForbiddenException;
 import com.linkup.Petory.domain.chat.exception.ConversationNotFoundException;
 import com.linkup.Petory.domain.chat.service.ChatMessageService;
+import com.linkup.Petory.domain.chat.service.ChatTypingThrottle;
 import com.linkup.Petory.domain.user.exception.UserNotFoundException;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
+import com.linkup.Petory.global.websocket.relay.MessageRelay;
+import com.linkup.Petory.global.websocket.security.StompPrincipal;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +37,9 @@ public class ChatWebSocketController {
 
     private final ChatMessageService chatMessageService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final MessageRelay messageRelay;
     private final UsersRepository usersRepository;
+    private final ChatTypingThrottle chatTypingThrottle;
 
     /**
      * 메시지 전송 클라이언트: /app/chat.send
@@ -49,11 +54,8 @@ public class ChatWebSocketController {
             Principal principal) {
 
         try {
-            // 사용자 ID 추출 (principal.getName()은 로그인 ID를 반환하므로 Users 테이블에서 조회)
-            String loginId = principal.getName();
-            Long senderIdx = usersRepository.findByIdString(loginId)
-                    .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + loginId))
-                    .getIdx();
+            // 사용자 ID 추출 (인증 시 Principal에 보관한 idx 사용)
+            Long senderIdx = resolveUserIdx(principal);
             Long conversationIdx = messageRequest.getConversationIdx();
 
             log.info("WebSocket 메시지 전송: conversationIdx={}, senderIdx={}, content={}",
@@ -71,8 +73,8 @@ public class ChatWebSocketController {
                     messageRequest.getContent(),
                     messageType);
 
-            // 채팅방 참여자들에게 브로드캐스트
-            messagingTemplate.convertAndSend(
+            // 채팅방 참여자들에게 브로드캐스트 (다른 노드에 연결된 참여자 포함)
+            messageRelay.send(
                     "/topic/conversation/" + conversationIdx,
                     messageDTO);
 
@@ -99,10 +101,7 @@ public class ChatWebSocketController {
 
         try {
             // 사용자 ID 추출
-            String loginId = principal.getName();
-            Long userId = usersRepository.findByIdString(loginId)
-                    .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + loginId))
-                    .getIdx();
+            Long userId = resolveUserIdx(principal);
 
             log.info("WebSocket 읽음 처리: conversationIdx={}, userId={}",
                     readRequest.getConversationIdx(), userId);
@@ -111,7 +110,8 @@ public class ChatWebSocketController {
             chatMessageService.markAsRead(
                     readRequest.getConversationIdx(),
                     userId,
-                    readRequest.getLastMessageIdx());
+                    readRequest.getLastMessageIdx(),
+                    readRequest.getLastSeq());
 
             // 다른 참여자에게 읽음 상태 알림 (선택사항)
             // messagingTemplate.convertAndSend(
@@ -132,16 +132,18 @@ public class ChatWebSocketController {
 
         try {
             // 사용자 ID 추출
-            String loginId = principal.getName();
-            Long userId = usersRepository.findByIdString(loginId)
-                    .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + loginId))
-                    .getIdx();
+            Long userId = resolveUserIdx(principal);
 
             log.debug("WebSocket 타이핑: conversationIdx={}, userId={}, isTyping={}",
                     typingRequest.getConversationIdx(), userId, typingRequest.isTyping());
 
+            // 같은 상태의 반복 요청은 버리고, 짧은 간격의 상태 변경은 ChatTypingScheduler가 병합해 전송
+            if (!chatTypingThrottle.offer(typingRequest.getConversationIdx(), userId, typingRequest.isTyping())) {
+                return;
+            }
+
             // 다른 참여자에게 타이핑 상태 브로드캐스트 (본인 제외)
-            messagingTemplate.convertAndSend(
+            messageRelay.send(
                     "/topic/conversation/" + typingRequest.getConversationIdx() + "/typing",
                     new TypingStatusDTO(userId, typingRequest.isTyping()));
 
@@ -150,4 +152,17 @@ public class ChatWebSocketController {
         }
     }
 
+    /**
+     * Principal에서 사용자 idx 추출
+     * 인증 시 StompPrincipal에 보관한 idx를 쓰고, 없을 때만 로그인 ID로 Users 테이블을 조회한다.
+     */
+    private Long resolveUserIdx(Principal principal) {
+        if (principal instanceof StompPrincipal stompPrincipal && stompPrincipal.getUserIdx() != null) {
+            return stompPrincipal.getUserIdx();
+        }
+        String loginId = principal.getName();
+        return usersRepository.findByIdString(loginId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + loginId))
+                .getIdx();
+    }
 }
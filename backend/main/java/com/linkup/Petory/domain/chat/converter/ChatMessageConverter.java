@@ -20,6 +20,7 @@ public class ChatMessageConverter {
                 .idx(message.getIdx())
                 .conversationIdx(message.getConversation() != null 
                     ? message.getConversation().getIdx() : null)
+                .seq(message.getSeq())
                 .senderIdx(message.getSender() != null 
                     ? message.getSender().getIdx() : null)
                 .messageType(message.getMessageType() != null 
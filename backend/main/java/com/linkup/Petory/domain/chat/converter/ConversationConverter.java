@@ -28,6 +28,7 @@ public class ConversationConverter {
                 .status(conversation.getStatus() != null 
                     ? conversation.getStatus().name() : null)
                 .lastMessageAt(conversation.getLastMessageAt())
+                .lastMessageSeq(conversation.getLastMessageSeq())
                 .lastMessagePreview(conversation.getLastMessagePreview())
                 .isDeleted(conversation.getIsDeleted())
                 .deletedAt(conversation.getDeletedAt())
@@ -25,6 +25,7 @@ public class ConversationParticipantConverter {
                         ? participant.getRole().name()
                         : null)
                 .unreadCount(participant.getUnreadCount())
+                .lastReadSeq(participant.getLastReadSeq())
                 .lastReadMessageIdx(participant.getLastReadMessage() != null
                         ? participant.getLastReadMessage().getIdx()
                         : null)
@@ -19,6 +19,7 @@ public class ChatMessageDTO {
 
     private Long idx;
     private Long conversationIdx;
+    private Long seq; // 대화방 내 메시지 순번 (클라이언트 정렬·중복 제거 기준)
     private Long senderIdx;
     private String senderUsername;
     private String senderProfileImageUrl;
@@ -11,4 +11,5 @@ import lombok.Setter;
 public class ChatWebSocketReadRequest {
     private Long conversationIdx;
     private Long lastMessageIdx;
+    private Long lastSeq; // 마지막으로 읽은 메시지 순번 (브로드캐스트 메시지의 seq)
 }
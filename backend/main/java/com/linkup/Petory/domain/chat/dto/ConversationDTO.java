@@ -21,6 +21,7 @@ public class ConversationDTO {
     private Long relatedIdx;
     private String status;  // ACTIVE, CLOSED, ARCHIVED
     private LocalDateTime lastMessageAt;
+    private Long lastMessageSeq; // 마지막 메시지 순번
     private String lastMessagePreview;
     private Boolean isDeleted;
     private LocalDateTime deletedAt;
@@ -33,6 +34,7 @@ public class ConversationDTO {
 
     // 현재 사용자의 읽지 않은 메시지 수
     private Integer unreadCount;
+    private Long lastReadSeq; // 현재 사용자가 마지막으로 읽은 순번 (unreadCount = lastMessageSeq - lastReadSeq)
 
     // 마지막 메시지 정보
     private ChatMessageDTO lastMessage;
@@ -20,6 +20,7 @@ public class ConversationParticipantDTO {
     private String userProfileImageUrl;
     private String role; // MEMBER, ADMIN, MODERATOR
     private Integer unreadCount;
+    private Long lastReadSeq; // 마지막으로 읽은 메시지 순번
     private Long lastReadMessageIdx;
     private LocalDateTime lastReadAt;
     private String status; // ACTIVE, LEFT, KICKED, MUTED
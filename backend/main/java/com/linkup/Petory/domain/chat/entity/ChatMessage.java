@@ -32,6 +32,10 @@ public class ChatMessage extends BaseTimeEntity {
     @Builder.Default
     private MessageType messageType = MessageType.TEXT;
 
+    /** 대화방 내 메시지 순번 (서버가 전송 시점에 부여, 대화방별 단조 증가) */
+    @Column(name = "seq")
+    private Long seq;
+
     @Lob
     @Column(name = "content", nullable = false)
     private String content;
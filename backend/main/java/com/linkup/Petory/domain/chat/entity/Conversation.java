@@ -45,6 +45,10 @@ public class Conversation extends BaseTimeEntity {
     @Column(name = "last_message_preview", length = 200)
     private String lastMessagePreview;
 
+    /** 마지막으로 저장된 메시지 순번 (ChatMessage.seq) */
+    @Column(name = "last_message_seq")
+    private Long lastMessageSeq;
+
     @Column(name = "is_deleted")
     @Builder.Default
     private Boolean isDeleted = false;
@@ -34,9 +34,10 @@ public class ConversationParticipant extends BaseTimeEntity {
     @Builder.Default
     private ParticipantRole role = ParticipantRole.MEMBER;
 
-    @Column(name = "unread_count", nullable = false)
+    // 마지막으로 읽은 메시지 순번 (읽지 않은 수 = 채팅방 lastMessageSeq - lastReadSeq)
+    @Column(name = "last_read_seq", nullable = false)
     @Builder.Default
-    private Integer unreadCount = 0;
+    private Long lastReadSeq = 0L;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "last_read_message_idx")
@@ -76,8 +77,8 @@ public class ConversationParticipant extends BaseTimeEntity {
         if (this.role == null) {
             this.role = ParticipantRole.MEMBER;
         }
-        if (this.unreadCount == null) {
-            this.unreadCount = 0;
+        if (this.lastReadSeq == null) {
+            this.lastReadSeq = 0L;
         }
         if (this.status == null) {
             this.status = ParticipantStatus.ACTIVE;
@@ -92,18 +93,21 @@ public class ConversationParticipant extends BaseTimeEntity {
         this.deletedAt = LocalDateTime.now();
     }
 
-    // 읽지 않은 메시지 수 증가
-    public void incrementUnreadCount() {
-        if (this.unreadCount == null) {
-            this.unreadCount = 0;
-        }
-        this.unreadCount++;
+    // 읽지 않은 메시지 수 (채팅방 마지막 순번 기준)
+    public int getUnreadCount() {
+        return unreadCountAt(conversation != null ? conversation.getLastMessageSeq() : null);
+    }
+
+    // 채팅방 마지막 순번이 headSeq일 때 읽지 않은 메시지 수 (0 미만으로 내려가지 않음)
+    public int unreadCountAt(Long headSeq) {
+        long unread = (headSeq != null ? headSeq : 0L) - (lastReadSeq != null ? lastReadSeq : 0L);
+        return (int) Math.max(0L, Math.min(unread, Integer.MAX_VALUE));
     }
 
-    // 읽지 않은 메시지 수 감소 (0 이하로 내려가지 않음)
-    public void decrementUnreadCount() {
-        if (this.unreadCount != null && this.unreadCount > 0) {
-            this.unreadCount--;
+    // 마지막으로 읽은 순번 전진 (뒤로 돌아가지 않음)
+    public void markReadUpTo(Long seq) {
+        if (seq != null && (this.lastReadSeq == null || seq > this.lastReadSeq)) {
+            this.lastReadSeq = seq;
         }
     }
 }
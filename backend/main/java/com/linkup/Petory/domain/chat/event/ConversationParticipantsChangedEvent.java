@@ -0,0 +1,13 @@
+package com.linkup.Petory.domain.chat.event;
+
+/**
+ * 채팅방 활성 참여자 구성 변경 이벤트.
+ * 참여·재참여·나가기 시 발행되며, 커밋 이후(AFTER_COMMIT) ChatParticipantCache가 받아 캐시를 비운다.
+ *
+ * @param conversationIdx 채팅방 ID
+ * @param userIdx         참여·나가기한 사용자 ID
+ */
+public record ConversationParticipantsChangedEvent(
+        Long conversationIdx,
+        Long userIdx) {
+}
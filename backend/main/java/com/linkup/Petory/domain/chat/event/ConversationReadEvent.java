@@ -0,0 +1,15 @@
+package com.linkup.Petory.domain.chat.event;
+
+/**
+ * 채팅방 읽음 처리 이벤트.
+ * 커밋 이후(AFTER_COMMIT) ChatInboxCache가 받아 사용자 목록 캐시의 마지막 읽은 순번을 전진시킨다.
+ *
+ * @param conversationIdx 채팅방 ID
+ * @param userIdx         읽음 처리한 사용자 ID
+ * @param lastReadSeq     마지막으로 읽은 순번
+ */
+public record ConversationReadEvent(
+        Long conversationIdx,
+        Long userIdx,
+        Long lastReadSeq) {
+}
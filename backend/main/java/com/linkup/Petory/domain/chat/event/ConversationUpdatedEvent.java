@@ -0,0 +1,12 @@
+package com.linkup.Petory.domain.chat.event;
+
+/**
+ * 채팅방 정보 변경 이벤트.
+ * 상태 변경·삭제·연관 정보 변경·역할 및 거래 확정 등 채팅방 목록에 보이는 정보가 바뀔 때 발행되며,
+ * 커밋 이후(AFTER_COMMIT) ChatInboxCache가 받아 해당 채팅방 요약을 비운다.
+ *
+ * @param conversationIdx 채팅방 ID
+ */
+public record ConversationUpdatedEvent(
+        Long conversationIdx) {
+}
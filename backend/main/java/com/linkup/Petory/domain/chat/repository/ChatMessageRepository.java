@@ -89,5 +89,16 @@ public interface ChatMessageRepository {
     List<ChatMessage> searchMessagesByKeyword(
         Long conversationIdx,
         String keyword);
-}
 
+    /**
+     * 순번이 부여된 메시지 저장 (쓰기 버퍼 일괄 반영용)
+     * 같은 (conversation_idx, seq)가 이미 있으면 유니크 제약 위반(DataIntegrityViolationException)으로 실패한다.
+     */
+    int insertSequenced(
+        Long conversationIdx,
+        Long senderIdx,
+        Long seq,
+        String messageType,
+        String content,
+        LocalDateTime createdAt);
+}
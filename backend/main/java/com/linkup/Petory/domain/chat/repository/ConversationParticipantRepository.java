@@ -36,6 +36,11 @@ public interface ConversationParticipantRepository {
         Long conversationIdx,
         ParticipantStatus status);
 
+    /**
+     * 채팅방 활성 참여자 사용자 ID만 조회 (엔티티 로딩 없음)
+     */
+    List<Long> findActiveUserIdxsByConversationIdx(Long conversationIdx);
+
     /**
      * 사용자별 활성 참여 채팅방 조회
      */
@@ -61,14 +66,9 @@ public interface ConversationParticipantRepository {
     List<ConversationParticipant> findUnreadConversationsByUser(Long userId);
 
     /**
-     * 읽지 않은 메시지 수 초기화
+     * 마지막으로 읽은 순번을 seq까지 전진 (이미 더 앞서 있으면 변경 없음)
      */
-    void markAsRead(Long conversationIdx, Long userId);
-
-    /**
-     * 읽지 않은 메시지 수 증가
-     */
-    void incrementUnreadCount(Long conversationIdx, Long senderUserId);
+    int advanceLastReadSeq(Long conversationIdx, Long userId, Long seq);
 
     /**
      * 채팅방별 활성 참여자 수 조회 (배치)
@@ -102,4 +102,3 @@ public interface ConversationParticipantRepository {
      */
     void deleteAllInBatch(List<ConversationParticipant> participants);
 }
-
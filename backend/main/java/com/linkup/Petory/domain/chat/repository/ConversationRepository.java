@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.chat.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,8 @@ public interface ConversationRepository {
 
     Optional<Conversation> findById(Long id);
 
+    List<Conversation> findAllById(List<Long> ids);
+
     void delete(Conversation conversation);
 
     void deleteById(Long id);
@@ -74,4 +77,29 @@ public interface ConversationRepository {
      * 비관적 락을 사용한 채팅방 조회 (동시성 제어용)
      */
     Optional<Conversation> findByIdWithLock(Long idx);
+
+    /**
+     * 메시지 순번 발급 카운터(last_allocated_seq)로 다음 순번 발급 (Redis 장애 시 경로)
+     * 저장된 마지막 순번보다 뒤에서 발급하며, 카운터 증가와 조회를 한 트랜잭션에서 수행한다.
+     *
+     * @return 채팅방이 없으면 null
+     */
+    Long allocateSeq(Long conversationIdx);
+
+    /**
+     * Redis 순번 카운터 시작값 - 발급 카운터와 저장된 마지막 순번 중 큰 값
+     *
+     * @return 채팅방이 없으면 null
+     */
+    Long findSeqFloor(Long conversationIdx);
+
+    /**
+     * 마지막 메시지 메타데이터 갱신
+     * 더 큰 순번일 때만 반영하므로 배치가 늦게 도착해도 최신 메시지를 덮어쓰지 않는다.
+     */
+    int updateLastMessage(
+            Long conversationIdx,
+            Long lastMessageSeq,
+            LocalDateTime lastMessageAt,
+            String lastMessagePreview);
 }
@@ -137,4 +137,10 @@ public class JpaChatMessageAdapter implements ChatMessageRepository {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public int insertSequenced(Long conversationIdx, Long senderIdx, Long seq, String messageType,
+            String content, LocalDateTime createdAt) {
+        return jpaRepository.insertSequenced(conversationIdx, senderIdx, seq, messageType, content, createdAt);
+    }
 }
@@ -1,10 +1,12 @@
 package com.linkup.Petory.domain.chat.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.chat.entity.Conversation;
 import com.linkup.Petory.domain.chat.entity.ConversationStatus;
@@ -44,6 +46,12 @@ public class JpaConversationAdapter implements ConversationRepository {
         return jpaRepository.findById(id);
     }
 
+    @SuppressWarnings("null")
+    @Override
+    public List<Conversation> findAllById(List<Long> ids) {
+        return jpaRepository.findAllById(ids);
+    }
+
     @SuppressWarnings("null")
     @Override
     public void delete(Conversation conversation) {
@@ -100,4 +108,27 @@ public class JpaConversationAdapter implements ConversationRepository {
     public Optional<Conversation> findByIdWithLock(Long idx) {
         return jpaRepository.findByIdWithLock(idx);
     }
+
+    /**
+     * 카운터 증가와 조회를 같은 트랜잭션에서 수행 (행 락이 커밋까지 유지되어 방금 발급한 순번을 읽음)
+     */
+    @Override
+    @Transactional
+    public Long allocateSeq(Long conversationIdx) {
+        if (jpaRepository.incrementAllocatedSeq(conversationIdx) == 0) {
+            return null;
+        }
+        return jpaRepository.findAllocatedSeq(conversationIdx);
+    }
+
+    @Override
+    public Long findSeqFloor(Long conversationIdx) {
+        return jpaRepository.findSeqFloor(conversationIdx);
+    }
+
+    @Override
+    public int updateLastMessage(Long conversationIdx, Long lastMessageSeq, LocalDateTime lastMessageAt,
+            String lastMessagePreview) {
+        return jpaRepository.updateLastMessage(conversationIdx, lastMessageSeq, lastMessageAt, lastMessagePreview);
+    }
 }
@@ -61,6 +61,11 @@ public class JpaConversationParticipantAdapter implements ConversationParticipan
         return jpaRepository.findByConversationIdxAndStatus(conversationIdx, status);
     }
 
+    @Override
+    public List<Long> findActiveUserIdxsByConversationIdx(Long conversationIdx) {
+        return jpaRepository.findActiveUserIdxsByConversationIdx(conversationIdx);
+    }
+
     @Override
     public List<ConversationParticipant> findActiveParticipationsByUser(Long userId) {
         return jpaRepository.findActiveParticipationsByUser(userId);
@@ -86,13 +91,8 @@ public class JpaConversationParticipantAdapter implements ConversationParticipan
     }
 
     @Override
-    public void markAsRead(Long conversationIdx, Long userId) {
-        jpaRepository.markAsRead(conversationIdx, userId);
-    }
-
-    @Override
-    public void incrementUnreadCount(Long conversationIdx, Long senderUserId) {
-        jpaRepository.incrementUnreadCount(conversationIdx, senderUserId);
+    public int advanceLastReadSeq(Long conversationIdx, Long userId, Long seq) {
+        return jpaRepository.advanceLastReadSeq(conversationIdx, userId, seq);
     }
 
     @Override
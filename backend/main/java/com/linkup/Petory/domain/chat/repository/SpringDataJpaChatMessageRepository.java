@@ -7,6 +7,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -125,5 +126,18 @@ public interface SpringDataJpaChatMessageRepository extends JpaRepository<ChatMe
     @Query("SELECT DISTINCT m FROM ChatMessage m JOIN FETCH m.sender s LEFT JOIN FETCH m.replyToMessage "
             + "WHERE m.idx IN :ids")
     List<ChatMessage> findByIdxInWithAssociations(@Param("ids") Collection<Long> ids);
-}
 
+    @RepositoryMethod("채팅 메시지: 순번 메시지 저장")
+    @Modifying
+    @Query(value = "INSERT INTO chatmessage "
+            + "(conversation_idx, sender_idx, seq, message_type, content, is_deleted, created_at, updated_at) "
+            + "VALUES (:conversationIdx, :senderIdx, :seq, :messageType, :content, 0, :createdAt, :createdAt)",
+            nativeQuery = true)
+    int insertSequenced(
+            @Param("conversationIdx") Long conversationIdx,
+            @Param("senderIdx") Long senderIdx,
+            @Param("seq") Long seq,
+            @Param("messageType") String messageType,
+            @Param("content") String content,
+            @Param("createdAt") LocalDateTime createdAt);
+}
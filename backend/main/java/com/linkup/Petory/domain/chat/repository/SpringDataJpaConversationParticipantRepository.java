@@ -35,6 +35,13 @@ public interface SpringDataJpaConversationParticipantRepository extends JpaRepos
         @Param("conversationIdx") Long conversationIdx,
         @Param("status") ParticipantStatus status);
 
+    @RepositoryMethod("채팅 참여자: 채팅방 ID로 활성 참여자 사용자 ID 조회")
+    @Query("SELECT p.user.idx FROM ConversationParticipant p " +
+           "WHERE p.conversation.idx = :conversationIdx " +
+           "  AND p.status = 'ACTIVE' " +
+           "  AND p.isDeleted = false")
+    List<Long> findActiveUserIdxsByConversationIdx(@Param("conversationIdx") Long conversationIdx);
+
     @RepositoryMethod("채팅 참여자: 사용자별 활성 참여 채팅방 조회")
     @Query("SELECT p FROM ConversationParticipant p " +
            "JOIN FETCH p.conversation c " +
@@ -65,23 +72,20 @@ public interface SpringDataJpaConversationParticipantRepository extends JpaRepos
            "JOIN FETCH p.conversation c " +
            "WHERE p.user.idx = :userId " +
            "  AND p.status = 'ACTIVE' " +
-           "  AND p.unreadCount > 0 " +
+           "  AND c.lastMessageSeq > p.lastReadSeq " +
            "  AND p.isDeleted = false " +
            "  AND c.isDeleted = false " +
            "ORDER BY c.lastMessageAt DESC")
     List<ConversationParticipant> findUnreadConversationsByUser(@Param("userId") Long userId);
 
-    @RepositoryMethod("채팅 참여자: 읽음 처리")
+    @RepositoryMethod("채팅 참여자: 마지막 읽은 순번 전진")
     @Modifying
-    @Query("UPDATE ConversationParticipant p SET p.unreadCount = 0, p.lastReadAt = CURRENT_TIMESTAMP " +
-           "WHERE p.conversation.idx = :conversationIdx AND p.user.idx = :userId")
-    void markAsRead(@Param("conversationIdx") Long conversationIdx, @Param("userId") Long userId);
-
-    @RepositoryMethod("채팅 참여자: 읽지 않은 메시지 수 증가")
-    @Modifying
-    @Query("UPDATE ConversationParticipant p SET p.unreadCount = p.unreadCount + 1 " +
-           "WHERE p.conversation.idx = :conversationIdx AND p.user.idx != :senderUserId AND p.status = 'ACTIVE'")
-    void incrementUnreadCount(@Param("conversationIdx") Long conversationIdx, @Param("senderUserId") Long senderUserId);
+    @Query("UPDATE ConversationParticipant p SET p.lastReadSeq = :seq, p.lastReadAt = CURRENT_TIMESTAMP " +
+           "WHERE p.conversation.idx = :conversationIdx AND p.user.idx = :userId AND p.lastReadSeq < :seq")
+    int advanceLastReadSeq(
+        @Param("conversationIdx") Long conversationIdx,
+        @Param("userId") Long userId,
+        @Param("seq") Long seq);
 
     @RepositoryMethod("채팅 참여자: 채팅방별 활성 참여자 수 배치 조회")
     @Query("SELECT p.conversation.idx, COUNT(p) FROM ConversationParticipant p " +
@@ -123,4 +127,3 @@ public interface SpringDataJpaConversationParticipantRepository extends JpaRepos
         @Param("conversationIdxs") List<Long> conversationIdxs,
         @Param("status") ParticipantStatus status);
 }
-
@@ -1,10 +1,12 @@
 package com.linkup.Petory.domain.chat.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -78,5 +80,32 @@ public interface SpringDataJpaConversationRepository extends JpaRepository<Conve
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Conversation c WHERE c.idx = :idx")
     Optional<Conversation> findByIdWithLock(@Param("idx") Long idx);
-}
 
+    // Redis 발급분은 카운터에 남지 않으므로 저장된 마지막 순번보다 뒤에서 발급
+    @RepositoryMethod("채팅방: 메시지 순번 발급 카운터 증가 (Redis 장애 시)")
+    @Modifying
+    @Query(value = "UPDATE conversation "
+            + "SET last_allocated_seq = GREATEST(last_allocated_seq, COALESCE(last_message_seq, 0)) + 1 "
+            + "WHERE idx = :conversationIdx", nativeQuery = true)
+    int incrementAllocatedSeq(@Param("conversationIdx") Long conversationIdx);
+
+    @RepositoryMethod("채팅방: 마지막 발급 순번 조회")
+    @Query(value = "SELECT last_allocated_seq FROM conversation WHERE idx = :conversationIdx", nativeQuery = true)
+    Long findAllocatedSeq(@Param("conversationIdx") Long conversationIdx);
+
+    @RepositoryMethod("채팅방: Redis 순번 시작값 조회 (발급 카운터·저장된 마지막 순번 중 큰 값)")
+    @Query(value = "SELECT GREATEST(last_allocated_seq, COALESCE(last_message_seq, 0)) FROM conversation "
+            + "WHERE idx = :conversationIdx", nativeQuery = true)
+    Long findSeqFloor(@Param("conversationIdx") Long conversationIdx);
+
+    @RepositoryMethod("채팅방: 마지막 메시지 메타데이터 갱신 (순번 역행 방지)")
+    @Modifying
+    @Query("UPDATE Conversation c SET c.lastMessageSeq = :seq, c.lastMessageAt = :lastMessageAt, "
+            + "c.lastMessagePreview = :preview "
+            + "WHERE c.idx = :conversationIdx AND (c.lastMessageSeq IS NULL OR c.lastMessageSeq < :seq)")
+    int updateLastMessage(
+            @Param("conversationIdx") Long conversationIdx,
+            @Param("seq") Long seq,
+            @Param("lastMessageAt") LocalDateTime lastMessageAt,
+            @Param("preview") String preview);
+}
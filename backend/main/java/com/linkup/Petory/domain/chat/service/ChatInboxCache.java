@@ -0,0 +1,387 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkup.Petory.domain.chat.dto.ChatMessageDTO;
+import com.linkup.Petory.domain.chat.dto.ConversationDTO;
+import com.linkup.Petory.domain.chat.entity.ConversationParticipant;
+import com.linkup.Petory.domain.chat.entity.ConversationStatus;
+import com.linkup.Petory.domain.chat.event.ConversationParticipantsChangedEvent;
+import com.linkup.Petory.domain.chat.event.ConversationReadEvent;
+import com.linkup.Petory.domain.chat.event.ConversationUpdatedEvent;
+import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
+import com.linkup.Petory.domain.user.event.UserSanctionAppliedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 채팅방 목록 캐시 (Redis).
+ *
+ * <ul>
+ * <li>"chat:inbox:{userIdx}" (ZSET: 채팅방 idx → 마지막 메시지 시각 점수) - 목록 순서</li>
+ * <li>"chat:inbox:{userIdx}:read" (Hash: 채팅방 idx → 마지막으로 읽은 순번)</li>
+ * <li>"chat:conversation:{conversationIdx}" (Hash: dto/seq/lastMessage/preview) - 사용자 공통 채팅방 요약</li>
+ * </ul>
+ * 목록 조회는 스크립트 한 번으로 세 키를 함께 읽고, 읽지 않은 수는 요약 seq - 읽은 순번으로 계산한다.
+ * 메시지 전송 시 요약과 참여자 목록 순서를(참여자 캐시가 비었으면 DB의 참여자 ID로), 읽음 처리 시 읽은 순번을 증분 갱신하며,
+ * 참여/나가기·채팅방 변경·제재 시에는 해당 키를 비워 DB에서 다시 채운다. 모든 키는 TTL(기본 10분)로 수렴한다.
+ * 여러 키를 한 스크립트에서 다루므로 단일 Redis(RedisConfig) 구성을 전제로 한다.
+ * Redis 장애 시 조회는 캐시 미스로, 갱신은 무시(로그)로 처리한다.
+ */
+@Slf4j
+@Component
+public class ChatInboxCache {
+
+    static final String INBOX_PREFIX = "chat:inbox:";
+    static final String READ_SUFFIX = ":read";
+    static final String SUMMARY_PREFIX = "chat:conversation:";
+    static final String LOADED_MARKER = "_";
+
+    /** 메시지가 없는 채팅방은 메시지가 있는 채팅방 뒤에 생성 시각 순으로 (ORDER BY lastMessageAt DESC NULLS LAST, createdAt DESC) */
+    private static final long NO_MESSAGE_SCORE_OFFSET = 10_000_000_000_000L;
+
+    /**
+     * KEYS[1]=목록, KEYS[2]=읽은 순번, ARGV[1]=요약 키 접두어
+     * 반환: 목록이 없으면 nil, 있으면 {채팅방 idx, dto, seq, lastMessage, preview, 읽은 순번}의 배열 (없는 값은 "")
+     */
+    private static final RedisScript<List> READ_INBOX = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            local result = {}
+            for _, id in ipairs(redis.call('ZREVRANGE', KEYS[1], 0, -1)) do
+              if id ~= '_' then
+                local s = redis.call('HMGET', ARGV[1] .. id, 'dto', 'seq', 'lastMessage', 'preview')
+                local read = redis.call('HGET', KEYS[2], id)
+                table.insert(result, {id, s[1] or '', s[2] or '', s[3] or '', s[4] or '', read or ''})
+              end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * KEYS[1]=요약, KEYS[2]=보낸 사람 읽은 순번, KEYS[3..]=참여자 목록
+     * ARGV: seq, lastMessage, preview, ttl, 점수, 채팅방 idx
+     * 요약은 더 큰 seq일 때만 갱신, 목록은 이미 담긴 경우(XX)만 순서 갱신, 보낸 사람은 자기 메시지까지 읽음
+     */
+    private static final RedisScript<Long> ON_MESSAGE = new DefaultRedisScript<>("""
+            local seq = tonumber(ARGV[1])
+            if tonumber(redis.call('HGET', KEYS[1], 'seq') or '-1') < seq then
+              redis.call('HSET', KEYS[1], 'seq', ARGV[1], 'lastMessage', ARGV[2], 'preview', ARGV[3])
+              redis.call('EXPIRE', KEYS[1], ARGV[4])
+              for i = 3, #KEYS do
+                redis.call('ZADD', KEYS[i], 'XX', ARGV[5], ARGV[6])
+              end
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 and tonumber(redis.call('HGET', KEYS[2], ARGV[6]) or '0') < seq then
+              redis.call('HSET', KEYS[2], ARGV[6], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    /** KEYS[1]=읽은 순번, ARGV: 채팅방 idx, seq - 목록이 캐시된 경우에만 앞으로 전진 */
+    private static final RedisScript<Long> ON_READ = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 and tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') < tonumber(ARGV[2]) then
+              redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1]=목록, KEYS[2]=읽은 순번, KEYS[3..]=요약
+     * ARGV[1]=ttl, ARGV[2]=목록 재작성 여부(1/0), 이후 채팅방마다 {idx, 점수, 읽은 순번, dto, seq, lastMessage, preview}
+     * 요약 dto는 덮어쓰고, 마지막 메시지는 캐시 쪽 seq가 더 크면(저장 전 메시지) 유지
+     */
+    private static final RedisScript<Long> PUT = new DefaultRedisScript<>("""
+            local ttl = ARGV[1]
+            local rewrite = ARGV[2] == '1'
+            if rewrite then
+              redis.call('DEL', KEYS[1], KEYS[2])
+              redis.call('ZADD', KEYS[1], '-inf', '_')
+              redis.call('HSET', KEYS[2], '_', '0')
+            end
+            for i = 3, #KEYS do
+              local a = 3 + (i - 3) * 7
+              local id, score, read, dto, seq = ARGV[a], ARGV[a + 1], ARGV[a + 2], ARGV[a + 3], ARGV[a + 4]
+              if rewrite then
+                redis.call('ZADD', KEYS[1], score, id)
+                redis.call('HSET', KEYS[2], id, read)
+              end
+              redis.call('HSET', KEYS[i], 'dto', dto)
+              if tonumber(redis.call('HGET', KEYS[i], 'seq') or '-1') < tonumber(seq) then
+                redis.call('HSET', KEYS[i], 'seq', seq, 'lastMessage', ARGV[a + 5], 'preview', ARGV[a + 6])
+              end
+              redis.call('EXPIRE', KEYS[i], ttl)
+            end
+            if rewrite then
+              redis.call('EXPIRE', KEYS[1], ttl)
+              redis.call('EXPIRE', KEYS[2], ttl)
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConversationParticipantRepository participantRepository;
+    private final ChatParticipantCache participantCache;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+
+    public ChatInboxCache(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            ConversationParticipantRepository participantRepository,
+            ChatParticipantCache participantCache,
+            ObjectMapper objectMapper,
+            @Value("${app.chat.inbox-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.participantRepository = participantRepository;
+        this.participantCache = participantCache;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 캐시된 채팅방 목록 조회
+     *
+     * @param loader 목록에는 있으나 요약이 만료된 채팅방을 DB에서 조회하는 함수 (조회 후 캐시에 채움)
+     * @return 목록 캐시가 없거나 쓸 수 없으면 empty (호출자가 DB 조회 후 putInbox)
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<ConversationDTO>> getInbox(Long userIdx, Function<List<Long>, List<ConversationDTO>> loader) {
+        List<Object> rows;
+        try {
+            rows = redisTemplate.execute(READ_INBOX, List.of(inboxKey(userIdx), readKey(userIdx)), SUMMARY_PREFIX);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 목록 캐시 조회 실패 - DB 조회로 대체: userIdx={}, error={}", userIdx, e.getMessage());
+            return Optional.empty();
+        }
+        if (rows == null) {
+            return Optional.empty();
+        }
+
+        List<ConversationDTO> inbox = new ArrayList<>(rows.size());
+        List<Long> missing = new ArrayList<>();
+        for (Object row : rows) {
+            List<String> fields = (List<String>) row;
+            Long conversationIdx = Long.valueOf(fields.get(0));
+            ConversationDTO dto = readSummary(fields);
+            if (dto == null) {
+                missing.add(conversationIdx);
+                dto = ConversationDTO.builder().idx(conversationIdx).build();
+            }
+            inbox.add(dto);
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, ConversationDTO> loaded = new HashMap<>();
+            List<ConversationDTO> fetched = loader.apply(missing);
+            for (ConversationDTO dto : fetched) {
+                loaded.put(dto.getIdx(), dto);
+            }
+            putSummaries(userIdx, fetched, false);
+            for (int i = 0; i < inbox.size(); i++) {
+                ConversationDTO dto = inbox.get(i);
+                if (missing.contains(dto.getIdx())) {
+                    inbox.set(i, loaded.get(dto.getIdx()));
+                }
+            }
+        }
+
+        return Optional.of(inbox.stream()
+                .filter(dto -> dto != null
+                        && ConversationStatus.ACTIVE.name().equals(dto.getStatus())
+                        && !Boolean.TRUE.equals(dto.getIsDeleted()))
+                .toList());
+    }
+
+    /**
+     * DB에서 조회한 목록으로 캐시 재작성
+     */
+    public void putInbox(Long userIdx, List<ConversationDTO> conversations) {
+        putSummaries(userIdx, conversations, true);
+    }
+
+    /**
+     * 메시지 전송 반영: 채팅방 요약, 참여자 목록 순서, 보낸 사람의 읽은 순번.
+     * 참여자 캐시가 비어 있으면 DB에서 참여자 ID를 읽어 목록 순서 갱신 대상에서 빠지지 않게 한다.
+     */
+    public void onMessageSent(ChatMessageDTO message, String preview) {
+        Long conversationIdx = message.getConversationIdx();
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(SUMMARY_PREFIX + conversationIdx);
+            keys.add(readKey(message.getSenderIdx()));
+            for (Long memberIdx : memberIds(conversationIdx)) {
+                keys.add(inboxKey(memberIdx));
+            }
+            redisTemplate.execute(ON_MESSAGE, keys,
+                    message.getSeq().toString(),
+                    objectMapper.writeValueAsString(message),
+                    preview,
+                    Long.toString(ttlSeconds),
+                    Long.toString(score(message.getCreatedAt(), null)),
+                    conversationIdx.toString());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("채팅방 목록 캐시 메시지 반영 실패 (TTL 만료로 정리됨): conversationIdx={}, error={}",
+                    conversationIdx, e.getMessage());
+        }
+    }
+
+    private Collection<Long> memberIds(Long conversationIdx) {
+        Set<Long> cached = participantCache.cachedMemberIds(conversationIdx);
+        if (!cached.isEmpty()) {
+            return cached;
+        }
+        return participantRepository.findActiveUserIdxsByConversationIdx(conversationIdx);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConversationRead(ConversationReadEvent event) {
+        if (event.lastReadSeq() == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(ON_READ, List.of(readKey(event.userIdx())),
+                    event.conversationIdx().toString(), event.lastReadSeq().toString());
+        } catch (DataAccessException e) {
+            evictInbox(event.userIdx());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParticipantsChanged(ConversationParticipantsChangedEvent event) {
+        evictSummary(event.conversationIdx());
+        if (event.userIdx() != null) {
+            evictInbox(event.userIdx());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onConversationUpdated(ConversationUpdatedEvent event) {
+        evictSummary(event.conversationIdx());
+    }
+
+    /**
+     * 제재 사용자가 참여한 채팅방 요약의 제재 안내 플래그 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSanctionApplied(UserSanctionAppliedEvent event) {
+        for (ConversationParticipant participation : participantRepository
+                .findActiveParticipationsByUser(event.userId())) {
+            evictSummary(participation.getConversation().getIdx());
+        }
+    }
+
+    public void evictInbox(Long userIdx) {
+        try {
+            redisTemplate.delete(List.of(inboxKey(userIdx), readKey(userIdx)));
+        } catch (DataAccessException e) {
+            log.warn("채팅방 목록 캐시 삭제 실패 (TTL 만료로 정리됨): userIdx={}, error={}", userIdx, e.getMessage());
+        }
+    }
+
+    public void evictSummary(Long conversationIdx) {
+        try {
+            redisTemplate.delete(SUMMARY_PREFIX + conversationIdx);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 요약 캐시 삭제 실패 (TTL 만료로 정리됨): conversationIdx={}, error={}",
+                    conversationIdx, e.getMessage());
+        }
+    }
+
+    private void putSummaries(Long userIdx, List<ConversationDTO> conversations, boolean rewriteInbox) {
+        try {
+            List<String> keys = new ArrayList<>();
+            keys.add(inboxKey(userIdx));
+            keys.add(readKey(userIdx));
+            List<String> args = new ArrayList<>();
+            args.add(Long.toString(ttlSeconds));
+            args.add(rewriteInbox ? "1" : "0");
+            for (ConversationDTO dto : conversations) {
+                keys.add(SUMMARY_PREFIX + dto.getIdx());
+                args.add(dto.getIdx().toString());
+                args.add(Long.toString(score(dto.getLastMessageAt(), dto.getCreatedAt())));
+                args.add(Long.toString(dto.getLastReadSeq() != null ? dto.getLastReadSeq() : 0L));
+                args.add(objectMapper.writeValueAsString(sharedPart(dto)));
+                args.add(Long.toString(dto.getLastMessageSeq() != null ? dto.getLastMessageSeq() : 0L));
+                args.add(dto.getLastMessage() != null ? objectMapper.writeValueAsString(dto.getLastMessage()) : "");
+                args.add(dto.getLastMessagePreview() != null ? dto.getLastMessagePreview() : "");
+            }
+            redisTemplate.execute(PUT, keys, args.toArray());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("채팅방 목록 캐시 저장 실패: userIdx={}, error={}", userIdx, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 공통 요약 + 마지막 메시지 + 사용자별 읽은 순번을 합쳐 목록 항목 복원 (요약이 없으면 null)
+     */
+    private ConversationDTO readSummary(List<String> fields) {
+        String dtoJson = fields.get(1);
+        if (dtoJson.isEmpty()) {
+            return null;
+        }
+        try {
+            ConversationDTO dto = objectMapper.readValue(dtoJson, ConversationDTO.class);
+            long seq = fields.get(2).isEmpty() ? 0L : Long.parseLong(fields.get(2));
+            long readSeq = fields.get(5).isEmpty() ? 0L : Long.parseLong(fields.get(5));
+            if (!fields.get(3).isEmpty()) {
+                ChatMessageDTO lastMessage = objectMapper.readValue(fields.get(3), ChatMessageDTO.class);
+                dto.setLastMessage(lastMessage);
+                dto.setLastMessageAt(lastMessage.getCreatedAt());
+                dto.setLastMessagePreview(fields.get(4));
+            }
+            dto.setLastMessageSeq(seq);
+            dto.setLastReadSeq(readSeq);
+            dto.setUnreadCount((int) Math.max(0L, seq - readSeq));
+            return dto;
+        } catch (JsonProcessingException e) {
+            log.warn("채팅방 요약 캐시 해석 실패 - DB 조회로 대체: conversationIdx={}", fields.get(0));
+            return null;
+        }
+    }
+
+    /** 사용자별 값(읽은 순번·읽지 않은 수)과 따로 저장하는 마지막 메시지를 뺀 요약 */
+    private ConversationDTO sharedPart(ConversationDTO dto) {
+        ConversationDTO shared = objectMapper.convertValue(dto, ConversationDTO.class);
+        shared.setUnreadCount(null);
+        shared.setLastReadSeq(null);
+        shared.setLastMessage(null);
+        return shared;
+    }
+
+    private static long score(LocalDateTime lastMessageAt, LocalDateTime createdAt) {
+        if (lastMessageAt != null) {
+            return lastMessageAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        long created = createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        return created - NO_MESSAGE_SCORE_OFFSET;
+    }
+
+    private static String inboxKey(Long userIdx) {
+        return INBOX_PREFIX + userIdx;
+    }
+
+    private static String readKey(Long userIdx) {
+        return INBOX_PREFIX + userIdx + READ_SUFFIX;
+    }
+}
@@ -0,0 +1,63 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.linkup.Petory.domain.chat.repository.ChatMessageRepository;
+import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
+import com.linkup.Petory.domain.chat.repository.ConversationRepository;
+import com.linkup.Petory.domain.chat.service.ChatMessageWriteBuffer.PendingMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지 배치 저장.
+ *
+ * 한 트랜잭션에서 메시지를 INSERT 하고, 채팅방별로 lastMessageSeq/lastMessageAt/lastMessagePreview 갱신을 한 번씩만 수행한다.
+ * 읽지 않은 수는 lastMessageSeq - 참여자 lastReadSeq로 계산하므로 참여자 행은 보낸 사람 것만 갱신한다.
+ * 실패하면 배치 전체가 롤백되므로 같은 배치를 다시 저장해도 중복되지 않는다.
+ * 이미 저장된 (conversation_idx, seq)가 있으면 유니크 제약 위반으로 실패한다 (순번 중복을 조용히 버리지 않음).
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ConversationRepository conversationRepository;
+    private final ConversationParticipantRepository participantRepository;
+
+    @Transactional
+    public void persist(List<PendingMessage> batch) {
+        Map<Long, List<PendingMessage>> byConversation = batch.stream()
+                .collect(Collectors.groupingBy(PendingMessage::conversationIdx, LinkedHashMap::new,
+                        Collectors.toList()));
+
+        byConversation.forEach((conversationIdx, messages) -> {
+            // 1. 메시지 저장
+            Map<Long, Long> lastSeqBySender = new HashMap<>();
+            for (PendingMessage message : messages) {
+                chatMessageRepository.insertSequenced(conversationIdx, message.senderIdx(),
+                        message.seq(), message.messageType().name(), message.content(), message.createdAt());
+                lastSeqBySender.merge(message.senderIdx(), message.seq(), Math::max);
+            }
+
+            // 2. 보낸 사람은 자기 메시지까지 읽은 것으로 처리 (다른 참여자 행은 건드리지 않음)
+            lastSeqBySender.forEach((senderIdx, seq) -> participantRepository
+                    .advanceLastReadSeq(conversationIdx, senderIdx, seq));
+
+            // 3. 채팅방 마지막 순번·메타데이터: 배치 내 마지막 순번 기준 (더 큰 순번이 이미 반영됐으면 갱신 안 함)
+            PendingMessage last = messages.stream()
+                    .max(Comparator.comparingLong(PendingMessage::seq))
+                    .orElseThrow();
+            conversationRepository.updateLastMessage(conversationIdx, last.seq(), last.createdAt(),
+                    last.preview());
+        });
+    }
+}
@@ -0,0 +1,117 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.util.List;
+
+import com.linkup.Petory.domain.chat.service.ChatMessageWriteBuffer.PendingMessage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessagePersistScheduler {
+
+    private static final String SEQ_UNIQUE_KEY = "uk_chatmessage_conversation_seq";
+
+    private final ChatMessageWriteBuffer writeBuffer;
+    private final ChatMessageBatchWriter batchWriter;
+
+    /**
+     * 채팅 메시지 버퍼를 주기적으로 배치 저장 (기본 100ms)
+     * - 메시지는 전송 즉시 순번과 함께 브로드캐스트되고, DB 저장은 최대 한 주기만큼 늦는다
+     * - 저장 실패 시 배치를 버퍼 앞으로 되돌려 다음 주기에 재시도 (배치 전체가 롤백되므로 중복 없음)
+     * - 제약 위반은 재시도해도 같은 배치에서 해결되지 않으므로 건별로 다시 저장한다.
+     *   순번 중복((conversation_idx, seq) 유니크 제약)은 이미 저장된 메시지이므로 건너뛰고,
+     *   그 밖의 제약 위반(FK·NOT NULL 등)은 dead-letter에 보관해 {@link #retryDeadLetters}에서 계속 재시도한다
+     */
+    @Scheduled(fixedDelayString = "${app.chat.persist.flush-interval-ms:100}")
+    public void flushMessages() {
+        List<PendingMessage> batch;
+        while (!(batch = writeBuffer.drain()).isEmpty()) {
+            try {
+                batchWriter.persist(batch);
+                log.debug("채팅 메시지 배치 저장 완료 - 건수: {}", batch.size());
+            } catch (DataIntegrityViolationException e) {
+                log.error("채팅 메시지 배치 저장 중 제약 위반 - 건별 저장으로 전환 (건수: {})", batch.size(), e);
+                if (!persistOneByOne(batch)) {
+                    return;
+                }
+            } catch (Exception e) {
+                writeBuffer.restore(batch);
+                log.error("채팅 메시지 배치 저장 실패 - 다음 주기에 재시도 (대기: {}건)", writeBuffer.size(), e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return 다른 오류로 중단해 남은 메시지를 버퍼에 되돌렸으면 false
+     */
+    private boolean persistOneByOne(List<PendingMessage> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            try {
+                batchWriter.persist(List.of(message));
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicateSeq(e)) {
+                    log.error("채팅 메시지 순번 중복으로 저장 건너뜀 - conversationIdx: {}, seq: {}, senderIdx: {}",
+                            message.conversationIdx(), message.seq(), message.senderIdx(), e);
+                } else {
+                    writeBuffer.parkDeadLetter(message);
+                    log.error("채팅 메시지 제약 위반 - dead-letter 보관 후 재시도 (conversationIdx: {}, seq: {}, 보관: {}건)",
+                            message.conversationIdx(), message.seq(), writeBuffer.deadLetterSize(), e);
+                }
+            } catch (Exception e) {
+                writeBuffer.restore(batch.subList(i, batch.size()));
+                log.error("채팅 메시지 건별 저장 실패 - 다음 주기에 재시도 (대기: {}건)", writeBuffer.size(), e);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * dead-letter 재시도 (기본 30초) - 여전히 실패하면 다시 보관
+     */
+    @Scheduled(fixedDelayString = "${app.chat.persist.dead-letter-retry-ms:30000}")
+    public void retryDeadLetters() {
+        List<PendingMessage> deadLetters = writeBuffer.drainDeadLetters();
+        if (deadLetters.isEmpty()) {
+            return;
+        }
+        if (!persistOneByOne(deadLetters)) {
+            return;
+        }
+        if (writeBuffer.deadLetterSize() > 0) {
+            log.warn("채팅 메시지 dead-letter 재시도 후 남은 건수: {}", writeBuffer.deadLetterSize());
+        }
+    }
+
+    /**
+     * 종료 시 남은 메시지 저장
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushMessages();
+        retryDeadLetters();
+    }
+
+    /**
+     * (conversation_idx, seq) 유니크 제약 위반인지 - 원인 체인의 메시지에서 제약 이름으로 판정
+     */
+    private static boolean isDuplicateSeq(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains(SEQ_UNIQUE_KEY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
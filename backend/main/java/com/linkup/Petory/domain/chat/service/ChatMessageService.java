@@ -4,26 +4,29 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.chat.converter.ChatMessageConverter;
 import com.linkup.Petory.domain.chat.dto.ChatMessageDTO;
 import com.linkup.Petory.domain.chat.entity.ChatMessage;
-import com.linkup.Petory.domain.chat.entity.Conversation;
 import com.linkup.Petory.domain.chat.entity.ConversationParticipant;
 import com.linkup.Petory.domain.chat.entity.MessageType;
 import com.linkup.Petory.domain.chat.entity.ParticipantStatus;
+import com.linkup.Petory.domain.chat.event.ConversationReadEvent;
 import com.linkup.Petory.domain.chat.exception.ChatForbiddenException;
 import com.linkup.Petory.domain.chat.exception.ChatMessageNotFoundException;
 import com.linkup.Petory.domain.chat.exception.ConversationNotFoundException;
 import com.linkup.Petory.domain.chat.repository.ChatMessageRepository;
 import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
 import com.linkup.Petory.domain.chat.repository.ConversationRepository;
+import com.linkup.Petory.domain.chat.service.ChatMessageWriteBuffer.PendingMessage;
 import com.linkup.Petory.domain.user.entity.Users;
 import com.linkup.Petory.domain.user.exception.UserNotFoundException;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
@@ -40,6 +43,12 @@ public class ChatMessageService {
     private final ConversationParticipantRepository participantRepository;
     private final UsersRepository usersRepository;
     private final ChatMessageConverter messageConverter;
+    private final ChatParticipantCache participantCache;
+    private final ChatSequenceAllocator sequenceAllocator;
+    private final ChatMessageWriteBuffer writeBuffer;
+    private final ChatMessageBatchWriter batchWriter;
+    private final ChatInboxCache inboxCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private void requireActiveParticipant(Long conversationIdx, Long userId) {
         ConversationParticipant participant = participantRepository
@@ -55,57 +64,73 @@ public class ChatMessageService {
 
     /**
      * 메시지 전송
+     *
+     * 전달·순서 보장:
+     * - 참여 여부는 ChatParticipantCache로 확인하고, 캐시에 없으면 DB로 재검증한다 (예외 종류는 DB 검증 기준)
+     * - 채팅방별 순번(seq)을 Redis 카운터(ChatSequenceAllocator)로 발급해 즉시 DTO를 반환하므로 호출자는 DB 저장을 기다리지 않고 브로드캐스트한다.
+     * 같은 채팅방의 메시지 순서는 seq가 정하며, 클라이언트는 seq로 정렬·중복 제거한다
+     * - DB 저장은 ChatMessagePersistScheduler가 배치로 수행하여 최대 한 주기(app.chat.persist.flush-interval-ms) 늦다.
+     * 저장 전이므로 반환 DTO의 idx는 null이며, 노드가 비정상 종료되면 저장되지 않은 한 주기분만 유실된다
+     * - 버퍼가 가득 차면 이 호출에서 동기 저장하여 메모리 사용량을 제한한다
+     * - 채팅방 목록 캐시(ChatInboxCache)에는 저장을 기다리지 않고 바로 반영한다
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ChatMessageDTO sendMessage(Long conversationIdx, Long senderIdx, String content, MessageType messageType) {
-        // 1. 전송자 확인
+        // 1. 참여자 확인 (캐시 → DB)
+        String senderUsername = participantCache.findActiveSender(conversationIdx, senderIdx)
+                .orElseGet(() -> requireSendableParticipant(conversationIdx, senderIdx));
+
+        // 2. 순번 발급
+        MessageType type = messageType != null ? messageType : MessageType.TEXT;
+        long seq = sequenceAllocator.next(conversationIdx);
+        LocalDateTime now = LocalDateTime.now();
+        String preview = type == MessageType.IMAGE ? "[사진]"
+                : type == MessageType.FILE ? "[파일]"
+                        : content.length() > 200 ? content.substring(0, 200) : content;
+
+        // 3. 저장 대기열에 추가 (가득 차면 동기 저장)
+        PendingMessage pending = new PendingMessage(conversationIdx, senderIdx, seq, type, content, preview, now);
+        if (!writeBuffer.offer(pending)) {
+            batchWriter.persist(List.of(pending));
+        }
+
+        ChatMessageDTO message = ChatMessageDTO.builder()
+                .conversationIdx(conversationIdx)
+                .seq(seq)
+                .senderIdx(senderIdx)
+                .senderUsername(senderUsername)
+                .messageType(type.name())
+                .content(content)
+                .isDeleted(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .isDeletedSender(false)
+                .build();
+
+        // 4. 채팅방 목록 캐시 갱신 (순서·미리보기·보낸 사람 읽음)
+        inboxCache.onMessageSent(message, preview);
+        return message;
+    }
+
+    /**
+     * 전송 가능 여부를 DB 최신 상태로 검증하고 전송자 닉네임 반환
+     * 제재 가드: WebSocket 기존 세션 포함, 캐시에 없는 전송자는 전송 시점의 DB 상태로 확인
+     */
+    private String requireSendableParticipant(Long conversationIdx, Long senderIdx) {
         Users sender = usersRepository.findById(senderIdx)
                 .orElseThrow(UserNotFoundException::new);
 
         if (Boolean.TRUE.equals(sender.getIsDeleted())) {
             throw ChatForbiddenException.deletedUserCannotSend();
         }
-
-        // 제재 가드: WebSocket 기존 세션 포함, 메시지 전송 시점에 최신 DB 상태 확인
         if (sender.isSanctioned()) {
             throw ChatForbiddenException.sanctionedUserCannotSend();
         }
 
-        // 2. 채팅방 확인
-        Conversation conversation = conversationRepository.findById(conversationIdx)
+        conversationRepository.findById(conversationIdx)
                 .orElseThrow(ConversationNotFoundException::new);
-
-        // 3. 참여자인지 확인
-        ConversationParticipant senderParticipant = participantRepository
-                .findByConversationIdxAndUserIdx(conversationIdx, senderIdx)
-                .orElseThrow(ChatForbiddenException::notParticipant);
-
-        if (senderParticipant.getStatus() != ParticipantStatus.ACTIVE) {
-            throw ChatForbiddenException.notActiveParticipant();
-        }
-
-        // 4. 메시지 저장
-        ChatMessage message = ChatMessage.builder()
-                .conversation(conversation)
-                .sender(sender)
-                .content(content)
-                .messageType(messageType != null ? messageType : MessageType.TEXT)
-                .build();
-
-        message = chatMessageRepository.save(message);
-
-        // 5. 참여자들의 읽지 않은 메시지 수 증가 (본인 제외) — DB 원자적 UPDATE로 Lost Update 방지
-        participantRepository.incrementUnreadCount(conversationIdx, senderIdx);
-
-        // 6. Conversation 메타데이터 업데이트
-        conversation.setLastMessageAt(LocalDateTime.now());
-        String preview = messageType == MessageType.IMAGE ? "[사진]"
-                : messageType == MessageType.FILE ? "[파일]"
-                        : content.length() > 200 ? content.substring(0, 200) : content;
-        conversation.setLastMessagePreview(preview);
-        conversationRepository.save(conversation);
-
-        return messageConverter.toDTO(message);
+        requireActiveParticipant(conversationIdx, senderIdx);
+        return sender.getUsername();
     }
 
     /**
@@ -160,31 +185,45 @@ public class ChatMessageService {
 
     /**
      * 메시지 읽음 처리
+     * 마지막으로 읽은 순번만 전진시키며, 읽지 않은 수는 조회 시 채팅방 마지막 순번과의 차이로 계산한다.
+     * 순번 기준: lastSeq → lastMessageIdx 메시지의 순번 → 둘 다 없으면 저장된 마지막 순번
      */
     @Transactional
-    public void markAsRead(Long conversationIdx, Long userId, Long lastMessageIdx) {
+    public void markAsRead(Long conversationIdx, Long userId, Long lastMessageIdx, Long lastSeq) {
         requireActiveParticipant(conversationIdx, userId);
 
         ConversationParticipant participant = participantRepository
                 .findByConversationIdxAndUserIdx(conversationIdx, userId)
                 .orElseThrow(ChatForbiddenException::notParticipant);
 
-        // 읽지 않은 메시지 수 초기화
-        participant.setUnreadCount(0);
+        Long readSeq = lastSeq;
         if (lastMessageIdx != null) {
             ChatMessage lastMessage = chatMessageRepository.findById(lastMessageIdx)
+                    .filter(m -> m.getConversation().getIdx().equals(conversationIdx))
                     .orElse(null);
             if (lastMessage != null) {
                 participant.setLastReadMessage(lastMessage);
-                participant.setLastReadAt(LocalDateTime.now());
+                if (readSeq == null) {
+                    readSeq = lastMessage.getSeq();
+                }
             }
         }
+        if (readSeq == null && lastMessageIdx == null) {
+            readSeq = participant.getConversation().getLastMessageSeq();
+        }
+        participant.markReadUpTo(readSeq);
+        participant.setLastReadAt(LocalDateTime.now());
         participantRepository.save(participant);
-        
-        // ⚠️ 제거됨: 불필요한 전체 메시지 조회 및 MessageReadStatus 기록 로직
-        // - 전체 메시지 조회는 성능 문제를 일으킴 (수천~수만 건 조회)
-        // - MessageReadStatus 기록 로직은 실제로 사용되지 않음
-        // - 참여자의 unreadCount와 lastReadMessage 업데이트만으로 충분함
+        eventPublisher.publishEvent(
+                new ConversationReadEvent(conversationIdx, userId, participant.getLastReadSeq()));
+    }
+
+    /**
+     * 메시지 읽음 처리 (메시지 ID 기준, 순번 미지정)
+     */
+    @Transactional
+    public void markAsRead(Long conversationIdx, Long userId, Long lastMessageIdx) {
+        markAsRead(conversationIdx, userId, lastMessageIdx, null);
     }
 
     /**
@@ -221,7 +260,7 @@ public class ChatMessageService {
     }
 
     /**
-     * 읽지 않은 메시지 수 조회
+     * 읽지 않은 메시지 수 조회 (순번 차이로 계산, 메시지 COUNT 없음)
      */
     public Long getUnreadCount(Long conversationIdx, Long userId) {
         requireActiveParticipant(conversationIdx, userId);
@@ -230,6 +269,7 @@ public class ChatMessageService {
                 .findByConversationIdxAndUserIdx(conversationIdx, userId)
                 .orElseThrow(ChatForbiddenException::notParticipant);
 
-        return participant.getUnreadCount() != null ? (long) participant.getUnreadCount() : 0L;
+        // 채팅방 마지막 순번 - 마지막으로 읽은 순번
+        return (long) participant.getUnreadCount();
     }
 }
@@ -0,0 +1,114 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.linkup.Petory.domain.chat.entity.MessageType;
+
+/**
+ * 저장 대기 중인 채팅 메시지 버퍼 (노드 로컬 메모리).
+ * sendMessage가 순번을 발급받아 넣고, ChatMessagePersistScheduler가 배치 단위로 꺼내 ChatMessageBatchWriter로 저장한다.
+ * 용량(app.chat.persist.buffer-capacity)을 넘으면 offer가 false를 반환하며, 호출자가 동기 저장으로 대체한다.
+ * 순번 중복이 아닌 제약 위반(FK·NOT NULL 등)으로 저장하지 못한 메시지는 dead-letter에 보관해 별도 주기로 재시도한다.
+ */
+@Component
+public class ChatMessageWriteBuffer {
+
+    private final ConcurrentLinkedDeque<PendingMessage> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ConcurrentLinkedDeque<PendingMessage> deadLetters = new ConcurrentLinkedDeque<>();
+    private final int capacity;
+    private final int batchSize;
+
+    public ChatMessageWriteBuffer(
+            @Value("${app.chat.persist.buffer-capacity:10000}") int capacity,
+            @Value("${app.chat.persist.batch-size:500}") int batchSize) {
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 저장 대기 메시지 추가
+     *
+     * @return 버퍼가 가득 차 추가하지 못했으면 false
+     */
+    public boolean offer(PendingMessage message) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.addLast(message);
+        return true;
+    }
+
+    /**
+     * 최대 batch-size건을 들어온 순서대로 꺼낸다
+     */
+    public List<PendingMessage> drain() {
+        List<PendingMessage> batch = new ArrayList<>();
+        PendingMessage message;
+        while (batch.size() < batchSize && (message = queue.pollFirst()) != null) {
+            size.decrementAndGet();
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    /**
+     * 저장에 실패한 배치를 원래 순서대로 버퍼 앞에 되돌린다 (용량 제한 없이)
+     */
+    public void restore(List<PendingMessage> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            queue.addFirst(batch.get(i));
+            size.incrementAndGet();
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * 재시도해도 같은 배치에서 저장되지 않는 메시지 보관 (용량 제한 없이)
+     */
+    public void parkDeadLetter(PendingMessage message) {
+        deadLetters.addLast(message);
+    }
+
+    /**
+     * 보관 중인 dead-letter를 모두 꺼낸다
+     */
+    public List<PendingMessage> drainDeadLetters() {
+        List<PendingMessage> drained = new ArrayList<>();
+        PendingMessage message;
+        while ((message = deadLetters.pollFirst()) != null) {
+            drained.add(message);
+        }
+        return drained;
+    }
+
+    public int deadLetterSize() {
+        return deadLetters.size();
+    }
+
+    /**
+     * 저장 대기 메시지
+     *
+     * @param preview 채팅방 목록에 보일 마지막 메시지 미리보기
+     */
+    public record PendingMessage(
+            Long conversationIdx,
+            Long senderIdx,
+            long seq,
+            MessageType messageType,
+            String content,
+            String preview,
+            LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.chat.entity.ConversationParticipant;
+import com.linkup.Petory.domain.chat.entity.ParticipantStatus;
+import com.linkup.Petory.domain.chat.event.ConversationParticipantsChangedEvent;
+import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.domain.user.event.UserSanctionAppliedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 활성 참여자 캐시 (Redis Hash).
+ *
+ * <ul>
+ * <li>Key: "chat:participants:{conversationIdx}" (Hash: 사용자 idx → 닉네임)</li>
+ * <li>전송 가능한 참여자(ACTIVE, 미삭제, 미제재)만 담으며, 빈 채팅방도 캐시하도록 표식 필드를 함께 둔다.</li>
+ * <li>참여자 변경(ConversationParticipantsChangedEvent) 커밋 후 키를 지우고, 제재 시 해당 사용자 필드를 지운다.
+ * 놓친 변경은 TTL(기본 10분)로 수렴한다.</li>
+ * </ul>
+ * Redis 장애 시에는 캐시 미스로 처리하여 호출자가 DB로 검증하게 한다.
+ */
+@Slf4j
+@Component
+public class ChatParticipantCache {
+
+    static final String KEY_PREFIX = "chat:participants:";
+    static final String LOADED_MARKER = "_";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConversationParticipantRepository participantRepository;
+    private final Duration ttl;
+
+    public ChatParticipantCache(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            ConversationParticipantRepository participantRepository,
+            @Value("${app.chat.participant-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.participantRepository = participantRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 전송 가능한 참여자면 닉네임 반환
+     *
+     * @return 참여자가 아니거나 캐시를 쓸 수 없으면 empty (호출자가 DB로 재검증)
+     */
+    public Optional<String> findActiveSender(Long conversationIdx, Long userIdx) {
+        String key = KEY_PREFIX + conversationIdx;
+        try {
+            Object username = redisTemplate.opsForHash().get(key, userIdx.toString());
+            if (username != null) {
+                return Optional.of(username.toString());
+            }
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(load(key, conversationIdx).get(userIdx.toString()));
+        } catch (DataAccessException e) {
+            log.warn("채팅 참여자 캐시 조회 실패 - DB 검증으로 대체: conversationIdx={}, error={}",
+                    conversationIdx, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시된 전송 가능 참여자 ID (캐시가 비었거나 쓸 수 없으면 빈 집합, DB 조회 없음)
+     */
+    public Set<Long> cachedMemberIds(Long conversationIdx) {
+        try {
+            Set<Object> fields = redisTemplate.opsForHash().keys(KEY_PREFIX + conversationIdx);
+            Set<Long> members = new HashSet<>();
+            for (Object field : fields) {
+                if (!LOADED_MARKER.equals(field)) {
+                    members.add(Long.valueOf(field.toString()));
+                }
+            }
+            return members;
+        } catch (DataAccessException e) {
+            log.warn("채팅 참여자 캐시 조회 실패: conversationIdx={}, error={}", conversationIdx, e.getMessage());
+            return Set.of();
+        }
+    }
+
+    public void evict(Long conversationIdx) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + conversationIdx);
+        } catch (DataAccessException e) {
+            log.warn("채팅 참여자 캐시 삭제 실패 (TTL 만료로 정리됨): conversationIdx={}, error={}",
+                    conversationIdx, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParticipantsChanged(ConversationParticipantsChangedEvent event) {
+        evict(event.conversationIdx());
+    }
+
+    /**
+     * 제재 사용자는 참여 중인 모든 채팅방 캐시에서 제외 (재적재 시에도 제재 사용자는 담지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSanctionApplied(UserSanctionAppliedEvent event) {
+        List<ConversationParticipant> participations = participantRepository
+                .findActiveParticipationsByUser(event.userId());
+        for (ConversationParticipant participation : participations) {
+            try {
+                redisTemplate.opsForHash().delete(KEY_PREFIX + participation.getConversation().getIdx(),
+                        event.userId().toString());
+            } catch (DataAccessException e) {
+                evict(participation.getConversation().getIdx());
+            }
+        }
+    }
+
+    private Map<String, String> load(String key, Long conversationIdx) {
+        Map<String, String> members = new HashMap<>();
+        for (ConversationParticipant participant : participantRepository
+                .findByConversationIdxAndStatus(conversationIdx, ParticipantStatus.ACTIVE)) {
+            Users user = participant.getUser();
+            if (!Boolean.TRUE.equals(participant.getIsDeleted()) && !user.isSanctioned()) {
+                members.put(user.getIdx().toString(), user.getUsername() != null ? user.getUsername() : "");
+            }
+        }
+        Map<String, String> entries = new HashMap<>(members);
+        entries.put(LOADED_MARKER, "");
+        redisTemplate.opsForHash().putAll(key, entries);
+        redisTemplate.expire(key, ttl);
+        return members;
+    }
+}
@@ -0,0 +1,102 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.linkup.Petory.domain.chat.exception.ConversationNotFoundException;
+import com.linkup.Petory.domain.chat.repository.ConversationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방별 메시지 순번(seq) 발급기 (Redis 카운터 "chat:seq:{conversationIdx}").
+ *
+ * <ul>
+ * <li>순번은 Redis INCR로 발급해 전송마다 conversation 행 UPDATE·행 락을 잡지 않는다</li>
+ * <li>키가 없으면(최초 발급, TTL 만료, Redis 재시작) 발급 카운터와 저장된 마지막 순번 중 큰 값으로 채운 뒤 발급한다</li>
+ * <li>Redis 장애 시 conversation.last_allocated_seq 증가(행 락) 경로로 발급하고, 복구 후 키를 지워 그 순번보다 뒤에서 다시 시작한다</li>
+ * <li>Redis 재시작 직후 저장 대기 중이던 순번과 겹치면 (conversation_idx, seq) 유니크 제약이 중복 저장을 막는다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ChatSequenceAllocator {
+
+    static final String KEY_PREFIX = "chat:seq:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /** KEYS: 카운터 / ARGV: ttl - 키가 없으면 -1, 있으면 증가한 순번 */
+    private static final RedisScript<Long> NEXT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local seq = redis.call('INCR', KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return seq
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ConversationRepository conversationRepository;
+    /** DB 카운터로 발급해 Redis 카운터가 뒤처진 채팅방 (노드별, 다음 Redis 발급 전에 키 삭제) */
+    private final Set<Long> staleCounters = ConcurrentHashMap.newKeySet();
+
+    public ChatSequenceAllocator(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            ConversationRepository conversationRepository) {
+        this.redisTemplate = redisTemplate;
+        this.conversationRepository = conversationRepository;
+    }
+
+    /**
+     * 다음 순번 발급
+     */
+    public long next(Long conversationIdx) {
+        try {
+            Long seq = nextFromRedis(conversationIdx);
+            if (seq != null && seq > 0) {
+                return seq;
+            }
+        } catch (DataAccessException e) {
+            log.warn("채팅 순번 Redis 발급 실패 - DB 카운터로 대체: conversationIdx={}, error={}",
+                    conversationIdx, e.getMessage());
+        }
+        Long seq = conversationRepository.allocateSeq(conversationIdx);
+        if (seq == null) {
+            throw new ConversationNotFoundException();
+        }
+        staleCounters.add(conversationIdx);
+        return seq;
+    }
+
+    private Long nextFromRedis(Long conversationIdx) {
+        String key = key(conversationIdx);
+        if (staleCounters.contains(conversationIdx)) {
+            redisTemplate.delete(key);
+            staleCounters.remove(conversationIdx);
+        }
+        List<String> keys = List.of(key);
+        String ttl = Long.toString(TTL.toSeconds());
+        Long seq = redisTemplate.execute(NEXT, keys, ttl);
+        if (seq != null && seq < 0) {
+            Long floor = conversationRepository.findSeqFloor(conversationIdx);
+            if (floor == null) {
+                throw new ConversationNotFoundException();
+            }
+            // 여러 노드가 동시에 채워도 먼저 채운 값 하나만 남는다
+            redisTemplate.opsForValue().setIfAbsent(key, Long.toString(floor), TTL);
+            seq = redisTemplate.execute(NEXT, keys, ttl);
+        }
+        return seq;
+    }
+
+    private static String key(Long conversationIdx) {
+        return KEY_PREFIX + conversationIdx;
+    }
+}
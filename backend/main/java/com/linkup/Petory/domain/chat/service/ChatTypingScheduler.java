@@ -0,0 +1,40 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.linkup.Petory.domain.chat.dto.TypingStatusDTO;
+import com.linkup.Petory.domain.chat.service.ChatTypingThrottle.TypingSignal;
+import com.linkup.Petory.global.websocket.relay.MessageRelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatTypingScheduler {
+
+    private final ChatTypingThrottle chatTypingThrottle;
+    private final MessageRelay messageRelay;
+
+    /**
+     * rate limit으로 보류된 타이핑 상태 전송 (기본 0.5초)
+     * - 대화방·사용자별로 마지막 상태 하나만 나간다
+     */
+    @Scheduled(fixedDelayString = "${app.chat.typing.flush-interval-ms:500}")
+    public void flushPendingTyping() {
+        List<TypingSignal> due = chatTypingThrottle.drainDue();
+        for (TypingSignal signal : due) {
+            try {
+                messageRelay.send("/topic/conversation/" + signal.conversationIdx() + "/typing",
+                        new TypingStatusDTO(signal.userIdx(), signal.typing()));
+            } catch (Exception e) {
+                log.warn("보류된 타이핑 상태 전송 실패: conversationIdx={}, userIdx={}, error={}",
+                        signal.conversationIdx(), signal.userIdx(), e.getMessage());
+            }
+        }
+    }
+}
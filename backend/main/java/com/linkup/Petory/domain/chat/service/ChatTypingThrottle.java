@@ -0,0 +1,125 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타이핑 표시 rate limit + 병합(coalescing).
+ *
+ * <p>
+ * 클라이언트는 키 입력 구간마다 /app/chat.typing을 보내므로, 그대로 브로드캐스트하면
+ * 대화방 참여자 수 × 키 입력 횟수만큼 프레임이 나간다. (대화방, 사용자)별 마지막 브로드캐스트 상태를 기억해
+ * <ul>
+ * <li>같은 상태의 반복 요청은 버린다. 단, 입력 중(true)은 refreshInterval마다 한 번 다시 알린다.</li>
+ * <li>상태가 바뀌면 바로 알리되, 직전 브로드캐스트 후 minInterval이 지나지 않았으면 최신 상태만 보류한다.</li>
+ * <li>보류된 상태는 ChatTypingScheduler가 {@link #drainDue()}로 꺼내 전송하므로 마지막 상태(입력 종료)는 유실되지 않는다.</li>
+ * </ul>
+ */
+@Component
+public class ChatTypingThrottle {
+
+    /** 브로드캐스트할 타이핑 상태 */
+    public record TypingSignal(Long conversationIdx, Long userIdx, boolean typing) {
+    }
+
+    private record Key(Long conversationIdx, Long userIdx) {
+    }
+
+    private static final class State {
+        private boolean lastSent;
+        private long lastSentAt;
+        private Boolean pending;
+        private boolean removed;
+    }
+
+    private final long minIntervalMs;
+    private final long refreshIntervalMs;
+    private final LongSupplier clock;
+    private final Map<Key, State> states = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChatTypingThrottle(
+            @Value("${app.chat.typing.min-interval-ms:500}") long minIntervalMs,
+            @Value("${app.chat.typing.refresh-interval-ms:3000}") long refreshIntervalMs) {
+        this(minIntervalMs, refreshIntervalMs, System::currentTimeMillis);
+    }
+
+    ChatTypingThrottle(long minIntervalMs, long refreshIntervalMs, LongSupplier clock) {
+        this.minIntervalMs = minIntervalMs;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 타이핑 요청 1건 반영
+     *
+     * @return 지금 브로드캐스트해야 하면 true (버려지거나 보류되면 false)
+     */
+    public boolean offer(Long conversationIdx, Long userIdx, boolean typing) {
+        Key key = new Key(conversationIdx, userIdx);
+        while (true) {
+            State state = states.computeIfAbsent(key, k -> new State());
+            synchronized (state) {
+                if (state.removed) {
+                    continue;
+                }
+                long now = clock.getAsLong();
+                if (typing == state.lastSent) {
+                    // 클라이언트가 이미 보고 있는 상태 → 보류분은 의미 없음
+                    state.pending = null;
+                    return typing && now - state.lastSentAt >= refreshIntervalMs && markSent(state, typing, now);
+                }
+                if (now - state.lastSentAt >= minIntervalMs) {
+                    return markSent(state, typing, now);
+                }
+                state.pending = typing;
+                return false;
+            }
+        }
+    }
+
+    /**
+     * minInterval이 지난 보류 상태를 꺼내고, 오래된 상태는 정리
+     */
+    public List<TypingSignal> drainDue() {
+        long now = clock.getAsLong();
+        List<TypingSignal> due = new ArrayList<>();
+        states.forEach((key, state) -> {
+            synchronized (state) {
+                if (state.pending != null) {
+                    if (now - state.lastSentAt >= minIntervalMs) {
+                        boolean typing = state.pending;
+                        markSent(state, typing, now);
+                        due.add(new TypingSignal(key.conversationIdx(), key.userIdx(), typing));
+                    }
+                    return;
+                }
+                long idle = now - state.lastSentAt;
+                // 입력 종료 상태는 refreshInterval 후, 입력 중 상태는 갱신 없이 오래 방치되면 정리
+                if ((!state.lastSent && idle >= refreshIntervalMs) || idle >= refreshIntervalMs * 10) {
+                    state.removed = true;
+                    states.remove(key, state);
+                }
+            }
+        });
+        return due;
+    }
+
+    int trackedCount() {
+        return states.size();
+    }
+
+    private static boolean markSent(State state, boolean typing, long now) {
+        state.lastSent = typing;
+        state.lastSentAt = now;
+        state.pending = null;
+        return true;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,8 @@ import com.linkup.Petory.domain.chat.entity.ConversationType;
 import com.linkup.Petory.domain.chat.entity.ParticipantRole;
 import com.linkup.Petory.domain.chat.entity.ParticipantStatus;
 import com.linkup.Petory.domain.chat.entity.RelatedType;
+import com.linkup.Petory.domain.chat.event.ConversationParticipantsChangedEvent;
+import com.linkup.Petory.domain.chat.event.ConversationUpdatedEvent;
 import com.linkup.Petory.domain.chat.exception.ChatForbiddenException;
 import com.linkup.Petory.domain.chat.exception.ChatValidationException;
 import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
@@ -43,6 +46,7 @@ public class ConversationCreatorService {
     private final UsersRepository usersRepository;
     private final ConversationConverter conversationConverter;
     private final ConversationParticipantConverter participantConverter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 채팅방 생성. 호출부 트랜잭션과 분리(REQUIRES_NEW).
@@ -101,6 +105,7 @@ public class ConversationCreatorService {
                         existingConv.setRelatedType(relatedType);
                         existingConv.setRelatedIdx(relatedIdx);
                         existingConv = conversationRepository.save(existingConv);
+                        eventPublisher.publishEvent(new ConversationUpdatedEvent(existingConv.getIdx()));
                     }
                     ConversationDTO dto = conversationConverter.toDTO(existingConv);
                     dto.setParticipants(participantConverter.toDTOList(existingParticipants));
@@ -122,6 +127,7 @@ public class ConversationCreatorService {
                         existingConv.setRelatedType(relatedType);
                         existingConv.setRelatedIdx(relatedIdx);
                         existingConv = conversationRepository.save(existingConv);
+                        eventPublisher.publishEvent(new ConversationUpdatedEvent(existingConv.getIdx()));
                         log.info("기존 채팅방에 relatedType 업데이트: conversationIdx={}, relatedType={}, relatedIdx={}",
                                 existingConv.getIdx(), relatedType, relatedIdx);
                     }
@@ -151,9 +157,9 @@ public class ConversationCreatorService {
                     .user(user)
                     .role(ParticipantRole.MEMBER)
                     .status(ParticipantStatus.ACTIVE)
-                    .unreadCount(0)
                     .build();
             participantRepository.save(participant);
+            eventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversation.getIdx(), user.getIdx()));
         }
 
         return conversationConverter.toDTO(conversation);
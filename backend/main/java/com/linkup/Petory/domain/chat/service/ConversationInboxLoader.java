@@ -0,0 +1,129 @@
+package com.linkup.Petory.domain.chat.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.linkup.Petory.domain.chat.converter.ChatMessageConverter;
+import com.linkup.Petory.domain.chat.converter.ConversationConverter;
+import com.linkup.Petory.domain.chat.converter.ConversationParticipantConverter;
+import com.linkup.Petory.domain.chat.dto.ConversationDTO;
+import com.linkup.Petory.domain.chat.entity.ChatMessage;
+import com.linkup.Petory.domain.chat.entity.Conversation;
+import com.linkup.Petory.domain.chat.entity.ConversationParticipant;
+import com.linkup.Petory.domain.chat.entity.ConversationStatus;
+import com.linkup.Petory.domain.chat.entity.ParticipantStatus;
+import com.linkup.Petory.domain.chat.repository.ChatMessageRepository;
+import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
+import com.linkup.Petory.domain.chat.repository.ConversationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 목록 DB 조회 전용. 목록 캐시(ChatInboxCache)가 비었을 때만 읽기 트랜잭션을 열도록
+ * ConversationService와 분리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ConversationInboxLoader {
+
+    private final ConversationRepository conversationRepository;
+    private final ConversationParticipantRepository participantRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ConversationConverter conversationConverter;
+    private final ConversationParticipantConverter participantConverter;
+    private final ChatMessageConverter messageConverter;
+
+    /**
+     * 사용자별 활성 채팅방 목록 조회 (N+1 문제 최적화)
+     */
+    public List<ConversationDTO> loadInbox(Long userId) {
+        // 탈퇴하지 않은 사용자의 채팅방만 조회
+        List<Conversation> conversations = conversationRepository
+                .findActiveConversationsByUser(userId, ConversationStatus.ACTIVE);
+        return toInboxDTOs(conversations, userId);
+    }
+
+    /**
+     * 지정한 채팅방만 목록 항목으로 조회 (캐시에 요약이 없는 채팅방 보충용, 순서는 호출자가 정함)
+     */
+    public List<ConversationDTO> loadConversations(List<Long> conversationIdxs, Long userId) {
+        return toInboxDTOs(conversationRepository.findAllById(conversationIdxs), userId);
+    }
+
+    private List<ConversationDTO> toInboxDTOs(List<Conversation> conversations, Long userId) {
+        if (conversations.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 채팅방 ID 목록 추출
+        List<Long> conversationIdxs = conversations.stream()
+                .map(Conversation::getIdx)
+                .collect(Collectors.toList());
+
+        // 배치 조회: 현재 사용자의 참여자 정보 (마지막으로 읽은 순번)
+        List<ConversationParticipant> myParticipants = participantRepository
+                .findParticipantsByConversationIdxsAndUserIdx(conversationIdxs, userId);
+        Map<Long, ConversationParticipant> myParticipantMap = myParticipants.stream()
+                .collect(Collectors.toMap(
+                        p -> p.getConversation().getIdx(),
+                        p -> p,
+                        (existing, replacement) -> existing));
+
+        // 배치 조회: 모든 활성 참여자 정보
+        List<ConversationParticipant> allParticipants = participantRepository
+                .findParticipantsByConversationIdxsAndStatus(conversationIdxs, ParticipantStatus.ACTIVE);
+        Map<Long, List<ConversationParticipant>> participantsMap = allParticipants.stream()
+                .collect(Collectors.groupingBy(p -> p.getConversation().getIdx()));
+
+        // 배치 조회: 각 채팅방의 최신 메시지
+        List<ChatMessage> latestMessages = chatMessageRepository
+                .findLatestMessagesByConversationIdxs(conversationIdxs);
+        Map<Long, ChatMessage> latestMessageMap = latestMessages.stream()
+                .collect(Collectors.toMap(
+                        m -> m.getConversation().getIdx(),
+                        m -> m,
+                        (existing, replacement) -> existing));
+
+        // DTO 변환
+        return conversations.stream()
+                .map(conv -> {
+                    ConversationDTO dto = conversationConverter.toDTO(conv);
+
+                    // 읽지 않은 메시지 수 = 채팅방 마지막 순번 - 내가 마지막으로 읽은 순번
+                    ConversationParticipant myParticipant = myParticipantMap.get(conv.getIdx());
+                    if (myParticipant != null) {
+                        dto.setLastReadSeq(myParticipant.getLastReadSeq());
+                        dto.setUnreadCount(myParticipant.unreadCountAt(conv.getLastMessageSeq()));
+                    }
+
+                    // 참여자 정보 추가 (배치 로드 데이터 사용 — lazy load 방지)
+                    List<ConversationParticipant> participants = participantsMap.getOrDefault(
+                            conv.getIdx(),
+                            new ArrayList<>());
+                    dto.setParticipantCount(participants.size());
+                    if (!participants.isEmpty()) {
+                        dto.setParticipants(participantConverter.toDTOList(participants));
+                        // 제재 안내 플래그: 활성 참여자 중 제재 중인 사용자 존재 시 true
+                        boolean hasSanctioned = participants.stream()
+                                .filter(p -> p.getStatus() == ParticipantStatus.ACTIVE)
+                                .anyMatch(p -> p.getUser().isSanctioned());
+                        dto.setHasSanctionedParticipant(hasSanctioned);
+                    }
+
+                    // 마지막 메시지 추가
+                    ChatMessage lastMessage = latestMessageMap.get(conv.getIdx());
+                    if (lastMessage != null) {
+                        dto.setLastMessage(messageConverter.toDTO(lastMessage));
+                    }
+
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+}
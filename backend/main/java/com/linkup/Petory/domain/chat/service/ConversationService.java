@@ -1,13 +1,13 @@
 package com.linkup.Petory.domain.chat.service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,11 +20,9 @@ import com.linkup.Petory.domain.care.exception.CareApplicationNotFoundException;
 import com.linkup.Petory.domain.care.exception.CareRequestNotFoundException;
 import com.linkup.Petory.domain.care.repository.CareApplicationRepository;
 import com.linkup.Petory.domain.care.repository.CareRequestRepository;
-import com.linkup.Petory.domain.chat.converter.ChatMessageConverter;
 import com.linkup.Petory.domain.chat.converter.ConversationConverter;
 import com.linkup.Petory.domain.chat.converter.ConversationParticipantConverter;
 import com.linkup.Petory.domain.chat.dto.ConversationDTO;
-import com.linkup.Petory.domain.chat.entity.ChatMessage;
 import com.linkup.Petory.domain.chat.entity.Conversation;
 import com.linkup.Petory.domain.chat.entity.ConversationParticipant;
 import com.linkup.Petory.domain.chat.entity.ConversationStatus;
@@ -32,10 +30,11 @@ import com.linkup.Petory.domain.chat.entity.ConversationType;
 import com.linkup.Petory.domain.chat.entity.ParticipantRole;
 import com.linkup.Petory.domain.chat.entity.ParticipantStatus;
 import com.linkup.Petory.domain.chat.entity.RelatedType;
+import com.linkup.Petory.domain.chat.event.ConversationParticipantsChangedEvent;
+import com.linkup.Petory.domain.chat.event.ConversationUpdatedEvent;
 import com.linkup.Petory.domain.chat.exception.ChatForbiddenException;
 import com.linkup.Petory.domain.chat.exception.ChatValidationException;
 import com.linkup.Petory.domain.chat.exception.ConversationNotFoundException;
-import com.linkup.Petory.domain.chat.repository.ChatMessageRepository;
 import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
 import com.linkup.Petory.domain.chat.repository.ConversationRepository;
 import com.linkup.Petory.domain.meetup.repository.MeetupParticipantsRepository;
@@ -55,93 +54,34 @@ public class ConversationService {
 
         private final ConversationRepository conversationRepository;
         private final ConversationParticipantRepository participantRepository;
-        private final ChatMessageRepository chatMessageRepository;
         private final UsersRepository usersRepository;
         private final ConversationConverter conversationConverter;
         private final ConversationParticipantConverter participantConverter;
-        private final ChatMessageConverter messageConverter;
         private final CareRequestRepository careRequestRepository;
         private final CareApplicationRepository careApplicationRepository;
         private final PetCoinEscrowService petCoinEscrowService;
         private final ConversationCreatorService conversationCreatorService;
         private final MeetupParticipantsRepository meetupParticipantsRepository;
+        private final ApplicationEventPublisher eventPublisher;
+        private final ConversationInboxLoader inboxLoader;
+        private final ChatInboxCache inboxCache;
 
         /**
-         * 사용자별 활성 채팅방 목록 조회 (N+1 문제 최적화)
+         * 사용자별 활성 채팅방 목록 조회
+         * 목록 캐시(ChatInboxCache)를 한 번 읽어 반환하고, 캐시가 비어 있을 때만 DB에서 조회해 채운다.
+         * 캐시는 메시지 전송·읽음·참여/나가기·제재 시 갱신되며, 놓친 변경은 TTL로 수렴한다.
          */
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
         public List<ConversationDTO> getMyConversations(Long userId) {
-                // 탈퇴하지 않은 사용자의 채팅방만 조회
-                List<Conversation> conversations = conversationRepository
-                                .findActiveConversationsByUser(userId, ConversationStatus.ACTIVE);
-
-                if (conversations.isEmpty()) {
-                        return new ArrayList<>();
+                Optional<List<ConversationDTO>> cached = inboxCache.getInbox(userId,
+                                missing -> inboxLoader.loadConversations(missing, userId));
+                if (cached.isPresent()) {
+                        return cached.get();
                 }
 
-                // 채팅방 ID 목록 추출
-                List<Long> conversationIdxs = conversations.stream()
-                                .map(Conversation::getIdx)
-                                .collect(Collectors.toList());
-
-                // 배치 조회: 현재 사용자의 참여자 정보 (읽지 않은 메시지 수 포함)
-                List<ConversationParticipant> myParticipants = participantRepository
-                                .findParticipantsByConversationIdxsAndUserIdx(conversationIdxs, userId);
-                Map<Long, ConversationParticipant> myParticipantMap = myParticipants.stream()
-                                .collect(Collectors.toMap(
-                                                p -> p.getConversation().getIdx(),
-                                                p -> p,
-                                                (existing, replacement) -> existing));
-
-                // 배치 조회: 모든 활성 참여자 정보
-                List<ConversationParticipant> allParticipants = participantRepository
-                                .findParticipantsByConversationIdxsAndStatus(conversationIdxs,
-                                                ParticipantStatus.ACTIVE);
-                Map<Long, List<ConversationParticipant>> participantsMap = allParticipants.stream()
-                                .collect(Collectors.groupingBy(p -> p.getConversation().getIdx()));
-
-                // 배치 조회: 각 채팅방의 최신 메시지
-                List<ChatMessage> latestMessages = chatMessageRepository
-                                .findLatestMessagesByConversationIdxs(conversationIdxs);
-                Map<Long, ChatMessage> latestMessageMap = latestMessages.stream()
-                                .collect(Collectors.toMap(
-                                                m -> m.getConversation().getIdx(),
-                                                m -> m,
-                                                (existing, replacement) -> existing));
-
-                // DTO 변환
-                return conversations.stream()
-                                .map(conv -> {
-                                        ConversationDTO dto = conversationConverter.toDTO(conv);
-
-                                        // 현재 사용자의 참여자 정보 추가 (읽지 않은 메시지 수 포함)
-                                        ConversationParticipant myParticipant = myParticipantMap.get(conv.getIdx());
-                                        if (myParticipant != null) {
-                                                dto.setUnreadCount(myParticipant.getUnreadCount());
-                                        }
-
-                                        // 참여자 정보 추가 (배치 로드 데이터 사용 — lazy load 방지)
-                                        List<ConversationParticipant> participants = participantsMap.getOrDefault(
-                                                        conv.getIdx(),
-                                                        new ArrayList<>());
-                                        dto.setParticipantCount(participants.size());
-                                        if (!participants.isEmpty()) {
-                                                dto.setParticipants(participantConverter.toDTOList(participants));
-                                                // 제재 안내 플래그: 활성 참여자 중 제재 중인 사용자 존재 시 true
-                                                boolean hasSanctioned = participants.stream()
-                                                                .filter(p -> p.getStatus() == ParticipantStatus.ACTIVE)
-                                                                .anyMatch(p -> p.getUser().isSanctioned());
-                                                dto.setHasSanctionedParticipant(hasSanctioned);
-                                        }
-
-                                        // 마지막 메시지 추가
-                                        ChatMessage lastMessage = latestMessageMap.get(conv.getIdx());
-                                        if (lastMessage != null) {
-                                                dto.setLastMessage(messageConverter.toDTO(lastMessage));
-                                        }
-
-                                        return dto;
-                                })
-                                .collect(Collectors.toList());
+                List<ConversationDTO> conversations = inboxLoader.loadInbox(userId);
+                inboxCache.putInbox(userId, conversations);
+                return conversations;
         }
 
         /**
@@ -169,7 +109,7 @@ public class ConversationService {
                 ConversationDTO dto = conversationConverter.toDTO(conversation);
                 dto.setParticipantCount(participants.size());
                 dto.setParticipants(participantConverter.toDTOList(participants));
-                dto.setUnreadCount(participant.getUnreadCount());
+                dto.setUnreadCount(participant.unreadCountAt(conversation.getLastMessageSeq()));
                 // 제재 안내 플래그
                 boolean hasSanctioned = participants.stream()
                                 .anyMatch(p -> p.getUser().isSanctioned());
@@ -266,6 +206,7 @@ public class ConversationService {
                 participant.setLeftAt(LocalDateTime.now());
                 participant.softDelete();
                 participantRepository.save(participant);
+                eventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversationIdx, userId));
 
                 // 참여자가 없으면 채팅방 비활성화
                 List<ConversationParticipant> activeParticipants = participantRepository
@@ -293,6 +234,7 @@ public class ConversationService {
 
                 conversation.softDelete();
                 conversationRepository.save(conversation);
+                eventPublisher.publishEvent(new ConversationUpdatedEvent(conversationIdx));
         }
 
         /**
@@ -311,6 +253,7 @@ public class ConversationService {
 
                 conversation.setStatus(status);
                 conversation = conversationRepository.save(conversation);
+                eventPublisher.publishEvent(new ConversationUpdatedEvent(conversationIdx));
 
                 return conversationConverter.toDTO(conversation);
         }
@@ -340,11 +283,12 @@ public class ConversationService {
                         if (participant.getStatus() == ParticipantStatus.LEFT) {
                                 participant.setStatus(ParticipantStatus.ACTIVE);
                                 participant.setJoinedAt(LocalDateTime.now());
-                                // 이전 대화 내용 못 보도록 lastReadMessageIdx 초기화
+                                // 이전 대화 내용 못 보도록 lastReadMessageIdx 초기화, 재참여 시점까지는 읽은 것으로 처리
                                 participant.setLastReadMessage(null);
                                 participant.setLastReadAt(null);
-                                participant.setUnreadCount(0);
+                                participant.setLastReadSeq(currentSeq(conversation));
                                 participantRepository.save(participant);
+                                eventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversation.getIdx(), userId));
                         }
                         return conversationConverter.toDTO(conversation);
                 }
@@ -358,14 +302,19 @@ public class ConversationService {
                                 .user(user)
                                 .role(ParticipantRole.MEMBER)
                                 .status(ParticipantStatus.ACTIVE)
-                                .unreadCount(0)
+                                .lastReadSeq(currentSeq(conversation)) // 참여 이전 메시지는 읽지 않은 수에서 제외
                                 .lastReadMessage(null) // 새 참여자는 이전 메시지 못 봄
                                 .build();
                 participantRepository.save(participant);
+                eventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversation.getIdx(), userId));
 
                 return conversationConverter.toDTO(conversation);
         }
 
+        private static long currentSeq(Conversation conversation) {
+                return conversation.getLastMessageSeq() != null ? conversation.getLastMessageSeq() : 0L;
+        }
+
         /**
          * 산책모임 채팅방 나가기
          */
@@ -389,6 +338,7 @@ public class ConversationService {
                         p.setStatus(ParticipantStatus.LEFT);
                         p.setLeftAt(LocalDateTime.now());
                         participantRepository.save(p);
+                        eventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversation.getIdx(), userId));
                 }
         }
 
@@ -426,6 +376,7 @@ public class ConversationService {
                 if (participant.isPresent()) {
                         participant.get().setRole(role);
                         participantRepository.save(participant.get());
+                        eventPublisher.publishEvent(new ConversationUpdatedEvent(conversation.get().getIdx()));
                 }
         }
 
@@ -528,6 +479,7 @@ public class ConversationService {
                 participant.setDealConfirmed(true);
                 participant.setDealConfirmedAt(LocalDateTime.now());
                 participantRepository.save(participant);
+                eventPublisher.publishEvent(new ConversationUpdatedEvent(conversationIdx));
 
                 // 양쪽 모두 거래 확정했는지 확인
                 boolean allConfirmed = allParticipants.stream()
@@ -17,7 +17,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.linkup.Petory.domain.location.dto.LocationServiceDTO;
+import com.linkup.Petory.domain.location.dto.LocationViewportResponse;
 import com.linkup.Petory.domain.location.service.LocationServiceService;
+import com.linkup.Petory.domain.location.service.LocationViewportService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 public class LocationServiceController {
 
     private final LocationServiceService locationServiceService;
+    private final LocationViewportService locationViewportService;
 
     /**
      * 통합 검색 — 파라미터 조합에 따라 4가지 경로로 분기
@@ -105,6 +108,20 @@ public class LocationServiceController {
         }
     }
 
+    /**
+     * 지도 뷰포트 조회 — 경계 사각형과 확대 수준을 받아 격자 클러스터(시설 수·무게중심·대표 카테고리)를,
+     * 확대 수준 16 이상이고 시설이 적을 때만 개별 시설을 반환
+     */
+    @GetMapping("/viewport")
+    public ResponseEntity<LocationViewportResponse> getViewport(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng,
+            @RequestParam int zoom) {
+        return ResponseEntity.ok(locationViewportService.getViewport(minLat, minLng, maxLat, maxLng, zoom));
+    }
+
     @DeleteMapping("/{serviceIdx}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MASTER')")
     public ResponseEntity<Map<String, Object>> deleteService(@PathVariable Long serviceIdx) {
@@ -0,0 +1,21 @@
+package com.linkup.Petory.domain.location.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 뷰포트 격자 셀 하나에 모인 시설 묶음 응답 DTO. 시설 수·무게중심 좌표·가장 많은 카테고리를 포함한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LocationClusterDTO {
+
+    private Double latitude; // 셀에 속한 시설 좌표의 평균
+    private Double longitude;
+    private Long count;
+    private String category; // 가장 많은 카테고리 (category3 우선), SQL 대체 경로에서는 null
+}
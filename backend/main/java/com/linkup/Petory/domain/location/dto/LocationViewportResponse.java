@@ -0,0 +1,20 @@
+package com.linkup.Petory.domain.location.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 지도 뷰포트 조회 응답 DTO. 확대 수준에 따라 클러스터 목록 또는 개별 시설 목록 중 하나만 채운다.
+ */
+@Data
+@Builder
+public class LocationViewportResponse {
+
+    private final int zoom;
+    private final Double cellSize; // 클러스터 격자 셀 크기(도), 개별 시설 응답이면 null
+    private final long totalCount; // 뷰포트 안 시설 수
+    private final List<LocationClusterDTO> clusters;
+    private final List<LocationServiceDTO> services;
+}
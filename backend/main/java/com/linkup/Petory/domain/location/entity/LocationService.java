@@ -176,6 +176,20 @@ public class LocationService {
         this.deletedAt = LocalDateTime.now();
     }
 
+    /**
+     * 추천 점수 = 0.5 × rating × log10(reviewCount+1) + 0.2 × petFriendly.
+     * DB 일괄 갱신은 같은 식의 SQL({@code SpringDataJpaLocationServiceRepository.SCORE_EXPR})을 쓴다.
+     */
+    public static double computeScore(Double rating, Integer reviewCount, Boolean petFriendly) {
+        double ratingScore = (rating != null ? rating : 0.0) * Math.log10((reviewCount != null ? reviewCount : 0) + 1);
+        double petBonus = Boolean.TRUE.equals(petFriendly) ? 1.0 : 0.0;
+        return 0.5 * ratingScore + 0.2 * petBonus;
+    }
+
+    public void recalculateScore() {
+        this.score = computeScore(rating, reviewCount, petFriendly);
+    }
+
     @PrePersist
     protected void onCreate() {
         if (this.isDeleted == null) {
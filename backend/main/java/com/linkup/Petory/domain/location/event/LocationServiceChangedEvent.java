@@ -0,0 +1,14 @@
+package com.linkup.Petory.domain.location.event;
+
+/**
+ * 위치 서비스 데이터 변경 이벤트.
+ * 커밋 후 LocationSpatialIndex가 해당 시설(또는 전체)을 다시 적재한다.
+ */
+public record LocationServiceChangedEvent(
+        Long serviceIdx  // 변경된 시설 idx, 대량 변경(CSV 임포트·점수 재계산)이면 null
+) {
+
+    public static LocationServiceChangedEvent all() {
+        return new LocationServiceChangedEvent(null);
+    }
+}
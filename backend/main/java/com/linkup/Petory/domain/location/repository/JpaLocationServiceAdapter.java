@@ -1,9 +1,16 @@
 package com.linkup.Petory.domain.location.repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
 import com.linkup.Petory.domain.location.entity.LocationService;
@@ -18,7 +25,30 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JpaLocationServiceAdapter implements LocationServiceRepository {
 
+    /** 다중 행 INSERT 대상 컬럼 (엔티티 필드 순서) */
+    private static final List<String> INSERT_COLUMNS = List.of(
+            "name", "category1", "category2", "category3", "sido", "sigungu", "eupmyeondong", "road_name",
+            "address", "zip_code", "latitude", "longitude", "phone", "website", "closed_day", "operating_hours",
+            "parking_available", "price_info", "pet_friendly", "is_pet_only", "pet_size", "pet_restrictions",
+            "pet_extra_fee", "indoor", "outdoor", "description", "rating", "review_count", "score", "tags",
+            "last_updated", "data_source", "is_deleted");
+    private static final List<Function<LocationService, Object>> INSERT_VALUES = List.of(
+            LocationService::getName, LocationService::getCategory1, LocationService::getCategory2,
+            LocationService::getCategory3, LocationService::getSido, LocationService::getSigungu,
+            LocationService::getEupmyeondong, LocationService::getRoadName, LocationService::getAddress,
+            LocationService::getZipCode, LocationService::getLatitude, LocationService::getLongitude,
+            LocationService::getPhone, LocationService::getWebsite, LocationService::getClosedDay,
+            LocationService::getOperatingHours, LocationService::getParkingAvailable, LocationService::getPriceInfo,
+            LocationService::getPetFriendly, LocationService::getIsPetOnly, LocationService::getPetSize,
+            LocationService::getPetRestrictions, LocationService::getPetExtraFee, LocationService::getIndoor,
+            LocationService::getOutdoor, LocationService::getDescription, LocationService::getRating,
+            LocationService::getReviewCount, LocationService::getScore, LocationService::getTags,
+            LocationService::getLastUpdated, LocationService::getDataSource, LocationService::getIsDeleted);
+    /** MySQL 한 문장의 자리표시자 상한(65535)을 넘지 않는 행 수 */
+    private static final int MAX_ROWS_PER_INSERT = 65_535 / INSERT_COLUMNS.size();
+
     private final SpringDataJpaLocationServiceRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @SuppressWarnings("null")
     @Override
@@ -53,11 +83,61 @@ public class JpaLocationServiceAdapter implements LocationServiceRepository {
         return jpaRepository.findByNameContaining(keyword, category, limit);
     }
 
+    @Override
+    public List<Object[]> countClustersInBounds(Double minLat, Double minLng, Double maxLat, Double maxLng,
+            Double cellSize) {
+        return jpaRepository.countClustersInBounds(minLat, minLng, maxLat, maxLng, cellSize);
+    }
+
+    @Override
+    public List<LocationService> findInBounds(Double minLat, Double minLng, Double maxLat, Double maxLng,
+            int limit) {
+        return jpaRepository.findInBounds(minLat, minLng, maxLat, maxLng, limit);
+    }
+
+    @Override
+    public List<LocationService> findAllForSpatialIndex() {
+        return jpaRepository.findAllForSpatialIndex();
+    }
+
     @Override
     public boolean existsByNameAndAddress(String name, String address) {
         return jpaRepository.existsByNameAndAddress(name, address);
     }
 
+    /**
+     * MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍한다.
+     */
+    @Override
+    public void forEachNameAndAddress(BiConsumer<String, String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT name, address FROM locationservice WHERE is_deleted = 0",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1), rs.getString(2)));
+    }
+
+    @Override
+    public int insertAll(List<LocationService> locationServices) {
+        int inserted = 0;
+        for (int from = 0; from < locationServices.size(); from += MAX_ROWS_PER_INSERT) {
+            List<LocationService> rows = locationServices.subList(from,
+                    Math.min(from + MAX_ROWS_PER_INSERT, locationServices.size()));
+            inserted += jdbcTemplate.update(multiRowInsert(rows.size()), rows.stream()
+                    .flatMap(row -> INSERT_VALUES.stream().map(value -> value.apply(row)))
+                    .toArray());
+        }
+        return inserted;
+    }
+
+    private static String multiRowInsert(int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(INSERT_COLUMNS.size(), "?")) + ")";
+        return "INSERT INTO locationservice (" + String.join(", ", INSERT_COLUMNS) + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, placeholders));
+    }
+
     @Override
     public List<LocationService> findByRadius(Double latitude, Double longitude, Double radiusInMeters,
             String keyword, String category, String sort, int limit) {
@@ -88,4 +168,14 @@ public class JpaLocationServiceAdapter implements LocationServiceRepository {
     public void updateReviewStats(Long serviceIdx) {
         jpaRepository.updateReviewStats(serviceIdx);
     }
+
+    @Override
+    public int recalculateScoresInRange(long afterIdx, long toIdx) {
+        return jpaRepository.recalculateScoresInRange(afterIdx, toIdx);
+    }
+
+    @Override
+    public Long findMaxIdx() {
+        return jpaRepository.findMaxIdx();
+    }
 }
@@ -2,6 +2,7 @@ package com.linkup.Petory.domain.location.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import com.linkup.Petory.domain.location.entity.LocationService;
 
@@ -42,12 +43,41 @@ public interface LocationServiceRepository {
      */
     boolean existsByNameAndAddress(String name, String address);
 
+    /**
+     * 삭제되지 않은 전체 서비스의 (이름, 주소)를 스트리밍 쿼리 한 번으로 순회 (CSV 임포트 중복 판정용)
+     */
+    void forEachNameAndAddress(BiConsumer<String, String> consumer);
+
+    /**
+     * 다중 행 INSERT로 일괄 저장 (영속성 컨텍스트를 거치지 않음, location 공간 컬럼은 INSERT 트리거가 채움)
+     *
+     * @return 저장된 행 수
+     */
+    int insertAll(List<LocationService> locationServices);
+
     /**
      * 반경 검색 (ST_Distance_Sphere 사용, keyword·category 필터 포함)
      */
     List<LocationService> findByRadius(Double latitude, Double longitude, Double radiusInMeters,
             String keyword, String category, String sort, int limit);
 
+    /**
+     * 지도 뷰포트 격자 클러스터 (메모리 공간 인덱스 적재 전 대체 경로)
+     * 반환값: List<Object[]> [count, avgLatitude, avgLongitude]
+     */
+    List<Object[]> countClustersInBounds(Double minLat, Double minLng, Double maxLat, Double maxLng,
+            Double cellSize);
+
+    /**
+     * 지도 뷰포트 안 시설 (평점 높은 순, 메모리 공간 인덱스 적재 전 대체 경로)
+     */
+    List<LocationService> findInBounds(Double minLat, Double minLng, Double maxLat, Double maxLng, int limit);
+
+    /**
+     * 메모리 공간 인덱스 적재용 - 삭제되지 않고 좌표가 있는 전체 서비스
+     */
+    List<LocationService> findAllForSpatialIndex();
+
     /**
      * 시군구별 조회 (keyword·category 필터 포함)
      */
@@ -63,7 +93,17 @@ public interface LocationServiceRepository {
     // List<LocationService> findByRoadName(String roadName, String keyword, String category, int limit);
 
     /**
-     * [FIX] 서비스 평점과 리뷰 수를 리뷰 집계 기준으로 원자적 갱신 (DB 단일 UPDATE)
+     * [FIX] 서비스 평점과 리뷰 수를 리뷰 집계 기준으로 원자적 갱신 (DB 단일 UPDATE, score도 함께 재계산)
      */
     void updateReviewStats(Long serviceIdx);
+
+    /**
+     * PK 구간 (afterIdx, toIdx] 점수 재계산, 값이 달라진 행 수 반환
+     */
+    int recalculateScoresInRange(long afterIdx, long toIdx);
+
+    /**
+     * 최대 idx (없으면 null)
+     */
+    Long findMaxIdx();
 }
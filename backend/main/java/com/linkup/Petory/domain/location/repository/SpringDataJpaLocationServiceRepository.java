@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.location.entity.LocationService;
 import com.linkup.Petory.global.annotation.RepositoryMethod;
@@ -15,6 +16,10 @@ import com.linkup.Petory.global.annotation.RepositoryMethod;
  */
 public interface SpringDataJpaLocationServiceRepository extends JpaRepository<LocationService, Long> {
 
+    /** {@link LocationService#computeScore}와 같은 식 (SQL) */
+    String SCORE_EXPR = "0.5 * COALESCE(rating, 0) * LOG10(COALESCE(review_count, 0) + 1) "
+            + "+ CASE WHEN pet_friendly = 1 THEN 0.2 ELSE 0 END";
+
     @RepositoryMethod("장소 서비스: 평점순 전체 조회 (keyword·category 필터)")
     @Query(value = "SELECT * FROM locationservice WHERE "
             + "is_deleted = 0 "
@@ -64,6 +69,39 @@ public interface SpringDataJpaLocationServiceRepository extends JpaRepository<Lo
             + "ls.isDeleted = false")
     boolean existsByNameAndAddress(@Param("name") String name, @Param("address") String address);
 
+    @RepositoryMethod("장소 서비스: 뷰포트 격자 클러스터 집계")
+    @Query(value = "SELECT COUNT(*), AVG(ls.latitude), AVG(ls.longitude) FROM locationservice ls WHERE "
+            + "ST_Within(ls.location, ST_GeomFromText(CONCAT('POLYGON((', "
+            + ":minLat, ' ', :minLng, ', ', :minLat, ' ', :maxLng, ', ', :maxLat, ' ', :maxLng, ', ', "
+            + ":maxLat, ' ', :minLng, ', ', :minLat, ' ', :minLng, '))'), 4326)) AND "
+            + "ls.is_deleted = 0 "
+            + "GROUP BY FLOOR((ls.latitude + 90) / :cellSize), FLOOR((ls.longitude + 180) / :cellSize)",
+            nativeQuery = true)
+    List<Object[]> countClustersInBounds(@Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("cellSize") Double cellSize);
+
+    @RepositoryMethod("장소 서비스: 뷰포트 안 시설 조회")
+    @Query(value = "SELECT * FROM locationservice ls WHERE "
+            + "ST_Within(ls.location, ST_GeomFromText(CONCAT('POLYGON((', "
+            + ":minLat, ' ', :minLng, ', ', :minLat, ' ', :maxLng, ', ', :maxLat, ' ', :maxLng, ', ', "
+            + ":maxLat, ' ', :minLng, ', ', :minLat, ' ', :minLng, '))'), 4326)) AND "
+            + "ls.is_deleted = 0 "
+            + "ORDER BY ls.rating DESC, ls.idx ASC "
+            + "LIMIT :limit", nativeQuery = true)
+    List<LocationService> findInBounds(@Param("minLat") Double minLat,
+            @Param("minLng") Double minLng,
+            @Param("maxLat") Double maxLat,
+            @Param("maxLng") Double maxLng,
+            @Param("limit") int limit);
+
+    @RepositoryMethod("장소 서비스: 공간 인덱스 적재용 전체 조회")
+    @Query("SELECT ls FROM LocationService ls WHERE ls.isDeleted = false "
+            + "AND ls.latitude IS NOT NULL AND ls.longitude IS NOT NULL")
+    List<LocationService> findAllForSpatialIndex();
+
     // spatial index를 실제로 잘 타고 있음
     // ST_Within + ST_Distance_Sphere 조합이 망하지 않음
     // LIKE '%??%'가 인덱스를 못 타더라도, 이미 반경 후보가 줄어든 뒤라 피해가 제한적임
@@ -151,7 +189,8 @@ public interface SpringDataJpaLocationServiceRepository extends JpaRepository<Lo
     // [FIX] 리뷰 평균을 DB에서 직접 계산해 rating 컬럼을 한 번의 UPDATE로 갱신.
     // 기존 read → AVG계산 → write 패턴은 동시 리뷰 시 Lost Update 위험이 있었음.
     // 인라인 뷰로 감싸 MySQL 버전 무관하게 호환성 확보.
-    @RepositoryMethod("장소 서비스: 평점·리뷰수 직접 갱신 (원자적)")
+    // score는 마지막에 대입: MySQL 단일 테이블 UPDATE는 SET을 왼쪽부터 평가하므로 방금 갱신한 rating·review_count로 계산됨.
+    @RepositoryMethod("장소 서비스: 평점·리뷰수·점수 직접 갱신 (원자적)")
     @Modifying
     @Query(value = "UPDATE locationservice SET "
             + "rating = ("
@@ -167,7 +206,23 @@ public interface SpringDataJpaLocationServiceRepository extends JpaRepository<Lo
             + "FROM locationservicereview r "
             + "WHERE r.service_idx = :serviceIdx AND r.is_deleted = 0"
             + ") review_stats"
-            + ") "
+            + "), "
+            + "score = " + SCORE_EXPR + " "
             + "WHERE idx = :serviceIdx", nativeQuery = true)
     void updateReviewStats(@Param("serviceIdx") Long serviceIdx);
+
+    /**
+     * PK 구간 (afterIdx, toIdx] 점수 재계산 — 값이 달라진 행만 기록, 구간마다 짧은 트랜잭션
+     */
+    @RepositoryMethod("장소 서비스: PK 구간 점수 재계산")
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE locationservice SET score = " + SCORE_EXPR + " "
+            + "WHERE idx > :afterIdx AND idx <= :toIdx AND is_deleted = 0 "
+            + "AND (score IS NULL OR ABS(score - (" + SCORE_EXPR + ")) > 0.000001)", nativeQuery = true)
+    int recalculateScoresInRange(@Param("afterIdx") long afterIdx, @Param("toIdx") long toIdx);
+
+    @RepositoryMethod("장소 서비스: 최대 idx 조회")
+    @Query("SELECT MAX(ls.idx) FROM LocationService ls")
+    Long findMaxIdx();
 }
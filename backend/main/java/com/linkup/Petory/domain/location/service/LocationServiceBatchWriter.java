@@ -1,9 +1,8 @@
 package com.linkup.Petory.domain.location.service;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,8 +10,6 @@ import org.springframework.transaction.annotation.Transactional;
 import com.linkup.Petory.domain.location.entity.LocationService;
 import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,11 +24,10 @@ public class LocationServiceBatchWriter {
 
     private final LocationServiceRepository locationServiceRepository;
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
     /**
-     * 배치 저장 (각 배치는 별도 트랜잭션으로 처리) 일부 실패해도 다른 배치는 저장됨.
+     * 배치 저장 (각 배치는 별도 트랜잭션으로 처리, 다중 행 INSERT 한 문장).
+     * 데이터 오류로 실패하면 배치를 반으로 나눠 다시 저장하므로, 문제 행 하나를 찾는 데 한 행씩 저장하는
+     * 대신 O(log n) 문장만 쓴다. 연결 장애 등 다른 DB 오류는 그대로 던져 임포트를 중단시킨다.
      *
      * @param batch 저장할 엔티티 목록
      * @return 실제 저장된 개수
@@ -41,37 +37,20 @@ public class LocationServiceBatchWriter {
         if (batch.isEmpty()) {
             return 0;
         }
+        return insertSplittingOnError(batch);
+    }
 
+    private int insertSplittingOnError(List<LocationService> rows) {
         try {
-            locationServiceRepository.saveAll(batch);
-            return batch.size();
-        } catch (DataAccessException e) {
-            log.error("배치 저장 실패: {}개 중 일부 저장 실패 - {}", batch.size(), e.getMessage(), e);
-            entityManager.clear();
-
-            // 개별 저장 시도
-            int saved = 0;
-            List<LocationService> failedEntities = new ArrayList<>();
-
-            for (LocationService entity : batch) {
-                try {
-                    if (entityManager.contains(entity)) {
-                        entityManager.detach(entity);
-                    }
-                    locationServiceRepository.save(entity);
-                    saved++;
-                } catch (DataAccessException ex) {
-                    log.warn("개별 저장 실패: {}", ex.getMessage());
-                    failedEntities.add(entity);
-                    entityManager.clear();
-                }
+            return locationServiceRepository.insertAll(rows);
+        } catch (DataIntegrityViolationException e) {
+            if (rows.size() == 1) {
+                log.warn("개별 저장 실패: name={}, error={}", rows.get(0).getName(), e.getMessage());
+                return 0;
             }
-
-            if (!failedEntities.isEmpty()) {
-                entityManager.clear();
-            }
-
-            return saved;
+            int middle = rows.size() / 2;
+            return insertSplittingOnError(rows.subList(0, middle))
+                    + insertSplittingOnError(rows.subList(middle, rows.size()));
         }
     }
 }
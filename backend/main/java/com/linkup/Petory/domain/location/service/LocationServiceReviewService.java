@@ -3,6 +3,7 @@ package com.linkup.Petory.domain.location.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +12,7 @@ import com.linkup.Petory.domain.location.dto.LocationServiceReviewDTO;
 import com.linkup.Petory.domain.location.dto.LocationServiceReviewSummaryDTO;
 import com.linkup.Petory.domain.location.entity.LocationService;
 import com.linkup.Petory.domain.location.entity.LocationServiceReview;
+import com.linkup.Petory.domain.location.event.LocationServiceChangedEvent;
 import com.linkup.Petory.domain.location.exception.LocationReviewAlreadyDeletedException;
 import com.linkup.Petory.domain.location.exception.LocationReviewDuplicateException;
 import com.linkup.Petory.domain.location.exception.LocationServiceNotFoundException;
@@ -35,6 +37,7 @@ public class LocationServiceReviewService {
     private final LocationServiceRepository serviceRepository;
     private final UsersRepository usersRepository;
     private final LocationServiceReviewConverter converter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 리뷰 생성 (작성자는 JWT 기준 로그인 사용자만 허용 — 요청 본문의 userIdx는 무시)
     @Transactional
@@ -180,5 +183,6 @@ public class LocationServiceReviewService {
     @Transactional
     public void updateServiceReviewStats(Long serviceIdx) {
         serviceRepository.updateReviewStats(serviceIdx);
+        eventPublisher.publishEvent(new LocationServiceChangedEvent(serviceIdx));
     }
 }
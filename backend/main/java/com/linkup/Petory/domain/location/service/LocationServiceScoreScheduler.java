@@ -1,44 +1,77 @@
 package com.linkup.Petory.domain.location.service;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.location.entity.LocationService;
-import com.linkup.Petory.domain.location.repository.SpringDataJpaLocationServiceRepository;
+import com.linkup.Petory.domain.location.event.LocationServiceChangedEvent;
+import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * score 안전망 재계산. 평점·리뷰수 변경 시 점수는 {@code updateReviewStats} UPDATE에서 함께 갱신되므로,
+ * 여기서는 누락분만 바로잡는다. 엔티티를 읽지 않고 PK 구간별 SQL UPDATE(구간마다 짧은 트랜잭션)로
+ * 값이 달라진 행만 기록한다. score = 0.5 × rating × log10(reviewCount+1) + 0.2 × petFriendly
+ * ({@link LocationService#computeScore})
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class LocationServiceScoreScheduler {
 
-    private final SpringDataJpaLocationServiceRepository locationServiceRepository;
+    private final LocationServiceRepository locationServiceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter updatedRows;
+    private final Timer fullPassTimer;
+
+    @Value("${app.location.score.chunk-size:5000}")
+    private int chunkSize;
+
+    public LocationServiceScoreScheduler(LocationServiceRepository locationServiceRepository,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.locationServiceRepository = locationServiceRepository;
+        this.eventPublisher = eventPublisher;
+        this.updatedRows = meterRegistry.counter("location.score.recalculated");
+        this.fullPassTimer = meterRegistry.timer("location.score.full-pass");
+    }
 
     /**
-     * 매일 자정 전체 score 재계산. score = 0.5 × rating × log10(reviewCount+1) + 0.2 ×
-     * petFriendly
+     * 매일 자정 전체 score 점검 (PK 구간 단위)
      */
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional
     public void recalculateAllScores() {
-        log.info("[ScoreScheduler] location service score 재계산 시작");
-        List<LocationService> all = locationServiceRepository.findAll();
-        for (LocationService ls : all) {
-            ls.setScore(computeScore(ls));
+        Long maxIdx = locationServiceRepository.findMaxIdx();
+        if (maxIdx == null) {
+            return;
         }
-        locationServiceRepository.saveAll(all);
-        log.info("[ScoreScheduler] score 재계산 완료: {}건", all.size());
-    }
+        log.info("[ScoreScheduler] location service score 재계산 시작 (idx ≤ {}, 구간 {})", maxIdx, chunkSize);
+        long started = System.nanoTime();
+        long chunks = (maxIdx + chunkSize - 1) / chunkSize;
+        int updated = 0;
+        long chunk = 0;
+        for (long afterIdx = 0; afterIdx < maxIdx; afterIdx += chunkSize) {
+            int changed = locationServiceRepository.recalculateScoresInRange(afterIdx,
+                    Math.min(afterIdx + chunkSize, maxIdx));
+            updated += changed;
+            updatedRows.increment(changed);
+            chunk++;
+            if (chunk % 20 == 0 || chunk == chunks) {
+                log.info("[ScoreScheduler] 진행 {}/{} 구간 ({}%), 갱신 {}건", chunk, chunks, chunk * 100 / chunks, updated);
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        fullPassTimer.record(elapsed, TimeUnit.NANOSECONDS);
 
-    private double computeScore(LocationService ls) {
-        double ratingScore = (ls.getRating() != null ? ls.getRating() : 0.0)
-                * Math.log10((ls.getReviewCount() != null ? ls.getReviewCount() : 0) + 1);
-        double petBonus = Boolean.TRUE.equals(ls.getPetFriendly()) ? 1.0 : 0.0;
-        return 0.5 * ratingScore + 0.2 * petBonus;
+        if (updated > 0) {
+            eventPublisher.publishEvent(LocationServiceChangedEvent.all());
+        }
+        log.info("[ScoreScheduler] score 재계산 완료: {}건 갱신 ({}ms)", updated, TimeUnit.NANOSECONDS.toMillis(elapsed));
     }
 }
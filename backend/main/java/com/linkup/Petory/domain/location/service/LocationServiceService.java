@@ -12,6 +12,7 @@ import org.springframework.util.StringUtils;
 import com.linkup.Petory.domain.location.converter.LocationServiceConverter;
 import com.linkup.Petory.domain.location.dto.LocationServiceDTO;
 import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.event.LocationServiceChangedEvent;
 import com.linkup.Petory.domain.location.exception.LocationServiceAlreadyDeletedException;
 import com.linkup.Petory.domain.location.exception.LocationServiceNotFoundException;
 import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
@@ -33,6 +34,7 @@ public class LocationServiceService {
     private final LocationServiceRepository locationServiceRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final UsersRepository usersRepository;
+    private final LocationSpatialIndex spatialIndex;
 
     // -----------------------------------------------------------------------
     // 검색 메서드 (컨트롤러가 파라미터 조합을 보고 하나를 직접 호출)
@@ -51,8 +53,8 @@ public class LocationServiceService {
         int limit = (maxResults != null && maxResults > 0) ? maxResults : DEFAULT_RADIUS_LIMIT;
         long t0 = System.currentTimeMillis();
 
-        List<LocationService> services = locationServiceRepository
-                .findByRadius(latitude, longitude, (double) radiusInMeters, keyword, category, sort, limit);
+        List<LocationService> services = findByRadius(
+                latitude, longitude, radiusInMeters, keyword, category, sort, limit);
 
         List<LocationServiceDTO> result = services.stream()
                 .map(service -> {
@@ -143,6 +145,7 @@ public class LocationServiceService {
         }
         service.softDelete();
         locationServiceRepository.save(service);
+        eventPublisher.publishEvent(new LocationServiceChangedEvent(serviceIdx));
         log.info("위치 서비스 삭제: serviceIdx={}", serviceIdx);
     }
 
@@ -175,6 +178,14 @@ public class LocationServiceService {
         } catch (Exception ignored) {}
     }
 
+    /** 메모리 공간 인덱스 우선, 적재 전·비활성화면 SQL 반경 검색 */
+    private List<LocationService> findByRadius(Double latitude, Double longitude, Integer radiusInMeters,
+            String keyword, String category, String sort, int limit) {
+        return spatialIndex.findByRadius(latitude, longitude, radiusInMeters, keyword, category, sort, limit)
+                .orElseGet(() -> locationServiceRepository
+                        .findByRadius(latitude, longitude, (double) radiusInMeters, keyword, category, sort, limit));
+    }
+
     private static String normalize(String value) {
         return StringUtils.hasText(value) ? value.trim() : null;
     }
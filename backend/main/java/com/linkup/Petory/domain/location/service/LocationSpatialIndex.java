@@ -0,0 +1,573 @@
+package com.linkup.Petory.domain.location.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.location.dto.LocationClusterDTO;
+import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.event.LocationServiceChangedEvent;
+import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 위치 서비스 반경 검색용 메모리 공간 인덱스 (app.location.spatial-index.enabled, 기본 사용).
+ *
+ * <p>
+ * 삭제되지 않고 좌표가 있는 시설 전체를 위경도 0.01° 격자 셀 키 순으로 정렬한 배열에 담아 두고,
+ * 반경의 경계 사각형에 걸친 셀 행마다 이진 탐색으로 후보를 찾은 뒤 구면 거리로 거른다.
+ * keyword·category 필터와 정렬 기준은
+ * {@link com.linkup.Petory.domain.location.repository.SpringDataJpaLocationServiceRepository#findByRadius}
+ * 와 같게 맞춰 DB 왕복 없이 같은 결과를 돌려준다.
+ *
+ * <p>
+ * 인덱스는 변경 불가능한 스냅샷을 통째로 교체하는 방식이라 조회에는 잠금이 없다.
+ * 기동 시 전체 적재, 이후 {@link LocationServiceChangedEvent}(CSV 임포트·관리자 삭제·리뷰 통계·점수 재계산)
+ * 커밋 후 전용 스레드에서 해당 시설만(또는 전체) 다시 읽어 교체하고,
+ * Redis 채널 "location:index:refresh"로 다른 노드에도 알린다.
+ *
+ * <p>
+ * 지도 뷰포트용으로 확대 수준({@value #MIN_CLUSTER_ZOOM}~{@value #MAX_CLUSTER_ZOOM})마다 격자 셀별
+ * 시설 수·좌표 합·가장 많은 카테고리를 스냅샷을 만들 때 미리 집계해 두므로, 클러스터 조회 비용은
+ * 뷰포트에 걸친 셀 수에만 비례하고 그 안의 시설 수와는 무관하다.
+ * 적재 전이거나 비활성화 상태면 empty를 돌려주어 호출부가 SQL 반경 검색으로 대체한다.
+ * 반환하는 엔티티는 여러 요청이 공유하는 준영속 객체이므로 읽기 전용으로만 사용한다.
+ */
+@Slf4j
+@Component
+public class LocationSpatialIndex implements MessageListener {
+
+    static final String CHANNEL = "location:index:refresh";
+    private static final char ORIGIN_SEPARATOR = '\n';
+    private static final String RELOAD_ALL = "*";
+
+    /** 격자 셀 크기 (위도 0.01° ≈ 1.1km) */
+    static final double CELL_DEG = 0.01;
+    private static final long COLUMNS = Math.round(360 / CELL_DEG);
+
+    /** 클러스터를 미리 집계해 두는 확대 수준 범위 */
+    public static final int MIN_CLUSTER_ZOOM = 5;
+    public static final int MAX_CLUSTER_ZOOM = 16;
+    /** 지도 타일(256px) 한 변을 나누는 클러스터 셀 수 (셀 한 변 ≈ 64px) */
+    private static final int CLUSTER_CELLS_PER_TILE = 4;
+
+    /** ST_Distance_Sphere 기본 구 반지름 (m) */
+    private static final double EARTH_RADIUS = 6370986;
+    /** 반경 쿼리의 경계 사각형 계산과 같은 위도 1°당 거리 (m) */
+    private static final double METERS_PER_DEGREE = 111000.0;
+
+    private final LocationServiceRepository locationServiceRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+
+    /** 자기 노드 발행분을 걸러내기 위한 노드 식별자 */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "location-spatial-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reloadPending = new AtomicBoolean();
+
+    private volatile Snapshot snapshot;
+
+    public LocationSpatialIndex(
+            LocationServiceRepository locationServiceRepository,
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${app.location.spatial-index.enabled:true}") boolean enabled) {
+        this.locationServiceRepository = locationServiceRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            schedule(null);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 반경 검색 (SQL 반경 검색과 같은 필터·정렬)
+     *
+     * @return 인덱스를 쓸 수 없으면 empty (SQL로 대체)
+     */
+    public Optional<List<LocationService>> findByRadius(double latitude, double longitude, double radiusInMeters,
+            String keyword, String category, String sort, int limit) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+
+        String lowerKeyword = keyword != null ? keyword.toLowerCase(Locale.ROOT) : null;
+        List<Hit> hits = new ArrayList<>();
+        scan(current, latitude, longitude, radiusInMeters, i -> {
+            LocationService service = current.items[i];
+            if (lowerKeyword != null && !current.lowerNames[i].contains(lowerKeyword)) {
+                return;
+            }
+            if (category != null && !matchesCategory(service, category)) {
+                return;
+            }
+            double distance = distance(latitude, longitude, current.lats[i], current.lngs[i]);
+            if (distance <= radiusInMeters) {
+                hits.add(new Hit(service, distance));
+            }
+        });
+
+        return Optional.of(hits.stream()
+                .sorted(comparator(sort))
+                .limit(limit)
+                .map(Hit::service)
+                .toList());
+    }
+
+    /**
+     * 뷰포트(경계 사각형)에 걸친 클러스터 셀 목록
+     *
+     * @param zoom {@value #MIN_CLUSTER_ZOOM}~{@value #MAX_CLUSTER_ZOOM}
+     * @return 인덱스를 쓸 수 없으면 empty (SQL로 대체)
+     */
+    public Optional<List<LocationClusterDTO>> findClusters(int zoom,
+            double minLat, double minLng, double maxLat, double maxLng) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+        ClusterLevel level = current.levels[zoom - MIN_CLUSTER_ZOOM];
+        List<LocationClusterDTO> clusters = new ArrayList<>();
+        scanCells(level.keys, level.columns,
+                level.row(minLat), level.row(maxLat), level.column(minLng), level.column(maxLng),
+                i -> clusters.add(LocationClusterDTO.builder()
+                        .latitude(level.lats[i])
+                        .longitude(level.lngs[i])
+                        .count(level.counts[i])
+                        .category(level.categories[i])
+                        .build()));
+        return Optional.of(clusters);
+    }
+
+    /**
+     * 뷰포트 안 개별 시설 (평점 높은 순, 최대 limit건)
+     *
+     * @return 인덱스를 쓸 수 없으면 empty (SQL로 대체)
+     */
+    public Optional<List<LocationService>> findInBounds(double minLat, double minLng, double maxLat, double maxLng,
+            int limit) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+        List<Hit> hits = new ArrayList<>();
+        scanBox(current, minLat, minLng, maxLat, maxLng, i -> {
+            if (current.lats[i] >= minLat && current.lats[i] <= maxLat
+                    && current.lngs[i] >= minLng && current.lngs[i] <= maxLng) {
+                hits.add(new Hit(current.items[i], 0));
+            }
+        });
+        return Optional.of(hits.stream()
+                .sorted(comparator(null))
+                .limit(limit)
+                .map(Hit::service)
+                .toList());
+    }
+
+    /** 확대 수준별 클러스터 격자 셀 한 변의 크기 (도) */
+    public static double clusterCellSize(int zoom) {
+        return 360.0 / (1L << zoom) / CLUSTER_CELLS_PER_TILE;
+    }
+
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.items.length : 0;
+    }
+
+    /**
+     * 경계 사각형에 걸친 셀의 시설 수 (거리·필터 적용 전 후보 수)
+     */
+    int candidateCount(double latitude, double longitude, double radiusInMeters) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return 0;
+        }
+        int[] count = new int[1];
+        scan(current, latitude, longitude, radiusInMeters, i -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * 위치 서비스 변경 반영 (커밋 후 전용 스레드에서 처리하고 다른 노드에 알림)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLocationServiceChanged(LocationServiceChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        schedule(event.serviceIdx());
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + ORIGIN_SEPARATOR
+                    + (event.serviceIdx() != null ? event.serviceIdx().toString() : RELOAD_ALL));
+        } catch (DataAccessException e) {
+            log.warn("공간 인덱스 갱신 알림 발행 실패 (이 노드만 갱신됨): serviceIdx={}, error={}",
+                    event.serviceIdx(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 변경 알림 수신
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(ORIGIN_SEPARATOR);
+        if (separator < 0) {
+            log.warn("알 수 없는 형식의 공간 인덱스 갱신 알림 무시: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        String target = body.substring(separator + 1);
+        try {
+            schedule(RELOAD_ALL.equals(target) ? null : Long.valueOf(target));
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 형식의 공간 인덱스 갱신 알림 무시: {}", body);
+        }
+    }
+
+    /**
+     * 전체 다시 적재
+     */
+    public void reload() {
+        long t0 = System.currentTimeMillis();
+        Snapshot loaded = Snapshot.of(locationServiceRepository.findAllForSpatialIndex());
+        snapshot = loaded;
+        log.info("위치 서비스 공간 인덱스 적재 완료: {}건 ({}ms)", loaded.items.length, System.currentTimeMillis() - t0);
+    }
+
+    /**
+     * 지정한 시설만 DB에서 다시 읽어 교체 (삭제·좌표 없음이면 제외). 적재 전이면 무시한다.
+     */
+    public void refresh(Collection<Long> serviceIds) {
+        Snapshot current = snapshot;
+        if (current == null || serviceIds.isEmpty()) {
+            return;
+        }
+        Map<Long, LocationService> services = new LinkedHashMap<>();
+        for (LocationService service : current.items) {
+            services.put(service.getIdx(), service);
+        }
+        for (Long serviceIdx : serviceIds) {
+            services.remove(serviceIdx);
+            locationServiceRepository.findById(serviceIdx).ifPresent(service -> services.put(serviceIdx, service));
+        }
+        snapshot = Snapshot.of(services.values());
+    }
+
+    private void schedule(Long serviceIdx) {
+        if (serviceIdx == null) {
+            reloadPending.set(true);
+        } else {
+            pendingIds.add(serviceIdx);
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            log.debug("공간 인덱스 종료 중 - 갱신 생략: serviceIdx={}", serviceIdx);
+        }
+    }
+
+    /** 쌓인 변경을 한 번에 반영 (전체 적재 요청이 있으면 개별 갱신은 생략) */
+    private void drain() {
+        try {
+            if (reloadPending.getAndSet(false)) {
+                pendingIds.clear();
+                reload();
+                return;
+            }
+            List<Long> ids = new ArrayList<>(pendingIds);
+            pendingIds.removeAll(ids);
+            refresh(ids);
+        } catch (RuntimeException e) {
+            log.warn("위치 서비스 공간 인덱스 갱신 실패 (이전 인덱스 유지, 적재 전이면 SQL 검색): {}", e.getMessage());
+        }
+    }
+
+    /** 반경의 경계 사각형에 걸친 시설 위치를 방문 */
+    private static void scan(Snapshot current, double latitude, double longitude, double radiusInMeters,
+            IntConsumer visitor) {
+        double dLat = radiusInMeters / METERS_PER_DEGREE;
+        double dLng = radiusInMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+        scanBox(current, latitude - dLat, longitude - dLng, latitude + dLat, longitude + dLng, visitor);
+    }
+
+    private static void scanBox(Snapshot current, double minLat, double minLng, double maxLat, double maxLng,
+            IntConsumer visitor) {
+        scanCells(current.cellKeys, COLUMNS, row(minLat), row(maxLat), column(minLng), column(maxLng), visitor);
+    }
+
+    /** 셀 키(행 × 열 수 + 열) 오름차순 배열에서, 행마다 이진 탐색으로 열 범위에 속한 위치를 방문 */
+    private static void scanCells(long[] keys, long columns, long rowFrom, long rowTo, long colFrom, long colTo,
+            IntConsumer visitor) {
+        long fromColumn = Math.max(0, colFrom);
+        long toColumn = Math.min(columns - 1, colTo);
+        for (long row = rowFrom; row <= rowTo; row++) {
+            long from = row * columns + fromColumn;
+            long to = row * columns + toColumn;
+            for (int i = lowerBound(keys, from); i < keys.length && keys[i] <= to; i++) {
+                visitor.accept(i);
+            }
+        }
+    }
+
+    private static int lowerBound(long[] keys, long key) {
+        int position = Arrays.binarySearch(keys, key);
+        if (position < 0) {
+            return -position - 1;
+        }
+        while (position > 0 && keys[position - 1] == key) {
+            position--;
+        }
+        return position;
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_DEG);
+    }
+
+    private static long column(double longitude) {
+        return (long) Math.floor((longitude + 180) / CELL_DEG);
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return row(latitude) * COLUMNS + column(longitude);
+    }
+
+    static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /** 응답 DTO와 같은 대표 카테고리 (category3 → category2 → category1) */
+    private static String primaryCategory(LocationService service) {
+        if (service.getCategory3() != null) {
+            return service.getCategory3();
+        }
+        return service.getCategory2() != null ? service.getCategory2() : service.getCategory1();
+    }
+
+    /** category3 → category2 → category1 중 하나와 일치 (DB 콜레이션과 같이 대소문자 무시) */
+    private static boolean matchesCategory(LocationService service, String category) {
+        return category.equalsIgnoreCase(service.getCategory3())
+                || category.equalsIgnoreCase(service.getCategory2())
+                || category.equalsIgnoreCase(service.getCategory1());
+    }
+
+    /**
+     * SQL 반경 검색의 ORDER BY와 같은 순서 (NULL 값은 DESC 정렬에서 뒤로)
+     */
+    private static Comparator<Hit> comparator(String sort) {
+        Comparator<Hit> ratingDesc = Comparator.comparingDouble((Hit hit) -> orLowest(hit.service().getRating()))
+                .reversed();
+        Comparator<Hit> reviewsDesc = Comparator.comparingInt((Hit hit) -> {
+            Integer reviewCount = hit.service().getReviewCount();
+            return reviewCount != null ? reviewCount : Integer.MIN_VALUE;
+        }).reversed();
+        Comparator<Hit> distanceAsc = Comparator.comparingDouble(Hit::distance);
+        Comparator<Hit> tieBreak = ratingDesc.thenComparing(hit -> hit.service().getIdx());
+
+        if (sort == null) {
+            return tieBreak;
+        }
+        return switch (sort) {
+            case "score" -> Comparator.comparingDouble((Hit hit) -> orLowest(hit.service().getScore())).reversed()
+                    .thenComparing(tieBreak);
+            case "stable" -> ratingDesc.thenComparing(reviewsDesc).thenComparing(tieBreak);
+            case "reviews" -> reviewsDesc.thenComparing(distanceAsc).thenComparing(tieBreak);
+            case "rating" -> ratingDesc.thenComparing(distanceAsc).thenComparing(tieBreak);
+            default -> distanceAsc.thenComparing(tieBreak);
+        };
+    }
+
+    private static double orLowest(Double value) {
+        return value != null ? value : Double.NEGATIVE_INFINITY;
+    }
+
+    private record Hit(LocationService service, double distance) {
+    }
+
+    /**
+     * 셀 키 오름차순으로 정렬된 불변 배열 묶음
+     */
+    private static final class Snapshot {
+        final long[] cellKeys;
+        final double[] lats;
+        final double[] lngs;
+        final String[] lowerNames;
+        final LocationService[] items;
+        final ClusterLevel[] levels;
+
+        private Snapshot(LocationService[] items) {
+            this.items = items;
+            this.cellKeys = new long[items.length];
+            this.lats = new double[items.length];
+            this.lngs = new double[items.length];
+            this.lowerNames = new String[items.length];
+            for (int i = 0; i < items.length; i++) {
+                lats[i] = items[i].getLatitude();
+                lngs[i] = items[i].getLongitude();
+                cellKeys[i] = cellKey(lats[i], lngs[i]);
+                lowerNames[i] = items[i].getName() != null ? items[i].getName().toLowerCase(Locale.ROOT) : "";
+            }
+            this.levels = new ClusterLevel[MAX_CLUSTER_ZOOM - MIN_CLUSTER_ZOOM + 1];
+            for (int zoom = MIN_CLUSTER_ZOOM; zoom <= MAX_CLUSTER_ZOOM; zoom++) {
+                levels[zoom - MIN_CLUSTER_ZOOM] = ClusterLevel.of(zoom, this);
+            }
+        }
+
+        static Snapshot of(Collection<LocationService> services) {
+            LocationService[] items = services.stream()
+                    .filter(service -> !Boolean.TRUE.equals(service.getIsDeleted()))
+                    .filter(service -> service.getLatitude() != null && service.getLongitude() != null)
+                    .sorted(Comparator.comparingLong(
+                            (LocationService service) -> cellKey(service.getLatitude(), service.getLongitude())))
+                    .toArray(LocationService[]::new);
+            return new Snapshot(items);
+        }
+    }
+
+    /**
+     * 확대 수준 하나의 격자 셀별 집계 (셀 키 오름차순)
+     */
+    private static final class ClusterLevel {
+        final double cellSize;
+        final long columns;
+        final long[] keys;
+        final long[] counts;
+        final double[] lats;
+        final double[] lngs;
+        final String[] categories;
+
+        private ClusterLevel(double cellSize, Map<Long, CellStats> cells) {
+            this.cellSize = cellSize;
+            this.columns = Math.round(360 / cellSize);
+            this.keys = cells.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            this.counts = new long[keys.length];
+            this.lats = new double[keys.length];
+            this.lngs = new double[keys.length];
+            this.categories = new String[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                CellStats stats = cells.get(keys[i]);
+                counts[i] = stats.count;
+                lats[i] = stats.latSum / stats.count;
+                lngs[i] = stats.lngSum / stats.count;
+                categories[i] = stats.dominantCategory();
+            }
+        }
+
+        static ClusterLevel of(int zoom, Snapshot snapshot) {
+            double cellSize = clusterCellSize(zoom);
+            long columns = Math.round(360 / cellSize);
+            Map<Long, CellStats> cells = new HashMap<>();
+            for (int i = 0; i < snapshot.items.length; i++) {
+                long key = (long) Math.floor((snapshot.lats[i] + 90) / cellSize) * columns
+                        + (long) Math.floor((snapshot.lngs[i] + 180) / cellSize);
+                cells.computeIfAbsent(key, k -> new CellStats())
+                        .add(snapshot.lats[i], snapshot.lngs[i], primaryCategory(snapshot.items[i]));
+            }
+            return new ClusterLevel(cellSize, cells);
+        }
+
+        long row(double latitude) {
+            return (long) Math.floor((latitude + 90) / cellSize);
+        }
+
+        long column(double longitude) {
+            return (long) Math.floor((longitude + 180) / cellSize);
+        }
+    }
+
+    private static final class CellStats {
+        long count;
+        double latSum;
+        double lngSum;
+        final Map<String, Integer> categoryCounts = new HashMap<>();
+
+        void add(double latitude, double longitude, String category) {
+            count++;
+            latSum += latitude;
+            lngSum += longitude;
+            if (category != null) {
+                categoryCounts.merge(category, 1, Integer::sum);
+            }
+        }
+
+        /** 가장 많은 카테고리 (같으면 이름순 앞) */
+        String dominantCategory() {
+            return categoryCounts.entrySet().stream()
+                    .min(Map.Entry.<String, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+    }
+}
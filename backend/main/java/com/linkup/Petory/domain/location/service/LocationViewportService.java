@@ -0,0 +1,114 @@
+package com.linkup.Petory.domain.location.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.linkup.Petory.domain.location.converter.LocationServiceConverter;
+import com.linkup.Petory.domain.location.dto.LocationClusterDTO;
+import com.linkup.Petory.domain.location.dto.LocationViewportResponse;
+import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지도 뷰포트 조회 — 확대 수준에 맞는 격자 클러스터, 충분히 확대했을 때만 개별 시설.
+ *
+ * <p>
+ * 응답 크기는 뷰포트에 걸친 격자 셀 수({@value #MAX_VIEWPORT_CELLS}개 이하가 되도록 확대 수준을 낮춤)
+ * 또는 개별 시설 {@value #MAX_POINTS}건으로 제한되어, 뷰포트 안 시설 수와 무관하다.
+ * 클러스터는 {@link LocationSpatialIndex}가 미리 집계해 둔 값을 쓰고, 인덱스 적재 전에는 SQL 집계로 대체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationViewportService {
+
+    /** 이 확대 수준 이상이면 개별 시설 반환 (격자 셀 한 변 약 150m) */
+    static final int POINT_ZOOM = 16;
+    static final int MAX_ZOOM = 21;
+    /** 개별 시설 응답 최대 건수 (초과 시 클러스터로 응답) */
+    static final int MAX_POINTS = 300;
+    /** 한 번에 조회하는 격자 셀 최대 수 */
+    static final int MAX_VIEWPORT_CELLS = 2_500;
+
+    private final LocationSpatialIndex spatialIndex;
+    private final LocationServiceRepository locationServiceRepository;
+    private final LocationServiceConverter locationServiceConverter;
+
+    public LocationViewportResponse getViewport(
+            double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        validateBounds(minLat, minLng, maxLat, maxLng);
+        long t0 = System.currentTimeMillis();
+
+        int requestedZoom = Math.max(LocationSpatialIndex.MIN_CLUSTER_ZOOM, Math.min(zoom, MAX_ZOOM));
+        int level = Math.min(requestedZoom, LocationSpatialIndex.MAX_CLUSTER_ZOOM);
+        while (level > LocationSpatialIndex.MIN_CLUSTER_ZOOM
+                && cellCount(level, minLat, minLng, maxLat, maxLng) > MAX_VIEWPORT_CELLS) {
+            level--;
+        }
+
+        if (requestedZoom >= POINT_ZOOM && level == LocationSpatialIndex.MAX_CLUSTER_ZOOM) {
+            List<LocationService> services = spatialIndex.findInBounds(minLat, minLng, maxLat, maxLng, MAX_POINTS + 1)
+                    .orElseGet(() -> locationServiceRepository
+                            .findInBounds(minLat, minLng, maxLat, maxLng, MAX_POINTS + 1));
+            if (services.size() <= MAX_POINTS) {
+                log.info("[뷰포트] zoom={} → 시설 {}건 ({}ms)",
+                        requestedZoom, services.size(), System.currentTimeMillis() - t0);
+                return LocationViewportResponse.builder()
+                        .zoom(requestedZoom)
+                        .totalCount(services.size())
+                        .clusters(List.of())
+                        .services(services.stream().map(locationServiceConverter::toDTO).toList())
+                        .build();
+            }
+        }
+
+        int clusterZoom = level;
+        List<LocationClusterDTO> clusters = spatialIndex.findClusters(clusterZoom, minLat, minLng, maxLat, maxLng)
+                .orElseGet(() -> countClusters(clusterZoom, minLat, minLng, maxLat, maxLng));
+        long totalCount = clusters.stream().mapToLong(LocationClusterDTO::getCount).sum();
+
+        log.info("[뷰포트] zoom={} (격자 {}) → 클러스터 {}개, 시설 {}건 ({}ms)",
+                requestedZoom, clusterZoom, clusters.size(), totalCount, System.currentTimeMillis() - t0);
+        return LocationViewportResponse.builder()
+                .zoom(clusterZoom)
+                .cellSize(LocationSpatialIndex.clusterCellSize(clusterZoom))
+                .totalCount(totalCount)
+                .clusters(clusters)
+                .services(List.of())
+                .build();
+    }
+
+    /** SQL 격자 집계 (대표 카테고리 없음) */
+    private List<LocationClusterDTO> countClusters(int zoom,
+            double minLat, double minLng, double maxLat, double maxLng) {
+        return locationServiceRepository.countClustersInBounds(minLat, minLng, maxLat, maxLng,
+                LocationSpatialIndex.clusterCellSize(zoom)).stream()
+                .map(row -> LocationClusterDTO.builder()
+                        .count(((Number) row[0]).longValue())
+                        .latitude(((Number) row[1]).doubleValue())
+                        .longitude(((Number) row[2]).doubleValue())
+                        .build())
+                .toList();
+    }
+
+    /** 뷰포트에 걸친 격자 셀 수 */
+    static long cellCount(int zoom, double minLat, double minLng, double maxLat, double maxLng) {
+        double cellSize = LocationSpatialIndex.clusterCellSize(zoom);
+        long rows = (long) Math.floor((maxLat + 90) / cellSize) - (long) Math.floor((minLat + 90) / cellSize) + 1;
+        long columns = (long) Math.floor((maxLng + 180) / cellSize) - (long) Math.floor((minLng + 180) / cellSize) + 1;
+        return rows * columns;
+    }
+
+    private static void validateBounds(double minLat, double minLng, double maxLat, double maxLng) {
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180) {
+            throw new IllegalArgumentException("뷰포트 좌표 범위가 올바르지 않습니다.");
+        }
+        if (minLat >= maxLat || minLng >= maxLng) {
+            throw new IllegalArgumentException("뷰포트의 최솟값은 최댓값보다 작아야 합니다.");
+        }
+    }
+}
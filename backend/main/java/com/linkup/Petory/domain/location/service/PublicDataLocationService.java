@@ -6,6 +6,7 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -13,23 +14,39 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.linkup.Petory.domain.location.dto.PublicDataLocationDTO;
 import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.event.LocationServiceChangedEvent;
 import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 공공데이터 CSV 파일을 읽어서 LocationService 엔티티로 변환하여 배치 저장하는 서비스
+ *
+ * <p>
+ * 중복 판정 키는 시작 시 DB에서 스트리밍 쿼리 한 번으로 적재하고, 파싱은 작업 스레드 풀에서,
+ * 저장은 별도 저장 스레드에서 다중 행 INSERT로 수행한다. 단계별 소요 시간·처리량을 결과와 로그로 남기며,
+ * 배치 커밋마다 기록한 마지막 저장 라인부터 재개할 수 있다.
  */
 @Slf4j
 @Service
@@ -38,262 +55,310 @@ public class PublicDataLocationService {
 
     private final LocationServiceRepository locationServiceRepository;
     private final LocationServiceBatchWriter batchWriter;
-
-    @PersistenceContext
-    private EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.location.import.batch-size:1000}")
     private int batchSize;
+    @Value("${app.location.import.parse-threads:4}")
+    private int parseThreads;
+    /** 읽기와 저장 사이에 쌓아 둘 수 있는 파싱 묶음 수 (메모리 상한) */
+    @Value("${app.location.import.queue-capacity:16}")
+    private int queueCapacity;
+
+    /** 작업 스레드 하나가 한 번에 파싱하는 라인 수 */
+    private static final int CHUNK_LINES = 500;
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /**
-     * 업로드된 CSV 파일을 받아서 데이터를 파싱하고 배치로 저장 각 배치는 별도 트랜잭션으로 처리되므로 메인 메서드는 트랜잭션 불필요
+     * 업로드된 CSV 파일 임포트 (처음부터)
      *
      * @param file 업로드된 CSV 파일
      * @return 저장 결과 통계
      */
     public BatchImportResult importFromCsv(MultipartFile file) {
-        log.info("공공데이터 CSV 파일 업로드 임포트 시작: {} ({} bytes)",
-                file.getOriginalFilename(), file.getSize());
-
-        int totalRead = 0;
-        int saved = 0;
-        int skipped = 0;
-        int duplicate = 0;
-        int error = 0;
+        return importFromCsv(file, 0);
+    }
 
-        Set<String> deduplicationKeys = new HashSet<>();
-        List<LocationService> batch = new ArrayList<>();
+    /**
+     * 업로드된 CSV 파일을 받아서 데이터를 파싱하고 배치로 저장. 중단된 임포트는 이전 결과·로그의
+     * 마지막 저장 라인을 startLine으로 넘겨 이어서 진행한다.
+     *
+     * @param file      업로드된 CSV 파일
+     * @param startLine 건너뛸 데이터 라인 수 (헤더 제외, 0이면 처음부터)
+     * @return 저장 결과 통계
+     */
+    public BatchImportResult importFromCsv(MultipartFile file, int startLine) {
+        log.info("공공데이터 CSV 파일 업로드 임포트 시작: {} ({} bytes, 시작 라인: {})",
+                file.getOriginalFilename(), file.getSize(), startLine);
 
         try (BufferedReader reader = new BufferedReader(
                 new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
-            // 헤더 라인 읽기
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                log.warn("CSV 파일이 비어있습니다.");
-                return BatchImportResult.empty();
-            }
+            return importLines(reader, startLine, null);
+        } catch (IOException e) {
+            log.error("CSV 파일 읽기 실패: {}", file.getOriginalFilename(), e);
+            throw new RuntimeException("CSV 파일 읽기 실패: " + e.getMessage(), e);
+        }
+    }
 
-            String line;
-            while ((line = reader.readLine()) != null) {
-                totalRead++;
-
-                try {
-                    PublicDataLocationDTO dto = parseCsvLine(line);
-                    if (dto == null || !isValid(dto)) {
-                        skipped++;
-                        continue;
-                    }
-
-                    // 중복 체크
-                    String dedupKey = buildDedupKey(dto);
-                    if (deduplicationKeys.contains(dedupKey)) {
-                        duplicate++;
-                        continue;
-                    }
-
-                    // DB 중복 체크
-                    if (isDuplicateInDb(dto)) {
-                        duplicate++;
-                        continue;
-                    }
-
-                    // 엔티티 변환 (예외 발생 시 스킵 및 세션 정리)
-                    LocationService entity;
-                    try {
-                        entity = convertToEntity(dto);
-                        if (entity == null) {
-                            skipped++;
-                            continue;
-                        }
-                        // 엔티티 유효성 검증 (idx는 null이어야 함 - 새 엔티티)
-                        if (entity.getIdx() != null) {
-                            log.warn("라인 {} 엔티티에 이미 ID가 설정됨: {}", totalRead, entity.getIdx());
-                            skipped++;
-                            continue;
-                        }
-                    } catch (Exception e) {
-                        error++;
-                        log.warn("라인 {} 엔티티 변환 실패: {}", totalRead, e.getMessage());
-                        // 세션 정리 (오염 방지)
-                        entityManager.clear();
-                        continue;
-                    }
-
-                    batch.add(entity);
-                    deduplicationKeys.add(dedupKey);
-
-                    // 배치 사이즈에 도달하면 저장
-                    if (batch.size() >= batchSize) {
-                        int batchSaved = batchWriter.saveBatch(batch);
-                        saved += batchSaved;
-                        if (batchSaved < batch.size()) {
-                            error += (batch.size() - batchSaved);
-                        }
-                        log.info("배치 저장 완료: {}개 (총 저장: {}개)", batchSaved, saved);
-                        batch.clear();
-                        // 세션 정리 (메모리 관리 및 오염 방지)
-                        entityManager.clear();
-                    }
-
-                } catch (Exception e) {
-                    error++;
-                    log.warn("라인 {} 파싱 실패: {}", totalRead, e.getMessage());
-                    // 예외 발생 시 세션 정리
-                    entityManager.clear();
-                }
-            }
+    /**
+     * CSV 파일 경로 임포트 (체크포인트가 있으면 이어서)
+     *
+     * @param csvFilePath CSV 파일 경로
+     * @return 저장 결과 통계
+     */
+    public BatchImportResult importFromCsv(String csvFilePath) {
+        return importFromCsv(csvFilePath, null);
+    }
 
-            // 남은 배치 저장
-            if (!batch.isEmpty()) {
-                int batchSaved = batchWriter.saveBatch(batch);
-                saved += batchSaved;
-                if (batchSaved < batch.size()) {
-                    error += (batch.size() - batchSaved);
-                }
-                log.info("최종 배치 저장 완료: {}개 (총 저장: {}개)", batchSaved, saved);
-                entityManager.clear();
-            }
+    /**
+     * CSV 파일 경로를 받아서 데이터를 파싱하고 배치로 저장. 배치를 커밋할 때마다 마지막 저장 라인을
+     * "{csvFilePath}.checkpoint"에 기록하고, 정상 종료 시 삭제한다.
+     *
+     * @param csvFilePath CSV 파일 경로
+     * @param startLine   건너뛸 데이터 라인 수, null이면 체크포인트 파일의 라인부터 재개 (없으면 처음부터)
+     * @return 저장 결과 통계
+     */
+    public BatchImportResult importFromCsv(String csvFilePath, Integer startLine) {
+        Path checkpoint = Path.of(csvFilePath + CHECKPOINT_SUFFIX);
+        int from = startLine != null ? startLine : readCheckpoint(checkpoint);
+        log.info("공공데이터 CSV 파일 임포트 시작: {} (시작 라인: {})", csvFilePath, from);
 
+        try (BufferedReader reader = Files.newBufferedReader(Path.of(csvFilePath))) {
+            BatchImportResult result = importLines(reader, from, checkpoint);
+            Files.deleteIfExists(checkpoint);
+            return result;
         } catch (IOException e) {
-            log.error("CSV 파일 읽기 실패: {}", file.getOriginalFilename(), e);
+            log.error("CSV 파일 읽기 실패: {}", csvFilePath, e);
             throw new RuntimeException("CSV 파일 읽기 실패: " + e.getMessage(), e);
         }
+    }
+
+    /**
+     * 임포트 파이프라인: 읽기(호출 스레드) → 파싱·변환(작업 스레드 풀) → 중복 판정·저장(저장 스레드).
+     * 파싱 결과는 제출 순서대로 크기 제한 큐에 쌓여, 저장이 밀리면 읽기도 멈춘다(메모리 상한).
+     * 저장 스레드는 라인 순서대로 처리하므로 체크포인트 이전 라인은 모두 저장되었거나 걸러진 것이다.
+     */
+    private BatchImportResult importLines(BufferedReader reader, int startLine, Path checkpoint) throws IOException {
+        long started = System.nanoTime();
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            log.warn("CSV 파일이 비어있습니다.");
+            return BatchImportResult.empty();
+        }
+
+        Set<String> dedupKeys = loadDedupKeys();
+        ImportStats stats = new ImportStats(startLine);
+        BlockingQueue<Future<ParsedChunk>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        ThreadPoolExecutor parsers = new ThreadPoolExecutor(parseThreads, parseThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreads("location-import-parse-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        ExecutorService writerThread = Executors.newSingleThreadExecutor(daemonThreads("location-import-write-"));
+
+        try {
+            Future<?> writer = writerThread.submit(() -> {
+                writeChunks(parsed, dedupKeys, checkpoint, stats);
+                return null;
+            });
+
+            int lineNumber = 0;
+            int chunkFirstLine = 0;
+            List<String> chunk = new ArrayList<>(CHUNK_LINES);
+            while (true) {
+                long readStarted = System.nanoTime();
+                String line = reader.readLine();
+                stats.readNanos += System.nanoTime() - readStarted;
+                if (line == null) {
+                    break;
+                }
+                lineNumber++;
+                if (lineNumber <= startLine) {
+                    continue;
+                }
+                if (chunk.isEmpty()) {
+                    chunkFirstLine = lineNumber;
+                }
+                chunk.add(line);
+                if (chunk.size() == CHUNK_LINES) {
+                    enqueue(parsed, submitParse(parsers, chunkFirstLine, chunk), writer);
+                    chunk = new ArrayList<>(CHUNK_LINES);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                enqueue(parsed, submitParse(parsers, chunkFirstLine, chunk), writer);
+            }
+            stats.totalRead = Math.max(0, lineNumber - startLine);
+            enqueue(parsed, CompletableFuture.completedFuture(ParsedChunk.END), writer);
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("CSV 임포트 중단 - 마지막 저장 라인: " + stats.lastCommittedLine, e);
+        } catch (ExecutionException e) {
+            log.error("CSV 임포트 실패 - 마지막 저장 라인 {}부터 재개 가능", stats.lastCommittedLine, e.getCause());
+            throw new RuntimeException("CSV 임포트 실패 (마지막 저장 라인: " + stats.lastCommittedLine + "): "
+                    + e.getCause().getMessage(), e.getCause());
+        } finally {
+            parsers.shutdownNow();
+            writerThread.shutdownNow();
+        }
 
+        long elapsedNanos = System.nanoTime() - started;
         log.info("공공데이터 임포트 완료 - 총 읽음: {}, 저장: {}, 중복: {}, 스킵: {}, 에러: {}",
-                totalRead, saved, duplicate, skipped, error);
+                stats.totalRead, stats.saved, stats.duplicate, stats.skipped, stats.error);
+        log.info("단계별 처리량 - 읽기: {}줄/s, 파싱: {}줄/s (작업 스레드 {}개 합산 시간 기준), 저장: {}건/s, 전체: {}ms",
+                perSecond(stats.totalRead, stats.readNanos), perSecond(stats.totalRead, stats.parseNanos),
+                parseThreads, perSecond(stats.saved, stats.writeNanos), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        if (stats.saved > 0) {
+            eventPublisher.publishEvent(LocationServiceChangedEvent.all());
+        }
 
         return BatchImportResult.builder()
-                .totalRead(totalRead)
-                .saved(saved)
-                .duplicate(duplicate)
-                .skipped(skipped)
-                .error(error)
+                .totalRead(stats.totalRead)
+                .saved(stats.saved)
+                .duplicate(stats.duplicate)
+                .skipped(stats.skipped)
+                .error(stats.error)
+                .startLine(startLine)
+                .lastCommittedLine(stats.lastCommittedLine)
+                .readMillis(TimeUnit.NANOSECONDS.toMillis(stats.readNanos))
+                .parseMillis(TimeUnit.NANOSECONDS.toMillis(stats.parseNanos))
+                .writeMillis(TimeUnit.NANOSECONDS.toMillis(stats.writeNanos))
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
                 .build();
     }
 
     /**
-     * CSV 파일 경로를 받아서 데이터를 파싱하고 배치로 저장 각 배치는 별도 트랜잭션으로 처리되므로 메인 메서드는 트랜잭션 불필요
-     *
-     * @param csvFilePath CSV 파일 경로
-     * @return 저장 결과 통계
+     * DB의 (이름, 주소) 키를 한 번에 적재 (라인마다 존재 여부를 조회하지 않음)
      */
-    public BatchImportResult importFromCsv(String csvFilePath) {
-        log.info("공공데이터 CSV 파일 임포트 시작: {}", csvFilePath);
-
-        int totalRead = 0;
-        int saved = 0;
-        int skipped = 0;
-        int duplicate = 0;
-        int error = 0;
+    private Set<String> loadDedupKeys() {
+        long started = System.currentTimeMillis();
+        Set<String> keys = new HashSet<>();
+        locationServiceRepository.forEachNameAndAddress((name, address) -> keys.add(dedupKey(name, address)));
+        log.info("중복 판정 키 적재: {}건 ({}ms)", keys.size(), System.currentTimeMillis() - started);
+        return keys;
+    }
 
-        Set<String> deduplicationKeys = new HashSet<>();
-        List<LocationService> batch = new ArrayList<>();
+    private Future<ParsedChunk> submitParse(ThreadPoolExecutor parsers, int firstLine, List<String> lines) {
+        return parsers.submit(() -> parseChunk(firstLine, lines));
+    }
 
-        try (BufferedReader reader = Files.newBufferedReader(Path.of(csvFilePath))) {
-            // 헤더 라인 읽기
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                log.warn("CSV 파일이 비어있습니다.");
-                return BatchImportResult.empty();
+    /** 저장 스레드가 멈췄으면(실패) 기다리지 않고 그 예외를 던진다 */
+    private static void enqueue(BlockingQueue<Future<ParsedChunk>> parsed, Future<ParsedChunk> chunk, Future<?> writer)
+            throws InterruptedException, ExecutionException {
+        while (!parsed.offer(chunk, 1, TimeUnit.SECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("CSV 임포트 저장 스레드가 종료되었습니다.");
             }
+        }
+    }
 
-            String line;
-            while ((line = reader.readLine()) != null) {
-                totalRead++;
-
-                try {
-                    PublicDataLocationDTO dto = parseCsvLine(line);
-                    if (dto == null || !isValid(dto)) {
-                        skipped++;
-                        continue;
-                    }
-
-                    // 중복 체크
-                    String dedupKey = buildDedupKey(dto);
-                    if (deduplicationKeys.contains(dedupKey)) {
-                        duplicate++;
-                        continue;
-                    }
-
-                    // DB 중복 체크
-                    if (isDuplicateInDb(dto)) {
-                        duplicate++;
-                        continue;
-                    }
-
-                    // 엔티티 변환 (예외 발생 시 스킵 및 세션 정리)
-                    LocationService entity;
-                    try {
-                        entity = convertToEntity(dto);
-                        if (entity == null) {
-                            skipped++;
-                            continue;
-                        }
-                        // 엔티티 유효성 검증 (idx는 null이어야 함 - 새 엔티티)
-                        if (entity.getIdx() != null) {
-                            log.warn("라인 {} 엔티티에 이미 ID가 설정됨: {}", totalRead, entity.getIdx());
-                            skipped++;
-                            continue;
-                        }
-                    } catch (Exception e) {
-                        error++;
-                        log.warn("라인 {} 엔티티 변환 실패: {}", totalRead, e.getMessage());
-                        // 세션 정리 (오염 방지)
-                        entityManager.clear();
-                        continue;
-                    }
-
-                    batch.add(entity);
-                    deduplicationKeys.add(dedupKey);
-
-                    // 배치 사이즈에 도달하면 저장
-                    if (batch.size() >= batchSize) {
-                        int batchSaved = batchWriter.saveBatch(batch);
-                        saved += batchSaved;
-                        if (batchSaved < batch.size()) {
-                            error += (batch.size() - batchSaved);
-                        }
-                        log.info("배치 저장 완료: {}개 (총 저장: {}개)", batchSaved, saved);
-                        batch.clear();
-                        // 세션 정리 (메모리 관리 및 오염 방지)
-                        entityManager.clear();
-                    }
-
-                } catch (Exception e) {
-                    error++;
-                    log.warn("라인 {} 파싱 실패: {}", totalRead, e.getMessage());
-                    // 예외 발생 시 세션 정리
-                    entityManager.clear();
+    /**
+     * 작업 스레드: 라인 묶음 파싱·검증·엔티티 변환
+     */
+    private ParsedChunk parseChunk(int firstLine, List<String> lines) {
+        long started = System.nanoTime();
+        List<ParsedRow> rows = new ArrayList<>(lines.size());
+        int skipped = 0;
+        int error = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                PublicDataLocationDTO dto = parseCsvLine(lines.get(i));
+                if (dto == null || !isValid(dto)) {
+                    skipped++;
+                    continue;
                 }
+                rows.add(new ParsedRow(buildDedupKey(dto), convertToEntity(dto)));
+            } catch (RuntimeException e) {
+                error++;
+                log.warn("라인 {} 파싱 실패: {}", firstLine + i, e.getMessage());
             }
+        }
+        return new ParsedChunk(firstLine + lines.size() - 1, rows, skipped, error, System.nanoTime() - started);
+    }
 
-            // 남은 배치 저장
-            if (!batch.isEmpty()) {
-                int batchSaved = batchWriter.saveBatch(batch);
-                saved += batchSaved;
-                if (batchSaved < batch.size()) {
-                    error += (batch.size() - batchSaved);
+    /**
+     * 저장 스레드: 라인 순서대로 중복을 거르고 batchSize건마다 저장한 뒤 체크포인트 기록
+     */
+    private void writeChunks(BlockingQueue<Future<ParsedChunk>> parsed, Set<String> dedupKeys, Path checkpoint,
+            ImportStats stats) throws InterruptedException, ExecutionException {
+        List<LocationService> batch = new ArrayList<>(batchSize);
+        int lastLine = stats.lastCommittedLine;
+        while (true) {
+            ParsedChunk chunk = parsed.take().get();
+            if (chunk == ParsedChunk.END) {
+                break;
+            }
+            stats.skipped += chunk.skipped();
+            stats.error += chunk.error();
+            stats.parseNanos += chunk.parseNanos();
+            for (ParsedRow row : chunk.rows()) {
+                if (dedupKeys.add(row.dedupKey())) {
+                    batch.add(row.entity());
+                } else {
+                    stats.duplicate++;
                 }
-                log.info("최종 배치 저장 완료: {}개 (총 저장: {}개)", batchSaved, saved);
-                entityManager.clear();
             }
+            lastLine = chunk.lastLine();
+            if (batch.size() >= batchSize) {
+                flush(batch, lastLine, checkpoint, stats);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch, lastLine, checkpoint, stats);
+        }
+        stats.lastCommittedLine = lastLine;
+    }
+
+    private void flush(List<LocationService> batch, int lastLine, Path checkpoint, ImportStats stats) {
+        long started = System.nanoTime();
+        int batchSaved = batchWriter.saveBatch(batch);
+        stats.writeNanos += System.nanoTime() - started;
+        stats.saved += batchSaved;
+        stats.error += batch.size() - batchSaved;
+        stats.lastCommittedLine = lastLine;
+        writeCheckpoint(checkpoint, lastLine);
+        log.info("배치 저장 완료: {}개 (총 저장: {}개, 마지막 저장 라인: {})", batchSaved, stats.saved, lastLine);
+    }
+
+    private static int readCheckpoint(Path checkpoint) {
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(Files.readString(checkpoint).trim());
+        } catch (IOException | NumberFormatException e) {
+            log.warn("임포트 체크포인트 읽기 실패 - 처음부터 임포트: {}", e.getMessage());
+            return 0;
+        }
+    }
 
+    /** 임시 파일에 쓴 뒤 교체하여, 기록 도중 중단돼도 이전 체크포인트가 남는다 */
+    private static void writeCheckpoint(Path checkpoint, int lastLine) {
+        if (checkpoint == null) {
+            return;
+        }
+        try {
+            Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            Files.writeString(temp, Integer.toString(lastLine));
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
-            log.error("CSV 파일 읽기 실패: {}", csvFilePath, e);
-            throw new RuntimeException("CSV 파일 읽기 실패: " + e.getMessage(), e);
+            log.warn("임포트 체크포인트 기록 실패 (재개 시 처음부터 진행, 중복은 걸러짐): {}", e.getMessage());
         }
+    }
 
-        log.info("공공데이터 임포트 완료 - 총 읽음: {}, 저장: {}, 중복: {}, 스킵: {}, 에러: {}",
-                totalRead, saved, duplicate, skipped, error);
+    private static long perSecond(long count, long nanos) {
+        return nanos > 0 ? count * 1_000_000_000L / nanos : 0;
+    }
 
-        return BatchImportResult.builder()
-                .totalRead(totalRead)
-                .saved(saved)
-                .duplicate(duplicate)
-                .skipped(skipped)
-                .error(error)
-                .build();
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
     /**
@@ -353,16 +418,19 @@ public class PublicDataLocationService {
     }
 
     /**
-     * CSV 필드를 파싱 (쉼표로 구분, 따옴표 처리)
+     * CSV 필드를 파싱 (쉼표로 구분, 따옴표 처리 - 따옴표 안의 "" 는 따옴표 문자)
      */
     private List<String> parseCsvFields(String line) {
-        List<String> fields = new ArrayList<>();
+        List<String> fields = new ArrayList<>(32);
         StringBuilder current = new StringBuilder();
         boolean inQuotes = false;
 
         for (int i = 0; i < line.length(); i++) {
             char c = line.charAt(i);
-            if (c == '"') {
+            if (c == '"' && inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                current.append('"');
+                i++;
+            } else if (c == '"') {
                 inQuotes = !inQuotes;
             } else if (c == ',' && !inQuotes) {
                 fields.add(current.toString().trim());
@@ -399,23 +467,13 @@ public class PublicDataLocationService {
      * 중복 체크용 키 생성
      */
     private String buildDedupKey(PublicDataLocationDTO dto) {
-        String name = dto.getFacilityName() != null ? dto.getFacilityName() : "";
-        String address = dto.getRoadAddress() != null ? dto.getRoadAddress()
-                : (dto.getJibunAddress() != null ? dto.getJibunAddress() : "");
-        return name + "|" + address;
+        // 도로명주소 우선, 없으면 지번주소 (엔티티 address와 같은 규칙 → DB 키와 비교 가능)
+        String address = StringUtils.hasText(dto.getRoadAddress()) ? dto.getRoadAddress() : dto.getJibunAddress();
+        return dedupKey(dto.getFacilityName(), address);
     }
 
-    /**
-     * DB에 이미 존재하는지 확인
-     */
-    private boolean isDuplicateInDb(PublicDataLocationDTO dto) {
-        // 도로명주소 우선, 없으면 지번주소로 중복 체크
-        String address = StringUtils.hasText(dto.getRoadAddress()) ? dto.getRoadAddress() : dto.getJibunAddress();
-        if (StringUtils.hasText(address)) {
-            return locationServiceRepository.existsByNameAndAddress(
-                    dto.getFacilityName(), address);
-        }
-        return false;
+    private static String dedupKey(String name, String address) {
+        return (name != null ? name : "") + "|" + (address != null ? address : "");
     }
 
     /**
@@ -454,7 +512,7 @@ public class PublicDataLocationService {
         // 2단계: 엔티티 생성 (모든 검증/파싱 완료 후)
         // ============================================
         // 이 시점에서 예외가 발생해도 영속성 컨텍스트에 들어가지 않음
-        return LocationService.builder()
+        LocationService entity = LocationService.builder()
                 .name(dto.getFacilityName())
                 // category 필드 제거됨
                 .category1(dto.getCategory1())
@@ -486,6 +544,8 @@ public class PublicDataLocationService {
                 .lastUpdated(lastUpdated)
                 .dataSource("PUBLIC")
                 .build();
+        entity.recalculateScore(); // 다중 행 INSERT는 엔티티 값을 그대로 쓰므로 점수도 미리 계산
+        return entity;
     }
 
     private Double parseDouble(String value) {
@@ -549,6 +609,34 @@ public class PublicDataLocationService {
         return desc;
     }
 
+    /** 저장 스레드로 넘기는 파싱 묶음 (lastLine: 묶음의 마지막 데이터 라인 번호) */
+    private record ParsedChunk(int lastLine, List<ParsedRow> rows, int skipped, int error, long parseNanos) {
+        static final ParsedChunk END = new ParsedChunk(-1, List.of(), 0, 0, 0);
+    }
+
+    private record ParsedRow(String dedupKey, LocationService entity) {
+    }
+
+    /**
+     * 임포트 집계. readNanos·totalRead는 읽기 스레드만, 나머지는 저장 스레드만 갱신하고
+     * 저장 스레드 종료(Future.get) 이후에 함께 읽는다.
+     */
+    private static final class ImportStats {
+        int totalRead;
+        int saved;
+        int duplicate;
+        int skipped;
+        int error;
+        volatile int lastCommittedLine;
+        long readNanos;
+        long parseNanos;
+        long writeNanos;
+
+        ImportStats(int startLine) {
+            this.lastCommittedLine = startLine;
+        }
+    }
+
     /**
      * 배치 임포트 결과
      */
@@ -561,6 +649,12 @@ public class PublicDataLocationService {
         private int duplicate;
         private int skipped;
         private int error;
+        private int startLine; // 건너뛴 데이터 라인 수 (재개 시작점)
+        private int lastCommittedLine; // 저장이 끝난 마지막 데이터 라인 (중단 시 재개 지점)
+        private long readMillis; // 단계별 소요 시간 (파싱은 작업 스레드 합산)
+        private long parseMillis;
+        private long writeMillis;
+        private long elapsedMillis;
 
         public static BatchImportResult empty() {
             return BatchImportResult.builder()
@@ -0,0 +1,17 @@
+package com.linkup.Petory.domain.meetup.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 일시 변경 이벤트 (생성·일시 수정·삭제).
+ * 커밋 후 MeetupStatusTimer가 종료 전이 마감을 다시 등록하거나 취소한다.
+ */
+public record MeetupScheduleChangedEvent(
+        Long meetupIdx,
+        LocalDateTime date  // 새 모임 일시, 삭제면 null
+) {
+
+    public static MeetupScheduleChangedEvent removed(Long meetupIdx) {
+        return new MeetupScheduleChangedEvent(meetupIdx, null);
+    }
+}
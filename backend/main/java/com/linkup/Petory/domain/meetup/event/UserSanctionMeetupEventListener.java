@@ -7,6 +7,7 @@ import com.linkup.Petory.domain.meetup.entity.MeetupParticipantsId;
 import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
 import com.linkup.Petory.domain.meetup.repository.MeetupParticipantsRepository;
 import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+import com.linkup.Petory.domain.meetup.service.MeetupNearbyCache;
 import com.linkup.Petory.domain.user.event.UserSanctionAppliedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,7 @@ public class UserSanctionMeetupEventListener {
     private final MeetupRepository meetupRepository;
     private final MeetupParticipantsRepository participantsRepository;
     private final ConversationService conversationService;
+    private final MeetupNearbyCache nearbyCache;
 
     /**
      * 제재(SUSPENDED/BANNED 모두) 시 Meetup 후속 처리:
@@ -52,6 +54,7 @@ public class UserSanctionMeetupEventListener {
             log.info("제재 사용자 RECRUITING 모임 취소: meetupId={}, organizerId={}", meetup.getIdx(), userId);
         }
         if (!recruitingMeetups.isEmpty()) {
+            nearbyCache.invalidateAfterCommit();
             log.info("제재 주최자 모임 취소 완료: userId={}, 취소건수={}", userId, recruitingMeetups.size());
         }
     }
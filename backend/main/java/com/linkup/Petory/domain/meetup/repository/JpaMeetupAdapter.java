@@ -57,6 +57,12 @@ public class JpaMeetupAdapter implements MeetupRepository {
         return jpaRepository.findNearbyMeetupIds(lat, lng, radius, currentDate, limit);
     }
 
+    @Override
+    public List<MeetupNearbyCandidate> findNearbyCandidates(Double lat, Double lng, Double radius,
+            LocalDateTime currentDate, int limit) {
+        return jpaRepository.findNearbyCandidates(lat, lng, radius, currentDate, limit);
+    }
+
     @Override
     public List<Meetup> findByIdxInWithOrganizer(Collection<Long> ids) {
         return jpaRepository.findByIdxInWithOrganizer(ids);
@@ -82,6 +88,16 @@ public class JpaMeetupAdapter implements MeetupRepository {
         return jpaRepository.decrementParticipantsIfPositive(meetupIdx);
     }
 
+    @Override
+    public int syncParticipantCounts(Collection<Long> meetupIdxs) {
+        return jpaRepository.syncParticipantCounts(meetupIdxs);
+    }
+
+    @Override
+    public int syncStaleRecruitingParticipantCounts(LocalDateTime now) {
+        return jpaRepository.syncStaleRecruitingParticipantCounts(now);
+    }
+
     @Override
     public List<Meetup> findAllNotDeleted() {
         return jpaRepository.findAllNotDeleted();
@@ -120,6 +136,22 @@ public class JpaMeetupAdapter implements MeetupRepository {
         return jpaRepository.completePastMeetups(now, MeetupStatus.COMPLETED, MeetupStatus.CANCELLED);
     }
 
+    @Override
+    public int closeFullRecruitingMeetupsIn(Collection<Long> meetupIdxs, LocalDateTime now) {
+        return jpaRepository.closeFullRecruitingMeetupsIn(meetupIdxs, now, MeetupStatus.RECRUITING,
+                MeetupStatus.CLOSED);
+    }
+
+    @Override
+    public int completeMeetupIfPast(Long meetupIdx, LocalDateTime now) {
+        return jpaRepository.completeMeetupIfPast(meetupIdx, now, MeetupStatus.COMPLETED, MeetupStatus.CANCELLED);
+    }
+
+    @Override
+    public List<Object[]> findUpcomingDeadlines(LocalDateTime from, LocalDateTime to) {
+        return jpaRepository.findUpcomingDeadlines(from, to, MeetupStatus.COMPLETED, MeetupStatus.CANCELLED);
+    }
+
     @Override
     public List<Meetup> findWithoutChatRoom() {
         return jpaRepository.findWithoutChatRoom();
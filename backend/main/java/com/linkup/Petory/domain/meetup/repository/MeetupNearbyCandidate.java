@@ -0,0 +1,19 @@
+package com.linkup.Petory.domain.meetup.repository;
+
+import java.time.LocalDateTime;
+
+import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
+
+/**
+ * 근처 모임 후보 프로젝션 (거리 필터·정렬에 필요한 컬럼만, 엔티티·주최자 로딩 없음).
+ *
+ * @param idx 모임 ID
+ * @param latitude 위도
+ * @param longitude 경도
+ * @param date 모임 일시
+ * @param status 모임 상태 (null 가능)
+ */
+public record MeetupNearbyCandidate(Long idx, Double latitude, Double longitude, LocalDateTime date,
+        MeetupStatus status) {
+
+}
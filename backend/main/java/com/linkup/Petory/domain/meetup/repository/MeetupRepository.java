@@ -52,6 +52,12 @@ public interface MeetupRepository {
      */
     List<Long> findNearbyMeetupIds(Double lat, Double lng, Double radius, LocalDateTime currentDate, int limit);
 
+    /**
+     * 반경 기반 근처 모임 후보 (ID·위치·일시·상태만, 거리·일시 정렬 후 상한 적용). 엔티티·주최자는 로딩하지 않는다.
+     */
+    List<MeetupNearbyCandidate> findNearbyCandidates(Double lat, Double lng, Double radius,
+            LocalDateTime currentDate, int limit);
+
     /**
      * ID 목록으로 모임 조회 (주최자 JOIN FETCH, 삭제 제외)
      */
@@ -79,6 +85,16 @@ public interface MeetupRepository {
      */
     int decrementParticipantsIfPositive(Long meetupIdx);
 
+    /**
+     * 참여자 수를 참여자 행 수(COUNT)로 재계산 — 좌석 예약 경로의 비동기 DB 반영용, 재실행해도 결과 동일
+     */
+    int syncParticipantCounts(Collection<Long> meetupIdxs);
+
+    /**
+     * 모집중·미래 모임 중 참여자 수가 참여자 행 수와 다른 모임만 재계산 — 반영 대상이 유실된 경우의 안전망
+     */
+    int syncStaleRecruitingParticipantCounts(LocalDateTime now);
+
     /**
      * 모든 모임 조회 (소프트 삭제 제외) - JOIN FETCH로 N+1 문제 해결
      */
@@ -114,6 +130,21 @@ public interface MeetupRepository {
      */
     int completePastMeetups(LocalDateTime now);
 
+    /**
+     * 정원이 찬 모집중 모임 → CLOSED (참여자 수를 반영한 모임만 대상, 단건 전이용)
+     */
+    int closeFullRecruitingMeetupsIn(Collection<Long> meetupIdxs, LocalDateTime now);
+
+    /**
+     * 일시가 지난 모임 한 건 → COMPLETED (타이머 휠 발화용, 이미 종료·취소·삭제면 0)
+     */
+    int completeMeetupIfPast(Long meetupIdx, LocalDateTime now);
+
+    /**
+     * (from, to] 구간에 일시가 있는 진행 중 모임의 [idx, date] — 타이머 휠 적재용
+     */
+    List<Object[]> findUpcomingDeadlines(LocalDateTime from, LocalDateTime to);
+
     /**
      * 채팅방이 없는 모임 조회 — 복구 스케줄러용
      */
@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.meetup.entity.Meetup;
 import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
@@ -102,6 +103,22 @@ public interface SpringDataJpaMeetupRepository extends JpaRepository<Meetup, Lon
             @Param("currentDate") LocalDateTime currentDate,
             @Param("limit") int limit);
 
+    @RepositoryMethod("모임: ID 목록으로 근처 후보 필드 조회 (프로젝션)")
+    @Query("SELECT new com.linkup.Petory.domain.meetup.repository.MeetupNearbyCandidate("
+            + "m.idx, m.latitude, m.longitude, m.date, m.status) FROM Meetup m WHERE m.idx IN :ids")
+    List<MeetupNearbyCandidate> findNearbyCandidatesByIdxIn(@Param("ids") Collection<Long> ids);
+
+    // 공간 인덱스로 ID·정렬·LIMIT 후 필터·정렬용 컬럼만 프로젝션 (findByKeyword와 같은 2단계 패턴)
+    @RepositoryMethod("모임: 반경 기반 근처 모임 후보 (ID 조회 + 프로젝션 2단계)")
+    default List<MeetupNearbyCandidate> findNearbyCandidates(Double lat, Double lng, Double radius,
+            LocalDateTime currentDate, int limit) {
+        List<Long> ids = findNearbyMeetupIds(lat, lng, radius, currentDate, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return findNearbyCandidatesByIdxIn(ids);
+    }
+
     @RepositoryMethod("모임: ID 목록으로 조회 (주최자 페치, N+1 방지)")
     @Query("SELECT m FROM Meetup m JOIN FETCH m.organizer WHERE m.idx IN :ids "
             + "AND (m.status IS NULL OR m.status <> com.linkup.Petory.domain.meetup.entity.MeetupStatus.CANCELLED) "
@@ -132,6 +149,27 @@ public interface SpringDataJpaMeetupRepository extends JpaRepository<Meetup, Lon
             + "  AND m.currentParticipants > 0")
     int decrementParticipantsIfPositive(@Param("meetupIdx") Long meetupIdx);
 
+    @RepositoryMethod("모임: 참여자 수를 참여자 행 수로 재계산")
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE meetup m SET m.current_participants = "
+            + "(SELECT COUNT(*) FROM meetupparticipants p WHERE p.meetup_idx = m.idx) "
+            + "WHERE m.idx IN (:meetupIdxs)", nativeQuery = true)
+    int syncParticipantCounts(@Param("meetupIdxs") Collection<Long> meetupIdxs);
+
+    // 좌석 예약 반영 대상이 유실된 경우(꺼낸 노드 다운 등)의 안전망 - 모집중·미래 모임 중 어긋난 것만 갱신
+    @RepositoryMethod("모임: 모집중 모임 참여자 수 불일치 재계산 (안전망)")
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE meetup m JOIN ("
+            + "SELECT p.meetup_idx, COUNT(*) AS cnt FROM meetupparticipants p "
+            + "JOIN meetup r ON r.idx = p.meetup_idx "
+            + "WHERE r.status = 'RECRUITING' AND r.date >= :now "
+            + "GROUP BY p.meetup_idx) c ON c.meetup_idx = m.idx "
+            + "SET m.current_participants = c.cnt "
+            + "WHERE m.current_participants <> c.cnt", nativeQuery = true)
+    int syncStaleRecruitingParticipantCounts(@Param("now") LocalDateTime now);
+
     @RepositoryMethod("모임: 전체 목록 조회 (삭제 제외)")
     @Query("SELECT m FROM Meetup m JOIN FETCH m.organizer "
             + "WHERE (m.status IS NULL OR m.status <> com.linkup.Petory.domain.meetup.entity.MeetupStatus.CANCELLED) "
@@ -206,6 +244,40 @@ public interface SpringDataJpaMeetupRepository extends JpaRepository<Meetup, Lon
             @Param("completed") MeetupStatus completed,
             @Param("cancelled") MeetupStatus cancelled);
 
+    @RepositoryMethod("모임: 참여자 수 반영된 모임 정원 마감")
+    @Transactional
+    @Modifying
+    @Query("UPDATE Meetup m SET m.status = :closed WHERE m.idx IN :meetupIdxs AND m.status = :recruiting "
+            + "AND m.currentParticipants >= m.maxParticipants AND m.date >= :now "
+            + "AND (m.isDeleted = false OR m.isDeleted IS NULL)")
+    int closeFullRecruitingMeetupsIn(
+            @Param("meetupIdxs") Collection<Long> meetupIdxs,
+            @Param("now") LocalDateTime now,
+            @Param("recruiting") MeetupStatus recruiting,
+            @Param("closed") MeetupStatus closed);
+
+    @RepositoryMethod("모임: 단건 종료 전이")
+    @Transactional
+    @Modifying
+    @Query("UPDATE Meetup m SET m.status = :completed WHERE m.idx = :meetupIdx AND m.date <= :now "
+            + "AND m.status <> :completed AND m.status <> :cancelled "
+            + "AND (m.isDeleted = false OR m.isDeleted IS NULL)")
+    int completeMeetupIfPast(
+            @Param("meetupIdx") Long meetupIdx,
+            @Param("now") LocalDateTime now,
+            @Param("completed") MeetupStatus completed,
+            @Param("cancelled") MeetupStatus cancelled);
+
+    @RepositoryMethod("모임: 구간 내 종료 예정 모임 (타이머 휠 적재)")
+    @Query("SELECT m.idx, m.date FROM Meetup m WHERE m.date > :from AND m.date <= :to "
+            + "AND m.status <> :completed AND m.status <> :cancelled "
+            + "AND (m.isDeleted = false OR m.isDeleted IS NULL)")
+    List<Object[]> findUpcomingDeadlines(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("completed") MeetupStatus completed,
+            @Param("cancelled") MeetupStatus cancelled);
+
     @RepositoryMethod("모임: 기간별 통계")
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
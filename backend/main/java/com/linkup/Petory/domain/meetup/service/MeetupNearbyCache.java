@@ -0,0 +1,236 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
+import com.linkup.Petory.domain.meetup.repository.MeetupNearbyCandidate;
+import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 근처 모임 후보 캐시 (Redis "meetup:nearby:v2:{버전}:{geohash}:{반경}:{5분 구간}").
+ *
+ * <ul>
+ * <li>요청 좌표가 속한 geohash 셀(반경보다 작은 가장 큰 셀) 중심에서 "반경 + 셀 중심~꼭짓점 거리"로 한 번 조회한
+ * 후보를 셀 안 모든 사용자가 공유한다. 후보는 셀 안 어느 지점에서의 반경 결과도 포함하므로, 사용자별 거리 필터·정렬은
+ * 후보에서만 하면 된다. 후보마다 필터·정렬에 쓰는 ID·위도·경도·일시·상태만 저장하므로 호출 측은 상위 limit건만
+ * 엔티티로 조회한다.</li>
+ * <li>구간 시작 시각 기준으로 조회하므로 구간 동안 시작 시각이 지난 모임은 호출 측이 다시 거른다.</li>
+ * <li>모임 생성·수정·삭제·상태 전이 커밋 시 버전을 올려 전체 무효화한다 (이전 키는 TTL로 정리).</li>
+ * <li>후보가 상한에 닿으면(밀집 지역) 캐시하지 않고 empty를 반환해 기존 쿼리를 쓰게 한다. Redis 장애 시에도 empty.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MeetupNearbyCache {
+
+    /** 값 형식: "idx,lat,lng,date,status" 항목을 ';'로 연결 (ID만 저장하던 이전 형식과 키를 구분) */
+    static final String KEY_PREFIX = "meetup:nearby:v2:";
+    static final String VERSION_KEY = "meetup:nearby:version";
+    static final Duration BUCKET = Duration.ofMinutes(5);
+    private static final Duration TTL = BUCKET.multipliedBy(2);
+    /** 셀 하나의 후보 상한 (초과 시 캐시하지 않음) */
+    static final int CANDIDATE_LIMIT = 2_000;
+    private static final int MAX_PRECISION = 7;
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeetupRepository meetupRepository;
+    private final boolean enabled;
+
+    public MeetupNearbyCache(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            MeetupRepository meetupRepository,
+            @Value("${app.meetup.nearby-cache.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.meetupRepository = meetupRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * (lat, lng) 반경 radiusKm 안에 있을 수 있는 모임 후보 (거리 필터 전)
+     */
+    public Optional<List<MeetupNearbyCandidate>> findCandidates(double lat, double lng, double radiusKm,
+            LocalDateTime now) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Cell cell = Cell.of(lat, lng, precisionFor(radiusKm));
+        long bucket = now.atZone(ZoneId.systemDefault()).toEpochSecond() / BUCKET.toSeconds();
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            String key = KEY_PREFIX + (version != null ? version : "0") + ":" + cell.geohash() + ":" + radiusKm + ":"
+                    + bucket;
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Optional.of(parseCandidates(cached));
+            }
+
+            LocalDateTime bucketStart = LocalDateTime.ofEpochSecond(bucket * BUCKET.toSeconds(), 0,
+                    ZoneId.systemDefault().getRules().getOffset(now));
+            List<MeetupNearbyCandidate> candidates = meetupRepository.findNearbyCandidates(cell.centerLat(),
+                    cell.centerLng(), radiusKm + cell.halfDiagonalKm(), bucketStart, CANDIDATE_LIMIT);
+            if (candidates.size() >= CANDIDATE_LIMIT) {
+                log.debug("근처 모임 후보가 상한에 닿아 캐시하지 않음: cell={}, radius={}km", cell.geohash(), radiusKm);
+                return Optional.empty();
+            }
+            redisTemplate.opsForValue().set(key, joinCandidates(candidates), TTL);
+            return Optional.of(candidates);
+        } catch (DataAccessException e) {
+            log.warn("근처 모임 캐시 조회 실패 - 직접 조회로 대체: error={}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 모임 위치·일시·상태가 바뀌는 트랜잭션에서 호출 — 커밋 후 버전을 올려 모든 셀 무효화
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    private void invalidate() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY);
+        } catch (DataAccessException e) {
+            log.warn("근처 모임 캐시 무효화 실패 (최대 {}분 이전 결과 노출): error={}", TTL.toMinutes(), e.getMessage());
+        }
+    }
+
+    /** 셀 폭(경도 방향, 적도 기준)이 반경 이하인 가장 큰 셀의 정밀도 */
+    static int precisionFor(double radiusKm) {
+        for (int precision = 1; precision < MAX_PRECISION; precision++) {
+            if (cellWidthKm(precision) <= radiusKm) {
+                return precision;
+            }
+        }
+        return MAX_PRECISION;
+    }
+
+    private static double cellWidthKm(int precision) {
+        int lngBits = (5 * precision + 1) / 2;
+        return 360.0 / (1L << lngBits) * 111.32;
+    }
+
+    static List<MeetupNearbyCandidate> parseCandidates(String cached) {
+        if (cached.isEmpty()) {
+            return List.of();
+        }
+        String[] entries = cached.split(";");
+        List<MeetupNearbyCandidate> candidates = new ArrayList<>(entries.length);
+        for (String entry : entries) {
+            String[] f = entry.split(",", -1);
+            candidates.add(new MeetupNearbyCandidate(Long.valueOf(f[0]),
+                    f[1].isEmpty() ? null : Double.valueOf(f[1]),
+                    f[2].isEmpty() ? null : Double.valueOf(f[2]),
+                    LocalDateTime.parse(f[3]),
+                    f[4].isEmpty() ? null : MeetupStatus.valueOf(f[4])));
+        }
+        return candidates;
+    }
+
+    static String joinCandidates(List<MeetupNearbyCandidate> candidates) {
+        StringBuilder sb = new StringBuilder(candidates.size() * 48);
+        for (MeetupNearbyCandidate c : candidates) {
+            if (!sb.isEmpty()) {
+                sb.append(';');
+            }
+            sb.append(c.idx()).append(',')
+                    .append(c.latitude() != null ? c.latitude() : "").append(',')
+                    .append(c.longitude() != null ? c.longitude() : "").append(',')
+                    .append(c.date()).append(',')
+                    .append(c.status() != null ? c.status().name() : "");
+        }
+        return sb.toString();
+    }
+
+    /** geohash 셀 (경계 포함) */
+    record Cell(String geohash, double minLat, double maxLat, double minLng, double maxLng) {
+
+        static Cell of(double lat, double lng, int precision) {
+            double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+            StringBuilder hash = new StringBuilder(precision);
+            boolean lngBit = true;
+            int bits = 0;
+            int ch = 0;
+            while (hash.length() < precision) {
+                if (lngBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (lng >= mid) {
+                        ch = (ch << 1) | 1;
+                        minLng = mid;
+                    } else {
+                        ch <<= 1;
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (lat >= mid) {
+                        ch = (ch << 1) | 1;
+                        minLat = mid;
+                    } else {
+                        ch <<= 1;
+                        maxLat = mid;
+                    }
+                }
+                lngBit = !lngBit;
+                if (++bits == 5) {
+                    hash.append(BASE32.charAt(ch));
+                    bits = 0;
+                    ch = 0;
+                }
+            }
+            return new Cell(hash.toString(), minLat, maxLat, minLng, maxLng);
+        }
+
+        double centerLat() {
+            return (minLat + maxLat) / 2;
+        }
+
+        double centerLng() {
+            return (minLng + maxLng) / 2;
+        }
+
+        /** 셀 중심에서 가장 먼 꼭짓점까지 거리 (적도 쪽 변이 더 길어 두 꼭짓점 중 큰 값) */
+        double halfDiagonalKm() {
+            return Math.max(distanceKm(centerLat(), centerLng(), minLat, minLng),
+                    distanceKm(centerLat(), centerLng(), maxLat, minLng));
+        }
+    }
+
+    static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
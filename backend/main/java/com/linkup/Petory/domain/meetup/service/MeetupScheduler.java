@@ -12,7 +12,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * 모임 상태 자동 전이 (정원 마감 → CLOSED, 일시 경과 → COMPLETED).
+ * 모임 상태 자동 전이 (정원 마감 → CLOSED, 일시 경과 → COMPLETED) 안전망.
+ * 전이는 평소 {@link MeetupStatusTimer}(일시 경과)와 참여자 수 반영 시점(정원 마감)에 단건으로 일어나므로,
+ * 여기서는 그 경로가 놓친 건(노드 다운·DB 오류 등)만 걸린다.
+ * 정원 마감 판정 전에 참여자 수가 어긋난 모집중 모임을 참여자 행 수로 맞춰, 반영 대상이 유실된 모임도 마감된다.
  */
 @Slf4j
 @Service
@@ -20,18 +23,24 @@ import lombok.extern.slf4j.Slf4j;
 public class MeetupScheduler {
 
     private final MeetupRepository meetupRepository;
+    private final MeetupNearbyCache nearbyCache;
 
     /**
-     * 매시 정각 실행 (케어 요청 스케줄러와 동일한 주기).
+     * 매시 정각 실행 (케어 요청 스케줄러와 동일한 주기). 정상 상태에서는 갱신 0건.
      */
     @Scheduled(cron = "0 0 * * * ?")
     @Transactional
     public void transitionMeetupStatuses() {
         LocalDateTime now = LocalDateTime.now();
+        int synced = meetupRepository.syncStaleRecruitingParticipantCounts(now);
+        if (synced > 0) {
+            log.warn("모임 참여자 수 불일치 보정: {}건", synced);
+        }
         int closed = meetupRepository.closeFullRecruitingMeetups(now);
         int completed = meetupRepository.completePastMeetups(now);
         if (closed > 0 || completed > 0) {
-            log.info("모임 상태 자동 전이: CLOSED={}, COMPLETED={}", closed, completed);
+            nearbyCache.invalidateAfterCommit();
+            log.info("모임 상태 안전망 전이: CLOSED={}, COMPLETED={}", closed, completed);
         }
     }
 }
@@ -0,0 +1,51 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌석 예약 경로로 참가/취소된 모임의 current_participants를 참여자 행 수로 주기 반영 (기본 1초).
+ * 참가 요청은 모임 행을 갱신하지 않으므로, 몰린 참가가 모임 행 하나에 줄 서지 않고 여기서 모임당 UPDATE 한 번으로 합쳐진다.
+ * 반영한 모임 중 정원이 찬 모집중 모임은 같은 주기에 CLOSED로 전이한다.
+ * 락 경로 참가 후 지우지 못한 좌석 키도 같은 주기에 다시 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetupSeatReconcileScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final MeetupSeatReservation seatReservation;
+    private final MeetupRepository meetupRepository;
+
+    @Scheduled(fixedDelayString = "${app.meetup.seat-reservation.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        seatReservation.retryInvalidations();
+        List<Long> dirty = seatReservation.drainDirty();
+        for (int from = 0; from < dirty.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = dirty.subList(from, Math.min(from + CHUNK_SIZE, dirty.size()));
+            try {
+                meetupRepository.syncParticipantCounts(chunk);
+                int closed = meetupRepository.closeFullRecruitingMeetupsIn(chunk, LocalDateTime.now());
+                if (closed > 0) {
+                    log.info("정원 마감 전이: CLOSED={}", closed);
+                }
+            } catch (Exception e) {
+                log.error("모임 참여자 수 반영 실패 - 다음 주기에 재시도: {}건", chunk.size(), e);
+                chunk.forEach(seatReservation::markDirty);
+            }
+        }
+        if (!dirty.isEmpty()) {
+            log.debug("모임 참여자 수 반영 완료: {}건", dirty.size());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.linkup.Petory.domain.meetup.repository.MeetupParticipantsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 좌석 예약기 (Redis Hash "meetup:seats:{meetupIdx}" - max, taken).
+ *
+ * <ul>
+ * <li>참가 허용/거절을 Lua 스크립트 한 번(정원 확인 + 증가)으로 판정하므로, 인기 모임이 열려도 모임 행 락을 잡지 않는다.</li>
+ * <li>키가 없으면(최초 참가, TTL 만료, Redis 재시작) 참여자 행 수로 채운 뒤 판정한다.</li>
+ * <li>예약한 트랜잭션이 롤백되면 {@link #release}로 좌석을 되돌리고(보상), 커밋되면 모임을 갱신 대상 Set("meetup:seats:dirty")에
+ * 넣어 {@link MeetupSeatReconcileScheduler}가 meetup.current_participants를 참여자 행 수로 맞춘다. 대상 Set이 Redis에
+ * 있으므로 커밋한 노드가 재시작해도 다른 노드가 반영한다.</li>
+ * <li>Redis 장애 시 {@link Result#UNAVAILABLE}을 반환해 호출 측이 비관적 락 경로로 처리한다. 락 경로로 참가하면 좌석 수에
+ * 반영되지 않으므로 커밋 후 {@link #invalidate}로 키를 지워 다음 예약 때 참여자 행 수로 다시 채운다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MeetupSeatReservation {
+
+    static final String KEY_PREFIX = "meetup:seats:";
+    static final String DIRTY_KEY = KEY_PREFIX + "dirty";
+    private static final int DRAIN_BATCH = 1000;
+    private static final Duration TTL = Duration.ofDays(1);
+
+    public enum Result {
+        RESERVED, FULL, UNAVAILABLE
+    }
+
+    /** KEYS: 좌석 / ARGV: ttl - 키가 없으면 -1, 정원이 찼으면 0, 예약하면 1 */
+    private static final RedisScript<Long> RESERVE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local max = tonumber(redis.call('HGET', KEYS[1], 'max'))
+            local taken = tonumber(redis.call('HGET', KEYS[1], 'taken'))
+            if taken >= max then return 0 end
+            redis.call('HINCRBY', KEYS[1], 'taken', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /** KEYS: 좌석 / ARGV: max, taken, ttl - 키가 없을 때만 채운 뒤 RESERVE와 같이 판정 */
+    private static final RedisScript<Long> SEED_AND_RESERVE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              redis.call('HSET', KEYS[1], 'max', ARGV[1], 'taken', ARGV[2])
+            end
+            local max = tonumber(redis.call('HGET', KEYS[1], 'max'))
+            local taken = tonumber(redis.call('HGET', KEYS[1], 'taken'))
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if taken >= max then return 0 end
+            redis.call('HINCRBY', KEYS[1], 'taken', 1)
+            return 1
+            """, Long.class);
+
+    /** KEYS: 좌석 - 키가 있고 0보다 클 때만 감소 */
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if tonumber(redis.call('HGET', KEYS[1], 'taken')) <= 0 then return 0 end
+            return redis.call('HINCRBY', KEYS[1], 'taken', -1)
+            """, Long.class);
+
+    /** KEYS: 좌석 / ARGV: max - 키가 있을 때만 정원 변경 */
+    private static final RedisScript<Long> UPDATE_MAX = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HSET', KEYS[1], 'max', ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeetupParticipantsRepository meetupParticipantsRepository;
+    private final boolean enabled;
+    /** 대상 Set 기록에 실패한 반영 대기 모임 (노드별, 다음 꺼내기 때 함께 반환) */
+    private final Set<Long> pendingDirty = ConcurrentHashMap.newKeySet();
+    /** 좌석 키 삭제에 실패해 다시 지워야 하는 모임 (노드별) */
+    private final Set<Long> staleSeats = ConcurrentHashMap.newKeySet();
+
+    public MeetupSeatReservation(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            MeetupParticipantsRepository meetupParticipantsRepository,
+            @Value("${app.meetup.seat-reservation.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.meetupParticipantsRepository = meetupParticipantsRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 좌석 하나 예약 (RECRUITING 상태·중복 참가 확인은 호출 측 책임)
+     */
+    public Result tryReserve(Long meetupIdx, int maxParticipants) {
+        if (!enabled) {
+            return Result.UNAVAILABLE;
+        }
+        try {
+            if (staleSeats.contains(meetupIdx)) {
+                redisTemplate.delete(key(meetupIdx));
+                staleSeats.remove(meetupIdx);
+            }
+            List<String> keys = List.of(key(meetupIdx));
+            String ttl = Long.toString(TTL.toSeconds());
+            Long result = redisTemplate.execute(RESERVE, keys, ttl);
+            if (result == null || result < 0) {
+                Long taken = meetupParticipantsRepository.countByMeetupIdx(meetupIdx);
+                result = redisTemplate.execute(SEED_AND_RESERVE, keys,
+                        Integer.toString(maxParticipants), Long.toString(taken != null ? taken : 0L), ttl);
+            }
+            if (result == null) {
+                return Result.UNAVAILABLE;
+            }
+            return result > 0 ? Result.RESERVED : Result.FULL;
+        } catch (DataAccessException e) {
+            log.warn("모임 좌석 예약 실패 - 락 경로로 대체: meetupIdx={}, error={}", meetupIdx, e.getMessage());
+            return Result.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 좌석 반환 (예약 트랜잭션 롤백 보상, 참가 취소). 실패하면 키를 지워 다음 예약 때 참여자 행 수로 다시 채운다.
+     */
+    public void release(Long meetupIdx) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE, List.of(key(meetupIdx)));
+        } catch (DataAccessException e) {
+            log.warn("모임 좌석 반환 실패 - 좌석 캐시 삭제: meetupIdx={}, error={}", meetupIdx, e.getMessage());
+            evict(meetupIdx);
+        }
+    }
+
+    /**
+     * 정원 변경 반영 (키가 없으면 다음 예약 때 DB 값으로 채워짐)
+     */
+    public void updateCapacity(Long meetupIdx, int maxParticipants) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UPDATE_MAX, List.of(key(meetupIdx)), Integer.toString(maxParticipants));
+        } catch (DataAccessException e) {
+            log.warn("모임 정원 변경 반영 실패 - 좌석 캐시 삭제: meetupIdx={}, error={}", meetupIdx, e.getMessage());
+            evict(meetupIdx);
+        }
+    }
+
+    /**
+     * 좌석 키 삭제 (락 경로 참가 커밋 후) - 다음 예약 때 참여자 행 수로 다시 채운다.
+     * Redis 장애로 지우지 못하면 기억해 두었다가 {@link #retryInvalidations} 또는 다음 예약 전에 다시 지운다.
+     */
+    public void invalidate(Long meetupIdx) {
+        try {
+            redisTemplate.delete(key(meetupIdx));
+            staleSeats.remove(meetupIdx);
+        } catch (DataAccessException e) {
+            log.warn("모임 좌석 캐시 삭제 실패 - 재시도 대상으로 보관: meetupIdx={}, error={}", meetupIdx, e.getMessage());
+            staleSeats.add(meetupIdx);
+        }
+    }
+
+    /**
+     * 지우지 못한 좌석 키 재삭제 (MeetupSeatReconcileScheduler 주기)
+     */
+    public void retryInvalidations() {
+        for (Long meetupIdx : staleSeats) {
+            invalidate(meetupIdx);
+        }
+    }
+
+    /**
+     * 참여자 수 DB 반영 대상으로 표시 (Redis Set). Redis 장애 시 이 노드 메모리에 보관한다.
+     */
+    public void markDirty(Long meetupIdx) {
+        try {
+            redisTemplate.opsForSet().add(DIRTY_KEY, meetupIdx.toString());
+        } catch (DataAccessException e) {
+            log.warn("모임 반영 대상 기록 실패 - 노드 메모리에 보관: meetupIdx={}, error={}", meetupIdx, e.getMessage());
+            pendingDirty.add(meetupIdx);
+        }
+    }
+
+    /**
+     * 반영 대기 모임을 꺼내고 비움 (SPOP이라 여러 노드가 동시에 꺼내도 한 모임은 한 노드에만 간다.
+     * 반영 실패 시 호출 측이 {@link #markDirty}로 되돌림)
+     */
+    public List<Long> drainDirty() {
+        Set<Long> drained = new LinkedHashSet<>();
+        for (Long meetupIdx : pendingDirty) {
+            if (pendingDirty.remove(meetupIdx)) {
+                drained.add(meetupIdx);
+            }
+        }
+        try {
+            List<String> popped;
+            do {
+                popped = redisTemplate.opsForSet().pop(DIRTY_KEY, DRAIN_BATCH);
+                if (popped == null) {
+                    break;
+                }
+                popped.forEach(idx -> drained.add(Long.valueOf(idx)));
+            } while (popped.size() == DRAIN_BATCH);
+        } catch (DataAccessException e) {
+            log.warn("모임 반영 대상 꺼내기 실패 - 다음 주기에 재시도: error={}", e.getMessage());
+        }
+        return new ArrayList<>(drained);
+    }
+
+    private void evict(Long meetupIdx) {
+        try {
+            redisTemplate.delete(key(meetupIdx));
+        } catch (DataAccessException e) {
+            log.warn("모임 좌석 캐시 삭제 실패 (TTL 만료로 정리됨): meetupIdx={}", meetupIdx);
+        }
+    }
+
+    private static String key(Long meetupIdx) {
+        return KEY_PREFIX + meetupIdx;
+    }
+}
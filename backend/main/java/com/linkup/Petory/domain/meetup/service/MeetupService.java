@@ -2,6 +2,7 @@ package com.linkup.Petory.domain.meetup.service;
 
 import java.time.LocalDateTime;
 import java.util.AbstractMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -29,11 +30,13 @@ import com.linkup.Petory.domain.meetup.entity.Meetup;
 import com.linkup.Petory.domain.meetup.entity.MeetupParticipants;
 import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
 import com.linkup.Petory.domain.meetup.event.MeetupCreatedEvent;
+import com.linkup.Petory.domain.meetup.event.MeetupScheduleChangedEvent;
 import com.linkup.Petory.domain.meetup.exception.MeetupConflictException;
 import com.linkup.Petory.domain.meetup.exception.MeetupForbiddenException;
 import com.linkup.Petory.domain.meetup.exception.MeetupNotFoundException;
 import com.linkup.Petory.domain.meetup.exception.MeetupParticipantNotFoundException;
 import com.linkup.Petory.domain.meetup.exception.MeetupValidationException;
+import com.linkup.Petory.domain.meetup.repository.MeetupNearbyCandidate;
 import com.linkup.Petory.domain.meetup.repository.MeetupParticipantsRepository;
 import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
 import com.linkup.Petory.domain.user.entity.Role;
@@ -43,8 +46,6 @@ import com.linkup.Petory.domain.user.exception.UserNotFoundException;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
 import com.linkup.Petory.global.exception.ApiException;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -71,9 +72,8 @@ public class MeetupService {
     private final MeetupParticipantsConverter participantsConverter;
     private final ConversationService conversationService;
     private final ApplicationEventPublisher eventPublisher;
-
-    @PersistenceContext
-    private EntityManager entityManager;
+    private final MeetupSeatReservation seatReservation;
+    private final MeetupNearbyCache nearbyCache;
 
     // 모임 생성
     @Transactional
@@ -142,6 +142,9 @@ public class MeetupService {
             }
         });
 
+        nearbyCache.invalidateAfterCommit();
+        eventPublisher.publishEvent(new MeetupScheduleChangedEvent(savedMeetup.getIdx(), savedMeetup.getDate()));
+
         log.info("모임 생성 완료: meetupIdx={}, organizer={}", savedMeetup.getIdx(), userId);
         return converter.toDTO(savedMeetup);
     }
@@ -185,19 +188,29 @@ public class MeetupService {
                 throw MeetupValidationException.dateMustBeFuture();
             }
             meetup.setDate(meetupDTO.getDate());
+            eventPublisher.publishEvent(new MeetupScheduleChangedEvent(meetupIdx, meetupDTO.getDate()));
         }
         if (meetupDTO.getMaxParticipants() != null) {
             int newMax = meetupDTO.getMaxParticipants();
             if (newMax < 1) {
                 throw MeetupValidationException.invalidMaxParticipants();
             }
-            if (newMax < meetup.getCurrentParticipants()) {
+            // current_participants는 좌석 예약 반영 주기만큼 늦을 수 있으므로 참여자 행 수로 비교
+            Long joined = meetupParticipantsRepository.countByMeetupIdx(meetupIdx);
+            if (joined != null && newMax < joined) {
                 throw MeetupValidationException.maxBelowCurrent();
             }
             meetup.setMaxParticipants(newMax);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    seatReservation.updateCapacity(meetupIdx, newMax);
+                }
+            });
         }
 
         Meetup savedMeetup = meetupRepository.save(meetup);
+        nearbyCache.invalidateAfterCommit();
         return converter.toDTO(savedMeetup);
     }
 
@@ -219,6 +232,8 @@ public class MeetupService {
 
         meetup.softDelete();
         meetupRepository.save(meetup);
+        nearbyCache.invalidateAfterCommit();
+        eventPublisher.publishEvent(MeetupScheduleChangedEvent.removed(meetupIdx));
 
         log.info("모임 소프트 삭제 완료: meetupIdx={}", meetupIdx);
     }
@@ -230,6 +245,8 @@ public class MeetupService {
                 .orElseThrow(MeetupNotFoundException::new);
         meetup.softDelete();
         meetupRepository.save(meetup);
+        nearbyCache.invalidateAfterCommit();
+        eventPublisher.publishEvent(MeetupScheduleChangedEvent.removed(meetupIdx));
         log.info("관리자 소프트 삭제: meetupIdx={}", meetupIdx);
     }
 
@@ -264,8 +281,9 @@ public class MeetupService {
     }
 
     /**
-     * 반경 기반 모임 조회 (마커 표시용) 네이티브로 ID·정렬·LIMIT 조회 후, 주최자는 IN + JOIN FETCH로 한 번에
-     * 로딩 (organizer N+1 방지).
+     * 반경 기반 모임 조회 (마커 표시용). 같은 geohash 셀·5분 구간 요청이 공유하는 후보 캐시
+     * ({@link MeetupNearbyCache})에서 거리 필터·정렬만 사용자별로 하고, 캐시를 쓸 수 없으면 네이티브로 ID·정렬·LIMIT
+     * 조회한다. 어느 경로든 엔티티는 상위 limit건만 IN + JOIN FETCH로 한 번에 로딩 (organizer N+1 방지).
      */
     @Timed("getNearbyMeetups")
     public List<MeetupDTO> getNearbyMeetups(Double lat, Double lng, Double radiusKm, int maxResults) {
@@ -274,6 +292,53 @@ public class MeetupService {
         log.info("반경 기반 모임 조회 요청: lat={}, lng={}, radius={}km, limit={}, currentDate={}",
                 lat, lng, radiusKm, limit, now);
 
+        List<MeetupDTO> result = nearbyCache.findCandidates(lat, lng, radiusKm, now)
+                .map(candidates -> nearestFromCandidates(candidates, lat, lng, radiusKm, now, limit))
+                .orElseGet(() -> queryNearby(lat, lng, radiusKm, now, limit));
+        log.info("최종 결과 모임 수: {}", result.size());
+
+        for (int i = 0; i < Math.min(10, result.size()); i++) {
+            MeetupDTO m = result.get(i);
+            log.info("✅ 반경 내 모임: idx={}, title={}, date={}, lat={}, lng={}",
+                    m.getIdx(), m.getTitle(), m.getDate(), m.getLatitude(), m.getLongitude());
+        }
+
+        return result;
+    }
+
+    // 캐시 후보에서 사용자 위치 기준 반경 필터 → 거리·일시순 limit건 (네이티브 쿼리와 같은 조건·정렬) 후 그 ID만 로딩
+    private List<MeetupDTO> nearestFromCandidates(List<MeetupNearbyCandidate> candidates, Double lat, Double lng,
+            Double radiusKm, LocalDateTime now, int limit) {
+        double radiusMeters = radiusKm * 1000;
+        Map<Long, Double> distanceById = new LinkedHashMap<>();
+        candidates.stream()
+                .filter(c -> c.latitude() != null && c.longitude() != null)
+                .filter(c -> c.date() != null && c.date().isAfter(now))
+                .filter(c -> c.status() != MeetupStatus.COMPLETED && c.status() != MeetupStatus.CANCELLED)
+                .map(c -> new AbstractMap.SimpleEntry<>(c,
+                        calculateDistanceMeters(lat, lng, c.latitude(), c.longitude())))
+                .filter(entry -> entry.getValue() <= radiusMeters)
+                .sorted(Map.Entry.<MeetupNearbyCandidate, Double>comparingByValue()
+                        .thenComparing(entry -> entry.getKey().date()))
+                .limit(limit)
+                .forEach(entry -> distanceById.put(entry.getKey().idx(), entry.getValue()));
+        if (distanceById.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Meetup> byId = meetupRepository.findByIdxInWithOrganizer(distanceById.keySet()).stream()
+                .collect(Collectors.toMap(Meetup::getIdx, m -> m));
+        return distanceById.entrySet().stream()
+                .filter(entry -> byId.containsKey(entry.getKey()))
+                .map(entry -> {
+                    MeetupDTO dto = converter.toDTO(byId.get(entry.getKey()));
+                    dto.setDistance(entry.getValue());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private List<MeetupDTO> queryNearby(Double lat, Double lng, Double radiusKm, LocalDateTime now, int limit) {
         List<Long> ids = meetupRepository.findNearbyMeetupIds(lat, lng, radiusKm, now, limit);
         log.info("DB 근처 모임 ID 수: {}", ids.size());
         if (ids.isEmpty()) {
@@ -283,7 +348,7 @@ public class MeetupService {
         List<Meetup> loaded = meetupRepository.findByIdxInWithOrganizer(ids);
         Map<Long, Meetup> byId = loaded.stream().collect(Collectors.toMap(Meetup::getIdx, m -> m));
 
-        List<MeetupDTO> result = ids.stream()
+        return ids.stream()
                 .map(byId::get)
                 .filter(Objects::nonNull)
                 .map(meetup -> {
@@ -295,15 +360,6 @@ public class MeetupService {
                     return dto;
                 })
                 .collect(Collectors.toList());
-        log.info("최종 결과 모임 수: {}", result.size());
-
-        for (int i = 0; i < Math.min(10, result.size()); i++) {
-            MeetupDTO m = result.get(i);
-            log.info("✅ 반경 내 모임: idx={}, title={}, date={}, lat={}, lng={}",
-                    m.getIdx(), m.getTitle(), m.getDate(), m.getLatitude(), m.getLongitude());
-        }
-
-        return result;
     }
 
     private double calculateDistanceMeters(Double lat1, Double lng1, Double lat2, Double lng2) {
@@ -325,14 +381,91 @@ public class MeetupService {
                 meetupParticipantsRepository.findByMeetupIdxOrderByJoinedAtAsc(meetupIdx));
     }
 
-    // 모임 참가 (비관적 락 + 조건부 UPDATE + PK 제약으로 동시성 방어)
+    // 모임 참가 — 좌석은 Redis 원자 예약으로 허용/거절(모임 행 락 없음), 중복은 PK 제약으로 방어.
+    // 예약 후 롤백되면 좌석 반환(보상), 커밋되면 current_participants는 MeetupSeatReconcileScheduler가 비동기 반영.
+    // Redis를 쓸 수 없으면 기존 비관적 락 + 조건부 UPDATE 경로로 처리.
     @Transactional
     public MeetupParticipantsDTO joinMeetup(Long meetupIdx, String userId) {
+        Meetup meetup = meetupRepository.findByIdWithOrganizer(meetupIdx)
+                .orElseThrow(MeetupNotFoundException::new);
+        Users user = findJoinableUser(meetupIdx, userId);
+
+        // 주최자는 인원 증가 없이 참가자 추가
+        if (meetup.getOrganizer().getIdx().equals(user.getIdx())) {
+            return saveParticipant(meetup, user, false);
+        }
+        if (meetup.getStatus() != MeetupStatus.RECRUITING) {
+            log.warn("모집이 마감된 모임입니다. meetupIdx={}, userId={}, status={}",
+                    meetupIdx, userId, meetup.getStatus());
+            throw MeetupConflictException.meetupNotRecruiting();
+        }
+
+        switch (seatReservation.tryReserve(meetupIdx, meetup.getMaxParticipants())) {
+            case FULL -> {
+                log.warn("모임 인원이 가득 찼습니다. meetupIdx={}, userId={}, 최대인원={}",
+                        meetupIdx, userId, meetup.getMaxParticipants());
+                throw MeetupConflictException.fullCapacity();
+            }
+            case UNAVAILABLE -> {
+                return joinWithRowLock(meetupIdx, user);
+            }
+            case RESERVED -> TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        seatReservation.markDirty(meetupIdx);
+                    } else {
+                        seatReservation.release(meetupIdx);
+                    }
+                }
+            });
+        }
+
+        MeetupParticipantsDTO joined = saveParticipant(meetup, user, false);
+        log.info("모임 참가 완료 (좌석 예약). meetupIdx={}, userId={}", meetupIdx, userId);
+        return joined;
+    }
+
+    // 비관적 락 + 참여자 행 수 확인 참가 경로 (좌석 예약 비활성·Redis 장애 시)
+    // current_participants는 좌석 예약 참가분을 반영 주기만큼 늦게 따라오므로, 정원은 참여자 행 수로 판정한다.
+    // 이 경로의 참가는 Redis 좌석 수에 잡히지 않으므로 커밋 후 좌석 키를 지워 다음 예약이 행 수로 다시 채우게 한다.
+    private MeetupParticipantsDTO joinWithRowLock(Long meetupIdx, Users user) {
         // 비관적 락으로 조회 — 동시 참가 요청 직렬화 (TOCTOU 방지)
         Meetup meetup = meetupRepository.findByIdWithLock(meetupIdx)
                 .orElseThrow(MeetupNotFoundException::new);
+        if (meetup.getStatus() != MeetupStatus.RECRUITING) {
+            log.warn("모집이 마감된 모임입니다. meetupIdx={}, userId={}, status={}",
+                    meetupIdx, user.getId(), meetup.getStatus());
+            throw MeetupConflictException.meetupNotRecruiting();
+        }
+
+        Long taken = meetupParticipantsRepository.countByMeetupIdx(meetupIdx);
+        int participants = taken != null ? taken.intValue() : 0;
+        if (participants >= meetup.getMaxParticipants()) {
+            log.warn("모임 인원이 가득 찼습니다. meetupIdx={}, userId={}, 현재인원={}, 최대인원={}",
+                    meetupIdx, user.getId(), participants, meetup.getMaxParticipants());
+            throw MeetupConflictException.fullCapacity();
+        }
+
+        MeetupParticipantsDTO joined = saveParticipant(meetup, user, false);
+        // 행 락 보유 중이므로 인원을 행 수 기준으로 맞추고, 마지막 자리면 바로 마감 (매시 스윕을 기다리지 않음)
+        meetup.setCurrentParticipants(participants + 1);
+        if (meetup.getCurrentParticipants() >= meetup.getMaxParticipants()) {
+            meetup.setStatus(MeetupStatus.CLOSED);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatReservation.invalidate(meetupIdx);
+            }
+        });
+        log.info("모임 참가 완료. meetupIdx={}, userId={}, 현재인원={}, 최대인원={}",
+                meetupIdx, user.getId(), meetup.getCurrentParticipants(), meetup.getMaxParticipants());
+        return joined;
+    }
 
-        // 사용자 확인
+    // 참가 가능한 사용자 확인 (제재·이메일 인증·중복 참가)
+    private Users findJoinableUser(Long meetupIdx, String userId) {
         Users user = usersRepository.findByIdString(userId)
                 .orElseThrow(UserNotFoundException::new);
 
@@ -349,58 +482,30 @@ public class MeetupService {
                     com.linkup.Petory.domain.user.entity.EmailVerificationPurpose.MEETUP);
         }
 
-        Long userIdx = user.getIdx();
-
         // 이미 참가했는지 확인
-        if (meetupParticipantsRepository.existsByMeetupIdxAndUserIdx(meetupIdx, userIdx)) {
+        if (meetupParticipantsRepository.existsByMeetupIdxAndUserIdx(meetupIdx, user.getIdx())) {
             log.warn("이미 참가한 모임입니다. meetupIdx={}, userId={}", meetupIdx, userId);
             throw MeetupConflictException.alreadyJoined();
         }
+        return user;
+    }
 
-        boolean participantsIncremented = false;
-
-        // 주최자가 아닌 경우에만 인원 증가 (원자적 UPDATE 쿼리)
-        if (!meetup.getOrganizer().getIdx().equals(userIdx)) {
-            // 원자적 UPDATE 쿼리로 조건부 증가 (RECRUITING 상태 + 인원 미달 조건 동시 체크)
-            int updated = meetupRepository.incrementParticipantsIfAvailable(meetupIdx, MeetupStatus.RECRUITING);
-            if (updated == 0) {
-                // RECRUITING 상태가 아니면 모집 마감, 상태는 맞지만 인원이 찼으면 fullCapacity
-                if (meetup.getStatus() != MeetupStatus.RECRUITING) {
-                    log.warn("모집이 마감된 모임입니다. meetupIdx={}, userId={}, status={}",
-                            meetupIdx, userId, meetup.getStatus());
-                    throw MeetupConflictException.meetupNotRecruiting();
-                }
-                log.warn("모임 인원이 가득 찼습니다. meetupIdx={}, userId={}, 현재인원={}, 최대인원={}",
-                        meetupIdx, userId, meetup.getCurrentParticipants(), meetup.getMaxParticipants());
-                throw MeetupConflictException.fullCapacity();
-            }
-            participantsIncremented = true;
-            // [리팩토링] findById 2회 호출 제거 → entityManager.refresh()로 영속성 컨텍스트 동기화
-            entityManager.refresh(meetup);
-        }
-
-        // 참가자 추가
+    private MeetupParticipantsDTO saveParticipant(Meetup meetup, Users user, boolean participantsIncremented) {
         MeetupParticipants participant = MeetupParticipants.builder()
                 .meetup(meetup)
                 .user(user)
                 .joinedAt(LocalDateTime.now())
                 .build();
 
-        MeetupParticipants savedParticipant;
         try {
-            savedParticipant = meetupParticipantsRepository.save(participant);
+            return participantsConverter.toDTO(meetupParticipantsRepository.save(participant));
         } catch (DataIntegrityViolationException e) {
             if (participantsIncremented) {
-                meetupRepository.decrementParticipantsIfPositive(meetupIdx);
+                meetupRepository.decrementParticipantsIfPositive(meetup.getIdx());
             }
-            log.warn("중복 참가 시도 감지 (PK 충돌): meetupIdx={}, userIdx={}", meetupIdx, userIdx);
+            log.warn("중복 참가 시도 감지 (PK 충돌): meetupIdx={}, userIdx={}", meetup.getIdx(), user.getIdx());
             throw MeetupConflictException.alreadyJoined();
         }
-
-        log.info("모임 참가 완료. meetupIdx={}, userId={}, 현재인원={}, 최대인원={}",
-                meetupIdx, userId, meetup.getCurrentParticipants(), meetup.getMaxParticipants());
-
-        return participantsConverter.toDTO(savedParticipant);
     }
 
     // 모임 참가 취소
@@ -431,6 +536,14 @@ public class MeetupService {
 
         // [FIX] 원자적 UPDATE 쿼리로 감소 — 기존 read-modify-write(Math.max)는 동시 취소 시 카운트 불일치 위험
         meetupRepository.decrementParticipantsIfPositive(meetupIdx);
+        // 커밋 후 좌석 반환 + 참여자 행 수로 재반영 (반영 전 참가분과의 어긋남 정리)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seatReservation.release(meetupIdx);
+                seatReservation.markDirty(meetupIdx);
+            }
+        });
 
         // 채팅방에서도 자동으로 나가기 (채팅 실패가 참가 취소를 막으면 안 됨)
         try {
@@ -0,0 +1,112 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.meetup.event.MeetupScheduleChangedEvent;
+import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+import com.linkup.Petory.global.scheduling.DeadlineTimerWheel;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 모임 일시가 지나는 순간 해당 모임만 COMPLETED로 전이 (1초 tick 타이머 휠).
+ *
+ * <ul>
+ * <li>기동 시와 매시간 앞으로 2시간 구간의 모임 일시를 DB에서 적재하고, 생성·일시 수정·삭제는 커밋 후 이벤트로 반영한다.</li>
+ * <li>여러 노드가 같은 모임을 발화해도 조건부 단건 UPDATE라 결과는 같다.</li>
+ * <li>정원 마감(CLOSED)은 참여자 수 반영 시점에 전이한다 ({@link MeetupSeatReconcileScheduler}).
+ * {@link MeetupScheduler}의 매시 일괄 UPDATE는 휠이 놓친 건만 처리하는 안전망이다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class MeetupStatusTimer {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+    /** 2시간 — 매시 재적재 주기보다 길어야 구간 사이에 빈틈이 없다 */
+    private static final int WHEEL_SIZE = 2 * 60 * 60;
+
+    private final MeetupRepository meetupRepository;
+    private final MeetupNearbyCache nearbyCache;
+    private final boolean enabled;
+    private final DeadlineTimerWheel<Long> wheel;
+
+    public MeetupStatusTimer(
+            MeetupRepository meetupRepository,
+            MeetupNearbyCache nearbyCache,
+            @Value("${app.meetup.status-timer.enabled:true}") boolean enabled) {
+        this.meetupRepository = meetupRepository;
+        this.nearbyCache = nearbyCache;
+        this.enabled = enabled;
+        this.wheel = new DeadlineTimerWheel<>("meetup-status", TICK, WHEEL_SIZE, this::complete);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            wheel.start();
+            reload();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.shutdown();
+    }
+
+    /**
+     * 앞으로 휠 한 바퀴 구간의 모임 일시를 DB에서 다시 등록 (기동 직후 + 매시간)
+     */
+    @Scheduled(cron = "0 0 * * * ?")
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> deadlines = meetupRepository.findUpcomingDeadlines(now, now.plus(wheel.horizon()));
+        for (Object[] row : deadlines) {
+            wheel.schedule((Long) row[0], toEpochMillis((LocalDateTime) row[1]));
+        }
+        log.info("모임 종료 타이머 적재: {}건 (대기 {}건)", deadlines.size(), wheel.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(MeetupScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.date() == null) {
+            wheel.cancel(event.meetupIdx());
+        } else {
+            wheel.schedule(event.meetupIdx(), toEpochMillis(event.date()));
+        }
+    }
+
+    /** 휠 발화 — 일시가 지난 모임 한 건 종료 */
+    void complete(Long meetupIdx) {
+        if (meetupRepository.completeMeetupIfPast(meetupIdx, LocalDateTime.now()) > 0) {
+            nearbyCache.invalidateAfterCommit();
+            log.info("모임 종료 전이: meetupIdx={}", meetupIdx);
+        }
+    }
+
+    int pendingCount() {
+        return wheel.size();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -8,11 +8,14 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.dto.NotificationPageResponseDTO;
 import com.linkup.Petory.domain.notification.service.NotificationService;
 import com.linkup.Petory.domain.notification.service.NotificationSseService;
 import com.linkup.Petory.global.security.AuthenticatedUserIdResolver;
@@ -42,7 +45,21 @@ public class NotificationController {
     }
 
     /**
-     * 읽지 않은 알림 목록 조회
+     * 알림 목록 조회 (커서 페이징)
+     * GET /api/notifications/cursor?cursor={nextCursor}&size={size}&unreadOnly={unreadOnly}
+     */
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/cursor")
+    public ResponseEntity<NotificationPageResponseDTO> getNotificationsByCursor(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "unreadOnly", defaultValue = "false") boolean unreadOnly) {
+        long userId = authenticatedUserIdResolver.requireCurrentUserIdx();
+        return ResponseEntity.ok(notificationService.getNotificationsPage(userId, cursor, size, unreadOnly));
+    }
+
+    /**
+     * 읽지 않은 알림 목록 조회 (최신 50건)
      */
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/unread")
@@ -89,22 +106,20 @@ public class NotificationController {
      * Server-Sent Events를 통한 실시간 알림 구독
      *
      * 참고: EventSource는 헤더에 토큰을 보낼 수 없으므로, SecurityConfig에서 이 엔드포인트는 쿼리 파라미터의
-     * 토큰으로 인증하도록 설정됨
+     * 토큰으로 인증하도록 설정됨. 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 알림을 다시 보낸다.
      */
     @SuppressWarnings({"null", "UseSpecificCatch"})
     @PreAuthorize("isAuthenticated()")
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamNotifications() {
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         long userId = authenticatedUserIdResolver.requireCurrentUserIdx();
-        log.info("SSE 연결 요청: userId={}", userId);
-        SseEmitter emitter = sseService.createConnection(userId);
+        log.info("SSE 연결 요청: userId={}, lastEventId={}", userId, lastEventId);
+        SseEmitter emitter = sseService.createConnection(userId, lastEventId);
 
-        // 연결 즉시 현재 읽지 않은 알림 개수 전송
+        // 연결 즉시 현재 읽지 않은 알림 개수 전송 (Redis 카운터, 이후 변경 시마다 다시 전송됨)
         try {
-            Long unreadCount = notificationService.getUnreadCount(userId);
-            emitter.send(SseEmitter.event()
-                    .name("unreadCount")
-                    .data(String.valueOf(unreadCount), MediaType.TEXT_PLAIN));
+            sseService.sendUnreadCount(userId, notificationService.getUnreadCount(userId));
         } catch (Exception e) {
             log.error("초기 알림 개수 전송 실패: userId={}", userId, e);
         }
@@ -0,0 +1,16 @@
+package com.linkup.Petory.domain.notification.dto;
+
+import java.util.List;
+
+/**
+ * 알림 커서 페이징 응답 DTO
+ * record: 불변 데이터 캐리어. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회한다.
+ *
+ * @param nextCursor 다음 페이지 커서 (페이지 마지막 알림 idx, 마지막 페이지면 null)
+ */
+public record NotificationPageResponseDTO(
+        List<NotificationDTO> notifications,
+        Long nextCursor,
+        boolean hasNext,
+        int pageSize) {
+}
@@ -1,5 +1,7 @@
 package com.linkup.Petory.domain.notification.entity;
 
+import java.time.LocalDateTime;
+
 import com.linkup.Petory.domain.common.BaseTimeEntity;
 import com.linkup.Petory.domain.user.entity.Users;
 
@@ -60,4 +62,13 @@ public class Notification extends BaseTimeEntity {
     @Builder.Default
     private Boolean isRead = false; // 읽음 여부
 
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt; // Redis·SSE·FCM 발송 완료 시각 (null이면 발송 대기, 아웃박스)
+
+    @Column(name = "dispatch_claim", length = 36)
+    private String dispatchClaim; // 재발송을 맡은 노드의 선점 토큰 (NotificationOutboxScheduler)
+
+    @Column(name = "dispatch_lease_until")
+    private LocalDateTime dispatchLeaseUntil; // 선점 만료 시각 (지나면 다른 노드가 다시 선점 가능)
+
 }
@@ -0,0 +1,11 @@
+package com.linkup.Petory.domain.notification.event;
+
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+
+/**
+ * 알림 저장 이벤트 (아웃박스).
+ * 알림 row를 저장한 트랜잭션이 커밋된 뒤 NotificationDispatcher가 Redis·SSE·FCM으로 발송한다.
+ */
+public record NotificationCreatedEvent(
+        NotificationDTO notification
+) {}
@@ -0,0 +1,12 @@
+package com.linkup.Petory.domain.notification.event;
+
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+
+/**
+ * 알림 읽음 처리 이벤트.
+ * 커밋 후 NotificationInboxCache가 캐시의 읽음 상태를 반영한다.
+ */
+public record NotificationReadEvent(
+        Long userId,
+        NotificationDTO notification  // 읽음 처리된 알림, 전체 읽음이면 null
+) {}
@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.notification.entity.FcmToken;
 import com.linkup.Petory.domain.user.entity.Users;
@@ -20,4 +24,14 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, Long> {
     void deleteByToken(String token);
 
     void deleteByUser(Users user);
+
+    /** 발송용 토큰 문자열만 조회 (Users 조회 없이) */
+    @Query("SELECT t.token FROM FcmToken t WHERE t.user.idx = :userIdx")
+    List<String> findTokensByUserIdx(@Param("userIdx") Long userIdx);
+
+    /** 무효 토큰 일괄 삭제 (발송 스레드에서 호출되므로 자체 트랜잭션) */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FcmToken t WHERE t.token IN :tokens")
+    int deleteByTokenIn(@Param("tokens") List<String> tokens);
 }
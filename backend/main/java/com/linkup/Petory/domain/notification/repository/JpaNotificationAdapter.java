@@ -1,10 +1,13 @@
 package com.linkup.Petory.domain.notification.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.notification.entity.Notification;
 
@@ -41,13 +44,13 @@ public class JpaNotificationAdapter implements NotificationRepository {
     }
 
     @Override
-    public List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId) {
-        return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    public List<Notification> findRecentByUserId(Long userId, int limit) {
+        return jpaRepository.findRecentByUserId(userId, PageRequest.of(0, limit));
     }
 
     @Override
-    public List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId) {
-        return jpaRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
+    public List<Notification> findPageByUserId(Long userId, Long beforeIdx, boolean unreadOnly, int limit) {
+        return jpaRepository.findPageByUserId(userId, beforeIdx, unreadOnly, PageRequest.of(0, limit));
     }
 
     @Override
@@ -59,4 +62,42 @@ public class JpaNotificationAdapter implements NotificationRepository {
     public int markAllAsReadByUserId(Long userId) {
         return jpaRepository.markAllAsReadByUserId(userId);
     }
+
+    @Override
+    public int markAsRead(Long notificationId) {
+        return jpaRepository.markAsRead(notificationId);
+    }
+
+    @Override
+    public int markDispatched(Long notificationId) {
+        return jpaRepository.markDispatched(notificationId);
+    }
+
+    /**
+     * 후보 조회·선점 UPDATE·선점분 조회를 같은 트랜잭션에서 수행 (후보가 겹쳐도 UPDATE 조건으로 한 노드만 선점)
+     */
+    @Override
+    @Transactional
+    public List<Notification> claimUndispatchedCreatedBefore(LocalDateTime before, String claim, LocalDateTime now,
+            LocalDateTime leaseUntil, int limit) {
+        List<Long> ids = jpaRepository.findClaimableIds(before, now, PageRequest.of(0, limit));
+        if (ids.isEmpty() || jpaRepository.claimForDispatch(ids, claim, now, leaseUntil) == 0) {
+            return List.of();
+        }
+        return jpaRepository.findClaimed(ids, claim);
+    }
+
+    /**
+     * 복사와 삭제를 같은 트랜잭션에서 수행 (복사는 INSERT IGNORE라 여러 노드가 겹쳐 실행해도 안전)
+     */
+    @Override
+    @Transactional
+    public int archiveReadCreatedBefore(LocalDateTime before, int limit) {
+        List<Long> ids = jpaRepository.findArchivableIds(before, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jpaRepository.copyToArchive(ids);
+        return jpaRepository.deleteByIdxIn(ids);
+    }
 }
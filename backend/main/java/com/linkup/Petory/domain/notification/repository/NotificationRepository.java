@@ -1,5 +1,6 @@
 package com.linkup.Petory.domain.notification.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,14 +22,16 @@ public interface NotificationRepository {
     Optional<Notification> findById(Long id);
 
     /**
-     * 사용자별 알림 목록 조회 (최신순)
+     * 사용자별 최신 알림 limit건 조회 (최신순)
      */
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    List<Notification> findRecentByUserId(Long userId, int limit);
 
     /**
-     * 사용자별 읽지 않은 알림 목록 조회 (최신순)
+     * 키셋(커서) 페이징 - 사용자별 알림 idx 내림차순, beforeIdx가 null이면 첫 페이지
+     *
+     * @param unreadOnly true면 읽지 않은 알림만
      */
-    List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
+    List<Notification> findPageByUserId(Long userId, Long beforeIdx, boolean unreadOnly, int limit);
 
     /**
      * 사용자별 읽지 않은 알림 개수 조회
@@ -41,4 +44,36 @@ public interface NotificationRepository {
      * @return 변경된 알림 row 수
      */
     int markAllAsReadByUserId(Long userId);
+
+    /**
+     * 읽지 않은 알림 1건을 읽음 처리 (이미 읽은 알림은 변경하지 않음)
+     *
+     * @return 변경된 알림 row 수 (0이면 이미 읽음)
+     */
+    int markAsRead(Long notificationId);
+
+    /**
+     * 발송 완료 표시 (아웃박스). 이미 표시된 알림은 변경하지 않는다.
+     *
+     * @return 변경된 알림 row 수
+     */
+    int markDispatched(Long notificationId);
+
+    /**
+     * 생성 후 일정 시간이 지나도록 발송되지 않은 알림을 최대 limit건 선점해 조회 (오래된 순)
+     * 선점은 dispatched_at이 비어 있고 다른 노드의 선점이 없거나 만료된 알림에만 조건부 UPDATE로 걸리므로,
+     * 여러 노드가 동시에 호출해도 같은 알림은 한 노드에만 반환된다.
+     *
+     * @param claim      이번 선점 토큰
+     * @param leaseUntil 선점 만료 시각 (이때까지 발송 완료 표시가 없으면 다시 선점 가능)
+     */
+    List<Notification> claimUndispatchedCreatedBefore(LocalDateTime before, String claim, LocalDateTime now,
+            LocalDateTime leaseUntil, int limit);
+
+    /**
+     * 기준 시각 이전에 생성된 읽은 알림을 최대 limit건 notifications_archive로 옮긴다 (한 트랜잭션)
+     *
+     * @return 옮긴 알림 수
+     */
+    int archiveReadCreatedBefore(LocalDateTime before, int limit);
 }
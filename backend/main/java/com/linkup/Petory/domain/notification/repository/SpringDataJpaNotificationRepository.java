@@ -1,11 +1,14 @@
 package com.linkup.Petory.domain.notification.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.notification.entity.Notification;
 import com.linkup.Petory.global.annotation.RepositoryMethod;
@@ -19,13 +22,41 @@ import com.linkup.Petory.global.annotation.RepositoryMethod;
  */
 public interface SpringDataJpaNotificationRepository extends JpaRepository<Notification, Long> {
 
-    @RepositoryMethod("알림: 사용자별 목록 조회")
-    @Query("SELECT n FROM Notification n WHERE n.user.idx = :userId ORDER BY n.createdAt DESC")
-    List<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+    @RepositoryMethod("알림: 사용자별 최신 목록 조회")
+    @Query("SELECT n FROM Notification n WHERE n.user.idx = :userId ORDER BY n.createdAt DESC, n.idx DESC")
+    List<Notification> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @RepositoryMethod("알림: 사용자별 읽지 않은 목록 조회")
-    @Query("SELECT n FROM Notification n WHERE n.user.idx = :userId AND n.isRead = false ORDER BY n.createdAt DESC")
-    List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(@Param("userId") Long userId);
+    // 읽음 필터·커서 유무로 쿼리를 나눔 — (:x IS NULL OR ...)는 (user_idx, is_read, idx) 범위 스캔을 막는다
+    @RepositoryMethod("알림: 사용자별 목록 커서 페이징 (읽지 않음 필터 선택)")
+    default List<Notification> findPageByUserId(Long userId, Long beforeIdx, boolean unreadOnly, Pageable pageable) {
+        if (unreadOnly) {
+            return beforeIdx == null
+                    ? findUnreadFirstPage(userId, pageable)
+                    : findUnreadBefore(userId, beforeIdx, pageable);
+        }
+        return beforeIdx == null
+                ? findAllFirstPage(userId, pageable)
+                : findAllBefore(userId, beforeIdx, pageable);
+    }
+
+    @RepositoryMethod("알림: 사용자별 전체 첫 페이지")
+    @Query("SELECT n FROM Notification n WHERE n.user.idx = :userId ORDER BY n.idx DESC")
+    List<Notification> findAllFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("알림: 사용자별 전체 다음 페이지 (idx seek)")
+    @Query("SELECT n FROM Notification n WHERE n.user.idx = :userId AND n.idx < :beforeIdx ORDER BY n.idx DESC")
+    List<Notification> findAllBefore(@Param("userId") Long userId, @Param("beforeIdx") Long beforeIdx,
+            Pageable pageable);
+
+    @RepositoryMethod("알림: 사용자별 읽지 않음 첫 페이지")
+    @Query("SELECT n FROM Notification n WHERE n.user.idx = :userId AND n.isRead = false ORDER BY n.idx DESC")
+    List<Notification> findUnreadFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @RepositoryMethod("알림: 사용자별 읽지 않음 다음 페이지 (idx seek)")
+    @Query("SELECT n FROM Notification n WHERE n.user.idx = :userId AND n.isRead = false "
+            + "AND n.idx < :beforeIdx ORDER BY n.idx DESC")
+    List<Notification> findUnreadBefore(@Param("userId") Long userId, @Param("beforeIdx") Long beforeIdx,
+            Pageable pageable);
 
     @RepositoryMethod("알림: 사용자별 읽지 않은 개수 조회")
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.idx = :userId AND n.isRead = false")
@@ -35,4 +66,56 @@ public interface SpringDataJpaNotificationRepository extends JpaRepository<Notif
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.idx = :userId AND n.isRead = false")
     int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    @RepositoryMethod("알림: 단건 읽음 처리")
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.idx = :idx AND n.isRead = false")
+    int markAsRead(@Param("idx") Long idx);
+
+    @RepositoryMethod("알림: 발송 완료 표시")
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.dispatchedAt = CURRENT_TIMESTAMP WHERE n.idx = :idx AND n.dispatchedAt IS NULL")
+    int markDispatched(@Param("idx") Long idx);
+
+    @RepositoryMethod("알림: 재발송 선점 후보 idx 조회")
+    @Query("SELECT n.idx FROM Notification n "
+            + "WHERE n.dispatchedAt IS NULL AND n.createdAt < :before "
+            + "  AND (n.dispatchLeaseUntil IS NULL OR n.dispatchLeaseUntil < :now) ORDER BY n.idx ASC")
+    List<Long> findClaimableIds(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    @RepositoryMethod("알림: 재발송 선점 (조건부 UPDATE)")
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Notification n SET n.dispatchClaim = :claim, n.dispatchLeaseUntil = :leaseUntil "
+            + "WHERE n.idx IN :ids AND n.dispatchedAt IS NULL "
+            + "  AND (n.dispatchLeaseUntil IS NULL OR n.dispatchLeaseUntil < :now)")
+    int claimForDispatch(
+            @Param("ids") List<Long> ids,
+            @Param("claim") String claim,
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @RepositoryMethod("알림: 선점한 재발송 대상 조회")
+    @Query("SELECT n FROM Notification n JOIN FETCH n.user "
+            + "WHERE n.idx IN :ids AND n.dispatchClaim = :claim ORDER BY n.idx ASC")
+    List<Notification> findClaimed(@Param("ids") List<Long> ids, @Param("claim") String claim);
+
+    @RepositoryMethod("알림: 보관 대상 idx 조회")
+    @Query("SELECT n.idx FROM Notification n WHERE n.isRead = true AND n.createdAt < :before ORDER BY n.idx ASC")
+    List<Long> findArchivableIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @RepositoryMethod("알림: 보관 테이블로 복사")
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO notifications_archive "
+            + "(idx, user_idx, type, title, content, related_id, related_type, is_read, dispatched_at, "
+            + "created_at, updated_at, archived_at) "
+            + "SELECT idx, user_idx, type, title, content, related_id, related_type, is_read, dispatched_at, "
+            + "created_at, updated_at, NOW(6) FROM notifications WHERE idx IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<Long> ids);
+
+    @RepositoryMethod("알림: 보관한 알림 삭제")
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.idx IN :ids")
+    int deleteByIdxIn(@Param("ids") List<Long> ids);
 }
@@ -1,32 +1,76 @@
 package com.linkup.Petory.domain.notification.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import com.linkup.Petory.domain.notification.entity.FcmToken;
 import com.linkup.Petory.domain.notification.repository.FcmTokenRepository;
 import com.linkup.Petory.domain.user.entity.Users;
 import com.linkup.Petory.domain.user.exception.UserNotFoundException;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class FcmService {
 
+    /** FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수 */
+    static final int SEND_EACH_LIMIT = 500;
+
+    static final String METRIC_MESSAGES = "notification.fcm.messages";
+    private static final String RESULT_SUCCESS = "success";
+    private static final String RESULT_RETRY = "retry";
+    private static final String RESULT_INVALID = "invalid";
+    private static final String RESULT_FAILURE = "failure";
+
     private final FcmTokenRepository fcmTokenRepository;
     private final UsersRepository usersRepository;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    /** 재시도 전용 스케줄러 - 백오프 대기가 NotificationDispatcher 발송 풀 스레드를 잡지 않도록 분리 */
+    private final ScheduledThreadPoolExecutor retryExecutor;
+
+    public FcmService(
+            FcmTokenRepository fcmTokenRepository,
+            UsersRepository usersRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.fcm.max-attempts:3}") int maxAttempts,
+            @Value("${app.notification.fcm.retry-backoff-ms:500}") long retryBackoffMs,
+            @Value("${app.notification.fcm.retry-pool-size:1}") int retryPoolSize) {
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.usersRepository = usersRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.retryExecutor = new ScheduledThreadPoolExecutor(retryPoolSize, runnable -> {
+            Thread thread = new Thread(runnable, "fcm-retry-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        meterRegistry.gauge("notification.fcm.retry.queue.size", retryExecutor, e -> e.getQueue().size());
+    }
 
     @Transactional
     public void saveToken(Long userId, String token, FcmToken.DeviceType deviceType) {
@@ -65,18 +109,19 @@ public class FcmService {
 
     /**
      * 사용자의 모든 기기에 FCM 푸시 알림 발송. Firebase가 초기화되지 않은 경우(설정 누락) 조용히 건너뜀.
+     *
+     * 토큰 {@value #SEND_EACH_LIMIT}개씩 sendEach 한 번으로 보내고 (토큰마다 send 호출하지 않음),
+     * 무효 토큰은 일괄 삭제, 일시 오류(UNAVAILABLE·INTERNAL·QUOTA_EXCEEDED)가 난 토큰만 지수 백오프로 재시도한다.
+     * 첫 시도만 호출 스레드에서 보내고, 재시도는 전용 스케줄러에 예약하므로 호출 스레드(알림 발송 풀)는 백오프 동안 막히지 않는다.
      */
     public void sendToUser(Long userId, String title, String body) {
-        if (FirebaseApp.getApps().isEmpty()) {
-            return;
-        }
-        Users user = usersRepository.findById(userId).orElse(null);
-        if (user == null) {
+        FirebaseMessaging messaging = messaging();
+        if (messaging == null) {
             return;
         }
 
-        List<FcmToken> tokens = fcmTokenRepository.findByUser(user);
-        if (tokens.isEmpty()) {
+        List<String> pending = fcmTokenRepository.findTokensByUserIdx(userId);
+        if (pending.isEmpty()) {
             return;
         }
 
@@ -85,23 +130,105 @@ public class FcmService {
                 .setBody(body)
                 .build();
 
-        for (FcmToken fcmToken : tokens) {
-            Message message = Message.builder()
-                    .setToken(fcmToken.getToken())
-                    .setNotification(notification)
-                    .build();
-            try {
-                FirebaseMessaging.getInstance().send(message);
-                log.debug("FCM 발송 완료: userId={}, deviceType={}", userId, fcmToken.getDeviceType());
-            } catch (FirebaseMessagingException e) {
-                log.warn("FCM 발송 실패: userId={}, error={}", userId, e.getMessage());
-                MessagingErrorCode errorCode = e.getMessagingErrorCode();
-                if (errorCode == MessagingErrorCode.UNREGISTERED
-                        || errorCode == MessagingErrorCode.INVALID_ARGUMENT
-                        || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH) {
-                    fcmTokenRepository.deleteByToken(fcmToken.getToken());
-                }
+        sendAttempt(messaging, userId, pending, notification, 1);
+    }
+
+    /**
+     * 한 차례 발송 후 일시 오류 토큰이 남으면 다음 시도를 백오프 뒤로 예약
+     */
+    private void sendAttempt(FirebaseMessaging messaging, Long userId, List<String> pending,
+            Notification notification, int attempt) {
+        List<String> retry = new ArrayList<>();
+        List<String> invalid = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += SEND_EACH_LIMIT) {
+            List<String> chunk = pending.subList(from, Math.min(from + SEND_EACH_LIMIT, pending.size()));
+            sendChunk(messaging, userId, chunk, notification, retry, invalid);
+        }
+
+        if (!invalid.isEmpty()) {
+            fcmTokenRepository.deleteByTokenIn(invalid);
+        }
+        if (retry.isEmpty()) {
+            return;
+        }
+        if (attempt >= maxAttempts) {
+            count(RESULT_FAILURE, retry.size());
+            log.warn("FCM 발송 재시도 초과: userId={}, tokens={}", userId, retry.size());
+            return;
+        }
+
+        count(RESULT_RETRY, retry.size());
+        try {
+            retryExecutor.schedule(() -> sendAttempt(messaging, userId, retry, notification, attempt + 1),
+                    retryBackoffMs << (attempt - 1), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            count(RESULT_FAILURE, retry.size());
+            log.warn("FCM 재시도 예약 실패 (종료 중): userId={}, tokens={}", userId, retry.size());
+        }
+    }
+
+    private void sendChunk(FirebaseMessaging messaging, Long userId, List<String> tokens, Notification notification,
+            List<String> retry, List<String> invalid) {
+        List<Message> messages = tokens.stream()
+                .map(token -> Message.builder()
+                        .setToken(token)
+                        .setNotification(notification)
+                        .build())
+                .toList();
+
+        BatchResponse response;
+        try {
+            response = messaging.sendEach(messages);
+        } catch (FirebaseMessagingException e) {
+            // 요청 전체 실패 (인증·네트워크 등)
+            log.warn("FCM 일괄 발송 실패: userId={}, error={}", userId, e.getMessage());
+            retry.addAll(tokens);
+            return;
+        }
+
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse result = responses.get(i);
+            if (result.isSuccessful()) {
+                count(RESULT_SUCCESS, 1);
+                continue;
             }
+            MessagingErrorCode errorCode = result.getException() != null
+                    ? result.getException().getMessagingErrorCode()
+                    : null;
+            if (errorCode == MessagingErrorCode.UNREGISTERED
+                    || errorCode == MessagingErrorCode.INVALID_ARGUMENT
+                    || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH) {
+                count(RESULT_INVALID, 1);
+                invalid.add(tokens.get(i));
+            } else if (errorCode == MessagingErrorCode.UNAVAILABLE
+                    || errorCode == MessagingErrorCode.INTERNAL
+                    || errorCode == MessagingErrorCode.QUOTA_EXCEEDED) {
+                retry.add(tokens.get(i));
+            } else {
+                count(RESULT_FAILURE, 1);
+                log.warn("FCM 발송 실패: userId={}, errorCode={}", userId, errorCode);
+            }
+        }
+    }
+
+    private void count(String result, int amount) {
+        meterRegistry.counter(METRIC_MESSAGES, "result", result).increment(amount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 예약된 재시도는 버린다 (종료 중인 노드가 백오프를 기다리지 않음)
+        retryExecutor.shutdownNow();
+    }
+
+    /**
+     * Firebase가 초기화되지 않았으면 null
+     */
+    FirebaseMessaging messaging() {
+        if (FirebaseApp.getApps().isEmpty()) {
+            return null;
         }
+        return FirebaseMessaging.getInstance();
     }
 }
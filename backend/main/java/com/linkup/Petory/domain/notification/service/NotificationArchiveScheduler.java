@@ -0,0 +1,54 @@
+package com.linkup.Petory.domain.notification.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.linkup.Petory.domain.notification.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 오래된 읽은 알림 보관 스케줄러
+ *
+ * 보관 기간(기본 90일)이 지난 읽은 알림을 batch-size건씩 별도 트랜잭션으로 notifications_archive에 옮겨
+ * notifications 테이블을 목록·미읽음 조회에 필요한 크기로 유지한다. 읽지 않은 알림은 옮기지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationArchiveScheduler {
+
+    private final NotificationRepository notificationRepository;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public NotificationArchiveScheduler(
+            NotificationRepository notificationRepository,
+            @Value("${app.notification.archive.retention-days:90}") int retentionDays,
+            @Value("${app.notification.archive.batch-size:1000}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 매일 새벽 보관 (배치마다 커밋하므로 중간에 실패해도 옮긴 만큼은 유지되고 다음 날 이어서 처리)
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void archiveReadNotifications() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int archived = 0;
+        try {
+            int moved;
+            do {
+                moved = notificationRepository.archiveReadCreatedBefore(before, batchSize);
+                archived += moved;
+            } while (moved == batchSize);
+            log.info("읽은 알림 보관 완료 - 기준: {}, 이동 수: {}", before, archived);
+        } catch (Exception e) {
+            log.error("읽은 알림 보관 실패 - 이동 수: {}, 다음 주기에 이어서 처리", archived, e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.linkup.Petory.domain.notification.service;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.event.NotificationCreatedEvent;
+import com.linkup.Petory.domain.notification.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 발송기 (아웃박스 → Redis·SSE·FCM)
+ *
+ * 알림 row 저장 트랜잭션이 커밋된 뒤 채널별 작업 3개를 bounded 풀에 넣어 병렬로 보내고,
+ * 세 채널이 모두 끝나면 dispatched_at을 표시한다. 채널 하나의 실패는 다른 채널에 영향을 주지 않는다.
+ * 풀이 가득 차면 발송하지 않고 알림을 대기 상태로 남겨 NotificationOutboxScheduler가 다시 보낸다.
+ * (채널 일부만 접수된 경우에도 알림 전체가 다시 발송된다. Redis 목록·SSE는 idx로 중복 제거되지만
+ * FCM 푸시는 중복 도착하므로, 재발송은 한 노드만 선점해 보낸다)
+ *
+ * 지표:
+ * - notification.dispatch.latency{channel}: 채널별 발송 소요 시간
+ * - notification.dispatch.failures{channel}: 채널별 실패 수
+ * - notification.dispatch.rejected: 풀 포화로 미룬 알림 수
+ * - notification.dispatch.queue.size / notification.dispatch.active: 대기 작업 수 / 실행 중 스레드 수
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    static final String CHANNEL_REDIS = "redis";
+    static final String CHANNEL_SSE = "sse";
+    static final String CHANNEL_FCM = "fcm";
+
+    private final NotificationInboxCache inboxCache;
+    private final NotificationSseService sseService;
+    private final FcmService fcmService;
+    private final NotificationRepository notificationRepository;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Timer> latency;
+    private final Map<String, Counter> failures;
+    private final Counter rejected;
+
+    public NotificationDispatcher(
+            NotificationInboxCache inboxCache,
+            NotificationSseService sseService,
+            FcmService fcmService,
+            NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.dispatch.pool-size:4}") int poolSize,
+            @Value("${app.notification.dispatch.queue-capacity:2000}") int queueCapacity) {
+        this.inboxCache = inboxCache;
+        this.sseService = sseService;
+        this.fcmService = fcmService;
+        this.notificationRepository = notificationRepository;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.latency = Map.of(
+                CHANNEL_REDIS, latencyTimer(meterRegistry, CHANNEL_REDIS),
+                CHANNEL_SSE, latencyTimer(meterRegistry, CHANNEL_SSE),
+                CHANNEL_FCM, latencyTimer(meterRegistry, CHANNEL_FCM));
+        this.failures = Map.of(
+                CHANNEL_REDIS, meterRegistry.counter("notification.dispatch.failures", "channel", CHANNEL_REDIS),
+                CHANNEL_SSE, meterRegistry.counter("notification.dispatch.failures", "channel", CHANNEL_SSE),
+                CHANNEL_FCM, meterRegistry.counter("notification.dispatch.failures", "channel", CHANNEL_FCM));
+        this.rejected = meterRegistry.counter("notification.dispatch.rejected");
+        meterRegistry.gauge("notification.dispatch.queue.size", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("notification.dispatch.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    private static Timer latencyTimer(MeterRegistry meterRegistry, String channel) {
+        return Timer.builder("notification.dispatch.latency")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        dispatch(event.notification());
+    }
+
+    /**
+     * 알림 1건을 채널별로 병렬 발송
+     *
+     * @return 발송 작업이 접수되면 true, 풀 포화로 미뤘으면 false (재발송 대상으로 남음)
+     */
+    public boolean dispatch(NotificationDTO notification) {
+        Long userId = notification.getUserId();
+        CompletableFuture<?>[] channels;
+        try {
+            channels = new CompletableFuture<?>[] {
+                    submit(CHANNEL_REDIS, () -> inboxCache.push(userId, notification)),
+                    submit(CHANNEL_SSE, () -> sseService.sendNotification(userId, notification)),
+                    submit(CHANNEL_FCM, () -> fcmService.sendToUser(userId, notification.getTitle(),
+                            notification.getContent()))
+            };
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("알림 발송 풀 포화 - 재발송 대기: notificationId={}, queued={}",
+                    notification.getIdx(), executor.getQueue().size());
+            return false;
+        }
+
+        CompletableFuture.allOf(channels).whenComplete((ignored, error) -> {
+            try {
+                notificationRepository.markDispatched(notification.getIdx());
+            } catch (Exception e) {
+                log.warn("알림 발송 완료 표시 실패 (재발송될 수 있음): notificationId={}, error={}",
+                        notification.getIdx(), e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 로컬 발송 대기열이 비어 있는지 (재발송 스케줄러가 처리 중인 알림을 중복으로 보내지 않도록)
+     */
+    public boolean isIdle() {
+        return executor.getQueue().isEmpty();
+    }
+
+    private CompletableFuture<Void> submit(String channel, Runnable task) {
+        return CompletableFuture.runAsync(() -> {
+            Timer.Sample sample = Timer.start();
+            try {
+                task.run();
+            } catch (Exception e) {
+                failures.get(channel).increment();
+                log.warn("알림 발송 실패: channel={}, error={}", channel, e.getMessage());
+            } finally {
+                sample.stop(latency.get(channel));
+            }
+        }, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("알림 발송 대기 작업 {}건을 남기고 종료 (다음 기동 후 재발송)", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.linkup.Petory.domain.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.event.NotificationReadEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 최근 알림 캐시 (Redis).
+ *
+ * <ul>
+ * <li>"notification:inbox:{userId}" (ZSET: 알림 idx → 생성 시각 점수) - 최신 {@value #INBOX_SIZE}건 순서</li>
+ * <li>"notification:inbox:{userId}:items" (Hash: 알림 idx → 알림 JSON)</li>
+ * </ul>
+ * 추가·읽음 반영·잘라내기는 스크립트 한 번으로 원자적으로 처리하여 (목록 전체를 읽고 다시 쓰지 않음)
+ * 같은 사용자에게 동시에 알림이 와도 유실되지 않는다. ZSET의 표식 멤버("_")는 DB에서 채운 목록임을 뜻하며,
+ * 표식이 없으면 캐시 미스로 보고 DB에서 최신 {@value #INBOX_SIZE}건을 읽어 합친다.
+ * Redis 장애 시 조회는 캐시 미스로, 갱신은 무시(로그)로 처리한다.
+ */
+@Slf4j
+@Component
+public class NotificationInboxCache {
+
+    /** 캐시에 유지하는 최신 알림 수 */
+    public static final int INBOX_SIZE = 50;
+
+    private static final String KEY_PREFIX = "notification:inbox:";
+    private static final String ITEMS_SUFFIX = ":items";
+    private static final Duration TTL = Duration.ofHours(24);
+
+    /**
+     * 최신 INBOX_SIZE건 밖으로 밀려난 알림 제거 (순위 0은 -inf 점수의 표식이므로 제외)
+     */
+    private static final String TRIM = """
+            local marker = redis.call('ZSCORE', KEYS[1], '_') and 1 or 0
+            local overflow = redis.call('ZCARD', KEYS[1]) - marker - tonumber(ARGV[1])
+            if overflow > 0 then
+              local old = redis.call('ZRANGE', KEYS[1], marker, marker + overflow - 1)
+              redis.call('ZREM', KEYS[1], unpack(old))
+              redis.call('HDEL', KEYS[2], unpack(old))
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            """;
+
+    /** KEYS: 목록, 항목 / ARGV: 최대 건수, ttl, idx, 점수, JSON */
+    private static final RedisScript<Long> PUSH = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[4], ARGV[3])
+            redis.call('HSET', KEYS[2], ARGV[3], ARGV[5])
+            """ + TRIM + "return 1", Long.class);
+
+    /** KEYS: 목록, 항목 / ARGV: 최대 건수, ttl, 이후 알림마다 {idx, 점수, JSON} - 이미 담긴 알림과 합친다 */
+    private static final RedisScript<Long> FILL = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], '-inf', '_')
+            for i = 3, #ARGV, 3 do
+              redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+              if redis.call('HEXISTS', KEYS[2], ARGV[i]) == 0 then
+                redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2])
+              end
+            end
+            """ + TRIM + "return 1", Long.class);
+
+    /** KEYS: 목록, 항목 / ARGV: 조회 건수 - 표식이 없으면 nil */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ = new DefaultRedisScript<>("""
+            if not redis.call('ZSCORE', KEYS[1], '_') then return false end
+            local result = {}
+            for _, id in ipairs(redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]))) do
+              if id ~= '_' and #result < tonumber(ARGV[1]) then
+                local item = redis.call('HGET', KEYS[2], id)
+                if item then table.insert(result, item) end
+              end
+            end
+            return result
+            """, List.class);
+
+    /** KEYS: 항목 / ARGV: idx, JSON - 캐시에 있는 알림만 교체 */
+    private static final RedisScript<Long> REPLACE = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+              redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotificationInboxCache(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 새 알림 추가 (NotificationDispatcher에서 호출). 같은 알림을 다시 추가해도 한 건으로 유지된다.
+     */
+    public void push(Long userId, NotificationDTO notification) {
+        try {
+            redisTemplate.execute(PUSH, keys(userId),
+                    Integer.toString(INBOX_SIZE), Long.toString(TTL.toSeconds()),
+                    notification.getIdx().toString(), Long.toString(score(notification)),
+                    objectMapper.writeValueAsString(notification));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("알림 캐시 추가 실패 (DB 조회로 대체됨): userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 최신 알림 조회 (최신순)
+     *
+     * @return DB에서 채운 적이 없거나 Redis를 쓸 수 없으면 empty
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<NotificationDTO>> getRecent(Long userId, int limit) {
+        List<Object> items;
+        try {
+            items = redisTemplate.execute(READ, keys(userId), Integer.toString(limit));
+        } catch (DataAccessException e) {
+            log.warn("알림 캐시 조회 실패 - DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+        if (items == null) {
+            return Optional.empty();
+        }
+
+        List<NotificationDTO> notifications = new ArrayList<>(items.size());
+        try {
+            for (Object item : items) {
+                notifications.add(objectMapper.readValue((String) item, NotificationDTO.class));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("알림 캐시 해석 실패 - DB 조회로 대체: userId={}", userId);
+            evict(userId);
+            return Optional.empty();
+        }
+        return Optional.of(notifications);
+    }
+
+    /**
+     * DB에서 읽은 최신 알림으로 캐시 채우기 (그 사이 추가된 알림은 유지)
+     */
+    public void fill(Long userId, List<NotificationDTO> notifications) {
+        try {
+            List<String> args = new ArrayList<>(2 + notifications.size() * 3);
+            args.add(Integer.toString(INBOX_SIZE));
+            args.add(Long.toString(TTL.toSeconds()));
+            for (NotificationDTO notification : notifications) {
+                args.add(notification.getIdx().toString());
+                args.add(Long.toString(score(notification)));
+                args.add(objectMapper.writeValueAsString(notification));
+            }
+            redisTemplate.execute(FILL, keys(userId), args.toArray());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("알림 캐시 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 읽음 처리 반영: 캐시에 있는 알림 내용 교체, 전체 읽음이면 캐시 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRead(NotificationReadEvent event) {
+        if (event.notification() == null) {
+            evict(event.userId());
+        } else {
+            replace(event.userId(), event.notification());
+        }
+    }
+
+    private void replace(Long userId, NotificationDTO notification) {
+        try {
+            redisTemplate.execute(REPLACE, List.of(itemsKey(userId)),
+                    notification.getIdx().toString(), objectMapper.writeValueAsString(notification));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("알림 캐시 갱신 실패 - 캐시 삭제: userId={}, error={}", userId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(keys(userId));
+        } catch (DataAccessException e) {
+            log.warn("알림 캐시 삭제 실패 (TTL 만료로 정리됨): userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private static long score(NotificationDTO notification) {
+        LocalDateTime createdAt = notification.getCreatedAt();
+        return createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    private static List<String> keys(Long userId) {
+        return List.of(KEY_PREFIX + userId, itemsKey(userId));
+    }
+
+    private static String itemsKey(Long userId) {
+        return KEY_PREFIX + userId + ITEMS_SUFFIX;
+    }
+}
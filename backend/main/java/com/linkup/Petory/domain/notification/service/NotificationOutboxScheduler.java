@@ -0,0 +1,76 @@
+package com.linkup.Petory.domain.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.linkup.Petory.domain.notification.converter.NotificationConverter;
+import com.linkup.Petory.domain.notification.entity.Notification;
+import com.linkup.Petory.domain.notification.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 발송되지 않은 알림 재발송 스케줄러 (아웃박스)
+ *
+ * 커밋 후 발송 풀이 가득 찼거나 발송 도중 노드가 종료되어 dispatched_at이 비어 있는 알림을 다시 보낸다.
+ * 생성 후 유예 시간(기본 2분)이 지난 알림만, 로컬 발송 대기열이 비어 있을 때만 다루므로
+ * 정상 경로로 발송 중인 알림과 겹치지 않는다.
+ * FCM 푸시는 다시 보내면 사용자에게 두 번 도착하므로, 발송 전에 조건부 UPDATE로 배치를 선점(claim 토큰 + lease 만료 시각)해
+ * 여러 노드가 같은 알림을 보내지 않게 한다. 선점한 노드가 lease(기본 5분) 안에 발송 완료를 표시하지 못하면
+ * (풀 포화로 중단, 노드 종료) 만료 후 다른 노드가 다시 선점한다.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxScheduler {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationConverter notificationConverter;
+    private final NotificationDispatcher dispatcher;
+    private final long graceSeconds;
+    private final long leaseSeconds;
+    private final int batchSize;
+
+    public NotificationOutboxScheduler(
+            NotificationRepository notificationRepository,
+            NotificationConverter notificationConverter,
+            NotificationDispatcher dispatcher,
+            @Value("${app.notification.outbox.grace-seconds:120}") long graceSeconds,
+            @Value("${app.notification.outbox.lease-seconds:300}") long leaseSeconds,
+            @Value("${app.notification.outbox.batch-size:200}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.notificationConverter = notificationConverter;
+        this.dispatcher = dispatcher;
+        this.graceSeconds = graceSeconds;
+        this.leaseSeconds = leaseSeconds;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.outbox.recovery-interval-ms:30000}")
+    public void redispatchPending() {
+        if (!dispatcher.isIdle()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> pending = notificationRepository.claimUndispatchedCreatedBefore(
+                now.minusSeconds(graceSeconds), UUID.randomUUID().toString(), now, now.plusSeconds(leaseSeconds),
+                batchSize);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int dispatched = 0;
+        for (Notification notification : pending) {
+            if (!dispatcher.dispatch(notificationConverter.toDTO(notification))) {
+                break;
+            }
+            dispatched++;
+        }
+        log.info("미발송 알림 재발송: {}/{}건", dispatched, pending.size());
+    }
+}
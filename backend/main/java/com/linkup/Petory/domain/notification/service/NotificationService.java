@@ -1,21 +1,21 @@
 package com.linkup.Petory.domain.notification.service;
 
-import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.linkup.Petory.domain.notification.converter.NotificationConverter;
 import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.dto.NotificationPageResponseDTO;
 import com.linkup.Petory.domain.notification.entity.Notification;
 import com.linkup.Petory.domain.notification.entity.NotificationType;
+import com.linkup.Petory.domain.notification.event.NotificationCreatedEvent;
+import com.linkup.Petory.domain.notification.event.NotificationReadEvent;
 import com.linkup.Petory.domain.notification.exception.NotificationForbiddenException;
 import com.linkup.Petory.domain.notification.exception.NotificationNotFoundException;
 import com.linkup.Petory.domain.notification.repository.NotificationRepository;
@@ -23,37 +23,29 @@ import com.linkup.Petory.domain.user.entity.Users;
 import com.linkup.Petory.domain.user.exception.UserNotFoundException;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
 
+import lombok.RequiredArgsConstructor;
+
 @Service
+@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    /** 커서 페이징 최대 크기 */
+    static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final UsersRepository usersRepository;
     private final NotificationConverter notificationConverter;
-    private final RedisTemplate<String, Object> notificationRedisTemplate;
-    private final NotificationSseService sseService;
-    private final FcmService fcmService;
-
-    public NotificationService(
-            NotificationRepository notificationRepository,
-            UsersRepository usersRepository,
-            NotificationConverter notificationConverter,
-            @Qualifier("notificationRedisTemplate") RedisTemplate<String, Object> notificationRedisTemplate,
-            NotificationSseService sseService,
-            FcmService fcmService) {
-        this.notificationRepository = notificationRepository;
-        this.usersRepository = usersRepository;
-        this.notificationConverter = notificationConverter;
-        this.notificationRedisTemplate = notificationRedisTemplate;
-        this.sseService = sseService;
-        this.fcmService = fcmService;
-    }
-
-    private static final String REDIS_KEY_PREFIX = "notification:";
-    private static final int REDIS_TTL_HOURS = 24; // Redis에 24시간 저장
+    private final NotificationInboxCache inboxCache;
+    private final NotificationUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 알림 생성 및 발송
+     * 알림 생성 및 발송 예약
+     *
+     * 호출한 트랜잭션(댓글 작성 등)에서는 알림 row만 저장하고, Redis·SSE·FCM 발송은
+     * 커밋 후 NotificationDispatcher가 별도 스레드에서 수행한다 (느린 FCM 호출이 작성 요청을 붙잡지 않음).
+     * 발송되지 않은 알림(dispatched_at IS NULL)은 NotificationOutboxScheduler가 다시 발송한다.
      *
      * @param userId 알림을 받을 사용자 ID
      * @param type 알림 타입
@@ -81,58 +73,69 @@ public class NotificationService {
         Notification saved = notificationRepository.save(notification);
         NotificationDTO dto = notificationConverter.toDTO(saved);
 
-        // Redis에 실시간 알림 저장 (최신 알림 목록 관리)
-        saveToRedis(userId, dto);
-
-        // SSE를 통해 실시간 알림 전송 (앱 열려있을 때)
-        sseService.sendNotification(userId, dto);
-
-        // FCM 푸시 알림 발송 (앱 꺼져있을 때)
-        fcmService.sendToUser(userId, title, content);
+        // 커밋 후 Redis·SSE·FCM 발송 (아웃박스)
+        eventPublisher.publishEvent(new NotificationCreatedEvent(dto));
 
         return dto;
     }
 
     /**
-     * 사용자의 알림 목록 조회
+     * 사용자의 최신 알림 목록 조회 (최신 {@value NotificationInboxCache#INBOX_SIZE}건)
+     * Redis 캐시를 한 번 읽고, 캐시가 비어 있을 때만 DB에서 최신 건만 조회해 채운다.
      */
     public List<NotificationDTO> getUserNotifications(Long userId) {
-        // Redis에서 먼저 조회 시도
-        List<NotificationDTO> redisNotifications = getFromRedis(userId);
-        if (redisNotifications != null && !redisNotifications.isEmpty()) {
-            // Redis에 데이터가 있으면 DB와 병합하여 반환
-            List<NotificationDTO> dbNotifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                    .stream()
-                    .map(notificationConverter::toDTO)
-                    .collect(Collectors.toList());
-
-            // Redis와 DB 데이터 병합 (중복 제거)
-            return mergeNotifications(redisNotifications, dbNotifications);
+        Optional<List<NotificationDTO>> cached = inboxCache.getRecent(userId, NotificationInboxCache.INBOX_SIZE);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        // Redis에 없으면 DB에서 조회
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId)
+        List<NotificationDTO> recent = notificationRepository
+                .findRecentByUserId(userId, NotificationInboxCache.INBOX_SIZE)
                 .stream()
                 .map(notificationConverter::toDTO)
                 .collect(Collectors.toList());
+        inboxCache.fill(userId, recent);
+        return recent;
+    }
+
+    /**
+     * 알림 목록 커서 페이징 (idx 내림차순 = 최신순)
+     * size + 1건을 조회해 초과분이 있으면 다음 페이지가 있다고 판단한다 (COUNT 쿼리 없음).
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ {@value #MAX_PAGE_SIZE})
+     * @param unreadOnly true면 읽지 않은 알림만
+     */
+    public NotificationPageResponseDTO getNotificationsPage(Long userId, Long cursor, int size, boolean unreadOnly) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Notification> rows = notificationRepository.findPageByUserId(userId, cursor, unreadOnly, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> page = hasNext ? rows.subList(0, pageSize) : rows;
+        return new NotificationPageResponseDTO(
+                page.stream().map(notificationConverter::toDTO).collect(Collectors.toList()),
+                hasNext ? page.get(pageSize - 1).getIdx() : null,
+                hasNext,
+                pageSize);
     }
 
     /**
-     * 읽지 않은 알림 목록 조회
+     * 읽지 않은 알림 목록 조회 (최신 {@value NotificationInboxCache#INBOX_SIZE}건, 이후는 커서 페이징으로 조회)
      */
     public List<NotificationDTO> getUnreadNotifications(Long userId) {
-        return notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId)
+        return notificationRepository.findPageByUserId(userId, null, true, NotificationInboxCache.INBOX_SIZE)
                 .stream()
                 .map(notificationConverter::toDTO)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 읽지 않은 알림 개수 조회 SSE 연결 등 장시간 연결에서 호출될 수 있으므로 트랜잭션 없이 실행
+     * 읽지 않은 알림 개수 조회 (Redis 카운터, 없을 때만 DB COUNT)
+     * SSE 연결 등 장시간 연결에서 호출될 수 있으므로 트랜잭션 없이 실행
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCounter.get(userId);
     }
 
     /**
@@ -148,11 +151,14 @@ public class NotificationService {
             throw NotificationForbiddenException.ownNotificationOnly();
         }
 
+        // 읽지 않은 알림일 때만 변경 (중복 요청에 미읽음 수가 두 번 줄지 않도록)
+        if (notificationRepository.markAsRead(notificationId) == 0) {
+            return;
+        }
         notification.setIsRead(true);
-        notificationRepository.save(notification);
 
-        // Redis에서도 제거
-        removeFromRedis(userId, notificationId);
+        // 커밋 후 캐시의 읽음 상태·미읽음 수 반영
+        eventPublisher.publishEvent(new NotificationReadEvent(userId, notificationConverter.toDTO(notification)));
     }
 
     /**
@@ -162,100 +168,7 @@ public class NotificationService {
     public void markAllAsRead(Long userId) {
         notificationRepository.markAllAsReadByUserId(userId);
 
-        // Redis에서 해당 사용자의 모든 알림 제거
-        String redisKey = REDIS_KEY_PREFIX + userId;
-        notificationRedisTemplate.delete(redisKey);
-    }
-
-    /**
-     * Redis에 알림 저장
-     */
-    @SuppressWarnings("null")
-    private void saveToRedis(Long userId, NotificationDTO notification) {
-        String redisKey = REDIS_KEY_PREFIX + userId;
-        List<NotificationDTO> existingNotifications = getFromRedis(userId);
-
-        // 수정 가능한 리스트 생성
-        List<NotificationDTO> notifications;
-        if (existingNotifications == null || existingNotifications.isEmpty()) {
-            notifications = new ArrayList<>();
-        } else {
-            // 기존 리스트를 수정 가능한 새 리스트로 복사 (불변 리스트일 수 있으므로)
-            notifications = new ArrayList<>(existingNotifications);
-        }
-
-        // 최신 알림을 맨 앞에 추가 (최대 50개만 유지)
-        notifications.add(0, notification);
-        if (notifications.size() > 50) {
-            notifications = notifications.subList(0, 50);
-            // subList는 원본 리스트의 뷰이므로 새 리스트로 복사 필요
-            notifications = new ArrayList<>(notifications);
-        }
-
-        notificationRedisTemplate.opsForValue().set(redisKey, notifications,
-                Duration.ofHours(REDIS_TTL_HOURS));
-    }
-
-    /**
-     * Redis에서 알림 조회
-     */
-    @SuppressWarnings("unchecked")
-    private List<NotificationDTO> getFromRedis(Long userId) {
-        String redisKey = REDIS_KEY_PREFIX + userId;
-        Object value = notificationRedisTemplate.opsForValue().get(redisKey);
-
-        if (value instanceof List) {
-            return (List<NotificationDTO>) value;
-        }
-        return null;
-    }
-
-    /**
-     * Redis에서 알림 제거
-     */
-    @SuppressWarnings("null")
-    private void removeFromRedis(Long userId, Long notificationId) {
-        String redisKey = REDIS_KEY_PREFIX + userId;
-        List<NotificationDTO> existingNotifications = getFromRedis(userId);
-
-        if (existingNotifications != null && !existingNotifications.isEmpty()) {
-            // 수정 가능한 새 리스트로 복사
-            List<NotificationDTO> notifications = new ArrayList<>(existingNotifications);
-            notifications.removeIf(n -> n.getIdx().equals(notificationId));
-            notificationRedisTemplate.opsForValue().set(redisKey, notifications,
-                    Duration.ofHours(REDIS_TTL_HOURS));
-        }
-    }
-
-    /**
-     * Redis와 DB 알림 병합 (중복 제거)
-     */
-    private List<NotificationDTO> mergeNotifications(List<NotificationDTO> redisNotifications,
-            List<NotificationDTO> dbNotifications) {
-        Set<Long> redisIds = redisNotifications.stream()
-                .map(NotificationDTO::getIdx)
-                .collect(Collectors.toSet());
-
-        // Redis에 없는 DB 알림만 추가
-        List<NotificationDTO> merged = new ArrayList<>(redisNotifications);
-        dbNotifications.stream()
-                .filter(n -> !redisIds.contains(n.getIdx()))
-                .forEach(merged::add);
-
-        // 최신순 정렬
-        merged.sort((a, b) -> {
-            if (a.getCreatedAt() == null && b.getCreatedAt() == null) {
-                return 0;
-            }
-            if (a.getCreatedAt() == null) {
-                return 1;
-            }
-            if (b.getCreatedAt() == null) {
-                return -1;
-            }
-            return b.getCreatedAt().compareTo(a.getCreatedAt());
-        });
-
-        return merged;
+        // 커밋 후 캐시 삭제 (다음 조회 때 DB에서 다시 채움), 미읽음 수 0
+        eventPublisher.publishEvent(new NotificationReadEvent(userId, null));
     }
 }
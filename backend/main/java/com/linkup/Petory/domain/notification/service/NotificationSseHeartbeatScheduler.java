@@ -0,0 +1,29 @@
+package com.linkup.Petory.domain.notification.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE heartbeat 스케줄러
+ *
+ * 알림이 없는 동안에도 주기적으로(기본 25초) 주석 이벤트를 보내 로드밸런서·프록시의 유휴 연결 종료를 막고,
+ * 전송에 실패한 (클라이언트가 이미 떠난) 연결을 정리해 연결 수 지표가 실제와 맞도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationSseHeartbeatScheduler {
+
+    private final NotificationSseService sseService;
+
+    @Scheduled(fixedDelayString = "${app.notification.sse.heartbeat-interval-ms:25000}")
+    public void sendHeartbeat() {
+        int removed = sseService.sendHeartbeat();
+        if (removed > 0) {
+            log.debug("SSE heartbeat 실패 연결 정리: {}건, 남은 연결 수: {}", removed, sseService.getConnectionCount());
+        }
+    }
+}
@@ -1,94 +1,335 @@
 package com.linkup.Petory.domain.notification.service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkup.Petory.domain.notification.dto.NotificationDTO;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 실시간 알림 SSE 연결 관리 (멀티 노드·멀티 기기)
+ *
+ * - 사용자당 여러 연결(탭·기기)을 유지하고, 한도(기본 5개)를 넘으면 가장 오래된 연결을 닫는다
+ * - 전송: 이 노드의 연결로 먼저 보낸 뒤 Redis 채널 "notification:sse"에 발행하고,
+ *   다른 노드는 자기 노드에 연결된 사용자에게만 전달한다 (자기 노드 발행분은 무시)
+ * - 알림 이벤트는 id(알림 idx)를 붙여 보내고 사용자별 최근 {@value #REPLAY_SIZE}건을
+ *   "notification:sse:replay:{userId}"(ZSET, 점수 = idx)에 보관하여, 재연결 시 Last-Event-ID 이후 알림을 다시 보낸다
+ * - NotificationSseHeartbeatScheduler가 주기적으로 heartbeat 주석을 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리한다
+ *
+ * Redis 발행이 실패해도 같은 노드의 연결에는 전달된다. 같은 알림을 두 번 받을 수 있으므로 클라이언트는 idx로 중복 제거한다.
+ *
+ * 지표: notification.sse.connections / notification.sse.users (이 노드의 연결 수 / 연결된 사용자 수)
+ */
 @Service
 @Slf4j
-public class NotificationSseService {
+public class NotificationSseService implements MessageListener {
 
-    // 사용자별 SSE 연결 관리
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    static final String CHANNEL = "notification:sse";
+    static final String EVENT_NOTIFICATION = "notification";
+    static final String EVENT_UNREAD_COUNT = "unreadCount";
+
+    /** 재연결 시 다시 보낼 수 있는 사용자별 최근 알림 수 */
+    public static final int REPLAY_SIZE = 50;
+
+    private static final String REPLAY_KEY_PREFIX = "notification:sse:replay:";
+    private static final Duration REPLAY_TTL = Duration.ofHours(1);
+    private static final long TIMEOUT_MS = 3600000L; // 1시간 타임아웃
+
+    /** KEYS: 재전송 버퍼 / ARGV: idx, 알림 JSON, 최대 건수, ttl, 채널, 발행 메시지 */
+    private static final RedisScript<Long> BUFFER_AND_PUBLISH = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return redis.call('PUBLISH', ARGV[5], ARGV[6])
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final int maxConnectionsPerUser;
+
+    // 사용자별 SSE 연결 관리 (연결 순서 유지, 전송이 연결·해제보다 훨씬 잦으므로 COW 목록)
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /** 자기 노드 발행분을 걸러내기 위한 노드 식별자 (인스턴스마다 새로 생성) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public NotificationSseService(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        meterRegistry.gauge("notification.sse.connections", this, NotificationSseService::getConnectionCount);
+        meterRegistry.gauge("notification.sse.users", this, NotificationSseService::getConnectedUserCount);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
 
     /**
      * 사용자에게 SSE 연결 생성
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID (마지막으로 받은 알림 idx, 없으면 null)
      */
-    public SseEmitter createConnection(Long userId) {
-        SseEmitter emitter = new SseEmitter(3600000L); // 1시간 타임아웃
+    public SseEmitter createConnection(Long userId, String lastEventId) {
+        SseEmitter emitter = newEmitter();
 
         emitter.onCompletion(() -> {
             log.info("SSE 연결 완료: userId={}", userId);
-            emitters.remove(userId);
+            remove(userId, emitter);
         });
 
         emitter.onTimeout(() -> {
             log.info("SSE 연결 타임아웃: userId={}", userId);
-            emitters.remove(userId);
+            remove(userId, emitter);
         });
 
         emitter.onError((ex) -> {
             log.error("SSE 연결 오류: userId={}, error={}", userId, ex.getMessage());
-            emitters.remove(userId);
+            remove(userId, emitter);
         });
 
-        emitters.put(userId, emitter);
-        log.info("SSE 연결 생성: userId={}, 현재 연결 수={}", userId, emitters.size());
+        List<SseEmitter> userEmitters = emitters.compute(userId, (id, current) -> {
+            List<SseEmitter> list = current != null ? current : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+        while (userEmitters.size() > maxConnectionsPerUser) {
+            SseEmitter oldest = userEmitters.remove(0);
+            log.info("SSE 연결 수 초과로 가장 오래된 연결 종료: userId={}", userId);
+            oldest.complete();
+        }
+        log.info("SSE 연결 생성: userId={}, 사용자 연결 수={}, 현재 연결 사용자 수={}",
+                userId, userEmitters.size(), emitters.size());
 
+        // 등록 후 재전송 (그 사이 발행된 알림은 중복될 수 있으나 유실되지 않음)
+        replay(userId, emitter, lastEventId);
         return emitter;
     }
 
+    /** 테스트에서 전송 내용을 확인할 수 있도록 분리 */
+    SseEmitter newEmitter() {
+        return new SseEmitter(TIMEOUT_MS);
+    }
+
     /**
-     * 특정 사용자에게 알림 전송
+     * 특정 사용자에게 알림 전송 (모든 노드의 연결, 재연결용 버퍼에 보관)
      */
-    @SuppressWarnings("null")
     public void sendNotification(Long userId, NotificationDTO notification) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("notification")
-                        .data(notification));
-                log.info("알림 전송 성공: userId={}, notificationId={}", userId, notification.getIdx());
-            } catch (IOException e) {
-                log.error("알림 전송 실패: userId={}, error={}", userId, e.getMessage());
-                emitters.remove(userId);
-                try {
-                    emitter.completeWithError(e);
-                } catch (Exception ex) {
-                    log.error("emitter 완료 처리 실패", ex);
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            log.error("알림 직렬화 실패: userId={}, notificationId={}", userId, notification.getIdx(), e);
+            return;
+        }
+        String id = notification.getIdx().toString();
+        deliverLocally(userId, EVENT_NOTIFICATION, id, json);
+
+        try {
+            redisTemplate.execute(BUFFER_AND_PUBLISH, List.of(REPLAY_KEY_PREFIX + userId),
+                    id, json, Integer.toString(REPLAY_SIZE), Long.toString(REPLAY_TTL.toSeconds()),
+                    CHANNEL, envelope(userId, EVENT_NOTIFICATION, id, json));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("알림 SSE 발행 실패 (이 노드 연결에만 전달됨): userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 사용자에게 읽지 않은 알림 수 전송 ("unreadCount" 이벤트, text/plain, 재전송 대상 아님)
+     */
+    public void sendUnreadCount(Long userId, long count) {
+        String data = String.valueOf(count);
+        deliverLocally(userId, EVENT_UNREAD_COUNT, null, data);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, envelope(userId, EVENT_UNREAD_COUNT, null, data));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("미읽음 알림 수 SSE 발행 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 이벤트 수신
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        Envelope envelope;
+        try {
+            envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+        } catch (JsonProcessingException e) {
+            log.warn("알 수 없는 형식의 알림 SSE 메시지 무시: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(envelope.origin())) {
+            return;
+        }
+        deliverLocally(envelope.userId(), envelope.name(), envelope.id(), envelope.data());
+    }
+
+    /**
+     * 이 노드의 모든 연결에 heartbeat 주석 전송, 끊긴 연결 정리
+     *
+     * @return 정리한 연결 수
+     */
+    public int sendHeartbeat() {
+        int removed = 0;
+        for (Map.Entry<Long, List<SseEmitter>> entry : emitters.entrySet()) {
+            for (SseEmitter emitter : entry.getValue()) {
+                if (!send(entry.getKey(), emitter, SseEmitter.event().comment("heartbeat"))) {
+                    removed++;
                 }
             }
-        } else {
-            log.debug("SSE 연결 없음: userId={} (알림은 DB/Redis에 저장됨)", userId);
         }
+        return removed;
     }
 
     /**
      * 사용자 연결 해제
      */
     public void removeConnection(Long userId) {
-        SseEmitter emitter = emitters.remove(userId);
-        if (emitter != null) {
-            try {
-                emitter.complete();
-            } catch (Exception e) {
-                log.error("emitter 완료 처리 실패: userId={}", userId, e);
+        List<SseEmitter> removed = emitters.remove(userId);
+        if (removed != null) {
+            for (SseEmitter emitter : removed) {
+                try {
+                    emitter.complete();
+                } catch (Exception e) {
+                    log.error("emitter 완료 처리 실패: userId={}", userId, e);
+                }
             }
         }
     }
 
     /**
-     * 연결된 사용자 수 조회
+     * 이 노드에 연결된 사용자 수 조회
      */
     public int getConnectedUserCount() {
         return emitters.size();
     }
+
+    /**
+     * 이 노드의 SSE 연결 수 조회 (사용자당 여러 연결 포함)
+     */
+    public int getConnectionCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void replay(Long userId, SseEmitter emitter, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+        long after;
+        try {
+            after = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        Set<TypedTuple<String>> missed;
+        try {
+            missed = redisTemplate.opsForZSet().rangeByScoreWithScores(REPLAY_KEY_PREFIX + userId,
+                    after + 1, Double.POSITIVE_INFINITY);
+        } catch (DataAccessException e) {
+            log.warn("알림 재전송 버퍼 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return;
+        }
+        if (missed == null || missed.isEmpty()) {
+            return;
+        }
+        for (TypedTuple<String> item : missed) {
+            String id = Long.toString(item.getScore().longValue());
+            if (!send(userId, emitter, event(EVENT_NOTIFICATION, id, item.getValue()))) {
+                return;
+            }
+        }
+        log.info("SSE 재연결 알림 재전송: userId={}, lastEventId={}, 건수={}", userId, after, missed.size());
+    }
+
+    private void deliverLocally(Long userId, String name, String id, String data) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            log.debug("SSE 연결 없음: userId={} (알림은 DB/Redis에 저장됨)", userId);
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, event(name, id, data));
+        }
+    }
+
+    @SuppressWarnings("null")
+    private static SseEmitter.SseEventBuilder event(String name, String id, String data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name);
+        if (id != null) {
+            event.id(id);
+        }
+        return event.data(data, EVENT_NOTIFICATION.equals(name) ? MediaType.APPLICATION_JSON : MediaType.TEXT_PLAIN);
+    }
+
+    /**
+     * @return 전송 성공 여부 (실패한 연결은 정리)
+     */
+    private boolean send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 - 연결 정리: userId={}, error={}", userId, e.getMessage());
+            remove(userId, emitter);
+            try {
+                emitter.completeWithError(e);
+            } catch (Exception ex) {
+                log.debug("emitter 완료 처리 실패: userId={}", userId);
+            }
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private String envelope(Long userId, String name, String id, String data) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(new Envelope(nodeId, userId, name, id, data));
+    }
+
+    /** 노드 간 SSE 이벤트 메시지 (data는 이벤트 본문 그대로) */
+    record Envelope(String origin, Long userId, String name, String id, String data) {
+    }
 }
@@ -0,0 +1,133 @@
+package com.linkup.Petory.domain.notification.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.notification.event.NotificationCreatedEvent;
+import com.linkup.Petory.domain.notification.event.NotificationReadEvent;
+import com.linkup.Petory.domain.notification.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (Redis "notification:unread:{userId}")
+ *
+ * 알림 생성 시 +1, 단건 읽음 시 -1, 전체 읽음 시 0으로 커밋 후 갱신하고, 바뀐 값을 SSE "unreadCount" 이벤트로 보낸다.
+ * 키가 없으면 DB COUNT로 한 번 채운 뒤 TTL(1시간) 동안 증감만 하므로 SSE 재연결마다 COUNT하지 않는다.
+ * 증감은 키가 있을 때만 적용하여(없는 키를 1로 만들지 않음) 채우기 전 값이 틀어지지 않게 하고,
+ * 동시 읽음 처리 등으로 생길 수 있는 오차는 TTL 만료 후 다시 채울 때 바로잡힌다.
+ * Redis 장애 시 DB COUNT로 대체한다.
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    /** KEYS: 카운터 / ARGV: 증감량, ttl - 키가 없으면 nil, 음수가 되면 0 */
+    private static final RedisScript<Long> ADJUST = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return false end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+              redis.call('SET', KEYS[1], 0, 'EX', ARGV[2])
+              return 0
+            end
+            return count
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final NotificationSseService sseService;
+
+    public NotificationUnreadCounter(
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            NotificationRepository notificationRepository,
+            NotificationSseService sseService) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.sseService = sseService;
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (캐시 미스 시 DB COUNT 후 저장)
+     */
+    public long get(Long userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(key(userId));
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("미읽음 알림 수 캐시 조회 실패 - DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+            return countFromDb(userId);
+        }
+
+        long count = countFromDb(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(userId), Long.toString(count), TTL);
+        } catch (DataAccessException e) {
+            log.warn("미읽음 알림 수 캐시 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        adjust(event.notification().getUserId(), 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotificationRead(NotificationReadEvent event) {
+        if (event.notification() != null) {
+            adjust(event.userId(), -1);
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key(event.userId()), "0", TTL);
+        } catch (DataAccessException e) {
+            log.warn("미읽음 알림 수 초기화 실패 - 캐시 삭제: userId={}, error={}", event.userId(), e.getMessage());
+            evict(event.userId());
+        }
+        sseService.sendUnreadCount(event.userId(), 0);
+    }
+
+    private void adjust(Long userId, long delta) {
+        Long count;
+        try {
+            count = redisTemplate.execute(ADJUST, List.of(key(userId)),
+                    Long.toString(delta), Long.toString(TTL.toSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("미읽음 알림 수 갱신 실패 - 캐시 삭제: userId={}, error={}", userId, e.getMessage());
+            evict(userId);
+            count = null;
+        }
+        sseService.sendUnreadCount(userId, count != null ? count : get(userId));
+    }
+
+    private void evict(Long userId) {
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (DataAccessException e) {
+            log.warn("미읽음 알림 수 캐시 삭제 실패 (TTL 만료로 정리됨): userId={}", userId);
+        }
+    }
+
+    private long countFromDb(Long userId) {
+        Long count = notificationRepository.countUnreadByUserId(userId);
+        return count != null ? count : 0L;
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
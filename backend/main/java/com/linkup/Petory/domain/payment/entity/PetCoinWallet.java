@@ -0,0 +1,40 @@
+package com.linkup.Petory.domain.payment.entity;
+
+import com.linkup.Petory.domain.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 펫코인 지갑 엔티티 역할: 사용자별 코인 잔액만 담는 좁은 행입니다. 로그인·프로필·제재가 갱신하는 users 행과 분리되어,
+ * 결제 요청이 users 행 락을 두고 인증 트래픽과 경합하지 않습니다. 잔액 변경은 조건부 UPDATE로만 하고, 모든 변경은
+ * {@link PetCoinTransaction}에 추가 전용으로 기록됩니다.
+ */
+@Entity
+@Table(name = "pet_coin_wallet")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PetCoinWallet extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "user_idx")
+    private Long userIdx;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer balance = 0; // 펫코인 잔액
+
+    @Version
+    @Column(nullable = false)
+    @Builder.Default
+    private Long version = 0L; // 변경마다 증가 (조건부 UPDATE에서도 함께 증가)
+}
@@ -0,0 +1,46 @@
+package com.linkup.Petory.domain.payment.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PetCoinWalletRepository의 JPA 구현체(어댑터)입니다.
+ */
+@Repository
+@Primary
+@RequiredArgsConstructor
+public class JpaPetCoinWalletAdapter implements PetCoinWalletRepository {
+
+    private final SpringDataJpaPetCoinWalletRepository jpaRepository;
+
+    @Override
+    public int credit(Long userIdx, int amount) {
+        return jpaRepository.credit(userIdx, amount);
+    }
+
+    @Override
+    public int debitIfSufficient(Long userIdx, int amount) {
+        return jpaRepository.debitIfSufficient(userIdx, amount);
+    }
+
+    @Override
+    public int createFromLegacyBalance(Long userIdx) {
+        return jpaRepository.createFromLegacyBalance(userIdx);
+    }
+
+    @Override
+    public Optional<Integer> findBalance(Long userIdx) {
+        return jpaRepository.findBalance(userIdx);
+    }
+
+    @Override
+    public List<PetCoinWalletBalance> findBalances(Collection<Long> userIdxs) {
+        return jpaRepository.findBalances(userIdxs);
+    }
+}
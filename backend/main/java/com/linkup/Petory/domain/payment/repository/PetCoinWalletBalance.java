@@ -0,0 +1,11 @@
+package com.linkup.Petory.domain.payment.repository;
+
+/**
+ * 지갑 잔액 프로젝션 (사용자 목록 변환 시 한 번에 조회).
+ *
+ * @param userIdx 사용자 ID
+ * @param balance 지갑 잔액
+ */
+public record PetCoinWalletBalance(Long userIdx, Integer balance) {
+
+}
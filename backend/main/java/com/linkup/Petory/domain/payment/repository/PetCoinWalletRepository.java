@@ -0,0 +1,41 @@
+package com.linkup.Petory.domain.payment.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PetCoinWallet 도메인 Repository 인터페이스입니다.
+ *
+ * 잔액은 조건부 UPDATE로만 바꾸며, 지갑이 아직 없는 사용자는 users.pet_coin_balance(기존 잔액)로 생성합니다.
+ */
+public interface PetCoinWalletRepository {
+
+    /**
+     * 잔액 증가
+     *
+     * @return 0이면 지갑 없음
+     */
+    int credit(Long userIdx, int amount);
+
+    /**
+     * 잔액이 amount 이상일 때만 차감
+     *
+     * @return 0이면 잔액 부족 또는 지갑 없음
+     */
+    int debitIfSufficient(Long userIdx, int amount);
+
+    /**
+     * 지갑이 없으면 users.pet_coin_balance로 생성
+     *
+     * @return 1이면 새로 생성, 0이면 이미 있거나 사용자가 없음
+     */
+    int createFromLegacyBalance(Long userIdx);
+
+    Optional<Integer> findBalance(Long userIdx);
+
+    /**
+     * 여러 사용자의 지갑 잔액 (지갑이 없는 사용자는 결과에 없음)
+     */
+    List<PetCoinWalletBalance> findBalances(Collection<Long> userIdxs);
+}
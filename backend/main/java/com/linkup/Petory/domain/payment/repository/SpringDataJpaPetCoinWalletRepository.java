@@ -0,0 +1,50 @@
+package com.linkup.Petory.domain.payment.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.linkup.Petory.domain.payment.entity.PetCoinWallet;
+import com.linkup.Petory.global.annotation.RepositoryMethod;
+
+/**
+ * Spring Data JPA 전용 인터페이스입니다.
+ */
+public interface SpringDataJpaPetCoinWalletRepository extends JpaRepository<PetCoinWallet, Long> {
+
+    @RepositoryMethod("지갑: 잔액 증가")
+    @Modifying
+    @Query(value = "UPDATE pet_coin_wallet SET balance = balance + :amount, version = version + 1, "
+            + "updated_at = NOW(6) WHERE user_idx = :userIdx",
+            nativeQuery = true)
+    int credit(@Param("userIdx") Long userIdx, @Param("amount") int amount);
+
+    @RepositoryMethod("지갑: 잔액 조건부 차감")
+    @Modifying
+    @Query(value = "UPDATE pet_coin_wallet SET balance = balance - :amount, version = version + 1, "
+            + "updated_at = NOW(6) WHERE user_idx = :userIdx AND balance >= :amount",
+            nativeQuery = true)
+    int debitIfSufficient(@Param("userIdx") Long userIdx, @Param("amount") int amount);
+
+    // 사용자별 첫 거래에서 한 번만 users 행을 읽음 (이후 거래는 지갑 행만 갱신)
+    @RepositoryMethod("지갑: 기존 잔액으로 생성")
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO pet_coin_wallet (user_idx, balance, version, created_at, updated_at) "
+            + "SELECT u.idx, u.pet_coin_balance, 0, NOW(6), NOW(6) FROM users u WHERE u.idx = :userIdx",
+            nativeQuery = true)
+    int createFromLegacyBalance(@Param("userIdx") Long userIdx);
+
+    @RepositoryMethod("지갑: 잔액 조회")
+    @Query("SELECT w.balance FROM PetCoinWallet w WHERE w.userIdx = :userIdx")
+    Optional<Integer> findBalance(@Param("userIdx") Long userIdx);
+
+    @RepositoryMethod("지갑: 사용자 목록 잔액 조회")
+    @Query("SELECT new com.linkup.Petory.domain.payment.repository.PetCoinWalletBalance(w.userIdx, w.balance) "
+            + "FROM PetCoinWallet w WHERE w.userIdx IN :userIdxs")
+    List<PetCoinWalletBalance> findBalances(@Param("userIdxs") Collection<Long> userIdxs);
+}
@@ -13,22 +13,25 @@ import com.linkup.Petory.domain.payment.exception.PaymentValidationException;
 import com.linkup.Petory.domain.payment.exception.PetCoinTransactionNotFoundException;
 import com.linkup.Petory.domain.payment.repository.PetCoinEscrowRepository;
 import com.linkup.Petory.domain.payment.repository.PetCoinTransactionRepository;
+import com.linkup.Petory.domain.payment.repository.PetCoinWalletRepository;
 import com.linkup.Petory.domain.user.entity.Users;
 import com.linkup.Petory.domain.user.exception.UserNotFoundException;
-import com.linkup.Petory.domain.user.repository.UsersRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 펫코인 서비스 역할: 코인 충전, 차감, 지급, 환불 등 모든 코인 거래를 처리합니다.
+ *
+ * [리팩토링] 잔액은 users 행 비관적 락 대신 pet_coin_wallet 행의 조건부 UPDATE로 변경합니다. 로그인·프로필 갱신과
+ * 같은 users 행을 두고 대기하지 않으며, 모든 변경은 PetCoinTransaction에 추가 전용으로 기록됩니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PetCoinService {
 
-    private final UsersRepository usersRepository;
+    private final PetCoinWalletRepository walletRepository;
     private final PetCoinTransactionRepository transactionRepository;
     private final PetCoinEscrowRepository escrowRepository;
 
@@ -46,18 +49,12 @@ public class PetCoinService {
             throw PaymentValidationException.chargeAmountInvalid();
         }
 
-        // [리팩토링] findById → findByIdForUpdate (비관적 락, Race Condition 방지)
-        Users currentUser = usersRepository.findByIdForUpdate(user.getIdx())
-                .orElseThrow(() -> new UserNotFoundException());
-
-        Integer balanceBefore = currentUser.getPetCoinBalance();
-        currentUser.creditCoins(amount);
-        Integer balanceAfter = currentUser.getPetCoinBalance();
-        usersRepository.save(currentUser);
+        Integer balanceAfter = credit(user.getIdx(), amount);
+        Integer balanceBefore = balanceAfter - amount;
 
         // 거래 내역 기록
         PetCoinTransaction transaction = PetCoinTransaction.builder()
-                .user(currentUser)
+                .user(user)
                 .transactionType(TransactionType.CHARGE)
                 .amount(amount)
                 .balanceBefore(balanceBefore)
@@ -69,7 +66,7 @@ public class PetCoinService {
         PetCoinTransaction saved = transactionRepository.save(transaction);
 
         log.info("코인 충전 완료: userId={}, amount={}, balanceBefore={}, balanceAfter={}",
-                currentUser.getIdx(), amount, balanceBefore, balanceAfter);
+                user.getIdx(), amount, balanceBefore, balanceAfter);
 
         return saved;
     }
@@ -91,22 +88,12 @@ public class PetCoinService {
             throw PaymentValidationException.deductAmountInvalid();
         }
 
-        // [리팩토링] findById → findByIdForUpdate (비관적 락, Race Condition 방지)
-        Users currentUser = usersRepository.findByIdForUpdate(user.getIdx())
-                .orElseThrow(() -> new UserNotFoundException());
-
-        Integer balanceBefore = currentUser.getPetCoinBalance();
-
-        if (balanceBefore < amount) {
-            throw InsufficientBalanceException.of(balanceBefore, amount);
-        }
-        currentUser.debitCoins(amount);
-        Integer balanceAfter = currentUser.getPetCoinBalance();
-        usersRepository.save(currentUser);
+        Integer balanceAfter = debit(user.getIdx(), amount);
+        Integer balanceBefore = balanceAfter + amount;
 
         // 거래 내역 기록
         PetCoinTransaction transaction = PetCoinTransaction.builder()
-                .user(currentUser)
+                .user(user)
                 .transactionType(TransactionType.DEDUCT)
                 .amount(amount)
                 .balanceBefore(balanceBefore)
@@ -120,7 +107,7 @@ public class PetCoinService {
         PetCoinTransaction saved = transactionRepository.save(transaction);
 
         log.info("코인 차감 완료: userId={}, amount={}, balanceBefore={}, balanceAfter={}, relatedType={}, relatedIdx={}",
-                currentUser.getIdx(), amount, balanceBefore, balanceAfter, relatedType, relatedIdx);
+                user.getIdx(), amount, balanceBefore, balanceAfter, relatedType, relatedIdx);
 
         return saved;
     }
@@ -142,18 +129,12 @@ public class PetCoinService {
             throw PaymentValidationException.payoutAmountInvalid();
         }
 
-        // [리팩토링] findById → findByIdForUpdate (비관적 락, Race Condition 방지)
-        Users currentUser = usersRepository.findByIdForUpdate(user.getIdx())
-                .orElseThrow(() -> new UserNotFoundException());
-
-        Integer balanceBefore = currentUser.getPetCoinBalance();
-        currentUser.creditCoins(amount);
-        Integer balanceAfter = currentUser.getPetCoinBalance();
-        usersRepository.save(currentUser);
+        Integer balanceAfter = credit(user.getIdx(), amount);
+        Integer balanceBefore = balanceAfter - amount;
 
         // 거래 내역 기록
         PetCoinTransaction transaction = PetCoinTransaction.builder()
-                .user(currentUser)
+                .user(user)
                 .transactionType(TransactionType.PAYOUT)
                 .amount(amount)
                 .balanceBefore(balanceBefore)
@@ -167,7 +148,7 @@ public class PetCoinService {
         PetCoinTransaction saved = transactionRepository.save(transaction);
 
         log.info("코인 지급 완료: userId={}, amount={}, balanceBefore={}, balanceAfter={}, relatedType={}, relatedIdx={}",
-                currentUser.getIdx(), amount, balanceBefore, balanceAfter, relatedType, relatedIdx);
+                user.getIdx(), amount, balanceBefore, balanceAfter, relatedType, relatedIdx);
 
         return saved;
     }
@@ -189,18 +170,12 @@ public class PetCoinService {
             throw PaymentValidationException.refundAmountInvalid();
         }
 
-        // [리팩토링] findById → findByIdForUpdate (비관적 락, Race Condition 방지)
-        Users currentUser = usersRepository.findByIdForUpdate(user.getIdx())
-                .orElseThrow(() -> new UserNotFoundException());
-
-        Integer balanceBefore = currentUser.getPetCoinBalance();
-        currentUser.creditCoins(amount);
-        Integer balanceAfter = currentUser.getPetCoinBalance();
-        usersRepository.save(currentUser);
+        Integer balanceAfter = credit(user.getIdx(), amount);
+        Integer balanceBefore = balanceAfter - amount;
 
         // 거래 내역 기록
         PetCoinTransaction transaction = PetCoinTransaction.builder()
-                .user(currentUser)
+                .user(user)
                 .transactionType(TransactionType.REFUND)
                 .amount(amount)
                 .balanceBefore(balanceBefore)
@@ -214,18 +189,18 @@ public class PetCoinService {
         PetCoinTransaction saved = transactionRepository.save(transaction);
 
         log.info("코인 환불 완료: userId={}, amount={}, balanceBefore={}, balanceAfter={}, relatedType={}, relatedIdx={}",
-                currentUser.getIdx(), amount, balanceBefore, balanceAfter, relatedType, relatedIdx);
+                user.getIdx(), amount, balanceBefore, balanceAfter, relatedType, relatedIdx);
 
         return saved;
     }
 
     /**
-     * 사용자 코인 잔액 조회 [리팩토링] findById 재조회 제거 → user.getPetCoinBalance() 직접 반환
-     * (Controller getCurrentUser 전달 시 추가 쿼리 없음)
+     * 사용자 코인 잔액 조회 - 지갑 행 PK 조회 1건 (지갑이 아직 없으면 users의 기존 잔액)
      */
     @Transactional(readOnly = true)
     public Integer getBalance(Users user) {
-        return user.getPetCoinBalance();
+        return walletRepository.findBalance(user.getIdx())
+                .orElseGet(user::getPetCoinBalance);
     }
 
     /**
@@ -284,4 +259,40 @@ public class PetCoinService {
 
         return dto;
     }
+
+    /**
+     * 지갑 잔액 증가. 지갑이 없으면(첫 거래) users의 기존 잔액으로 생성한 뒤 다시 시도합니다.
+     *
+     * @return 증가 후 잔액 (같은 트랜잭션이 행 락을 쥐고 있으므로 다른 요청의 변경이 섞이지 않음)
+     */
+    private int credit(Long userIdx, int amount) {
+        if (walletRepository.credit(userIdx, amount) == 0) {
+            walletRepository.createFromLegacyBalance(userIdx);
+            if (walletRepository.credit(userIdx, amount) == 0) {
+                throw new UserNotFoundException();
+            }
+        }
+        return currentBalance(userIdx);
+    }
+
+    /**
+     * 잔액이 충분할 때만 지갑 잔액 차감 (balance >= amount 조건부 UPDATE)
+     *
+     * @return 차감 후 잔액
+     */
+    private int debit(Long userIdx, int amount) {
+        int updated = walletRepository.debitIfSufficient(userIdx, amount);
+        if (updated == 0 && walletRepository.createFromLegacyBalance(userIdx) > 0) {
+            updated = walletRepository.debitIfSufficient(userIdx, amount);
+        }
+        if (updated == 0) {
+            throw InsufficientBalanceException.of(currentBalance(userIdx), amount);
+        }
+        return currentBalance(userIdx);
+    }
+
+    private int currentBalance(Long userIdx) {
+        return walletRepository.findBalance(userIdx)
+                .orElseThrow(() -> new UserNotFoundException());
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import com.linkup.Petory.domain.location.entity.LocationService;
 import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
+import com.linkup.Petory.domain.location.service.LocationSpatialIndex;
 import com.linkup.Petory.domain.petRecommendation.client.PetIntentClient;
 import com.linkup.Petory.domain.petRecommendation.dto.PetIntentAnalyzeResponse;
 import com.linkup.Petory.domain.petRecommendation.dto.PetRecommendFacilityDto;
@@ -31,6 +32,7 @@ public class PetRecommendationService {
 
     private final PetIntentClient petIntentClient;
     private final LocationServiceRepository locationServiceRepository;
+    private final LocationSpatialIndex spatialIndex;
     private final PetRecommendScoreCalculator scoreCalculator;
     private final PlaceInteractionService interactionService;
 
@@ -61,8 +63,7 @@ public class PetRecommendationService {
         }
 
         String primaryCategory = categories.get(0);
-        List<LocationService> nearby = locationServiceRepository
-                .findByRadius(lat, lng, (double) radius, null, primaryCategory, "distance", 20);
+        List<LocationService> nearby = findNearby(lat, lng, radius, primaryCategory, 20);
 
         List<Long> locationIds = nearby.stream().map(LocationService::getIdx).toList();
         Map<Long, Double> popularityMap = interactionService.getPopularityScores(locationIds);
@@ -89,8 +90,7 @@ public class PetRecommendationService {
     PetRecommendResponse fallbackRecommend(String text, double lat, double lng, int radius) {
         log.warn("[PetRecommendationService] Python 서버 장애 — fallback 실행. text={}", text);
         String fallbackCategory = inferCategoryFromKeyword(text);
-        List<LocationService> nearby = locationServiceRepository
-                .findByRadius(lat, lng, (double) radius, null, fallbackCategory, "distance", 10);
+        List<LocationService> nearby = findNearby(lat, lng, radius, fallbackCategory, 10);
 
         List<PetRecommendFacilityDto> facilities = nearby.stream()
                 .map(loc -> toDto(loc, lat, lng, List.of(), Map.of()))
@@ -104,6 +104,15 @@ public class PetRecommendationService {
                 .build();
     }
 
+    /**
+     * 거리순 주변 시설 조회. 메모리 공간 인덱스를 쓸 수 없으면 SQL 반경 검색으로 대체한다.
+     */
+    private List<LocationService> findNearby(double lat, double lng, int radius, String category, int limit) {
+        return spatialIndex.findByRadius(lat, lng, radius, null, category, "distance", limit)
+                .orElseGet(() -> locationServiceRepository
+                        .findByRadius(lat, lng, (double) radius, null, category, "distance", limit));
+    }
+
     /**
      * LocationService 엔티티를 추천 응답 DTO로 변환한다.
      */
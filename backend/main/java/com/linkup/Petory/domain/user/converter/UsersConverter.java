@@ -1,25 +1,39 @@
 package com.linkup.Petory.domain.user.converter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.linkup.Petory.domain.payment.repository.PetCoinWalletBalance;
+import com.linkup.Petory.domain.payment.repository.PetCoinWalletRepository;
 import com.linkup.Petory.domain.user.dto.UsersDTO;
 import com.linkup.Petory.domain.user.entity.Role;
 import com.linkup.Petory.domain.user.entity.Users;
 
 import lombok.RequiredArgsConstructor;
 
-/** Users 엔티티 ↔ UsersDTO 변환기. 응답 시 password는 제외하고, 소셜 계정 목록을 함께 변환한다. */
+/**
+ * Users 엔티티 ↔ UsersDTO 변환기. 응답 시 password는 제외하고, 소셜 계정 목록을 함께 변환한다.
+ * 펫코인 잔액은 지갑(pet_coin_wallet)에서 명시적으로 조회하며, 지갑이 없으면 users의 기존 잔액을 쓴다.
+ */
 @Component
 @RequiredArgsConstructor
 public class UsersConverter {
 
     private final SocialUserConverter socialUserConverter;
+    private final PetCoinWalletRepository walletRepository;
 
     // 단일 DTO 변환 (password 제외 - 보안상 이유)
     public UsersDTO toDTO(Users user) {
+        Integer balance = user.getIdx() != null
+                ? walletRepository.findBalance(user.getIdx()).orElseGet(user::getPetCoinBalance)
+                : user.getPetCoinBalance();
+        return toDTO(user, balance);
+    }
+
+    private UsersDTO toDTO(Users user, Integer petCoinBalance) {
         return UsersDTO.builder()
                 .idx(user.getIdx())
                 .id(user.getId())
@@ -38,7 +52,7 @@ public class UsersConverter {
                 .status(user.getStatus() != null ? user.getStatus().name() : null)
                 .warningCount(user.getWarningCount())
                 .suspendedUntil(user.getSuspendedUntil())
-                .petCoinBalance(user.getPetCoinBalance())
+                .petCoinBalance(petCoinBalance)
                 .emailVerified(user.getEmailVerified())
                 .isDeleted(user.getIsDeleted())
                 .deletedAt(user.getDeletedAt())
@@ -69,9 +83,17 @@ public class UsersConverter {
         return user;
     }
 
-    // 리스트 변환
+    // 리스트 변환 (지갑 잔액은 IN 한 번으로 조회)
     public List<UsersDTO> toDTOList(List<Users> users) {
-        return users.stream().map(this::toDTO).collect(Collectors.toList());
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> balances = walletRepository.findBalances(
+                users.stream().map(Users::getIdx).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(PetCoinWalletBalance::userIdx, PetCoinWalletBalance::balance));
+        return users.stream()
+                .map(user -> toDTO(user, balances.getOrDefault(user.getIdx(), user.getPetCoinBalance())))
+                .collect(Collectors.toList());
     }
 
     public List<Users> toEntityList(List<UsersDTO> dtos) {
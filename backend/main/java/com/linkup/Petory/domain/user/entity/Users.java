@@ -87,7 +87,7 @@ public class Users extends BaseTimeEntity {
 
     @Column(name = "pet_coin_balance", nullable = false)
     @Builder.Default
-    private Integer petCoinBalance = 0; // 펫코인 잔액
+    private Integer petCoinBalance = 0; // 지갑 생성 전 기존 잔액 (이후 갱신되지 않음, 현재 잔액은 PetCoinWalletRepository로 조회)
 
     @Column(name = "suspended_until")
     private LocalDateTime suspendedUntil; // 이용제한 종료일 (null이면 영구 차단)
@@ -131,16 +131,6 @@ public class Users extends BaseTimeEntity {
         this.suspendedUntil = null;
     }
 
-    public void creditCoins(int amount) {
-        this.petCoinBalance += amount;
-    }
-
-    public void debitCoins(int amount) {
-        if (this.petCoinBalance < amount)
-            throw new IllegalStateException("잔액 부족: balance=" + petCoinBalance + ", requested=" + amount);
-        this.petCoinBalance -= amount;
-    }
-
     /**
      * 현재 제재 상태인지 확인
      */
@@ -0,0 +1,189 @@
+package com.linkup.Petory.global.scheduling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시 타이머 휠 — 키별 마감 시각이 지나면 핸들러를 한 번 호출한다 (모임 종료·케어 요청 만료 같은 단건 상태 전이용).
+ *
+ * <ul>
+ * <li>tick마다 슬롯 하나씩 전진하며 등록·취소·발화가 모두 O(1). 같은 키를 다시 등록하면 이전 마감을 대체한다.</li>
+ * <li>휠 한 바퀴({@link #horizon()}) 안의 마감만 받는다. 마감 시각의 원본은 DB 컬럼이므로, 호출 측이 기동 시와
+ * horizon보다 짧은 주기로 다음 구간을 DB에서 다시 적재해 등록한다 (재시작해도 같은 방식으로 복구).</li>
+ * <li>핸들러는 휠 스레드에서 순서대로 호출되므로 단건 UPDATE 수준으로 짧게 유지한다. 예외는 로그만 남긴다.</li>
+ * </ul>
+ *
+ * @param <K> 대상 식별자 (예: 모임 idx)
+ */
+@Slf4j
+public class DeadlineTimerWheel<K> {
+
+    private final String name;
+    private final long tickMillis;
+    private final int wheelSize;
+    private final Consumer<K> handler;
+    private final LongSupplier clock;
+
+    private final List<Set<Entry<K>>> slots;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    /** 마지막으로 처리한 tick */
+    private long currentTick;
+    private ScheduledExecutorService ticker;
+
+    public DeadlineTimerWheel(String name, Duration tick, int wheelSize, Consumer<K> handler) {
+        this(name, tick, wheelSize, handler, System::currentTimeMillis);
+    }
+
+    DeadlineTimerWheel(String name, Duration tick, int wheelSize, Consumer<K> handler, LongSupplier clock) {
+        if (tick.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick과 wheelSize는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.tickMillis = tick.toMillis();
+        this.wheelSize = wheelSize;
+        this.handler = handler;
+        this.clock = clock;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new HashSet<>());
+        }
+        this.currentTick = clock.getAsLong() / tickMillis;
+    }
+
+    /** 등록 가능한 최대 마감 거리 (휠 한 바퀴) */
+    public Duration horizon() {
+        return Duration.ofMillis(tickMillis * (wheelSize - 1));
+    }
+
+    /**
+     * 마감 등록 (기존 등록은 대체). 이미 지난 마감은 다음 tick에 발화한다.
+     *
+     * @return horizon 밖이라 등록하지 않았으면 false (다음 적재 구간에서 등록됨)
+     */
+    public synchronized boolean schedule(K key, long deadlineMillis) {
+        remove(key);
+        long deadlineTick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        if (deadlineTick - currentTick >= wheelSize) {
+            return false;
+        }
+        Entry<K> entry = new Entry<>(key, deadlineTick);
+        slots.get(slotOf(deadlineTick)).add(entry);
+        entries.put(key, entry);
+        return true;
+    }
+
+    public synchronized void cancel(K key) {
+        remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 현재 시각까지 지난 슬롯을 처리하고 마감된 키의 핸들러를 호출 (휠 스레드가 tick마다 호출)
+     *
+     * @return 발화한 키 수
+     */
+    public int advance() {
+        List<K> due = collectDue(clock.getAsLong() / tickMillis);
+        for (K key : due) {
+            try {
+                handler.accept(key);
+            } catch (Exception e) {
+                log.error("[{}] 마감 처리 실패 - 안전망 스윕에서 재처리: key={}", name, key, e);
+            }
+        }
+        return due.size();
+    }
+
+    private synchronized List<K> collectDue(long nowTick) {
+        if (nowTick <= currentTick) {
+            return List.of();
+        }
+        List<K> due = new ArrayList<>();
+        // 오래 멈췄다 재개해도 슬롯은 한 바퀴만 돈다 (모든 등록은 한 바퀴 안에 있음)
+        long last = Math.min(nowTick, currentTick + wheelSize);
+        for (long tick = currentTick + 1; tick <= last; tick++) {
+            Set<Entry<K>> slot = slots.get(slotOf(tick));
+            if (slot.isEmpty()) {
+                continue;
+            }
+            for (var it = slot.iterator(); it.hasNext();) {
+                Entry<K> entry = it.next();
+                if (entry.tick() <= nowTick) {
+                    it.remove();
+                    entries.remove(entry.key());
+                    due.add(entry.key());
+                }
+            }
+        }
+        currentTick = nowTick;
+        return due;
+    }
+
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deadline-wheel-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    private void remove(K key) {
+        Entry<K> previous = entries.remove(key);
+        if (previous != null) {
+            slots.get(slotOf(previous.tick())).remove(previous);
+        }
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) wheelSize);
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /** 슬롯 항목 (같은 키를 다시 등록해도 이전 항목과 구분되도록 동일성 비교) */
+    private static final class Entry<K> {
+        private final K key;
+        private final long tick;
+
+        private Entry(K key, long tick) {
+            this.key = key;
+            this.tick = tick;
+        }
+
+        K key() {
+            return key;
+        }
+
+        long tick() {
+            return tick;
+        }
+    }
+}
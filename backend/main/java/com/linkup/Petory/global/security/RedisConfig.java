@@ -13,6 +13,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -115,37 +116,36 @@ public class RedisConfig {
         }
 
         /**
-         * 알림용 RedisTemplate
-         * - 사용자별 알림 리스트 저장
-         * - Key: "notification:{userId}", Value: 알림 리스트
+         * 좋아요/싫어요 배치 동기화용 RedisTemplate
+         * - Key: "reaction:board:{boardId}" 또는 "reaction:comment:{commentId}" (Hash: LIKE / DISLIKE 카운트)
+         * - Key: "reaction:{target}:{id}:users" (Hash: 사용자 ID → 반응 타입)
+         * - Key: "reaction:pending:{target}" (Hash: DB 반영 대기 중인 반응 변경)
+         * - 카운터는 HINCRBY·Lua 스크립트로 증감하므로 값·Hash 모두 문자열 직렬화
          */
         @SuppressWarnings("null")
         @Bean
-        public RedisTemplate<String, Object> notificationRedisTemplate(RedisConnectionFactory connectionFactory) {
-                RedisTemplate<String, Object> template = new RedisTemplate<>();
+        public RedisTemplate<String, String> reactionCountRedisTemplate(RedisConnectionFactory connectionFactory) {
+                RedisTemplate<String, String> template = new RedisTemplate<>();
                 template.setConnectionFactory(connectionFactory);
                 template.setKeySerializer(new StringRedisSerializer());
-                template.setValueSerializer(createJsonRedisSerializer());
+                template.setValueSerializer(new StringRedisSerializer());
                 template.setHashKeySerializer(new StringRedisSerializer());
-                template.setHashValueSerializer(createJsonRedisSerializer());
+                template.setHashValueSerializer(new StringRedisSerializer());
                 template.afterPropertiesSet();
                 return template;
         }
 
         /**
-         * 좋아요/싫어요 배치 동기화용 RedisTemplate
-         * - Key: "reaction:board:{boardId}" 또는 "reaction:comment:{commentId}"
-         * - Value: 좋아요/싫어요 카운트 (임시 저장)
+         * Redis Pub/Sub 리스너 컨테이너
+         * - 멀티 노드 WebSocket 메시지 릴레이(RedisMessageRelay)가 채널 구독에 사용
+         * - 멀티 노드 알림 SSE 전달(NotificationSseService)이 "notification:sse" 채널 구독에 사용
+         * - 채널은 로컬 세션 구독 상황에 따라 런타임에 추가·제거된다
          */
-        @SuppressWarnings("null")
         @Bean
-        public RedisTemplate<String, Long> reactionCountRedisTemplate(RedisConnectionFactory connectionFactory) {
-                RedisTemplate<String, Long> template = new RedisTemplate<>();
-                template.setConnectionFactory(connectionFactory);
-                template.setKeySerializer(new StringRedisSerializer());
-                template.setValueSerializer(createJsonRedisSerializer());
-                template.afterPropertiesSet();
-                return template;
+        public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                return container;
         }
 
         /**
@@ -4,13 +4,18 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 
 import com.linkup.Petory.global.websocket.security.WebSocketAuthChannelInterceptor;
 import com.linkup.Petory.global.websocket.security.WebSocketAuthenticationInterceptor;
 import com.linkup.Petory.global.websocket.security.WebSocketHandshakeHandler;
+import com.linkup.Petory.global.websocket.security.WebSocketSessionRegistry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,6 +30,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthChannelInterceptor authChannelInterceptor;
     private final WebSocketAuthenticationInterceptor authenticationInterceptor;
+    private final WebSocketSessionRegistry sessionRegistry;
 
     /**
      * STOMP 엔드포인트 등록
@@ -48,6 +54,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(@NonNull MessageBrokerRegistry registry) {
         // 서버 → 클라이언트 (구독 경로)
         // 클라이언트가 구독할 수 있는 토픽 프리픽스
+        // Simple Broker는 같은 노드의 세션에만 전달하므로, /topic 브로드캐스트는
+        // MessageRelay(RedisMessageRelay)를 거쳐 다른 노드의 구독자에게도 전달한다
         registry.enableSimpleBroker("/topic", "/queue", "/user");
 
         // 클라이언트 → 서버 (전송 경로)
@@ -59,6 +67,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setUserDestinationPrefix("/user");
     }
 
+    /**
+     * WebSocket 연결 추적 (제재 시 세션 레지스트리가 이 노드의 연결을 닫을 수 있도록)
+     */
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(handler -> new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+                sessionRegistry.connectionOpened(session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus closeStatus)
+                    throws Exception {
+                sessionRegistry.connectionClosed(session);
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        });
+    }
+
     /**
      * 메시지 채널 인터셉터 설정
      * 메시지 전송/구독 전에 인증 체크
@@ -0,0 +1,32 @@
+package com.linkup.Petory.global.websocket.relay;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 단일 노드용 릴레이
+ * app.websocket.relay=local 일 때 사용하며, 인메모리 Simple Broker로만 전달한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.relay", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalMessageRelay implements MessageRelay {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @SuppressWarnings("null")
+    @Override
+    public void send(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+    }
+
+    @Override
+    public void revokeUserSessions(Long userIdx) {
+        eventPublisher.publishEvent(new UserSessionsRevokedEvent(userIdx));
+    }
+}
@@ -0,0 +1,27 @@
+package com.linkup.Petory.global.websocket.relay;
+
+/**
+ * STOMP 브로드캐스트 릴레이
+ * 구독 경로(/topic/**)로 보내는 메시지를 이 노드의 구독자뿐 아니라
+ * 같은 경로를 구독 중인 다른 백엔드 노드의 구독자에게도 전달한다.
+ *
+ * 사용자 개인 경로(/user/**)는 요청을 보낸 세션이 이 노드에 있으므로 릴레이 대상이 아니다.
+ */
+public interface MessageRelay {
+
+    /**
+     * 구독 경로로 메시지 브로드캐스트
+     *
+     * @param destination 구독 경로 (예: /topic/conversation/{id})
+     * @param payload     JSON으로 직렬화할 메시지 본문
+     */
+    void send(String destination, Object payload);
+
+    /**
+     * 모든 노드에서 사용자의 WebSocket 세션 종료 요청
+     * 이 노드와 다른 노드에 {@link UserSessionsRevokedEvent}를 발행하며, 각 노드는 자기 세션만 닫는다.
+     *
+     * @param userIdx 세션을 닫을 사용자 idx
+     */
+    void revokeUserSessions(Long userIdx);
+}
@@ -0,0 +1,210 @@
+package com.linkup.Petory.global.websocket.relay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 기반 멀티 노드 릴레이 (기본값, app.websocket.relay=redis)
+ *
+ * - 전송: 로컬 Simple Broker로 먼저 전달한 뒤 Redis 채널 "ws:relay:{구독 경로}"에 발행
+ * - 수신: 로컬 세션이 구독 중인 경로의 채널만 Redis에서 구독 (첫 구독 시 구독, 마지막 해제 시 해제)
+ * - 자기 노드가 발행한 메시지는 이미 로컬로 전달했으므로 무시
+ * - 세션 종료 요청은 모든 노드가 항상 구독하는 제어 채널 "ws:relay:control:revoke-user"로 보내고,
+ *   받은 노드는 {@link UserSessionsRevokedEvent}를 발행해 자기 세션만 정리한다
+ *
+ * 메시지 본문은 한 번만 JSON으로 직렬화하고 로컬·원격 노드 모두 같은 바이트를 STOMP 프레임으로 내보낸다.
+ * Redis 발행이 실패해도 같은 노드의 구독자에게는 전달된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.websocket.relay", havingValue = "redis", matchIfMissing = true)
+public class RedisMessageRelay implements MessageRelay, MessageListener {
+
+    static final String CHANNEL_PREFIX = "ws:relay:";
+    static final String REVOKE_CHANNEL = CHANNEL_PREFIX + "control:revoke-user";
+    private static final String RELAYED_PREFIX = "/topic/";
+    private static final char ORIGIN_SEPARATOR = '\n';
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RelaySubscriptionRegistry registry = new RelaySubscriptionRegistry();
+
+    /** 자기 노드 발행분을 걸러내기 위한 노드 식별자 (인스턴스마다 새로 생성) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisMessageRelay(
+            SimpMessagingTemplate messagingTemplate,
+            @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void subscribeControlChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOKE_CHANNEL));
+    }
+
+    @Override
+    public void send(String destination, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("WebSocket 메시지 직렬화 실패: " + destination, e);
+        }
+
+        deliverLocally(destination, json);
+
+        if (!isRelayed(destination)) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + destination, nodeId + ORIGIN_SEPARATOR + json);
+        } catch (DataAccessException e) {
+            log.warn("WebSocket 릴레이 발행 실패 (로컬 구독자에게만 전달됨): destination={}, error={}",
+                    destination, e.getMessage());
+        }
+    }
+
+    @Override
+    public void revokeUserSessions(Long userIdx) {
+        eventPublisher.publishEvent(new UserSessionsRevokedEvent(userIdx));
+        try {
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, nodeId + ORIGIN_SEPARATOR + userIdx);
+        } catch (DataAccessException e) {
+            log.warn("WebSocket 세션 종료 요청 발행 실패 (이 노드의 세션만 정리됨): userIdx={}, error={}",
+                    userIdx, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 메시지 수신
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(ORIGIN_SEPARATOR);
+        if (!channel.startsWith(CHANNEL_PREFIX) || separator < 0) {
+            log.warn("알 수 없는 형식의 WebSocket 릴레이 메시지 무시: channel={}", channel);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        if (REVOKE_CHANNEL.equals(channel)) {
+            eventPublisher.publishEvent(new UserSessionsRevokedEvent(Long.valueOf(body.substring(separator + 1))));
+            return;
+        }
+        deliverLocally(channel.substring(CHANNEL_PREFIX.length()), body.substring(separator + 1));
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+        synchronized (registry) {
+            if (!isRelayed(destination)) {
+                // 같은 구독 ID를 릴레이 대상이 아닌 경로로 재사용하면 이전 /topic 구독은 끝난 것
+                String released = registry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+                if (released != null) {
+                    release(released);
+                }
+                return;
+            }
+            RelaySubscriptionRegistry.Subscription subscription =
+                    registry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), destination);
+            if (subscription.released() != null) {
+                release(subscription.released());
+            }
+            if (subscription.first()) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+                log.debug("WebSocket 릴레이 채널 구독: destination={}", destination);
+            }
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        synchronized (registry) {
+            String released = registry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+            if (released != null) {
+                release(released);
+            }
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        synchronized (registry) {
+            List<String> released = registry.removeSession(event.getSessionId());
+            released.forEach(this::release);
+        }
+    }
+
+    /** 이 노드에서 해당 경로를 구독 중인 로컬 구독 수 */
+    public int localSubscriberCount(String destination) {
+        return registry.localSubscriberCount(destination);
+    }
+
+    private void release(String destination) {
+        listenerContainer.removeMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + destination));
+        log.debug("WebSocket 릴레이 채널 구독 해제: destination={}", destination);
+    }
+
+    @SuppressWarnings("null")
+    private void deliverLocally(String destination, String json) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        messagingTemplate.send(destination,
+                MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), headers.getMessageHeaders()));
+    }
+
+    private static boolean isRelayed(String destination) {
+        return destination.startsWith(RELAYED_PREFIX);
+    }
+}
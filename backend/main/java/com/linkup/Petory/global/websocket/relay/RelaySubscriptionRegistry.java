@@ -0,0 +1,107 @@
+package com.linkup.Petory.global.websocket.relay;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이 노드의 STOMP 구독 현황
+ * 구독 경로별 로컬 구독(세션 ID + 구독 ID) 수를 관리하여
+ * 첫 구독자가 생길 때와 마지막 구독자가 빠질 때를 알려준다.
+ * 이 시점에만 Redis 채널 구독/해제가 일어나므로 노드는 로컬 세션이 보고 있는 대화방 채널만 받는다.
+ */
+class RelaySubscriptionRegistry {
+
+    /** 세션 ID → (구독 ID → 구독 경로) */
+    private final Map<String, Map<String, String>> sessions = new HashMap<>();
+
+    /** 구독 경로 → 구독 키(세션 ID:구독 ID) */
+    private final Map<String, Set<String>> destinations = new HashMap<>();
+
+    /**
+     * 구독 추가 결과
+     *
+     * @param first    이 경로의 첫 로컬 구독이면 true
+     * @param released 같은 구독 ID가 다른 경로에서 옮겨오며 마지막 로컬 구독이 빠진 이전 경로 (없으면 null)
+     */
+    record Subscription(boolean first, String released) {
+    }
+
+    /**
+     * 구독 추가. 같은 세션·구독 ID로 다른 경로를 구독하면 이전 경로의 구독을 대체한다.
+     */
+    synchronized Subscription subscribe(String sessionId, String subscriptionId, String destination) {
+        String previous = sessions.computeIfAbsent(sessionId, k -> new HashMap<>()).put(subscriptionId, destination);
+        String released = null;
+        if (previous != null && !previous.equals(destination)
+                && removeKey(previous, key(sessionId, subscriptionId))) {
+            released = previous;
+        }
+        Set<String> keys = destinations.computeIfAbsent(destination, k -> new HashSet<>());
+        return new Subscription(keys.add(key(sessionId, subscriptionId)) && keys.size() == 1, released);
+    }
+
+    /**
+     * 구독 해제
+     *
+     * @return 마지막 로컬 구독이 빠져 더 이상 받을 필요가 없는 경로 (없으면 null)
+     */
+    synchronized String unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> subscriptions = sessions.get(sessionId);
+        if (subscriptions == null) {
+            return null;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessions.remove(sessionId);
+        }
+        if (destination == null) {
+            return null;
+        }
+        return removeKey(destination, key(sessionId, subscriptionId)) ? destination : null;
+    }
+
+    /**
+     * 세션 종료 시 세션의 모든 구독 해제
+     *
+     * @return 마지막 로컬 구독이 빠진 경로 목록
+     */
+    synchronized List<String> removeSession(String sessionId) {
+        Map<String, String> subscriptions = sessions.remove(sessionId);
+        List<String> released = new ArrayList<>();
+        if (subscriptions == null) {
+            return released;
+        }
+        subscriptions.forEach((subscriptionId, destination) -> {
+            if (removeKey(destination, key(sessionId, subscriptionId))) {
+                released.add(destination);
+            }
+        });
+        return released;
+    }
+
+    synchronized int localSubscriberCount(String destination) {
+        Set<String> keys = destinations.get(destination);
+        return keys != null ? keys.size() : 0;
+    }
+
+    /** @return 구독 키를 지운 뒤 경로에 남은 구독이 없으면 true */
+    private boolean removeKey(String destination, String key) {
+        Set<String> keys = destinations.get(destination);
+        if (keys == null || !keys.remove(key)) {
+            return false;
+        }
+        if (keys.isEmpty()) {
+            destinations.remove(destination);
+            return true;
+        }
+        return false;
+    }
+
+    private static String key(String sessionId, String subscriptionId) {
+        return sessionId + ":" + subscriptionId;
+    }
+}
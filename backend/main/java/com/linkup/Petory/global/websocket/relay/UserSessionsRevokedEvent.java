@@ -0,0 +1,9 @@
+package com.linkup.Petory.global.websocket.relay;
+
+/**
+ * 사용자 WebSocket 세션 종료 요청 이벤트.
+ * {@link MessageRelay#revokeUserSessions(Long)}가 요청한 노드와 (Redis 릴레이 시) 다른 모든 노드에서 발행되며,
+ * 각 노드는 자기 노드에 연결된 세션만 정리한다.
+ */
+public record UserSessionsRevokedEvent(Long userIdx) {
+}
@@ -5,17 +5,32 @@ import java.security.Principal;
 /**
  * STOMP Principal 구현
  * WebSocket 인증된 사용자를 나타내는 Principal
+ *
+ * 인증 시 한 번 조회한 사용자 idx를 함께 보관하여, 컨트롤러가 프레임마다 Users 테이블을 조회하지 않도록 한다.
+ * 제재 시에는 WebSocketSessionRegistry가 세션 인증 정보를 지우므로 이후 프레임은 인증 인터셉터에서 차단된다.
  */
 public class StompPrincipal implements Principal {
     private final String name;
+    private final Long userIdx;
 
     public StompPrincipal(String name) {
+        this(name, null);
+    }
+
+    public StompPrincipal(String name, Long userIdx) {
         this.name = name;
+        this.userIdx = userIdx;
     }
 
     @Override
     public String getName() {
         return name;
     }
-}
 
+    /**
+     * @return 인증 시 확인한 사용자 idx (알 수 없으면 null)
+     */
+    public Long getUserIdx() {
+        return userIdx;
+    }
+}
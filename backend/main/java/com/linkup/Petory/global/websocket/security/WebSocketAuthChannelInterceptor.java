@@ -34,6 +34,7 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final WebSocketSessionRegistry sessionRegistry;
 
     @Override
     public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
@@ -86,12 +87,16 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
                         }
                         attrs.put("authentication", auth);
                         attrs.put("userId", userId);
+                        Long userIdx = resolveUserIdx(userDetails);
+                        if (userIdx != null) {
+                            attrs.put("userIdx", userIdx);
+                        }
 
                         // SecurityContext에 설정
                         SecurityContextHolder.getContext().setAuthentication(auth);
 
                         // Principal 설정 (STOMP에서 사용)
-                        accessor.setUser(new StompPrincipal(userId));
+                        accessor.setUser(new StompPrincipal(userId, userIdx));
 
                         log.debug("WebSocket 메시지 인증 성공: userId={}, command={}", userId, command);
                     } catch (Exception e) {
@@ -105,14 +110,20 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
             if (auth != null) {
                 SecurityContextHolder.getContext().setAuthentication(auth);
 
+                Map<String, Object> attrs = accessor.getSessionAttributes();
+
                 // Principal이 없으면 설정
                 if (accessor.getUser() == null) {
-                    Map<String, Object> attrs = accessor.getSessionAttributes();
                     String userId = attrs != null ? (String) attrs.get("userId") : null;
                     if (userId != null) {
-                        accessor.setUser(new StompPrincipal(userId));
+                        accessor.setUser(new StompPrincipal(userId, (Long) attrs.get("userIdx")));
                     }
                 }
+
+                // 제재 시 세션 인증 정보를 무효화할 수 있도록 연결 시 등록
+                if (command == StompCommand.CONNECT) {
+                    sessionRegistry.register(accessor.getSessionId(), resolveUserIdx(auth.getPrincipal()), attrs);
+                }
             } else {
                 // 인증되지 않은 경우 메시지 차단
                 log.warn("WebSocket 메시지 인증 실패: 인증 정보 없음, command={}", command);
@@ -123,6 +134,10 @@ public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
         return message;
     }
 
+    private Long resolveUserIdx(Object principal) {
+        return principal instanceof CustomUserDetails customUserDetails ? customUserDetails.getIdx() : null;
+    }
+
     private boolean isUsableAccount(UserDetails userDetails) {
         if (userDetails instanceof CustomUserDetails customUserDetails) {
             return customUserDetails.isEnabled() && customUserDetails.isAccountNonLocked();
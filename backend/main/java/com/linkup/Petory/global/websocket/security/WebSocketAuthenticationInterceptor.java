@@ -92,9 +92,12 @@ public class WebSocketAuthenticationInterceptor implements HandshakeInterceptor
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    // WebSocket 세션에 사용자 ID 저장
+                    // WebSocket 세션에 사용자 ID 저장 (idx는 컨트롤러가 프레임마다 조회하지 않도록 함께 보관)
                     attributes.put("userId", userId);
                     attributes.put("authentication", authentication);
+                    if (userDetails instanceof CustomUserDetails customUserDetails) {
+                        attributes.put("userIdx", customUserDetails.getIdx());
+                    }
 
                     log.info("WebSocket 인증 성공: userId={}", userId);
                     return true;
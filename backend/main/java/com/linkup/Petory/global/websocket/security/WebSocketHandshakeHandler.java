@@ -24,10 +24,11 @@ public class WebSocketHandshakeHandler extends DefaultHandshakeHandler {
 
         // WebSocketAuthenticationInterceptor에서 저장한 userId 사용
         String userId = (String) attributes.get("userId");
+        Long userIdx = (Long) attributes.get("userIdx");
 
         if (userId != null) {
-            log.debug("WebSocket Principal 설정: userId={}", userId);
-            return new StompPrincipal(userId);
+            log.debug("WebSocket Principal 설정: userId={}, userIdx={}", userId, userIdx);
+            return new StompPrincipal(userId, userIdx);
         }
 
         log.warn("WebSocket Principal 설정 실패: userId가 없음");
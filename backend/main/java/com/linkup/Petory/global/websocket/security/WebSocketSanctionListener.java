@@ -0,0 +1,27 @@
+package com.linkup.Petory.global.websocket.security;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.linkup.Petory.domain.user.event.UserSanctionAppliedEvent;
+import com.linkup.Petory.global.websocket.relay.MessageRelay;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 제재 커밋 시 모든 노드에 해당 사용자의 WebSocket 세션 종료를 알린다.
+ * 제재 트랜잭션은 한 노드에서만 커밋되므로, 다른 노드의 세션은 릴레이를 거쳐야 정리된다.
+ * 실제 정리는 각 노드의 {@link WebSocketSessionRegistry}가 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketSanctionListener {
+
+    private final MessageRelay messageRelay;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSanctionApplied(UserSanctionAppliedEvent event) {
+        messageRelay.revokeUserSessions(event.userId());
+    }
+}
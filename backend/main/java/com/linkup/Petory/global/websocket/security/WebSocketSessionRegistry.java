@@ -0,0 +1,115 @@
+package com.linkup.Petory.global.websocket.security;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.linkup.Petory.global.websocket.relay.UserSessionsRevokedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 STOMP 세션 레지스트리
+ *
+ * CONNECT 시 사용자 idx별 세션 속성을 등록해 두고, 세션 종료 요청(UserSessionsRevokedEvent)을 받으면
+ * 이 노드에 있는 해당 사용자의 세션에서 캐시된 인증 정보(authentication, userIdx)를 지우고 연결을 닫는다.
+ * 제재 시 요청은 WebSocketSanctionListener가 MessageRelay로 모든 노드에 보낸다.
+ * 닫히기 전에 도착한 SEND/SUBSCRIBE 프레임도 WebSocketAuthChannelInterceptor의 재인증에서 차단된다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionRegistry {
+
+    /** 사용자 idx → (세션 ID → 세션 속성) */
+    private final Map<Long, Map<String, Map<String, Object>>> sessionsByUser = new ConcurrentHashMap<>();
+
+    /** 세션 ID → 사용자 idx (연결 해제 시 역조회용) */
+    private final Map<String, Long> userBySession = new ConcurrentHashMap<>();
+
+    /** 세션 ID → WebSocket 연결 (WebSocketConfig의 핸들러 데코레이터가 등록, 종료 요청 시 닫기용) */
+    private final Map<String, WebSocketSession> connections = new ConcurrentHashMap<>();
+
+    public void connectionOpened(WebSocketSession session) {
+        connections.put(session.getId(), session);
+    }
+
+    public void connectionClosed(WebSocketSession session) {
+        connections.remove(session.getId());
+    }
+
+    public void register(String sessionId, Long userIdx, Map<String, Object> sessionAttributes) {
+        if (sessionId == null || userIdx == null || sessionAttributes == null) {
+            return;
+        }
+        userBySession.put(sessionId, userIdx);
+        sessionsByUser.computeIfAbsent(userIdx, k -> new ConcurrentHashMap<>()).put(sessionId, sessionAttributes);
+    }
+
+    /**
+     * 이 노드에 있는 사용자의 모든 세션 인증 캐시 무효화 후 연결 종료
+     *
+     * @return 무효화한 세션 수
+     */
+    public int invalidate(Long userIdx) {
+        Map<String, Map<String, Object>> sessions = sessionsByUser.remove(userIdx);
+        if (sessions == null) {
+            return 0;
+        }
+        sessions.forEach((sessionId, attributes) -> {
+            attributes.remove("authentication");
+            attributes.remove("userIdx");
+            userBySession.remove(sessionId);
+            close(connections.remove(sessionId));
+        });
+        return sessions.size();
+    }
+
+    public Set<String> sessionIdsOf(Long userIdx) {
+        Map<String, Map<String, Object>> sessions = sessionsByUser.get(userIdx);
+        return sessions != null ? Set.copyOf(sessions.keySet()) : Set.of();
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        connections.remove(sessionId);
+        Long userIdx = userBySession.remove(sessionId);
+        if (userIdx == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(userIdx, (k, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /**
+     * 세션 종료 요청(이 노드 또는 다른 노드에서 릴레이) 시 이 노드의 해당 사용자 세션 정리
+     */
+    @EventListener
+    public void onUserSessionsRevoked(UserSessionsRevokedEvent event) {
+        int invalidated = invalidate(event.userIdx());
+        if (invalidated > 0) {
+            log.info("WebSocket 세션 종료: userIdx={}, sessions={}", event.userIdx(), invalidated);
+        }
+    }
+
+    private void close(WebSocketSession session) {
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            session.close(CloseStatus.POLICY_VIOLATION);
+        } catch (IOException e) {
+            log.debug("WebSocket 세션 종료 실패 (인증 정보는 이미 제거됨): sessionId={}, error={}",
+                    session.getId(), e.getMessage());
+        }
+    }
+}
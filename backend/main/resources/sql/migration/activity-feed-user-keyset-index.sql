@@ -0,0 +1,18 @@
+-- 사용자 활동 피드 키셋(커서) 조회 인덱스
+-- 증상: 활동 피드 소스별 조회(user_idx + ORDER BY created_at DESC, idx DESC LIMIT n)가
+--       사용자 활동 전체를 읽고 filesort 하는 경우
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/activity-feed-user-keyset-index.sql
+
+CREATE INDEX idx_board_user_deleted_created_idx
+    ON board (user_idx, is_deleted, created_at, idx);
+CREATE INDEX idx_comment_user_deleted_created_idx
+    ON comment (user_idx, is_deleted, created_at, idx);
+CREATE INDEX idx_missingpet_user_deleted_created_idx
+    ON MissingPetBoard (user_idx, is_deleted, created_at, idx);
+CREATE INDEX idx_missingpet_comment_user_deleted_created_idx
+    ON MissingPetComment (user_idx, is_deleted, created_at, idx);
+CREATE INDEX idx_carerequest_user_deleted_created_idx
+    ON carerequest (user_idx, is_deleted, created_at, idx);
+CREATE INDEX idx_carerequest_comment_user_deleted_created_idx
+    ON carerequest_comment (user_idx, is_deleted, created_at, idx);
@@ -0,0 +1,20 @@
+-- 게시글·댓글·실종 제보 목록 키셋(커서) 페이징 인덱스
+-- 증상: 커서 페이징 쿼리(ORDER BY created_at, idx + seek 조건)가 filesort / 전체 스캔으로 실행되는 경우
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/board-comment-missingpet-keyset-paging-index.sql
+
+-- 게시글 전체 / 카테고리별 (created_at DESC, idx DESC)
+CREATE INDEX idx_board_deleted_created_idx
+    ON board (is_deleted, created_at, idx);
+CREATE INDEX idx_board_category_deleted_created_idx
+    ON board (category, is_deleted, created_at, idx);
+
+-- 게시글별 댓글 (created_at ASC, idx ASC)
+CREATE INDEX idx_comment_board_deleted_created_idx
+    ON comment (board_idx, is_deleted, created_at, idx);
+
+-- 실종 제보 전체 / 상태별 (created_at DESC, idx DESC)
+CREATE INDEX idx_missingpet_deleted_created_idx
+    ON MissingPetBoard (is_deleted, created_at, idx);
+CREATE INDEX idx_missingpet_status_deleted_created_idx
+    ON MissingPetBoard (status, is_deleted, created_at, idx);
@@ -0,0 +1,8 @@
+-- BoardPopularitySnapshot — PopularityPeriodType.DAILY 추가
+-- 증상: Data truncated for column 'period_type' (DAILY 스냅샷 저장 시, ENUM('WEEKLY','MONTHLY')로 생성된 경우)
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/board-popularity-snapshot-period-type-daily.sql
+
+ALTER TABLE board_popularity_snapshot
+    MODIFY COLUMN period_type VARCHAR(20) NOT NULL
+        COMMENT 'PopularityPeriodType (DAILY, WEEKLY, MONTHLY)';
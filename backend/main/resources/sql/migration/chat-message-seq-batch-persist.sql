@@ -0,0 +1,27 @@
+-- 채팅 메시지 순번(seq) 및 배치 저장 지원
+-- 증상: 메시지 1건마다 INSERT + 참여자 unread UPDATE + conversation UPDATE가 동기 실행되어
+--       활성 채팅방에서 conversation 행 락 경합과 전송 지연이 발생하는 경우
+--       (전송은 순번 발급 후 즉시 브로드캐스트하고, 저장은 배치 INSERT로 변경.
+--        이미 저장된 순번이 다시 오면 무시하지 않고 유니크 제약 위반으로 실패시킨다)
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/chat-message-seq-batch-persist.sql
+
+ALTER TABLE chatmessage ADD COLUMN seq BIGINT NULL AFTER conversation_idx;
+
+-- 기존 메시지는 채팅방별 작성 순서대로 순번 부여
+UPDATE chatmessage m
+    JOIN (SELECT idx,
+                 ROW_NUMBER() OVER (PARTITION BY conversation_idx ORDER BY created_at, idx) AS rn
+          FROM chatmessage) ordered ON ordered.idx = m.idx
+SET m.seq = ordered.rn;
+
+-- 순번 중복 저장 방지 (중복 순번 INSERT는 이 키 위반으로 실패)
+CREATE UNIQUE INDEX uk_chatmessage_conversation_seq ON chatmessage (conversation_idx, seq);
+
+ALTER TABLE conversation ADD COLUMN last_message_seq BIGINT NULL;
+
+UPDATE conversation c
+    JOIN (SELECT conversation_idx, MAX(seq) AS max_seq
+          FROM chatmessage
+          GROUP BY conversation_idx) last ON last.conversation_idx = c.idx
+SET c.last_message_seq = last.max_seq;
@@ -0,0 +1,15 @@
+-- Comment — 좋아요/싫어요 비정규화 카운터 컬럼 추가
+-- 증상: Unknown column 'like_count' in 'field list' (댓글 조회 시, 컬럼 추가 전 스키마인 경우)
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/comment-add-reaction-count-columns.sql
+
+ALTER TABLE comment
+    ADD COLUMN like_count INT NOT NULL DEFAULT 0 COMMENT '좋아요 수 (comment_reaction 비정규화)',
+    ADD COLUMN dislike_count INT NOT NULL DEFAULT 0 COMMENT '싫어요 수 (comment_reaction 비정규화)';
+
+-- 기존 반응 백필
+UPDATE comment c
+SET c.like_count = (SELECT COUNT(*) FROM comment_reaction r
+                    WHERE r.comment_idx = c.idx AND r.reaction_type = 'LIKE'),
+    c.dislike_count = (SELECT COUNT(*) FROM comment_reaction r
+                       WHERE r.comment_idx = c.idx AND r.reaction_type = 'DISLIKE');
@@ -0,0 +1,16 @@
+-- 채팅 메시지 순번 발급을 conversation 행 카운터로 이전
+-- 증상: Redis 순번 키가 유실되면 DB 마지막 순번 + 자기 노드 버퍼만 보고 재시작하여,
+--       다른 노드 버퍼에 저장 대기 중인 순번을 다시 발급하고 그중 한 메시지가 저장되지 않는 경우
+--       (현재 순번은 Redis INCR로 발급하고, 이 카운터는 Redis 장애 시 발급 경로와 Redis 키 시작값으로만 쓴다)
+--
+-- 선행: chat-message-seq-batch-persist.sql
+-- 적용: 모든 노드의 채팅 메시지 버퍼를 비운 뒤(정상 종료 시 자동 저장) 실행
+--       mysql petory < backend/main/resources/sql/migration/conversation-last-allocated-seq.sql
+
+ALTER TABLE conversation ADD COLUMN last_allocated_seq BIGINT NOT NULL DEFAULT 0;
+
+UPDATE conversation c
+    JOIN (SELECT conversation_idx, MAX(seq) AS max_seq
+          FROM chatmessage
+          GROUP BY conversation_idx) last ON last.conversation_idx = c.idx
+SET c.last_allocated_seq = last.max_seq;
@@ -0,0 +1,16 @@
+-- 채팅 참여자 읽지 않은 수를 순번 차이로 계산
+-- 증상: 메시지 1건마다 채팅방 참여자 전원의 unread_count를 UPDATE 하여
+--       참여자가 많은 채팅방(모임 채팅 등)에서 전송 비용이 인원수에 비례하는 경우
+--       (읽지 않은 수 = conversation.last_message_seq - conversationparticipant.last_read_seq)
+--
+-- 선행: chat-message-seq-batch-persist.sql
+-- 적용: mysql petory < backend/main/resources/sql/migration/conversationparticipant-last-read-seq.sql
+
+ALTER TABLE conversationparticipant ADD COLUMN last_read_seq BIGINT NOT NULL DEFAULT 0 AFTER role;
+
+-- 기존 unread_count를 보존하도록 마지막 읽은 순번 역산
+UPDATE conversationparticipant p
+    JOIN conversation c ON c.idx = p.conversation_idx
+SET p.last_read_seq = GREATEST(COALESCE(c.last_message_seq, 0) - p.unread_count, 0);
+
+ALTER TABLE conversationparticipant DROP COLUMN unread_count;
@@ -0,0 +1,31 @@
+-- 알림 보관 테이블 (notifications_archive) 및 목록·보관 인덱스
+-- 증상: 오래 사용한 사용자의 알림이 수천 건 쌓여 알림 목록·미읽음 조회가 전체 알림을 훑는 경우
+--       (목록은 idx 커서 페이징, 보관 기간이 지난 읽은 알림은 배치로 보관 테이블로 이동)
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/notifications-archive-table.sql
+-- 선행: notifications-dispatched-at-outbox.sql
+
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    idx           BIGINT       NOT NULL,
+    user_idx      BIGINT       NOT NULL,
+    type          VARCHAR(255) NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    content       VARCHAR(500) NULL,
+    related_id    BIGINT       NULL,
+    related_type  VARCHAR(255) NULL,
+    is_read       BIT(1)       NOT NULL,
+    dispatched_at DATETIME(6)  NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    archived_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idx),
+    INDEX idx_notifications_archive_user (user_idx, idx)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+-- 읽지 않은 알림 커서 페이징 (user_idx, is_read = 0, idx < ? ORDER BY idx DESC)
+CREATE INDEX idx_notifications_user_read_idx ON notifications (user_idx, is_read, idx);
+
+-- 보관 대상 조회 (is_read = 1 AND created_at < ?)
+CREATE INDEX idx_notifications_read_created ON notifications (is_read, created_at);
@@ -0,0 +1,11 @@
+-- 알림 재발송 선점 (dispatch_claim, dispatch_lease_until)
+-- 증상: 여러 노드의 NotificationOutboxScheduler가 같은 미발송 알림을 함께 조회해 재발송하여
+--       같은 FCM 푸시가 노드 수만큼 도착하는 경우
+--       (재발송 전 조건부 UPDATE로 배치를 선점하고, lease가 지나야 다른 노드가 다시 선점)
+--
+-- 선행: notifications-dispatched-at-outbox.sql
+-- 적용: mysql petory < backend/main/resources/sql/migration/notifications-dispatch-lease.sql
+
+ALTER TABLE notifications
+    ADD COLUMN dispatch_claim VARCHAR(36) NULL AFTER dispatched_at,
+    ADD COLUMN dispatch_lease_until DATETIME(6) NULL AFTER dispatch_claim;
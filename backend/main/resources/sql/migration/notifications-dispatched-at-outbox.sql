@@ -0,0 +1,13 @@
+-- 알림 발송 아웃박스 (dispatched_at)
+-- 증상: 댓글 작성 등 호출 트랜잭션 안에서 Redis 저장·SSE·FCM 발송까지 동기로 수행하여
+--       FCM 응답이 느리면 댓글 작성 요청이 함께 지연되는 경우
+--       (알림 row만 저장하고 커밋 후 비동기 발송, 발송 완료 시 dispatched_at 기록, 비어 있으면 재발송)
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/notifications-dispatched-at-outbox.sql
+
+ALTER TABLE notifications ADD COLUMN dispatched_at DATETIME(6) NULL AFTER is_read;
+
+-- 기존 알림은 이미 발송된 것으로 간주 (재발송 방지)
+UPDATE notifications SET dispatched_at = created_at WHERE dispatched_at IS NULL;
+
+CREATE INDEX idx_notifications_dispatched_at ON notifications (dispatched_at, idx);
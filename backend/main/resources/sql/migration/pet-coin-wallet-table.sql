@@ -0,0 +1,21 @@
+-- 펫코인 지갑 분리 (pet_coin_wallet)
+-- 증상: 충전·차감·지급·환불이 users 행을 비관적 락(SELECT ... FOR UPDATE)으로 잡고 pet_coin_balance를 갱신하여,
+--       같은 행을 갱신하는 로그인(토큰 갱신)·프로필 수정·제재와 결제 요청이 서로 대기하는 경우
+--       (잔액만 담는 좁은 지갑 행을 조건부 UPDATE로 갱신, 거래 내역은 pet_coin_transaction에 추가 전용 기록)
+--
+-- 적용: mysql petory < backend/main/resources/sql/migration/pet-coin-wallet-table.sql
+-- 지갑이 없는 사용자는 첫 거래 때 users.pet_coin_balance로 생성되므로, 아래 백필은 조회 경로의 폴백을 줄이는 용도
+
+CREATE TABLE IF NOT EXISTS pet_coin_wallet (
+    user_idx    BIGINT      NOT NULL,
+    balance     INT         NOT NULL DEFAULT 0,
+    version     BIGINT      NOT NULL DEFAULT 0,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_idx),
+    CONSTRAINT fk_pet_coin_wallet_user FOREIGN KEY (user_idx) REFERENCES users (idx)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+  COMMENT='사용자별 펫코인 잔액 (users.pet_coin_balance 대체)';
+
+INSERT IGNORE INTO pet_coin_wallet (user_idx, balance, version, created_at, updated_at)
+SELECT idx, pet_coin_balance, 0, NOW(6), NOW(6) FROM users;
@@ -0,0 +1,48 @@
+package com.linkup.Petory.domain.activity.dto;
+
+import com.linkup.Petory.domain.board.dto.PageCursor;
+import com.linkup.Petory.domain.board.exception.BoardValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ActivityCursor 단위 테스트
+ *
+ * 검증: 소스별 위치 왕복 인코딩, 해석할 수 없는 커서의 400 검증 예외
+ */
+class ActivityCursorTest {
+
+    @Test
+    @DisplayName("소스별 위치는 인코딩 후 그대로 복원된다")
+    void roundTrip() {
+        Map<String, PageCursor> positions = new LinkedHashMap<>();
+        positions.put("BOARD", PageCursor.of(LocalDateTime.of(2026, 3, 15, 12, 0), 101L));
+        positions.put("COMMENT", PageCursor.of(LocalDateTime.of(2026, 3, 15, 11, 59), 200L));
+
+        ActivityCursor decoded = ActivityCursor.decode(new ActivityCursor(positions).encode());
+
+        assertThat(decoded.positions()).isEqualTo(positions);
+        assertThat(ActivityCursor.decode(null).positions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 400 검증 예외로 거절한다")
+    void rejectsMalformedCursor() {
+        String missingSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("BOARD".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ActivityCursor.decode("!!!"))
+                .isInstanceOf(BoardValidationException.class);
+        assertThatThrownBy(() -> ActivityCursor.decode(missingSeparator))
+                .isInstanceOf(BoardValidationException.class);
+    }
+}
@@ -0,0 +1,176 @@
+package com.linkup.Petory.domain.activity.service;
+
+import com.linkup.Petory.domain.activity.converter.ActivityConverter;
+import com.linkup.Petory.domain.activity.dto.ActivityCursorPageResponseDTO;
+import com.linkup.Petory.domain.activity.dto.ActivityDTO;
+import com.linkup.Petory.domain.activity.dto.ActivityPageResponseDTO;
+import com.linkup.Petory.domain.board.entity.Board;
+import com.linkup.Petory.domain.board.entity.Comment;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.board.repository.MissingPetBoardRepository;
+import com.linkup.Petory.domain.board.repository.MissingPetCommentRepository;
+import com.linkup.Petory.domain.care.entity.CareRequest;
+import com.linkup.Petory.domain.care.repository.CareRequestCommentRepository;
+import com.linkup.Petory.domain.care.repository.CareRequestRepository;
+import com.linkup.Petory.domain.common.BaseTimeEntity;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ActivityService 단위 테스트
+ *
+ * 검증: 소스별 키셋 조회 결과의 k-way 병합 순서, 소스별 커서로 중복·누락 없는 페이지 이동,
+ * 소스별 조회량 제한, 필터별 개수의 COUNT 쿼리 사용
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityServiceTest {
+
+    private static final long USER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    @Mock
+    private CareRequestRepository careRequestRepository;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private MissingPetBoardRepository missingPetBoardRepository;
+    @Mock
+    private CareRequestCommentRepository careRequestCommentRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private MissingPetCommentRepository missingPetCommentRepository;
+    @Mock
+    private UsersRepository usersRepository;
+
+    private ActivityService activityService;
+
+    private final List<Board> boards = new ArrayList<>();
+    private final List<Comment> comments = new ArrayList<>();
+    private final List<CareRequest> careRequests = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        activityService = new ActivityService(careRequestRepository, boardRepository, missingPetBoardRepository,
+                careRequestCommentRepository, commentRepository, missingPetCommentRepository, usersRepository,
+                new ActivityConverter());
+        when(usersRepository.findById(USER_ID)).thenReturn(Optional.of(Users.builder().idx(USER_ID).build()));
+
+        // 게시글 분 단위 0,3,6,... / 댓글 1,4,7,... / 케어 요청은 게시글과 같은 시각(동률)
+        for (int i = 0; i < 5; i++) {
+            boards.add(timed(Board.builder().idx(100L + i).title("글" + i).build(), BASE.minusMinutes(3L * i)));
+            comments.add(timed(Comment.builder().idx(200L + i).content("댓글" + i).build(),
+                    BASE.minusMinutes(3L * i + 1)));
+            careRequests.add(timed(CareRequest.builder().idx(300L + i).title("케어" + i).build(),
+                    BASE.minusMinutes(3L * i)));
+        }
+        when(boardRepository.findActivityByUserIdAndCursor(eq(USER_ID), any(), any(), any()))
+                .thenAnswer(seek(boards, Board::getCreatedAt, Board::getIdx));
+        // POSTS 필터 테스트에서는 조회되지 않아야 하므로 lenient
+        lenient().when(commentRepository.findActivityByUserIdAndCursor(eq(USER_ID), any(), any(), any()))
+                .thenAnswer(seek(comments, Comment::getCreatedAt, Comment::getIdx));
+        when(careRequestRepository.findActivityByUserIdAndCursor(eq(USER_ID), any(), any(), any()))
+                .thenAnswer(seek(careRequests, CareRequest::getCreatedAt, CareRequest::getIdx));
+    }
+
+    private static <T extends BaseTimeEntity> T timed(T entity, LocalDateTime createdAt) {
+        ReflectionTestUtils.setField(entity, "createdAt", createdAt);
+        return entity;
+    }
+
+    /** DB 키셋 조회 흉내: (createdAt, idx) 내림차순, 커서 이후, limit건 */
+    private static <T> Answer<List<T>> seek(List<T> rows, Function<T, LocalDateTime> createdAt,
+            Function<T, Long> idx) {
+        Comparator<T> order = Comparator.comparing(createdAt).thenComparing(idx).reversed();
+        return inv -> {
+            LocalDateTime cursorCreatedAt = inv.getArgument(1);
+            Long cursorIdx = inv.getArgument(2);
+            Pageable pageable = inv.getArgument(3);
+            return rows.stream()
+                    .filter(r -> cursorCreatedAt == null
+                            || createdAt.apply(r).isBefore(cursorCreatedAt)
+                            || (createdAt.apply(r).isEqual(cursorCreatedAt) && idx.apply(r) < cursorIdx))
+                    .sorted(order)
+                    .limit(pageable.getPageSize())
+                    .toList();
+        };
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 모든 활동이 최신순으로 중복·누락 없이 한 번씩 나온다")
+    void cursorPagesCoverAllActivitiesInOrder() {
+        List<ActivityDTO> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ActivityCursorPageResponseDTO page = activityService.getUserActivitiesWithCursor(USER_ID, "ALL", cursor,
+                    4, false);
+            assertThat(page.getActivities()).hasSizeLessThanOrEqualTo(4);
+            seen.addAll(page.getActivities());
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(seen).hasSize(15);
+        assertThat(seen).extracting(a -> a.getType() + ":" + a.getIdx()).doesNotHaveDuplicates();
+        assertThat(seen).extracting(ActivityDTO::getCreatedAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        // createdAt 동률이면 소스 순서 (케어 요청 → 게시글)
+        assertThat(seen.subList(0, 3)).extracting(ActivityDTO::getType)
+                .containsExactly("CARE_REQUEST", "BOARD", "COMMENT");
+        verify(boardRepository, never()).countActivityByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 소스별 (page + 1) * size + 1건만 읽고, 개수는 COUNT 쿼리로 채운다")
+    void offsetPageReadsBoundedRowsAndCountsByQuery() {
+        when(careRequestRepository.countActivityByUserId(USER_ID)).thenReturn(5L);
+        when(boardRepository.countActivityByUserId(USER_ID)).thenReturn(5L);
+        when(missingPetBoardRepository.countActivityByUserId(USER_ID)).thenReturn(0L);
+        when(careRequestCommentRepository.countActivityByUserId(USER_ID)).thenReturn(0L);
+        when(commentRepository.countActivityByUserId(USER_ID)).thenReturn(5L);
+        when(missingPetCommentRepository.countActivityByUserId(USER_ID)).thenReturn(0L);
+
+        ActivityPageResponseDTO page = activityService.getUserActivitiesWithPaging(USER_ID, "POSTS", 1, 3);
+
+        assertThat(page.getActivities()).extracting(a -> a.getType() + ":" + a.getIdx())
+                .containsExactly("BOARD:101", "CARE_REQUEST:302", "BOARD:102");
+        assertThat(page.getTotalCount()).isEqualTo(10);
+        assertThat(page.getTotalPages()).isEqualTo(4);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getAllCount()).isEqualTo(15);
+        assertThat(page.getPostsCount()).isEqualTo(10);
+        assertThat(page.getCommentsCount()).isEqualTo(5);
+        verify(boardRepository).findActivityByUserIdAndCursor(USER_ID, null, null, PageRequest.of(0, 7));
+        verify(commentRepository, never()).findActivityByUserIdAndCursor(any(), any(), any(), any());
+        verify(boardRepository, never()).findByUserAndIsDeletedFalseOrderByCreatedAtDesc(any());
+    }
+}
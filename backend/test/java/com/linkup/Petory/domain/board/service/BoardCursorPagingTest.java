@@ -0,0 +1,126 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.converter.BoardConverter;
+import com.linkup.Petory.domain.board.dto.BoardCursorPageResponseDTO;
+import com.linkup.Petory.domain.board.dto.BoardDTO;
+import com.linkup.Petory.domain.board.dto.PageCursor;
+import com.linkup.Petory.domain.board.entity.Board;
+import com.linkup.Petory.domain.board.exception.BoardValidationException;
+import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.file.service.AttachmentFileService;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 키셋(커서) 페이징 단위 테스트
+ *
+ * 검증: size + 1건 조회로 다음 페이지 판단, 커서 토큰 왕복, seek 파라미터 전달, includeTotal일 때만 COUNT,
+ * 큰 size는 MAX_SIZE로 제한
+ */
+class BoardCursorPagingTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 3, 15, 12, 0, 0, 123_000_000);
+
+    private BoardRepository boardRepository;
+    private BoardService boardService;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        BoardConverter boardConverter = mock(BoardConverter.class);
+        when(boardConverter.toDTO(any(Board.class))).thenAnswer(inv -> {
+            BoardDTO dto = new BoardDTO();
+            dto.setIdx(((Board) inv.getArgument(0)).getIdx());
+            return dto;
+        });
+        boardService = new BoardService(boardRepository, mock(UsersRepository.class),
+                mock(BoardReactionRepository.class), mock(BoardViewCountBuffer.class),
+                mock(AttachmentFileService.class), boardConverter, mock(ApplicationEventPublisher.class),
+                mock(CommentRepository.class));
+    }
+
+    private static Board board(long idx, LocalDateTime createdAt) {
+        Board board = Board.builder().idx(idx).category("자유").title("글 " + idx).build();
+        ReflectionTestUtils.setField(board, "createdAt", createdAt);
+        return board;
+    }
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 size건만 반환하고 마지막 행 (createdAt, idx)로 다음 커서를 만든다")
+    void returnsNextCursorFromLastRow() {
+        // 같은 createdAt 동률은 idx 내림차순
+        List<Board> rows = List.of(board(30L, BASE), board(29L, BASE), board(28L, BASE.minusSeconds(1)));
+        when(boardRepository.findAllByCursor(null, null, PageRequest.of(0, 3))).thenReturn(rows);
+
+        BoardCursorPageResponseDTO response = boardService.getAllBoardsWithCursor(null, null, 2, false);
+
+        assertThat(response.boards()).extracting(BoardDTO::getIdx).containsExactly(30L, 29L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.totalCount()).isNull();
+        assertThat(PageCursor.decode(response.nextCursor())).isEqualTo(PageCursor.of(BASE, 29L));
+        verify(boardRepository, never()).countListable(any());
+    }
+
+    @Test
+    @DisplayName("커서를 넘기면 seek 조건 값으로 전달하고, 마지막 페이지는 nextCursor가 없다")
+    void seeksFromCursor() {
+        String cursor = PageCursor.of(BASE, 29L).encode();
+        when(boardRepository.findByCategoryAndCursor("자유", BASE, 29L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(board(28L, BASE.minusSeconds(1))));
+        when(boardRepository.countListable("자유")).thenReturn(3L);
+
+        BoardCursorPageResponseDTO response = boardService.getAllBoardsWithCursor("자유", cursor, 2, true);
+
+        assertThat(response.boards()).extracting(BoardDTO::getIdx).containsExactly(28L);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+        assertThat(response.totalCount()).isEqualTo(3L);
+        verify(boardRepository, never()).findAllByCursor(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("요청 size가 MAX_SIZE보다 크면 MAX_SIZE + 1건만 조회하고 MAX_SIZE건 기준으로 다음 페이지를 판단한다")
+    void capsRequestedSize() {
+        List<Board> rows = LongStream.rangeClosed(1, CursorPaging.MAX_SIZE + 1)
+                .mapToObj(i -> board(1_000L - i, BASE)).toList();
+        when(boardRepository.findAllByCursor(null, null, PageRequest.of(0, CursorPaging.MAX_SIZE + 1)))
+                .thenReturn(rows);
+
+        BoardCursorPageResponseDTO response = boardService.getAllBoardsWithCursor(null, null, 10_000, false);
+
+        assertThat(response.boards()).hasSize(CursorPaging.MAX_SIZE);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(PageCursor.decode(response.nextCursor()))
+                .isEqualTo(PageCursor.of(BASE, 1_000L - CursorPaging.MAX_SIZE));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 400 검증 예외로 거절한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> boardService.getAllBoardsWithCursor(null, "not-a-cursor", 20, false))
+                .isInstanceOf(BoardValidationException.class);
+        assertThatThrownBy(() -> boardService.getAllBoardsWithCursor(null, null, 0, false))
+                .isInstanceOf(BoardValidationException.class);
+        verify(boardRepository, never()).findByCategoryAndCursor(anyString(), any(), any(), any());
+    }
+}
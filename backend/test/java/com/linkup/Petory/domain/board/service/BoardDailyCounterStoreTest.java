@@ -0,0 +1,68 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.service.BoardDailyCounterStore.Counts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardDailyCounterStore 단위 테스트
+ *
+ * 검증: 일자 버킷 합계, 링 버퍼 슬롯 재사용, 만료 버킷 정리
+ */
+class BoardDailyCounterStoreTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Test
+    @DisplayName("기간 합계는 [from, to] 범위의 버킷만 더한다")
+    void sumsBucketsInRange() {
+        BoardDailyCounterStore store = new BoardDailyCounterStore(30);
+        store.add(1L, TODAY, 1, 0, 0);
+        store.add(1L, TODAY.minusDays(6), 0, 2, 0);
+        store.add(1L, TODAY.minusDays(7), 0, 0, 5);
+
+        assertThat(store.sum(1L, TODAY.minusDays(6), TODAY)).isEqualTo(new Counts(1, 2, 0));
+        assertThat(store.sum(1L, TODAY.minusDays(29), TODAY)).isEqualTo(new Counts(1, 2, 5));
+        assertThat(store.sum(1L, TODAY, TODAY)).isEqualTo(new Counts(1, 0, 0));
+        assertThat(store.sum(2L, TODAY, TODAY)).isEqualTo(Counts.EMPTY);
+    }
+
+    @Test
+    @DisplayName("같은 슬롯에 새 날짜가 오면 이전 날짜 버킷을 덮어쓰고, 더 오래된 날짜는 무시한다")
+    void reusesSlotForNewDay() {
+        BoardDailyCounterStore store = new BoardDailyCounterStore(7);
+        store.add(1L, TODAY.minusDays(7), 0, 0, 10);
+        store.add(1L, TODAY, 0, 0, 1);
+        store.add(1L, TODAY.minusDays(7), 0, 0, 10); // 슬롯이 이미 오늘 → 보관 범위 밖
+
+        assertThat(store.sum(1L, TODAY.minusDays(30), TODAY)).isEqualTo(new Counts(0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("기간 합계는 항목별로 0 미만이 되지 않는다")
+    void floorsNegativeSums() {
+        BoardDailyCounterStore store = new BoardDailyCounterStore(7);
+        store.add(1L, TODAY, -1, 1, 0);
+
+        assertThat(store.sum(1L, TODAY, TODAY)).isEqualTo(new Counts(0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("compact는 만료 버킷을 비우고, 버킷이 남지 않은 게시글을 제거한다")
+    void compactsExpiredBuckets() {
+        BoardDailyCounterStore store = new BoardDailyCounterStore(7);
+        store.add(1L, TODAY.minusDays(10), 1, 0, 0);
+        store.add(2L, TODAY.minusDays(10), 1, 0, 0);
+        store.add(2L, TODAY.minusDays(2), 0, 1, 0);
+
+        int removed = store.compact(TODAY);
+
+        assertThat(removed).isEqualTo(1);
+        assertThat(store.boardIds()).containsExactly(2L);
+        assertThat(store.sum(2L, TODAY.minusDays(30), TODAY)).isEqualTo(new Counts(0, 1, 0));
+    }
+}
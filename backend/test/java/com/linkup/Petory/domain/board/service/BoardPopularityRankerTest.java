@@ -0,0 +1,185 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.entity.Board;
+import com.linkup.Petory.domain.board.entity.PopularityPeriodType;
+import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
+import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
+import com.linkup.Petory.domain.board.repository.BoardViewLogRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.board.service.BoardPopularityRanker.RankedBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * BoardPopularityRanker 단위 테스트
+ *
+ * 검증: 이벤트 증감만으로 상위 K 랭킹이 유지되고, 순위 하락·삭제·기간 경계가 올바르게 처리되는지
+ */
+class BoardPopularityRankerTest {
+
+    private BoardReactionRepository boardReactionRepository;
+    private CommentRepository commentRepository;
+    private BoardViewLogRepository boardViewLogRepository;
+    private BoardPopularityRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        boardReactionRepository = mock(BoardReactionRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        boardViewLogRepository = mock(BoardViewLogRepository.class);
+        ranker = new BoardPopularityRanker(boardReactionRepository, commentRepository, boardViewLogRepository);
+    }
+
+    private Board board(long id, String category) {
+        return Board.builder().idx(id).category(category).title("t" + id).build();
+    }
+
+    private List<Long> topIds(PopularityPeriodType type) {
+        return ranker.topBoards(type).stream().map(RankedBoard::boardId).toList();
+    }
+
+    private static Object[] row(long boardId, LocalDate day, long count) {
+        return new Object[] { boardId, Date.valueOf(day), count };
+    }
+
+    @Test
+    @DisplayName("점수 = 좋아요*3 + 댓글*2 + 조회수, 점수 내림차순으로 정렬된다")
+    void ranksByWeightedScore() {
+        Board a = board(1L, "자랑");
+        Board b = board(2L, "자랑");
+
+        ranker.onActivity(BoardActivityEvent.liked(a, 1));      // 3
+        ranker.onActivity(BoardActivityEvent.commented(b, 1));  // 2
+        ranker.onActivity(BoardActivityEvent.viewed(b));        // 3, 더 최신 idx 우선
+        ranker.onActivity(BoardActivityEvent.viewed(b));        // 4
+
+        List<RankedBoard> top = ranker.topBoards(PopularityPeriodType.WEEKLY);
+        assertThat(top).extracting(RankedBoard::boardId).containsExactly(2L, 1L);
+        assertThat(top.get(0).score()).isEqualTo(4);
+        assertThat(top.get(0).comments()).isEqualTo(1);
+        assertThat(top.get(0).views()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상위 K개만 유지하며, 밖의 후보가 점수를 올리면 마지막 멤버를 밀어낸다")
+    void keepsBoundedTopK() {
+        for (long id = 1; id <= BoardPopularityRanker.TOP_K + 10; id++) {
+            Board b = board(id, "자랑");
+            for (int i = 0; i < id; i++) {
+                ranker.onActivity(BoardActivityEvent.viewed(b));
+            }
+        }
+        assertThat(ranker.topBoards(PopularityPeriodType.WEEKLY)).hasSize(BoardPopularityRanker.TOP_K);
+        assertThat(topIds(PopularityPeriodType.WEEKLY)).doesNotContain(1L);
+
+        ranker.onActivity(BoardActivityEvent.liked(board(1L, "자랑"), 100));
+
+        assertThat(topIds(PopularityPeriodType.WEEKLY).get(0)).isEqualTo(1L);
+        assertThat(ranker.topBoards(PopularityPeriodType.WEEKLY)).hasSize(BoardPopularityRanker.TOP_K);
+    }
+
+    @Test
+    @DisplayName("멤버의 점수가 떨어지면 밖에 있던 더 높은 후보가 다음 조회에서 올라온다")
+    void rebuildsAfterMemberDecrease() {
+        for (long id = 1; id <= BoardPopularityRanker.TOP_K + 1; id++) {
+            ranker.onActivity(BoardActivityEvent.liked(board(id, "자랑"), (int) id));
+        }
+        List<Long> before = topIds(PopularityPeriodType.WEEKLY);
+        assertThat(before).doesNotContain(1L);
+
+        // 최하위 멤버(idx 2)가 좋아요를 모두 잃으면 idx 1이 그 자리를 차지해야 한다
+        ranker.onActivity(BoardActivityEvent.liked(board(2L, "자랑"), -2));
+
+        List<Long> after = topIds(PopularityPeriodType.WEEKLY);
+        assertThat(after).contains(1L).doesNotContain(2L);
+    }
+
+    @Test
+    @DisplayName("삭제·카테고리 변경 이벤트는 랭킹에서 제외한다")
+    void removesDeletedOrRecategorizedBoards() {
+        Board a = board(1L, "자랑");
+        Board b = board(2L, "자랑");
+        ranker.onActivity(BoardActivityEvent.liked(a, 1));
+        ranker.onActivity(BoardActivityEvent.liked(b, 1));
+
+        ranker.onActivity(BoardActivityEvent.removed(a));
+        b.setCategory("자유");
+        ranker.onActivity(BoardActivityEvent.touched(b));
+
+        assertThat(ranker.topBoards(PopularityPeriodType.WEEKLY)).isEmpty();
+        assertThat(ranker.trackedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제 후 복구된 게시글은 기존 기간 이력 그대로 다시 순위에 오른다")
+    void restoredBoardKeepsHistory() {
+        Board a = board(1L, "자랑");
+        Board b = board(2L, "자랑");
+        ranker.onActivity(BoardActivityEvent.liked(a, 5));  // 15
+        ranker.onActivity(BoardActivityEvent.liked(b, 1));  // 3
+        assertThat(topIds(PopularityPeriodType.WEEKLY)).containsExactly(1L, 2L);
+
+        ranker.onActivity(BoardActivityEvent.removed(a));
+        assertThat(topIds(PopularityPeriodType.WEEKLY)).containsExactly(2L);
+
+        ranker.onActivity(BoardActivityEvent.touched(a));
+
+        List<RankedBoard> top = ranker.topBoards(PopularityPeriodType.WEEKLY);
+        assertThat(top).extracting(RankedBoard::boardId).containsExactly(1L, 2L);
+        assertThat(top.get(0).score()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("대상 외 카테고리 게시글의 이벤트는 추적하지 않는다")
+    void ignoresUntrackedNonTargetBoards() {
+        ranker.onActivity(BoardActivityEvent.viewed(board(1L, "자유")));
+
+        assertThat(ranker.trackedCount()).isZero();
+        assertThat(ranker.topBoards(PopularityPeriodType.WEEKLY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reload는 일자별 로그 집계로 버킷을 채우고, 기간별 점수는 해당 일수의 버킷 합이다")
+    void reloadSeedsDailyBucketsPerPeriod() {
+        LocalDate today = LocalDate.now();
+        when(boardReactionRepository.countDailyByCategoriesSince(anyList(), eq(ReactionType.LIKE), any()))
+                .thenReturn(List.of(row(1L, today, 1), row(2L, today.minusDays(3), 2)));
+        when(commentRepository.countDailyByCategoriesSince(anyList(), any()))
+                .thenReturn(List.<Object[]>of(row(2L, today.minusDays(3), 1)));
+        when(boardViewLogRepository.countDailyByCategoriesSince(anyList(), any()))
+                .thenReturn(List.of(row(3L, today.minusDays(20), 50), row(1L, today, 2)));
+
+        ranker.reload();
+
+        assertThat(topIds(PopularityPeriodType.DAILY)).containsExactly(1L);
+        assertThat(topIds(PopularityPeriodType.WEEKLY)).containsExactly(2L, 1L);
+        assertThat(topIds(PopularityPeriodType.MONTHLY)).containsExactly(3L, 2L, 1L);
+
+        RankedBoard weeklyTop = ranker.topBoards(PopularityPeriodType.WEEKLY).get(0);
+        assertThat(weeklyTop.score()).isEqualTo(2 * 3 + 1 * 2);
+        assertThat(weeklyTop.likes()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오늘 발생한 이벤트는 모든 기간 유형에 반영된다")
+    void todayActivityCountsForAllPeriods() {
+        ranker.onActivity(BoardActivityEvent.commented(board(1L, "PRIDE"), 1));
+
+        for (PopularityPeriodType type : PopularityPeriodType.values()) {
+            assertThat(topIds(type)).containsExactly(1L);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.service.BoardViewCountBuffer.Batch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BoardViewCountBuffer 단위 테스트
+ *
+ * 검증: 조회 중복 제거, 게시글별 증가분 합산, drain/restore의 정확히 한 번 반영
+ */
+class BoardViewCountBufferTest {
+
+    private BoardViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new BoardViewCountBuffer(10_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 조회는 한 번만 적재하고, 비로그인 조회는 모두 합산한다")
+    void dedupsViewersAndCoalescesAnonymousViews() {
+        assertThat(buffer.record(1L, 100L)).isTrue();
+        assertThat(buffer.record(1L, 100L)).isFalse();
+        assertThat(buffer.record(1L, 101L)).isTrue();
+        assertThat(buffer.record(2L, 100L)).isTrue();
+        buffer.record(1L, null);
+        buffer.record(1L, null);
+
+        // 응답 보정에는 반영이 확정된 비로그인 조회만 포함
+        assertThat(buffer.pendingViews(1L)).isEqualTo(2);
+        assertThat(buffer.pendingViews(2L)).isZero();
+
+        Batch batch = buffer.drain();
+        assertThat(batch.anonymousViews()).containsEntry(1L, 2);
+        assertThat(batch.viewers().get(1L)).containsExactlyInAnyOrder(100L, 101L);
+        assertThat(batch.viewers().get(2L)).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("drain 이후 버퍼는 비고, restore하면 다음 배치에 다시 포함된다")
+    void drainAndRestore() {
+        buffer.record(1L, null);
+        buffer.record(1L, 100L);
+
+        Batch first = buffer.drain();
+        assertThat(buffer.pendingViews(1L)).isZero();
+        assertThat(buffer.drain().isEmpty()).isTrue();
+
+        buffer.record(1L, null);
+        buffer.restore(first);
+
+        Batch retried = buffer.drain();
+        assertThat(retried.anonymousViews()).containsEntry(1L, 2);
+        assertThat(retried.viewers().get(1L)).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("블룸 필터는 세대 교체 후에도 직전 세대의 조회자를 기억한다")
+    void bloomFilterRotatesGenerations() {
+        BoardViewCountBuffer.ViewerBloomFilter filter = new BoardViewCountBuffer.ViewerBloomFilter(100, 0.01);
+        for (long viewer = 0; viewer < 150; viewer++) {
+            filter.put(1L, viewer);
+        }
+        // 세대 교체 이후에도 직전 세대에 있던 조회자는 중복으로 판단
+        assertThat(filter.put(1L, 5L)).isFalse();
+        assertThat(filter.put(1L, 140L)).isFalse();
+
+        int fresh = 0;
+        for (long viewer = 1_000; viewer < 1_100; viewer++) {
+            if (filter.put(1L, viewer)) {
+                fresh++;
+            }
+        }
+        // 처음 보는 조회자는 오탐률(1%) 수준을 제외하고 모두 통과
+        assertThat(fresh).isGreaterThanOrEqualTo(95);
+    }
+}
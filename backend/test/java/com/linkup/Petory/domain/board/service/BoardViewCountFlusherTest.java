@@ -0,0 +1,90 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.entity.Board;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.BoardViewLogRepository;
+import com.linkup.Petory.domain.board.service.BoardViewCountBuffer.Batch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * BoardViewCountFlusher 단위 테스트
+ *
+ * 검증: 실제 기록된 조회 로그만 증가분에 반영, 같은 증가분 게시글은 한 번의 UPDATE로 묶음,
+ * 랭킹 이벤트도 반영된 증가분으로만 발행
+ */
+class BoardViewCountFlusherTest {
+
+    private BoardRepository boardRepository;
+    private BoardViewLogRepository boardViewLogRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private BoardViewCountFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        boardViewLogRepository = mock(BoardViewLogRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        flusher = new BoardViewCountFlusher(boardRepository, boardViewLogRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("증가분이 같은 게시글은 하나의 UPDATE로 묶고, 이미 기록된 조회자는 증가하지 않는다")
+    void groupsBoardsByDelta() {
+        when(boardViewLogRepository.insertIgnoreAll(eq(3L), anyList())).thenReturn(1);  // 2명 중 1명은 이미 조회
+        when(boardViewLogRepository.insertIgnoreAll(eq(4L), anyList())).thenReturn(0);  // 재실행: 모두 기록됨
+
+        Batch batch = new Batch(
+                Map.of(1L, 1, 2L, 1, 3L, 1),
+                Map.of(3L, Set.of(100L, 101L), 4L, Set.of(100L)));
+
+        int applied = flusher.flush(batch);
+
+        assertThat(applied).isEqualTo(1 + 1 + 2);
+        verify(boardRepository).addViewCount(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), eq(1));
+        verify(boardRepository).addViewCount(List.of(3L), 2);
+        verify(boardRepository, never()).addViewCount(argThat(ids -> ids.contains(4L)), anyInt());
+    }
+
+    @Test
+    @DisplayName("랭킹 이벤트는 버퍼에 쌓인 조회 수가 아니라 실제로 반영된 증가분으로 발행한다")
+    void publishesAppliedDeltas() {
+        // 재시작 후 빈 블룸 필터를 통과한 기존 조회자 2명 중 1명만 새로 기록됨
+        when(boardViewLogRepository.insertIgnoreAll(eq(3L), anyList())).thenReturn(1);
+        when(boardViewLogRepository.insertIgnoreAll(eq(4L), anyList())).thenReturn(0);
+        when(boardRepository.findAllById(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 3L)))))
+                .thenReturn(List.of(
+                        Board.builder().idx(1L).category("자랑").build(),
+                        Board.builder().idx(3L).category("자랑").build()));
+
+        flusher.flush(new Batch(
+                Map.of(1L, 2),
+                Map.of(3L, Set.of(100L, 101L), 4L, Set.of(100L))));
+
+        ArgumentCaptor<BoardActivityEvent> events = ArgumentCaptor.forClass(BoardActivityEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(BoardActivityEvent::boardId, BoardActivityEvent::viewDelta)
+                .containsExactlyInAnyOrder(tuple(1L, 2), tuple(3L, 1));
+    }
+}
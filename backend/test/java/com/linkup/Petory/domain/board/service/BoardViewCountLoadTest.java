@@ -0,0 +1,157 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.converter.BoardConverter;
+import com.linkup.Petory.domain.board.dto.BoardDTO;
+import com.linkup.Petory.domain.board.entity.Board;
+import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.BoardViewLogRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.file.service.AttachmentFileService;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회수 write-behind 부하 테스트
+ *
+ * 인기 게시글 1개를 여러 조회자가 동시에 열람하는 동안 플러시를 반복 실행한다.
+ * - 요청 경로는 board 행 UPDATE·조회 로그 INSERT·사용자 조회를 하지 않는다
+ * - board UPDATE 횟수는 조회 수가 아니라 플러시 횟수로 제한된다
+ * - 반복 조회자를 포함해도 최종 조회수는 (고유 로그인 조회자 + 비로그인 조회) 수와 같다
+ */
+class BoardViewCountLoadTest {
+
+    private static final long BOARD_ID = 1L;
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 40;
+    /** 로그인 조회자 ID 범위 - 요청 수보다 작게 잡아 반복 조회를 섞는다 */
+    private static final int DISTINCT_VIEWERS = 200;
+
+    private final AtomicInteger dbViewCount = new AtomicInteger();
+    /** board_view_log 흉내: unique (board, viewer) */
+    private final Set<Long> viewLog = ConcurrentHashMap.newKeySet();
+
+    private BoardRepository boardRepository;
+    private UsersRepository usersRepository;
+    private BoardViewLogRepository boardViewLogRepository;
+    private BoardViewCountBuffer buffer;
+    private BoardService boardService;
+    private BoardViewCountFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        usersRepository = mock(UsersRepository.class);
+        boardViewLogRepository = mock(BoardViewLogRepository.class);
+        BoardConverter boardConverter = mock(BoardConverter.class);
+        buffer = new BoardViewCountBuffer(100_000, 0.01);
+
+        Board board = Board.builder().idx(BOARD_ID).category("자랑").title("인기글").viewCount(0).build();
+        when(boardRepository.findByIdWithUser(BOARD_ID)).thenReturn(Optional.of(board));
+        when(boardRepository.findAllById(anyList())).thenReturn(List.of(board));
+        when(boardConverter.toDTO(any(Board.class))).thenAnswer(inv -> new BoardDTO());
+        when(boardViewLogRepository.insertIgnoreAll(anyLong(), anyList())).thenAnswer(inv -> {
+            int inserted = 0;
+            for (Object viewerId : (List<?>) inv.getArgument(1)) {
+                if (viewLog.add((Long) viewerId)) {
+                    inserted++;
+                }
+            }
+            return inserted;
+        });
+        doAnswer(inv -> dbViewCount.addAndGet(((List<?>) inv.getArgument(0)).size() * (int) inv.getArgument(1)))
+                .when(boardRepository).addViewCount(anyList(), anyInt());
+
+        boardService = new BoardService(boardRepository, usersRepository, mock(BoardReactionRepository.class),
+                buffer, mock(AttachmentFileService.class), boardConverter,
+                mock(ApplicationEventPublisher.class), mock(CommentRepository.class));
+        flusher = new BoardViewCountFlusher(boardRepository, boardViewLogRepository,
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("동시 조회 중 반복 플러시해도 조회수는 정확하고, board UPDATE는 조회마다가 아니라 플러시마다 최대 한 번이다")
+    void concurrentViewsAreFlushedInBoundedUpdates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean viewing = new AtomicBoolean(true);
+        AtomicInteger anonymousViews = new AtomicInteger();
+        Set<Long> viewers = ConcurrentHashMap.newKeySet();
+
+        List<Future<?>> requests = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            requests.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    if (i % 4 == 0) {
+                        boardService.getBoard(BOARD_ID, null);
+                        anonymousViews.incrementAndGet();
+                    } else {
+                        long viewerId = (thread * REQUESTS_PER_THREAD + i) % DISTINCT_VIEWERS;
+                        boardService.getBoard(BOARD_ID, viewerId);
+                        viewers.add(viewerId);
+                    }
+                }
+                return null;
+            }));
+        }
+        AtomicInteger flushes = new AtomicInteger();
+        Future<?> flushing = executor.submit(() -> {
+            start.await();
+            while (viewing.get()) {
+                flusher.flush(buffer.drain());
+                flushes.incrementAndGet();
+                TimeUnit.MILLISECONDS.sleep(1);
+            }
+            return null;
+        });
+
+        start.countDown();
+        for (Future<?> request : requests) {
+            request.get(30, TimeUnit.SECONDS);
+        }
+        viewing.set(false);
+        flushing.get(30, TimeUnit.SECONDS);
+        flusher.flush(buffer.drain());
+        flushes.incrementAndGet();
+        executor.shutdown();
+
+        assertThat(dbViewCount.get()).isEqualTo(viewers.size() + anonymousViews.get());
+        assertThat(buffer.pendingViews(BOARD_ID)).isZero();
+        // 게시글이 하나이므로 플러시 한 번에 UPDATE는 최대 한 번
+        verify(boardRepository, atMost(flushes.get())).addViewCount(anyList(), anyInt());
+        verify(boardRepository, never()).incrementViewCount(anyLong());
+        verify(boardViewLogRepository, never()).insertIgnore(anyLong(), anyLong());
+        verifyNoInteractions(usersRepository);
+    }
+}
@@ -0,0 +1,123 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.dto.ReactionSummaryDTO;
+import com.linkup.Petory.domain.board.entity.Board;
+import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.event.BoardActivityEvent;
+import com.linkup.Petory.domain.board.exception.BoardNotFoundException;
+import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.CommentReactionRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.Target;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.ToggleResult;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReactionService 단위 테스트
+ *
+ * 검증: 반응 토글이 Redis 저장소만 거치고(DB 쓰기 없음), 미적재 대상은 DB 상태로 한 번 적재한 뒤 처리되는지
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactionServiceTest {
+
+    @Mock
+    private BoardReactionRepository boardReactionRepository;
+    @Mock
+    private CommentReactionRepository commentReactionRepository;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private UsersRepository usersRepository;
+    @Mock
+    private ReactionCounterStore reactionCounterStore;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ReactionService reactionService;
+
+    private ToggleResult liked;
+
+    @BeforeEach
+    void setUp() {
+        liked = new ToggleResult(null, ReactionType.LIKE, 5, 1, "자랑");
+    }
+
+    @Test
+    @DisplayName("적재된 게시글은 Redis 토글만으로 응답하고 DB에 쓰지 않는다")
+    void reactToBoard_usesRedisOnly() {
+        when(reactionCounterStore.toggle(Target.BOARD, 1L, 10L, ReactionType.LIKE)).thenReturn(Optional.of(liked));
+
+        ReactionSummaryDTO summary = reactionService.reactToBoard(1L, 10L, ReactionType.LIKE);
+
+        assertThat(summary.likeCount()).isEqualTo(5);
+        assertThat(summary.dislikeCount()).isEqualTo(1);
+        assertThat(summary.userReaction()).isEqualTo(ReactionType.LIKE);
+        verifyNoInteractions(boardRepository, boardReactionRepository, usersRepository);
+        verify(eventPublisher).publishEvent(BoardActivityEvent.liked(1L, "자랑", 1));
+    }
+
+    @Test
+    @DisplayName("미적재 게시글은 DB 반응으로 적재한 뒤 다시 토글한다")
+    void reactToBoard_hydratesOnMiss() {
+        Board board = Board.builder().idx(1L).category("자랑").build();
+        when(reactionCounterStore.toggle(Target.BOARD, 1L, 10L, ReactionType.LIKE))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(liked));
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(boardReactionRepository.findUserReactionsByBoardId(1L))
+                .thenReturn(List.<Object[]>of(new Object[] { 20L, "LIKE" }, new Object[] { 21L, "DISLIKE" }));
+
+        reactionService.reactToBoard(1L, 10L, ReactionType.LIKE);
+
+        verify(reactionCounterStore).hydrate(Target.BOARD, 1L, "자랑",
+                Map.of(20L, ReactionType.LIKE, 21L, ReactionType.DISLIKE));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글은 적재 단계에서 예외가 발생한다")
+    void reactToBoard_missingBoard() {
+        when(reactionCounterStore.toggle(Target.BOARD, 99L, 10L, ReactionType.LIKE)).thenReturn(Optional.empty());
+        when(boardRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> reactionService.reactToBoard(99L, 10L, ReactionType.LIKE))
+                .isInstanceOf(BoardNotFoundException.class);
+        verify(reactionCounterStore, never()).hydrate(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("싫어요 → 취소는 좋아요 증감이 없으므로 랭킹 이벤트를 발행하지 않는다")
+    void reactToBoard_dislikeDoesNotPublish() {
+        when(reactionCounterStore.toggle(Target.BOARD, 1L, 10L, ReactionType.DISLIKE))
+                .thenReturn(Optional.of(new ToggleResult(ReactionType.DISLIKE, null, 5, 0, "자랑")));
+
+        ReactionSummaryDTO summary = reactionService.reactToBoard(1L, 10L, ReactionType.DISLIKE);
+
+        assertThat(summary.userReaction()).isNull();
+        verifyNoInteractions(eventPublisher);
+    }
+}
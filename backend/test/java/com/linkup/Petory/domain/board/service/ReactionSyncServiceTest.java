@@ -0,0 +1,90 @@
+package com.linkup.Petory.domain.board.service;
+
+import com.linkup.Petory.domain.board.entity.ReactionType;
+import com.linkup.Petory.domain.board.repository.BoardReactionRepository;
+import com.linkup.Petory.domain.board.repository.BoardRepository;
+import com.linkup.Petory.domain.board.repository.CommentReactionRepository;
+import com.linkup.Petory.domain.board.repository.CommentRepository;
+import com.linkup.Petory.domain.board.service.ReactionCounterStore.PendingReaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ReactionSyncService 단위 테스트
+ *
+ * 검증: 대기 항목을 대상·반응 타입별로 묶어 일괄 반영하고, 게시글·댓글 카운터를 재계산하는지
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactionSyncServiceTest {
+
+    @Mock
+    private BoardReactionRepository boardReactionRepository;
+    @Mock
+    private CommentReactionRepository commentReactionRepository;
+    @Mock
+    private BoardRepository boardRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private ReactionSyncService reactionSyncService;
+
+    @Test
+    @DisplayName("게시글 반응은 삭제 1회 + 타입별 upsert 1회로 묶고, 반응이 추가된 게시글만 lastReactionAt을 갱신한다")
+    void appliesBoardReactionsInBulk() {
+        reactionSyncService.applyBoardReactions(List.of(
+                new PendingReaction(1L, 10L, ReactionType.LIKE),
+                new PendingReaction(1L, 11L, ReactionType.LIKE),
+                new PendingReaction(1L, 12L, null),
+                new PendingReaction(2L, 10L, null)));
+
+        verify(boardReactionRepository).upsertAll(1L, List.of(10L, 11L), ReactionType.LIKE);
+        verify(boardReactionRepository).deleteByBoardIdAndUserIds(1L, List.of(12L));
+        verify(boardReactionRepository).deleteByBoardIdAndUserIds(2L, List.of(10L));
+        verify(boardReactionRepository, never()).upsertAll(eq(2L), anyList(), any());
+        verify(boardRepository).syncReactionCounts(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))));
+        verify(boardRepository).updateLastReactionAtAll(eq(List.of(1L)), any());
+    }
+
+    @Test
+    @DisplayName("댓글 반응도 댓글·타입별로 묶어 반영하고, 같은 트랜잭션에서 댓글 카운터를 재계산한다")
+    void appliesCommentReactionsInBulk() {
+        reactionSyncService.applyCommentReactions(List.of(
+                new PendingReaction(5L, 10L, ReactionType.DISLIKE),
+                new PendingReaction(5L, 11L, ReactionType.LIKE)));
+
+        verify(commentReactionRepository).upsertAll(5L, List.of(10L), ReactionType.DISLIKE);
+        verify(commentReactionRepository).upsertAll(5L, List.of(11L), ReactionType.LIKE);
+        verify(commentReactionRepository, never()).deleteByCommentIdAndUserIds(any(), anyList());
+        verify(commentRepository).syncReactionCounts(List.of(5L));
+    }
+
+    @Test
+    @DisplayName("카운터 정합성 복구는 idx 범위를 청크 단위로 나눠 재계산한다")
+    void repairsCommentCountersInChunks() {
+        when(commentRepository.findMaxIdx()).thenReturn(2500L);
+        when(commentRepository.syncReactionCountsInRange(any(), any())).thenReturn(1000, 1000, 500);
+
+        int updated = reactionSyncService.repairCommentReactionCounts(1000);
+
+        assertThat(updated).isEqualTo(2500);
+        verify(commentRepository).syncReactionCountsInRange(1L, 1000L);
+        verify(commentRepository).syncReactionCountsInRange(1001L, 2000L);
+        verify(commentRepository).syncReactionCountsInRange(2001L, 3000L);
+    }
+}
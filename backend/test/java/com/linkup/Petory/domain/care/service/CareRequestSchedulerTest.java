@@ -0,0 +1,235 @@
+package com.linkup.Petory.domain.care.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.linkup.Petory.domain.care.entity.CareApplication;
+import com.linkup.Petory.domain.care.entity.CareApplicationStatus;
+import com.linkup.Petory.domain.care.entity.CareRequest;
+import com.linkup.Petory.domain.care.entity.CareRequestStatus;
+import com.linkup.Petory.domain.care.repository.CareRequestRepository;
+import com.linkup.Petory.domain.user.entity.UserStatus;
+import com.linkup.Petory.domain.user.entity.Users;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CareRequestScheduler 단위 테스트
+ *
+ * 검증: idx 키셋으로 청크를 이어 조회하고 청크마다 연관 FETCH 한 번, 제재 당사자 스킵·실패 격리와 결과별 지표,
+ * 작업 풀에서 병렬 처리, 실행 중 중복 실행 건너뜀, 만료 타이머 발화분의 작업 풀 처리와 노드 간 경합 시 건너뜀
+ */
+class CareRequestSchedulerTest {
+
+    private static final int CHUNK = 3;
+
+    private CareRequestRepository repository;
+    private CareRequestService careRequestService;
+    private SimpleMeterRegistry meterRegistry;
+    private CareRequestScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CareRequestRepository.class);
+        careRequestService = mock(CareRequestService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new CareRequestScheduler(repository, careRequestService, meterRegistry, CHUNK, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private static CareRequest request(long idx, Users requester) {
+        CareRequest request = CareRequest.builder()
+                .idx(idx)
+                .title("케어" + idx)
+                .date(LocalDateTime.now().minusDays(1))
+                .status(CareRequestStatus.OPEN)
+                .user(requester)
+                .build();
+        request.setApplications(new ArrayList<>());
+        return request;
+    }
+
+    private static Users user(long idx, UserStatus status) {
+        return Users.builder().idx(idx).status(status).build();
+    }
+
+    /** idx 1..count 가 만료 대상인 저장소 (키셋·청크 FETCH 흉내) */
+    private void expired(List<CareRequest> requests) {
+        when(repository.findExpiredIdxAfter(any(), eq(CareRequestScheduler.EXPIRABLE_STATUSES), anyLong(), eq(CHUNK)))
+                .thenAnswer(inv -> {
+                    long after = inv.getArgument(2);
+                    return requests.stream().map(CareRequest::getIdx).filter(idx -> idx > after).limit(CHUNK).toList();
+                });
+        when(repository.findByIdxInForExpiry(anyList())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return requests.stream().filter(r -> ids.contains(r.getIdx())).toList();
+        });
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("care.expiry.requests", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("키셋으로 청크를 이어 조회하고 청크마다 연관 FETCH는 한 번, 모든 요청을 완료한다")
+    void processesAllChunksWithKeyset() {
+        Users requester = user(100L, UserStatus.ACTIVE);
+        List<CareRequest> requests = LongStream.rangeClosed(1, 7).mapToObj(idx -> request(idx, requester)).toList();
+        expired(requests);
+
+        scheduler.updateExpiredCareRequests();
+
+        verify(repository).findExpiredIdxAfter(any(), anyList(), eq(0L), eq(CHUNK));
+        verify(repository).findExpiredIdxAfter(any(), anyList(), eq(3L), eq(CHUNK));
+        verify(repository).findExpiredIdxAfter(any(), anyList(), eq(6L), eq(CHUNK));
+        verify(repository, times(3)).findByIdxInForExpiry(anyList());
+        for (long idx = 1; idx <= 7; idx++) {
+            verify(careRequestService).updateStatus(idx, "COMPLETED", null);
+        }
+        assertThat(count("completed")).isEqualTo(7);
+        assertThat(meterRegistry.timer("care.expiry.run").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제재된 작성자·수락된 제공자가 있는 요청은 건너뛰고, 실패한 요청은 다른 요청 처리에 영향이 없다")
+    void skipsSanctionedAndIsolatesFailures() {
+        Users active = user(100L, UserStatus.ACTIVE);
+        CareRequest bannedRequester = request(1L, user(101L, UserStatus.BANNED));
+        CareRequest bannedProvider = request(2L, active);
+        bannedProvider.getApplications().add(CareApplication.builder()
+                .careRequest(bannedProvider)
+                .provider(user(102L, UserStatus.BANNED))
+                .status(CareApplicationStatus.ACCEPTED)
+                .build());
+        CareRequest failing = request(3L, active);
+        CareRequest ok = request(4L, active);
+        expired(List.of(bannedRequester, bannedProvider, failing, ok));
+        when(careRequestService.updateStatus(eq(3L), eq("COMPLETED"), isNull()))
+                .thenThrow(new IllegalStateException("escrow"));
+
+        scheduler.updateExpiredCareRequests();
+
+        verify(careRequestService, never()).updateStatus(eq(1L), any(), any());
+        verify(careRequestService, never()).updateStatus(eq(2L), any(), any());
+        verify(careRequestService).updateStatus(4L, "COMPLETED", null);
+        assertThat(count("completed")).isEqualTo(1);
+        assertThat(count("skipped")).isEqualTo(2);
+        assertThat(count("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("청크 안 요청은 작업 풀 스레드에서 동시에 처리된다")
+    void processesChunkInParallel() throws Exception {
+        Users requester = user(100L, UserStatus.ACTIVE);
+        expired(List.of(request(1L, requester), request(2L, requester), request(3L, requester)));
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(careRequestService.updateStatus(anyLong(), eq("COMPLETED"), isNull())).thenAnswer(inv -> {
+            threads.add(Thread.currentThread().getName());
+            allStarted.countDown();
+            assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        });
+
+        scheduler.updateExpiredCareRequests();
+
+        assertThat(threads).hasSize(3).allMatch(name -> name.startsWith("care-expiry-"));
+        assertThat(count("completed")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이전 실행이 끝나지 않았으면 다음 실행은 건너뛰고 지표에 남긴다")
+    void skipsOverlappingRun() throws Exception {
+        Users requester = user(100L, UserStatus.ACTIVE);
+        expired(List.of(request(1L, requester)));
+        CountDownLatch inFirstRun = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(careRequestService.updateStatus(anyLong(), eq("COMPLETED"), isNull())).thenAnswer(inv -> {
+            inFirstRun.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        Thread first = new Thread(scheduler::updateExpiredCareRequests);
+        first.start();
+        assertThat(inFirstRun.await(5, TimeUnit.SECONDS)).isTrue();
+
+        scheduler.updateExpiredCareRequests();
+        release.countDown();
+        first.join(5_000);
+
+        verify(repository, times(1)).findExpiredIdxAfter(any(), anyList(), eq(0L), eq(CHUNK));
+        assertThat(meterRegistry.counter("care.expiry.overlap-skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 타이머 발화분은 작업 풀에서 처리하고, 이미 COMPLETED인 요청은 updateStatus 전에 건너뛴다")
+    void timerExpiryRunsOnWorkersAndSkipsCompleted() throws Exception {
+        Users requester = user(100L, UserStatus.ACTIVE);
+        CareRequest due = request(1L, requester);
+        CareRequest done = request(2L, requester);
+        done.setStatus(CareRequestStatus.COMPLETED);
+        when(repository.findByIdWithApplications(1L)).thenReturn(Optional.of(due));
+        when(repository.findByIdWithApplications(2L)).thenReturn(Optional.of(done));
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch completed = new CountDownLatch(1);
+        when(careRequestService.updateStatus(eq(1L), eq("COMPLETED"), isNull())).thenAnswer(inv -> {
+            threads.add(Thread.currentThread().getName());
+            completed.countDown();
+            return null;
+        });
+
+        assertThat(scheduler.trySubmitExpiry(1L)).isTrue();
+        scheduler.expireIfDue(2L);
+
+        assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).allMatch(name -> name.startsWith("care-expiry-"));
+        verify(careRequestService, never()).updateStatus(eq(2L), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 완료해 updateStatus가 실패하면 실패가 아니라 건너뜀으로 남긴다")
+    void lostExpiryRaceIsNotAFailure() {
+        CareRequest due = request(1L, user(100L, UserStatus.ACTIVE));
+        CareRequest completedElsewhere = request(1L, user(100L, UserStatus.ACTIVE));
+        completedElsewhere.setStatus(CareRequestStatus.COMPLETED);
+        when(repository.findByIdWithApplications(1L)).thenReturn(Optional.of(due));
+        when(repository.findById(1L)).thenReturn(Optional.of(completedElsewhere));
+        when(careRequestService.updateStatus(eq(1L), eq("COMPLETED"), isNull()))
+                .thenThrow(new IllegalStateException("escrow already released"));
+
+        scheduler.expireIfDue(1L);
+
+        assertThat(count("skipped")).isEqualTo(1);
+        assertThat(count("failed")).isZero();
+    }
+}
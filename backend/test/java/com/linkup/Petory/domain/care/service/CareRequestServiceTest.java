@@ -35,7 +35,9 @@ import com.linkup.Petory.domain.care.dto.CareRequestPageResponseDTO;
 import com.linkup.Petory.domain.care.entity.CareRequest;
 import com.linkup.Petory.domain.care.entity.CareRequestStatus;
 import com.linkup.Petory.domain.care.exception.CareRequestNotFoundException;
+import com.linkup.Petory.domain.care.exception.CareValidationException;
 import com.linkup.Petory.domain.care.repository.CareRequestRepository;
+import com.linkup.Petory.domain.payment.repository.PetCoinWalletRepository;
 import com.linkup.Petory.domain.payment.service.PetCoinEscrowService;
 import com.linkup.Petory.domain.user.entity.Role;
 import com.linkup.Petory.domain.user.entity.Users;
@@ -55,6 +57,8 @@ class CareRequestServiceTest {
     private CareRequestConverter careRequestConverter;
     @Mock
     private PetCoinEscrowService petCoinEscrowService;
+    @Mock
+    private PetCoinWalletRepository walletRepository;
 
     @AfterEach
     @SuppressWarnings("unused")
@@ -263,4 +267,20 @@ class CareRequestServiceTest {
         verify(careRequestRepository).findAllActiveRequestsWithPaging(isNull(), any(Pageable.class));
         verify(careRequestRepository, never()).searchWithPaging(any(), any());
     }
+
+    // ===== createCareRequest 잔액 확인 =====
+
+    @Test
+    @DisplayName("예외: 지갑 잔액이 제시 코인보다 적으면 users의 기존 잔액과 무관하게 거절")
+    void 예외_지갑잔액부족_생성거절() {
+        Users user = Users.builder().idx(1L).id("user_1").emailVerified(true).petCoinBalance(1_000).build();
+        when(usersRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(walletRepository.findBalance(1L)).thenReturn(Optional.of(50));
+
+        CareRequestDTO dto = CareRequestDTO.builder().userId(1L).offeredCoins(100).build();
+
+        assertThatThrownBy(() -> careRequestService.createCareRequest(dto))
+                .isInstanceOf(CareValidationException.class);
+        verify(careRequestRepository, never()).save(any(CareRequest.class));
+    }
 }
@@ -0,0 +1,208 @@
+package com.linkup.Petory.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkup.Petory.domain.chat.dto.ChatMessageDTO;
+import com.linkup.Petory.domain.chat.dto.ConversationDTO;
+import com.linkup.Petory.domain.chat.event.ConversationParticipantsChangedEvent;
+import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
+
+/**
+ * ChatInboxCache 단위 테스트 (Lua 스크립트는 Redis 없이 호출 인자로 검증)
+ *
+ * 검증: 캐시 적중 시 DB 조회 없이 순번 차이로 읽지 않은 수 계산, 비활성 채팅방 제외,
+ * 요약이 만료된 채팅방만 보충 조회, 콜드 키·Redis 장애 시 DB 경로로 전환,
+ * 메시지 전송 시 캐시된 참여자 목록 키 전달(캐시가 비면 DB 참여자 ID), 메시지 없는 채팅방의 정렬 점수, 참여 변경 시 삭제
+ */
+class ChatInboxCacheTest {
+
+    private static final long USER = 1L;
+    private static final List<String> INBOX_KEYS = List.of("chat:inbox:1", "chat:inbox:1:read");
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private RedisTemplate<String, String> redisTemplate;
+    private ChatParticipantCache participantCache;
+    private ConversationParticipantRepository participantRepository;
+    private ChatInboxCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        participantCache = mock(ChatParticipantCache.class);
+        participantRepository = mock(ConversationParticipantRepository.class);
+        cache = new ChatInboxCache(redisTemplate, participantRepository, participantCache, objectMapper, 600);
+    }
+
+    private String summary(long idx, String status) throws Exception {
+        return objectMapper.writeValueAsString(ConversationDTO.builder()
+                .idx(idx).title("방" + idx).status(status).isDeleted(false).build());
+    }
+
+    private String message(long conv, long seq) throws Exception {
+        return objectMapper.writeValueAsString(ChatMessageDTO.builder()
+                .conversationIdx(conv).seq(seq).content("메시지" + seq).createdAt(AT.plusMinutes(seq)).build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenInboxRows(List<List<String>> rows) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(INBOX_KEYS), eq("chat:conversation:")))
+                .thenReturn(rows);
+    }
+
+    /** execute 호출의 (키, 인자) - 마지막 호출 기준 */
+    private Invocation lastExecute() {
+        return mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(inv -> inv.getMethod().getName().equals("execute"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 DB 없이 목록 순서대로 반환하고, 읽지 않은 수는 요약 순번 - 읽은 순번이다")
+    void hitReturnsCachedInboxWithUnreadFromSeq() throws Exception {
+        givenInboxRows(List.of(
+                List.of("10", summary(10, "ACTIVE"), "7", message(10, 7), "메시지7", "4"),
+                List.of("11", summary(11, "CLOSED"), "3", message(11, 3), "메시지3", "3"),
+                List.of("12", summary(12, "ACTIVE"), "", "", "", "")));
+        Function<List<Long>, List<ConversationDTO>> loader = mock(Function.class);
+
+        Optional<List<ConversationDTO>> inbox = cache.getInbox(USER, loader);
+
+        assertThat(inbox).isPresent();
+        assertThat(inbox.get()).extracting(ConversationDTO::getIdx).containsExactly(10L, 12L);
+        ConversationDTO first = inbox.get().get(0);
+        assertThat(first.getUnreadCount()).isEqualTo(3);
+        assertThat(first.getLastReadSeq()).isEqualTo(4L);
+        assertThat(first.getLastMessage().getContent()).isEqualTo("메시지7");
+        assertThat(first.getLastMessageAt()).isEqualTo(AT.plusMinutes(7));
+        assertThat(first.getLastMessagePreview()).isEqualTo("메시지7");
+        assertThat(inbox.get().get(1).getUnreadCount()).isZero();
+        verify(loader, never()).apply(anyList());
+    }
+
+    @Test
+    @DisplayName("요약이 만료된 채팅방만 DB에서 보충하고 요약만 다시 채운다 (목록은 유지)")
+    void missingSummaryIsLoadedAndRefilled() throws Exception {
+        givenInboxRows(List.of(
+                List.of("10", summary(10, "ACTIVE"), "2", message(10, 2), "메시지2", "2"),
+                List.of("11", "", "5", message(11, 5), "메시지5", "1")));
+        Function<List<Long>, List<ConversationDTO>> loader = mock(Function.class);
+        when(loader.apply(List.of(11L))).thenReturn(List.of(ConversationDTO.builder()
+                .idx(11L).status("ACTIVE").isDeleted(false).lastMessageSeq(5L).lastReadSeq(1L).unreadCount(4)
+                .build()));
+
+        List<ConversationDTO> inbox = cache.getInbox(USER, loader).orElseThrow();
+
+        assertThat(inbox).extracting(ConversationDTO::getIdx).containsExactly(10L, 11L);
+        assertThat(inbox.get(1).getUnreadCount()).isEqualTo(4);
+        Object[] raw = lastExecute().getRawArguments();
+        assertThat((List<String>) raw[1]).containsExactly("chat:inbox:1", "chat:inbox:1:read",
+                "chat:conversation:11");
+        Object[] args = (Object[]) raw[2];
+        assertThat(args[1]).isEqualTo("0");
+        assertThat(objectMapper.readValue((String) args[5], ConversationDTO.class).getUnreadCount()).isNull();
+    }
+
+    @Test
+    @DisplayName("목록 키가 없거나 Redis를 쓸 수 없으면 empty를 반환해 DB 경로로 넘긴다")
+    void coldKeyOrRedisFailureFallsBack() {
+        Function<List<Long>, List<ConversationDTO>> loader = mock(Function.class);
+        givenInboxRows(null);
+        assertThat(cache.getInbox(USER, loader)).isEmpty();
+
+        when(redisTemplate.execute(any(RedisScript.class), eq(INBOX_KEYS), eq("chat:conversation:")))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        assertThat(cache.getInbox(USER, loader)).isEmpty();
+        verify(loader, never()).apply(anyList());
+    }
+
+    @Test
+    @DisplayName("DB 목록으로 채울 때 메시지 없는 채팅방은 메시지 있는 채팅방보다 낮은 점수를 받는다")
+    void putInboxScoresRoomsWithoutMessagesLast() {
+        cache.putInbox(USER, List.of(
+                ConversationDTO.builder().idx(10L).lastMessageAt(AT.minusYears(3)).lastMessageSeq(3L)
+                        .lastReadSeq(1L).build(),
+                ConversationDTO.builder().idx(11L).createdAt(AT).build()));
+
+        Object[] raw = lastExecute().getRawArguments();
+        Object[] args = (Object[]) raw[2];
+        assertThat(args[1]).isEqualTo("1");
+        // 채팅방마다 {idx, 점수, 읽은 순번, dto, seq, lastMessage, preview}
+        assertThat(args[2]).isEqualTo("10");
+        assertThat(args[4]).isEqualTo("1");
+        assertThat(args[6]).isEqualTo("3");
+        assertThat(args[9]).isEqualTo("11");
+        assertThat(Long.parseLong((String) args[3])).isGreaterThan(Long.parseLong((String) args[10]));
+        assertThat(args[13]).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("메시지 전송은 요약·보낸 사람 읽은 순번·캐시된 참여자 목록 키를 한 번에 갱신한다")
+    void messageSentUpdatesSummaryAndMemberInboxes() {
+        when(participantCache.cachedMemberIds(7L)).thenReturn(Set.of(2L));
+        ChatMessageDTO message = ChatMessageDTO.builder()
+                .conversationIdx(7L).senderIdx(USER).seq(9L).content("안녕").createdAt(AT).build();
+
+        cache.onMessageSent(message, "안녕");
+
+        Object[] raw = lastExecute().getRawArguments();
+        assertThat((List<String>) raw[1]).containsExactly("chat:conversation:7", "chat:inbox:1:read",
+                "chat:inbox:2");
+        Object[] args = (Object[]) raw[2];
+        assertThat(args[0]).isEqualTo("9");
+        assertThat(args[2]).isEqualTo("안녕");
+        assertThat(args[5]).isEqualTo("7");
+        verify(participantRepository, never()).findActiveUserIdxsByConversationIdx(any());
+    }
+
+    @Test
+    @DisplayName("참여자 캐시가 비어 있으면 DB의 참여자 ID로 목록 키를 채워 순서 갱신에서 빠지지 않는다")
+    @SuppressWarnings("unchecked")
+    void messageSentLoadsMembersOnParticipantCacheMiss() {
+        when(participantCache.cachedMemberIds(7L)).thenReturn(Set.of());
+        when(participantRepository.findActiveUserIdxsByConversationIdx(7L)).thenReturn(List.of(USER, 2L));
+        ChatMessageDTO message = ChatMessageDTO.builder()
+                .conversationIdx(7L).senderIdx(USER).seq(9L).content("안녕").createdAt(AT).build();
+
+        cache.onMessageSent(message, "안녕");
+
+        Object[] raw = lastExecute().getRawArguments();
+        assertThat((List<String>) raw[1]).containsExactly("chat:conversation:7", "chat:inbox:1:read",
+                "chat:inbox:1", "chat:inbox:2");
+    }
+
+    @Test
+    @DisplayName("참여/나가기 시 해당 사용자의 목록과 채팅방 요약을 삭제한다")
+    void participantsChangedEvictsInboxAndSummary() {
+        cache.onParticipantsChanged(new ConversationParticipantsChangedEvent(7L, USER));
+
+        verify(redisTemplate).delete("chat:conversation:7");
+        verify(redisTemplate).delete(INBOX_KEYS);
+    }
+}
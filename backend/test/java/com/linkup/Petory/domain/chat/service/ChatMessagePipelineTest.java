@@ -0,0 +1,347 @@
+package com.linkup.Petory.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.linkup.Petory.domain.chat.converter.ChatMessageConverter;
+import com.linkup.Petory.domain.chat.dto.ChatMessageDTO;
+import com.linkup.Petory.domain.chat.entity.Conversation;
+import com.linkup.Petory.domain.chat.entity.MessageType;
+import com.linkup.Petory.domain.chat.exception.ChatForbiddenException;
+import com.linkup.Petory.domain.chat.exception.ConversationNotFoundException;
+import com.linkup.Petory.domain.chat.repository.ChatMessageRepository;
+import com.linkup.Petory.domain.chat.repository.ConversationParticipantRepository;
+import com.linkup.Petory.domain.chat.repository.ConversationRepository;
+import com.linkup.Petory.domain.chat.service.ChatMessageWriteBuffer.PendingMessage;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+
+/**
+ * 채팅 메시지 전송·배치 저장 파이프라인 단위 테스트
+ *
+ * 검증: 저장 전 순번과 함께 즉시 반환, 동시 전송의 빈틈없는 순번과 채팅방별 갱신 합치기,
+ * 비참여자 차단, 저장 실패 시 순서 유지 재시도와 중복 없는 재저장, 순번 중복 시 해당 건만 실패,
+ * 그 밖의 제약 위반은 dead-letter 보관 후 재시도,
+ * 버퍼 포화 시 동기 저장, Redis 카운터 순번 발급과 DB 카운터 대체
+ */
+class ChatMessagePipelineTest {
+
+    private static final long CONV = 7L;
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+
+    private ChatMessageRepository chatMessageRepository;
+    private ConversationRepository conversationRepository;
+    private ConversationParticipantRepository participantRepository;
+    private UsersRepository usersRepository;
+    private ChatParticipantCache participantCache;
+    private ChatSequenceAllocator sequenceAllocator;
+    private ChatInboxCache inboxCache;
+
+    /** DB 흉내: 저장된 (채팅방, 순번) */
+    private final Set<String> stored = ConcurrentHashMap.newKeySet();
+    private final List<Long> storedSeqs = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong lastSeq = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        conversationRepository = mock(ConversationRepository.class);
+        participantRepository = mock(ConversationParticipantRepository.class);
+        usersRepository = mock(UsersRepository.class);
+        participantCache = mock(ChatParticipantCache.class);
+        sequenceAllocator = mock(ChatSequenceAllocator.class);
+        inboxCache = mock(ChatInboxCache.class);
+
+        lenient().when(participantCache.findActiveSender(eq(CONV), anyLong()))
+                .thenAnswer(inv -> Optional.of("user" + inv.getArgument(1)));
+        lenient().when(sequenceAllocator.next(CONV)).thenAnswer(inv -> lastSeq.incrementAndGet());
+        lenient().when(chatMessageRepository.insertSequenced(anyLong(), anyLong(), anyLong(), anyString(),
+                anyString(), any())).thenAnswer(inv -> {
+                    long seq = inv.getArgument(2);
+                    if (!stored.add(inv.getArgument(0) + ":" + seq)) {
+                        throw new DataIntegrityViolationException("Duplicate entry for uk_chatmessage_conversation_seq");
+                    }
+                    storedSeqs.add(seq);
+                    return 1;
+                });
+    }
+
+    private ChatMessageWriteBuffer buffer(int capacity, int batchSize) {
+        return new ChatMessageWriteBuffer(capacity, batchSize);
+    }
+
+    private ChatMessageBatchWriter batchWriter() {
+        return new ChatMessageBatchWriter(chatMessageRepository, conversationRepository, participantRepository);
+    }
+
+    private ChatMessageService service(ChatMessageWriteBuffer buffer, ChatMessageBatchWriter writer) {
+        return new ChatMessageService(chatMessageRepository, conversationRepository, participantRepository,
+                usersRepository, new ChatMessageConverter(), participantCache, sequenceAllocator, buffer, writer,
+                inboxCache, mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    @DisplayName("전송은 순번을 붙여 즉시 반환하고, 주기 저장 때 메시지 저장과 채팅방 갱신을 한 번에 반영한다")
+    void sendReturnsSequencedMessageBeforePersisting() {
+        ChatMessageWriteBuffer buffer = buffer(100, 50);
+        ChatMessageBatchWriter writer = batchWriter();
+        ChatMessageService service = service(buffer, writer);
+
+        ChatMessageDTO first = service.sendMessage(CONV, ALICE, "안녕", MessageType.TEXT);
+        ChatMessageDTO second = service.sendMessage(CONV, BOB, "사진", MessageType.IMAGE);
+
+        assertThat(first.getSeq()).isEqualTo(1L);
+        assertThat(first.getIdx()).isNull();
+        assertThat(first.getSenderUsername()).isEqualTo("user1");
+        assertThat(second.getSeq()).isEqualTo(2L);
+        assertThat(buffer.size()).isEqualTo(2);
+        verify(chatMessageRepository, never()).insertSequenced(anyLong(), anyLong(), anyLong(), anyString(),
+                anyString(), any());
+        verify(participantRepository, never()).advanceLastReadSeq(anyLong(), anyLong(), anyLong());
+
+        new ChatMessagePersistScheduler(buffer, writer).flushMessages();
+
+        assertThat(storedSeqs).containsExactly(1L, 2L);
+        // 보낸 사람만 자기 메시지까지 읽음 처리, 나머지 참여자의 읽지 않은 수는 채팅방 순번으로 계산
+        verify(participantRepository).advanceLastReadSeq(CONV, ALICE, 1L);
+        verify(participantRepository).advanceLastReadSeq(CONV, BOB, 2L);
+        verify(conversationRepository).updateLastMessage(CONV, 2L, second.getCreatedAt(), "[사진]");
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 전송은 빈틈없는 고유 순번을 받고, 배치마다 채팅방 갱신은 한 번씩만 실행된다")
+    void concurrentSendsAreSequencedAndCoalesced() throws Exception {
+        ChatMessageWriteBuffer buffer = buffer(1000, 50);
+        ChatMessageBatchWriter writer = batchWriter();
+        ChatMessageService service = service(buffer, writer);
+
+        int threads = 8;
+        int perThread = 25;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long sender = t % 2 == 0 ? ALICE : BOB;
+            futures.add(pool.submit(() -> {
+                List<Long> seqs = new ArrayList<>();
+                for (int i = 0; i < perThread; i++) {
+                    seqs.add(service.sendMessage(CONV, sender, "메시지 " + i, MessageType.TEXT).getSeq());
+                }
+                return seqs;
+            }));
+        }
+        List<Long> returned = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            returned.addAll(future.get(10, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        int total = threads * perThread;
+        assertThat(returned).hasSize(total).doesNotHaveDuplicates();
+        assertThat(returned).allMatch(seq -> seq >= 1 && seq <= total);
+
+        new ChatMessagePersistScheduler(buffer, writer).flushMessages();
+
+        assertThat(storedSeqs).hasSize(total).doesNotHaveDuplicates();
+        // 200건 / 배치 50건 = 4배치, 배치당 채팅방 1개 → 메타데이터 갱신 4회, 참여자 행은 배치당 보낸 사람 수(2)만큼
+        verify(conversationRepository, times(4)).updateLastMessage(eq(CONV), anyLong(), any(), anyString());
+        verify(participantRepository, atMost(8)).advanceLastReadSeq(eq(CONV), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 비참여자는 DB 검증에서 거절되고, 순번 발급·저장 대기열에 들어가지 않는다")
+    void rejectsNonParticipant() {
+        ChatMessageWriteBuffer buffer = buffer(100, 50);
+        ChatMessageService service = service(buffer, batchWriter());
+        long stranger = 99L;
+        when(participantCache.findActiveSender(CONV, stranger)).thenReturn(Optional.empty());
+        when(usersRepository.findById(stranger)).thenReturn(Optional.of(Users.builder().idx(stranger).build()));
+        when(conversationRepository.findById(CONV)).thenReturn(Optional.of(
+                Conversation.builder().idx(CONV).build()));
+        when(participantRepository.findByConversationIdxAndUserIdx(CONV, stranger)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.sendMessage(CONV, stranger, "끼어들기", MessageType.TEXT))
+                .isInstanceOf(ChatForbiddenException.class);
+
+        verify(sequenceAllocator, never()).next(anyLong());
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 순서대로 되돌려 다음 주기에 재시도하고, 롤백된 배치를 다시 저장해도 중복되지 않는다")
+    void failedFlushIsRetriedWithoutDuplicates() {
+        ChatMessageWriteBuffer buffer = buffer(100, 50);
+        ChatMessageBatchWriter writer = batchWriter();
+        ChatMessageService service = service(buffer, writer);
+        for (int i = 0; i < 3; i++) {
+            service.sendMessage(CONV, ALICE, "메시지 " + i, MessageType.TEXT);
+        }
+
+        // 첫 저장은 DB 오류 (트랜잭션 롤백이므로 저장분 없음)
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        when(conversationRepository.updateLastMessage(anyLong(), anyLong(), any(), anyString())).thenAnswer(inv -> {
+            if (failOnce.getAndSet(false)) {
+                stored.clear();
+                storedSeqs.clear();
+                throw new IllegalStateException("DB down");
+            }
+            return 1;
+        });
+        ChatMessagePersistScheduler scheduler = new ChatMessagePersistScheduler(buffer, writer);
+        scheduler.flushMessages();
+
+        assertThat(buffer.size()).isEqualTo(3);
+
+        scheduler.flushMessages();
+
+        assertThat(buffer.size()).isZero();
+        assertThat(storedSeqs).containsExactly(1L, 2L, 3L);
+        verify(participantRepository, times(2)).advanceLastReadSeq(CONV, ALICE, 3L);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 순번이 다시 오면 조용히 무시하지 않고 해당 건만 실패시키며, 나머지 메시지는 저장한다")
+    void duplicateSeqFailsLoudlyWithoutBlockingOthers() {
+        ChatMessageWriteBuffer buffer = buffer(100, 50);
+        ChatMessageBatchWriter writer = batchWriter();
+        writer.persist(List.of(
+                new PendingMessage(CONV, ALICE, 1L, MessageType.TEXT, "먼저", "먼저", LocalDateTime.now())));
+
+        assertThatThrownBy(() -> writer.persist(List.of(
+                new PendingMessage(CONV, BOB, 1L, MessageType.TEXT, "중복", "중복", LocalDateTime.now()))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        buffer.offer(new PendingMessage(CONV, BOB, 1L, MessageType.TEXT, "중복", "중복", LocalDateTime.now()));
+        buffer.offer(new PendingMessage(CONV, BOB, 2L, MessageType.TEXT, "다음", "다음", LocalDateTime.now()));
+        new ChatMessagePersistScheduler(buffer, writer).flushMessages();
+
+        assertThat(buffer.size()).isZero();
+        assertThat(storedSeqs).containsExactly(1L, 2L);
+        verify(conversationRepository).updateLastMessage(eq(CONV), eq(2L), any(), eq("다음"));
+    }
+
+    @Test
+    @DisplayName("순번 중복이 아닌 제약 위반은 버리지 않고 dead-letter에 보관했다가 재시도로 저장한다")
+    void otherViolationIsParkedAndRetried() {
+        long orphan = 99L;
+        AtomicBoolean conversationMissing = new AtomicBoolean(true);
+        when(chatMessageRepository.insertSequenced(eq(orphan), anyLong(), anyLong(), anyString(), anyString(),
+                any())).thenAnswer(inv -> {
+                    if (conversationMissing.get()) {
+                        throw new DataIntegrityViolationException("Cannot add or update a child row: fk_chatmessage_conversation");
+                    }
+                    storedSeqs.add(inv.getArgument(2));
+                    return 1;
+                });
+        ChatMessageWriteBuffer buffer = buffer(100, 50);
+        ChatMessagePersistScheduler scheduler = new ChatMessagePersistScheduler(buffer, batchWriter());
+        buffer.offer(new PendingMessage(orphan, ALICE, 1L, MessageType.TEXT, "보류", "보류", LocalDateTime.now()));
+        buffer.offer(new PendingMessage(CONV, BOB, 1L, MessageType.TEXT, "정상", "정상", LocalDateTime.now()));
+
+        scheduler.flushMessages();
+
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.deadLetterSize()).isEqualTo(1);
+        assertThat(storedSeqs).containsExactly(1L);
+
+        scheduler.retryDeadLetters();
+        assertThat(buffer.deadLetterSize()).isEqualTo(1);
+
+        conversationMissing.set(false);
+        scheduler.retryDeadLetters();
+
+        assertThat(buffer.deadLetterSize()).isZero();
+        assertThat(storedSeqs).containsExactly(1L, 1L);
+        verify(conversationRepository).updateLastMessage(eq(orphan), eq(1L), any(), eq("보류"));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 해당 전송에서 바로 저장한다")
+    void fullBufferFallsBackToSynchronousPersist() {
+        ChatMessageWriteBuffer buffer = buffer(1, 50);
+        ChatMessageService service = service(buffer, batchWriter());
+
+        service.sendMessage(CONV, ALICE, "대기", MessageType.TEXT);
+        service.sendMessage(CONV, BOB, "즉시 저장", MessageType.TEXT);
+
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(storedSeqs).containsExactly(2L);
+        verify(conversationRepository).updateLastMessage(eq(CONV), eq(2L), any(), eq("즉시 저장"));
+    }
+
+    @Test
+    @DisplayName("순번은 Redis 카운터로 발급하고, 키가 없으면 발급 카운터·저장된 마지막 순번 중 큰 값으로 채운다")
+    @SuppressWarnings("unchecked")
+    void allocatorIssuesFromRedisCounter() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-1L, 43L, 44L);
+        when(conversationRepository.findSeqFloor(CONV)).thenReturn(42L);
+        ChatSequenceAllocator allocator = new ChatSequenceAllocator(redisTemplate, conversationRepository);
+
+        assertThat(allocator.next(CONV)).isEqualTo(43L);
+        assertThat(allocator.next(CONV)).isEqualTo(44L);
+        verify(values).setIfAbsent(eq(ChatSequenceAllocator.KEY_PREFIX + CONV), eq("42"), any(Duration.class));
+        verify(conversationRepository, never()).allocateSeq(anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 카운터로 발급하고, 복구 후 Redis 키를 지워 그 뒤에서 다시 시작하며, 없는 채팅방은 거절한다")
+    @SuppressWarnings("unchecked")
+    void allocatorFallsBackToConversationCounter() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(44L);
+        when(conversationRepository.allocateSeq(CONV)).thenReturn(43L);
+        when(conversationRepository.allocateSeq(99L)).thenReturn(null);
+        ChatSequenceAllocator allocator = new ChatSequenceAllocator(redisTemplate, conversationRepository);
+
+        assertThat(allocator.next(CONV)).isEqualTo(43L);
+        assertThat(allocator.next(CONV)).isEqualTo(44L);
+        verify(redisTemplate, times(1)).delete(ChatSequenceAllocator.KEY_PREFIX + CONV);
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        assertThatThrownBy(() -> allocator.next(99L)).isInstanceOf(ConversationNotFoundException.class);
+    }
+}
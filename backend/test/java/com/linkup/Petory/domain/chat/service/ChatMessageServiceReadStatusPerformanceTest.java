@@ -113,7 +113,7 @@ class ChatMessageServiceReadStatusPerformanceTest {
                                 .user(testUser)
                                 .role(ParticipantRole.MEMBER)
                                 .status(ParticipantStatus.ACTIVE)
-                                .unreadCount(MESSAGE_COUNT / 2) // 읽지 않은 메시지 수
+                                .lastReadSeq(0L) // 읽지 않은 메시지 수 = 채팅방 마지막 순번 - 0
                                 .isDeleted(false)
                                 .build();
                 testParticipant = participantRepository.save(testParticipant);
@@ -124,7 +124,7 @@ class ChatMessageServiceReadStatusPerformanceTest {
                                 .user(otherUser)
                                 .role(ParticipantRole.MEMBER)
                                 .status(ParticipantStatus.ACTIVE)
-                                .unreadCount(0)
+                                .lastReadSeq(0L)
                                 .isDeleted(false)
                                 .build();
                 participantRepository.save(otherParticipant);
@@ -237,7 +237,7 @@ class ChatMessageServiceReadStatusPerformanceTest {
                 ConversationParticipant essentialParticipant = participantRepository
                                 .findByConversationIdxAndUserIdx(conversationIdx, userId)
                                 .orElseThrow(() -> new IllegalArgumentException("채팅방 참여자가 아닙니다."));
-                essentialParticipant.setUnreadCount(0);
+                essentialParticipant.markReadUpTo(testConversation.getLastMessageSeq());
                 if (lastMessageIdx != null) {
                         ChatMessage lastMessage = chatMessageRepository.findById(lastMessageIdx).orElse(null);
                         if (lastMessage != null) {
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 
 import com.linkup.Petory.domain.chat.converter.ChatMessageConverter;
@@ -53,6 +54,8 @@ class ChatMessageServiceTest {
     private UsersRepository usersRepository;
     @Mock
     private ChatMessageConverter messageConverter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ChatMessageService chatMessageService;
@@ -137,10 +140,9 @@ class ChatMessageServiceTest {
     }
 
     @Test
-    @DisplayName("경계: getUnreadCount에서 unreadCount null이면 0")
-    void 경계_getUnreadCount_unreadCount_null() {
+    @DisplayName("경계: getUnreadCount에서 메시지가 없는 채팅방(마지막 순번 null)이면 0")
+    void 경계_getUnreadCount_lastMessageSeq_null() {
         ConversationParticipant p = participant(ParticipantStatus.ACTIVE, false);
-        p.setUnreadCount(null);
         when(participantRepository.findByConversationIdxAndUserIdx(CONV, USER))
                 .thenReturn(Optional.of(p));
 
@@ -148,16 +150,37 @@ class ChatMessageServiceTest {
     }
 
     @Test
-    @DisplayName("정상: getUnreadCount는 참여자 unreadCount 반환")
+    @DisplayName("정상: getUnreadCount는 채팅방 마지막 순번 - 마지막으로 읽은 순번")
     void 정상_getUnreadCount() {
         ConversationParticipant p = participant(ParticipantStatus.ACTIVE, false);
-        p.setUnreadCount(7);
+        p.getConversation().setLastMessageSeq(10L);
+        p.setLastReadSeq(3L);
         when(participantRepository.findByConversationIdxAndUserIdx(CONV, USER))
                 .thenReturn(Optional.of(p));
 
         assertThat(chatMessageService.getUnreadCount(CONV, USER)).isEqualTo(7L);
     }
 
+    @Test
+    @DisplayName("정상: markAsRead는 읽은 순번을 앞으로만 옮기고, 순번 없이 호출하면 채팅방 마지막 순번까지 읽는다")
+    void 정상_markAsRead_순번_전진() {
+        ConversationParticipant p = participant(ParticipantStatus.ACTIVE, false);
+        p.getConversation().setLastMessageSeq(10L);
+        p.setLastReadSeq(5L);
+        when(participantRepository.findByConversationIdxAndUserIdx(CONV, USER))
+                .thenReturn(Optional.of(p));
+
+        chatMessageService.markAsRead(CONV, USER, null, 3L);
+        assertThat(p.getLastReadSeq()).isEqualTo(5L);
+
+        chatMessageService.markAsRead(CONV, USER, null, 8L);
+        assertThat(p.getLastReadSeq()).isEqualTo(8L);
+        assertThat(chatMessageService.getUnreadCount(CONV, USER)).isEqualTo(2L);
+
+        chatMessageService.markAsRead(CONV, USER, null, null);
+        assertThat(chatMessageService.getUnreadCount(CONV, USER)).isZero();
+    }
+
     private static ConversationParticipant participant(ParticipantStatus status, boolean deleted) {
         Conversation c = Conversation.builder().idx(CONV).build();
         Users u = Users.builder().idx(USER).build();
@@ -0,0 +1,89 @@
+package com.linkup.Petory.domain.chat.service;
+
+import com.linkup.Petory.domain.chat.service.ChatTypingThrottle.TypingSignal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatTypingThrottle 단위 테스트
+ *
+ * 검증: 같은 상태 반복 요청 제거, 입력 중 상태 주기적 갱신, 짧은 간격 상태 변경의 보류·병합, 오래된 상태 정리
+ */
+class ChatTypingThrottleTest {
+
+    private static final long MIN_INTERVAL = 500;
+    private static final long REFRESH_INTERVAL = 3000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private ChatTypingThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new ChatTypingThrottle(MIN_INTERVAL, REFRESH_INTERVAL, now::get);
+    }
+
+    @Test
+    @DisplayName("입력 중 신호가 연속으로 와도 첫 1건과 refresh 주기마다 1건만 브로드캐스트한다")
+    void dropsRepeatedTypingUntilRefresh() {
+        int sent = 0;
+        for (int i = 0; i < 60; i++) { // 6초 동안 100ms마다 입력 중 신호
+            if (throttle.offer(1L, 10L, true)) {
+                sent++;
+            }
+            now.addAndGet(100);
+        }
+
+        assertThat(sent).isEqualTo(2);
+        assertThat(throttle.offer(1L, 11L, true)).as("다른 사용자는 별도로 제한").isTrue();
+        assertThat(throttle.offer(1L, 10L, false)).isTrue();
+        assertThat(throttle.offer(1L, 10L, false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("짧은 간격의 상태 변경은 최신 상태 하나로 보류했다가 minInterval 후 전송한다")
+    void coalescesRapidToggles() {
+        assertThat(throttle.offer(2L, 20L, true)).isTrue();
+        now.addAndGet(100);
+        assertThat(throttle.offer(2L, 20L, false)).isFalse();
+        now.addAndGet(100);
+        assertThat(throttle.offer(2L, 20L, true)).isFalse();
+        now.addAndGet(100);
+        assertThat(throttle.offer(2L, 20L, false)).isFalse();
+
+        assertThat(throttle.drainDue()).as("minInterval 전에는 보류").isEmpty();
+        now.addAndGet(MIN_INTERVAL);
+        assertThat(throttle.drainDue()).containsExactly(new TypingSignal(2L, 20L, false));
+        assertThat(throttle.drainDue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보류 중 클라이언트가 보고 있는 상태로 되돌아오면 보류분을 버린다")
+    void discardsPendingWhenStateReturns() {
+        assertThat(throttle.offer(3L, 30L, true)).isTrue();
+        assertThat(throttle.offer(3L, 30L, false)).isFalse();
+        assertThat(throttle.offer(3L, 30L, true)).isFalse();
+
+        now.addAndGet(MIN_INTERVAL);
+        assertThat(throttle.drainDue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입력 종료 후 refresh 주기가 지나면 상태를 정리한다")
+    void evictsIdleStates() {
+        throttle.offer(4L, 40L, true);
+        now.addAndGet(MIN_INTERVAL);
+        throttle.offer(4L, 40L, false);
+        assertThat(throttle.trackedCount()).isEqualTo(1);
+
+        now.addAndGet(REFRESH_INTERVAL);
+        throttle.drainDue();
+
+        assertThat(throttle.trackedCount()).isZero();
+        assertThat(throttle.offer(4L, 40L, true)).isTrue();
+    }
+}
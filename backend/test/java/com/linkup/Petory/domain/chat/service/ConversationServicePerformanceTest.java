@@ -113,7 +113,7 @@ class ConversationServicePerformanceTest {
                                         .conversation(conversation)
                                         .user(testUser)
                                         .status(ParticipantStatus.ACTIVE)
-                                        .unreadCount(i % 3) // 읽지 않은 메시지 수 다양하게
+                                        .lastReadSeq(0L)
                                         .isDeleted(false)
                                         .build();
                         participantRepository.save(testUserParticipant);
@@ -123,7 +123,7 @@ class ConversationServicePerformanceTest {
                                                 .conversation(conversation)
                                                 .user(otherUsers.get(userIndex++))
                                                 .status(ParticipantStatus.ACTIVE)
-                                                .unreadCount(0)
+                                                .lastReadSeq(0L)
                                                 .isDeleted(false)
                                                 .build();
                                 participantRepository.save(participant);
@@ -0,0 +1,91 @@
+package com.linkup.Petory.domain.location.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.event.LocationServiceChangedEvent;
+import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * LocationServiceScoreScheduler 단위 테스트
+ *
+ * 검증: 엔티티를 읽지 않고 PK 구간별 UPDATE로 전체를 빠짐없이 훑음, 갱신 건수 지표,
+ * 바뀐 행이 없으면 인덱스 갱신 이벤트 생략, 점수 식
+ */
+class LocationServiceScoreSchedulerTest {
+
+    private LocationServiceRepository repository;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private LocationServiceScoreScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LocationServiceRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new LocationServiceScoreScheduler(repository, eventPublisher, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 1_000);
+    }
+
+    @Test
+    @DisplayName("최대 idx까지 PK 구간별로 UPDATE하고, 갱신 건수를 지표로 남긴 뒤 인덱스 갱신 이벤트를 발행한다")
+    void recalculatesInPrimaryKeyChunks() {
+        when(repository.findMaxIdx()).thenReturn(2_500L);
+        when(repository.recalculateScoresInRange(0, 1_000)).thenReturn(3);
+        when(repository.recalculateScoresInRange(1_000, 2_000)).thenReturn(0);
+        when(repository.recalculateScoresInRange(2_000, 2_500)).thenReturn(4);
+
+        scheduler.recalculateAllScores();
+
+        verify(repository).findMaxIdx();
+        verify(repository).recalculateScoresInRange(0, 1_000);
+        verify(repository).recalculateScoresInRange(1_000, 2_000);
+        verify(repository).recalculateScoresInRange(2_000, 2_500);
+        verifyNoMoreInteractions(repository);
+        assertThat(meterRegistry.counter("location.score.recalculated").count()).isEqualTo(7.0);
+        assertThat(meterRegistry.timer("location.score.full-pass").count()).isEqualTo(1);
+        verify(eventPublisher).publishEvent(LocationServiceChangedEvent.all());
+    }
+
+    @Test
+    @DisplayName("바뀐 점수가 없거나 시설이 없으면 인덱스 갱신 이벤트를 발행하지 않는다")
+    void skipsEventWhenNothingChanged() {
+        when(repository.findMaxIdx()).thenReturn(500L);
+        when(repository.recalculateScoresInRange(anyLong(), anyLong())).thenReturn(0);
+        scheduler.recalculateAllScores();
+
+        when(repository.findMaxIdx()).thenReturn(null);
+        scheduler.recalculateAllScores();
+
+        verify(repository).recalculateScoresInRange(0, 500);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("점수 = 0.5 × 평점 × log10(리뷰수+1) + 0.2 × 반려동물 동반, 값이 없으면 0으로 본다")
+    void computesScore() {
+        assertThat(LocationService.computeScore(4.0, 9, true)).isCloseTo(2.2, within(1e-9));
+        assertThat(LocationService.computeScore(null, null, null)).isZero();
+
+        LocationService service = LocationService.builder().rating(5.0).reviewCount(99).petFriendly(false).build();
+        service.recalculateScore();
+        assertThat(service.getScore()).isCloseTo(5.0, within(1e-9));
+    }
+}
@@ -14,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +28,7 @@ class LocationServiceServiceRadiusTest {
     @Mock private LocationServiceRepository locationServiceRepository;
     @Mock private ApplicationEventPublisher eventPublisher;
     @Mock private UsersRepository usersRepository;
+    @Mock private LocationSpatialIndex spatialIndex;
 
     @InjectMocks
     private LocationServiceService service;
@@ -98,6 +100,24 @@ class LocationServiceServiceRadiusTest {
         assertThat(result).hasSize(3);
     }
 
+    @Test
+    @DisplayName("반경검색: 공간 인덱스가 적재돼 있으면 SQL 없이 인덱스 결과를 사용한다")
+    void 반경검색_공간인덱스적재_SQL생략() {
+        List<LocationService> indexed = IntStream.range(0, 2)
+                .mapToObj(this::dummyService)
+                .toList();
+        when(spatialIndex.findByRadius(37.5, 127.0, 3000, "카페", null, "rating", 10))
+                .thenReturn(Optional.of(indexed));
+        when(locationServiceConverter.toDTO(any())).thenReturn(new LocationServiceDTO());
+
+        List<LocationServiceDTO> result = service.searchLocationServicesByLocation(
+                37.5, 127.0, 3000, " 카페 ", null, "RATING", 10);
+
+        verify(locationServiceRepository, never()).findByRadius(anyDouble(), anyDouble(), anyDouble(),
+                any(), any(), any(), anyInt());
+        assertThat(result).hasSize(2);
+    }
+
     @Test
     @DisplayName("지역검색 maxResults=null: dbLimit=50 SQL 전달 — 반경검색과 동작 다름")
     void 지역검색_maxResultsNull_dbLimit50적용() {
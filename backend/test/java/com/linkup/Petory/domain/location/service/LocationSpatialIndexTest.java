@@ -0,0 +1,227 @@
+package com.linkup.Petory.domain.location.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.event.LocationServiceChangedEvent;
+import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
+
+/**
+ * LocationSpatialIndex 단위 테스트
+ *
+ * 검증: 반경·키워드·카테고리 필터와 정렬 기준이 SQL 반경 검색과 같음, 단건 갱신(추가·이동·삭제),
+ * 적재 전·비활성화 시 SQL 대체, 노드 간 갱신 알림, 격자 후보 수가 전체 스캔보다 작고 결과는 전체 스캔과 같음
+ */
+class LocationSpatialIndexTest {
+
+    private static final double LAT = 37.5;
+    private static final double LNG = 127.0;
+
+    private LocationServiceRepository repository;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMessageListenerContainer container;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(LocationServiceRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        container = mock(RedisMessageListenerContainer.class);
+    }
+
+    private LocationSpatialIndex index(boolean enabled, List<LocationService> services) {
+        when(repository.findAllForSpatialIndex()).thenReturn(services);
+        LocationSpatialIndex index = new LocationSpatialIndex(repository, redisTemplate, container, enabled);
+        if (enabled) {
+            index.reload();
+        }
+        return index;
+    }
+
+    /** 기준점에서 북쪽으로 meters만큼 떨어진 시설 */
+    private static LocationService service(long idx, String name, String category, double meters,
+            Double rating, Integer reviewCount, Double score) {
+        return LocationService.builder()
+                .idx(idx)
+                .name(name)
+                .category3(category)
+                .latitude(LAT + meters / 111_195.0)
+                .longitude(LNG)
+                .rating(rating)
+                .reviewCount(reviewCount)
+                .score(score)
+                .isDeleted(false)
+                .build();
+    }
+
+    private static List<Long> ids(Optional<List<LocationService>> result) {
+        return result.orElseThrow().stream().map(LocationService::getIdx).toList();
+    }
+
+    @Test
+    @DisplayName("반경·키워드(대소문자 무시)·카테고리(category1~3) 필터 후 거리순으로 limit건을 반환한다")
+    void filtersByRadiusKeywordAndCategory() {
+        LocationService deleted = service(5L, "Dog Cafe 삭제", "카페", 100, 4.0, 1, 0.0);
+        deleted.setIsDeleted(true);
+        LocationService category1Only = service(6L, "DOG 놀이터", null, 300, 3.0, 1, 0.0);
+        category1Only.setCategory1("카페");
+        LocationSpatialIndex index = index(true, List.of(
+                service(1L, "멍멍 dog cafe", "카페", 500, 4.0, 3, 0.0),
+                service(2L, "Dog Hotel", "호텔", 200, 5.0, 9, 0.0),
+                service(3L, "dog 카페 원거리", "카페", 2_500, 5.0, 9, 0.0),
+                service(4L, "고양이 카페", "카페", 100, 5.0, 9, 0.0),
+                deleted, category1Only));
+
+        assertThat(ids(index.findByRadius(LAT, LNG, 1_000, "DOG", "카페", "distance", 10)))
+                .containsExactly(6L, 1L);
+        assertThat(ids(index.findByRadius(LAT, LNG, 3_000, null, null, "distance", 3)))
+                .containsExactly(4L, 2L, 6L);
+    }
+
+    @Test
+    @DisplayName("정렬 기준은 SQL ORDER BY와 같다 (평점·리뷰수·점수, 동점은 거리·평점·idx, NULL은 뒤로)")
+    void sortsLikeSql() {
+        LocationSpatialIndex index = index(true, List.of(
+                service(1L, "a", "카페", 900, 4.5, 10, 3.0),
+                service(2L, "b", "카페", 100, 4.5, 2, 1.0),
+                service(3L, "c", "카페", 500, null, 10, null),
+                service(4L, "d", "카페", 300, 3.0, null, 2.0),
+                service(5L, "e", "카페", 300, 4.0, 5, 2.0)));
+
+        assertThat(ids(index.findByRadius(LAT, LNG, 1_000, null, null, "distance", 10)))
+                .containsExactly(2L, 5L, 4L, 3L, 1L);
+        assertThat(ids(index.findByRadius(LAT, LNG, 1_000, null, null, "rating", 10)))
+                .containsExactly(2L, 1L, 5L, 4L, 3L);
+        assertThat(ids(index.findByRadius(LAT, LNG, 1_000, null, null, "stable", 10)))
+                .containsExactly(1L, 2L, 5L, 4L, 3L);
+        assertThat(ids(index.findByRadius(LAT, LNG, 1_000, null, null, "reviews", 10)))
+                .containsExactly(3L, 1L, 5L, 2L, 4L);
+        assertThat(ids(index.findByRadius(LAT, LNG, 1_000, null, null, "score", 10)))
+                .containsExactly(1L, 5L, 4L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("단건 갱신은 DB에서 다시 읽은 시설로 교체하고, 삭제되었거나 없는 시설은 제외한다")
+    void refreshUpsertsAndRemoves() {
+        LocationSpatialIndex index = index(true, List.of(
+                service(1L, "a", "카페", 100, 4.0, 1, 0.0),
+                service(2L, "b", "카페", 200, 4.0, 1, 0.0)));
+        LocationService moved = service(1L, "a", "카페", 5_000, 4.0, 1, 0.0);
+        LocationService deleted = service(2L, "b", "카페", 200, 4.0, 1, 0.0);
+        deleted.setIsDeleted(true);
+        when(repository.findById(1L)).thenReturn(Optional.of(moved));
+        when(repository.findById(2L)).thenReturn(Optional.of(deleted));
+        when(repository.findById(3L)).thenReturn(Optional.of(service(3L, "c", "카페", 300, 4.0, 1, 0.0)));
+
+        index.refresh(List.of(1L, 2L, 3L));
+
+        assertThat(ids(index.findByRadius(LAT, LNG, 1_000, null, null, "distance", 10))).containsExactly(3L);
+        assertThat(ids(index.findByRadius(LAT, LNG, 6_000, null, null, "distance", 10))).containsExactly(3L, 1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("적재 전이거나 비활성화면 empty를 반환해 SQL 검색으로 대체하게 한다")
+    void notReadyOrDisabledFallsBackToSql() {
+        LocationSpatialIndex notLoaded = new LocationSpatialIndex(repository, redisTemplate, container, true);
+        assertThat(notLoaded.findByRadius(LAT, LNG, 1_000, null, null, "distance", 10)).isEmpty();
+
+        LocationSpatialIndex disabled = index(false, List.of());
+        disabled.subscribe();
+        disabled.onLocationServiceChanged(LocationServiceChangedEvent.all());
+        assertThat(disabled.findByRadius(LAT, LNG, 1_000, null, null, "distance", 10)).isEmpty();
+        verify(container, never()).addMessageListener(disabled, new ChannelTopic(LocationSpatialIndex.CHANNEL));
+        verify(repository, never()).findAllForSpatialIndex();
+    }
+
+    @Test
+    @DisplayName("변경 이벤트는 다른 노드에 알리고, 다른 노드의 알림만 받아 해당 시설을 다시 읽는다")
+    void relaysRefreshAcrossNodes() {
+        LocationSpatialIndex nodeA = index(true, List.of(service(1L, "a", "카페", 100, 4.0, 1, 0.0)));
+        LocationSpatialIndex nodeB = new LocationSpatialIndex(repository, redisTemplate, container, true);
+        nodeB.reload();
+        when(repository.findById(7L)).thenReturn(Optional.empty());
+
+        nodeA.onLocationServiceChanged(new LocationServiceChangedEvent(7L));
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(LocationSpatialIndex.CHANNEL),
+                published.capture());
+        assertThat(published.getValue()).endsWith("\n7");
+        verify(repository, timeout(1_000).times(1)).findById(7L);
+
+        nodeA.onMessage(message(published.getValue()), null);
+        nodeB.onMessage(message(published.getValue()), null);
+        verify(repository, timeout(1_000).times(2)).findById(7L);
+
+        nodeB.onMessage(message("other-node\n*"), null);
+        verify(repository, timeout(1_000).times(3)).findAllForSpatialIndex();
+        nodeA.shutdown();
+        nodeB.shutdown();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(LocationSpatialIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("격자 후보 수는 전체 스캔보다 훨씬 작고, 결과는 전체 스캔(SQL과 같은 정렬)과 같다")
+    void gridScanMatchesFullScanWithFarFewerCandidates() {
+        Random random = new Random(42);
+        List<LocationService> services = new ArrayList<>();
+        for (long i = 1; i <= 20_000; i++) {
+            services.add(LocationService.builder()
+                    .idx(i)
+                    .name("시설" + i)
+                    .category3(i % 3 == 0 ? "카페" : "병원")
+                    .latitude(37.4 + random.nextDouble() * 0.3)
+                    .longitude(126.8 + random.nextDouble() * 0.4)
+                    .rating((double) random.nextInt(6))
+                    .isDeleted(false)
+                    .build());
+        }
+        LocationSpatialIndex index = index(true, services);
+
+        for (int q = 0; q < 50; q++) {
+            double lat = 37.45 + random.nextDouble() * 0.2;
+            double lng = 126.85 + random.nextDouble() * 0.3;
+
+            List<Long> expected = services.stream()
+                    .filter(s -> "카페".equals(s.getCategory3()))
+                    .filter(s -> LocationSpatialIndex.distance(lat, lng, s.getLatitude(), s.getLongitude()) <= 1_000)
+                    .sorted(Comparator
+                            .comparingDouble((LocationService s) -> LocationSpatialIndex.distance(
+                                    lat, lng, s.getLatitude(), s.getLongitude()))
+                            .thenComparing(Comparator.comparingDouble(LocationService::getRating).reversed())
+                            .thenComparing(LocationService::getIdx))
+                    .limit(20)
+                    .map(LocationService::getIdx)
+                    .toList();
+
+            assertThat(ids(index.findByRadius(lat, lng, 1_000, null, "카페", "distance", 20))).isEqualTo(expected);
+            assertThat(index.candidateCount(lat, lng, 1_000)).isLessThan(services.size() / 50);
+        }
+    }
+}
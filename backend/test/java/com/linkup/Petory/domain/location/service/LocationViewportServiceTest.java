@@ -0,0 +1,165 @@
+package com.linkup.Petory.domain.location.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.linkup.Petory.domain.location.converter.LocationServiceConverter;
+import com.linkup.Petory.domain.location.dto.LocationClusterDTO;
+import com.linkup.Petory.domain.location.dto.LocationServiceDTO;
+import com.linkup.Petory.domain.location.dto.LocationViewportResponse;
+import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
+
+/**
+ * LocationViewportService 단위 테스트 (실제 LocationSpatialIndex + mock 저장소)
+ *
+ * 검증: 축소 시 격자 클러스터(시설 수 합·무게중심·대표 카테고리), 확대 시 개별 시설,
+ * 시설이 많거나 뷰포트가 넓으면 클러스터·격자 축소로 응답 크기 제한, 인덱스 적재 전 SQL 집계 대체, 잘못된 좌표 거부
+ */
+class LocationViewportServiceTest {
+
+    private LocationServiceRepository repository;
+    private LocationSpatialIndex spatialIndex;
+    private LocationViewportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(LocationServiceRepository.class);
+        spatialIndex = new LocationSpatialIndex(repository, mock(RedisTemplate.class),
+                mock(RedisMessageListenerContainer.class), true);
+        service = new LocationViewportService(spatialIndex, repository, new LocationServiceConverter());
+    }
+
+    private void load(List<LocationService> services) {
+        when(repository.findAllForSpatialIndex()).thenReturn(services);
+        spatialIndex.reload();
+    }
+
+    private static LocationService facility(long idx, double lat, double lng, String category) {
+        return LocationService.builder()
+                .idx(idx)
+                .name("시설" + idx)
+                .category3(category)
+                .latitude(lat)
+                .longitude(lng)
+                .rating(4.0)
+                .isDeleted(false)
+                .build();
+    }
+
+    /** 서울 시내 가로세로 0.1° 범위에 격자로 흩어진 시설 */
+    private static List<LocationService> grid(int perSide) {
+        List<LocationService> services = new ArrayList<>();
+        long idx = 1;
+        for (int i = 0; i < perSide; i++) {
+            for (int j = 0; j < perSide; j++) {
+                services.add(facility(idx, 37.5 + i * 0.1 / perSide, 127.0 + j * 0.1 / perSide,
+                        idx % 3 == 0 ? "동물병원" : "카페"));
+                idx++;
+            }
+        }
+        return services;
+    }
+
+    @Test
+    @DisplayName("축소 상태에서는 격자 클러스터만 반환하고, 시설 수 합·무게중심·대표 카테고리를 채운다")
+    void zoomedOutReturnsClusters() {
+        load(grid(40));
+
+        LocationViewportResponse response = service.getViewport(37.0, 126.5, 38.0, 127.5, 9);
+
+        assertThat(response.getServices()).isEmpty();
+        assertThat(response.getTotalCount()).isEqualTo(1_600);
+        assertThat(response.getClusters()).hasSizeLessThanOrEqualTo(4);
+        LocationClusterDTO largest = response.getClusters().stream()
+                .max((a, b) -> Long.compare(a.getCount(), b.getCount())).orElseThrow();
+        assertThat(largest.getCategory()).isEqualTo("카페");
+        assertThat(largest.getLatitude()).isBetween(37.5, 37.6);
+        assertThat(largest.getLongitude()).isBetween(127.0, 127.1);
+    }
+
+    @Test
+    @DisplayName("충분히 확대하고 시설이 적으면 개별 시설을 반환한다")
+    void zoomedInReturnsPoints() {
+        load(List.of(facility(1L, 37.5001, 127.0001, "카페"), facility(2L, 37.5002, 127.0002, "카페"),
+                facility(3L, 37.6, 127.1, "카페")));
+
+        LocationViewportResponse response = service.getViewport(37.5, 127.0, 37.501, 127.001, 17);
+
+        assertThat(response.getClusters()).isEmpty();
+        assertThat(response.getServices()).extracting(LocationServiceDTO::getIdx).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(response.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("확대했어도 시설이 최대 건수를 넘으면 클러스터로 응답한다")
+    void tooManyPointsFallsBackToClusters() {
+        List<LocationService> dense = new ArrayList<>();
+        for (long i = 1; i <= LocationViewportService.MAX_POINTS + 50; i++) {
+            dense.add(facility(i, 37.5 + (i % 20) * 0.0002, 127.0 + (i / 20) * 0.0002, "카페"));
+        }
+        load(dense);
+
+        LocationViewportResponse response = service.getViewport(37.499, 126.999, 37.51, 127.01, 18);
+
+        assertThat(response.getServices()).isEmpty();
+        assertThat(response.getZoom()).isEqualTo(LocationSpatialIndex.MAX_CLUSTER_ZOOM);
+        assertThat(response.getTotalCount()).isEqualTo(LocationViewportService.MAX_POINTS + 50);
+    }
+
+    @Test
+    @DisplayName("넓은 뷰포트를 크게 확대해 요청하면 격자 셀 수가 한도 이하가 되도록 확대 수준을 낮춘다")
+    void wideViewportIsCoarsened() {
+        load(grid(40));
+
+        LocationViewportResponse response = service.getViewport(33.0, 124.0, 39.0, 132.0, 18);
+
+        assertThat(response.getServices()).isEmpty();
+        assertThat(LocationViewportService.cellCount(response.getZoom(), 33.0, 124.0, 39.0, 132.0))
+                .isLessThanOrEqualTo(LocationViewportService.MAX_VIEWPORT_CELLS);
+        assertThat(LocationViewportService.cellCount(response.getZoom() + 1, 33.0, 124.0, 39.0, 132.0))
+                .isGreaterThan(LocationViewportService.MAX_VIEWPORT_CELLS);
+        assertThat(response.getTotalCount()).isEqualTo(1_600);
+    }
+
+    @Test
+    @DisplayName("인덱스 적재 전에는 SQL 격자 집계로 대체한다")
+    void notLoadedUsesSqlAggregation() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { 12L, 37.55, 127.05 });
+        rows.add(new Object[] { 3L, 37.45, 126.95 });
+        when(repository.countClustersInBounds(37.0, 126.5, 38.0, 127.5, LocationSpatialIndex.clusterCellSize(9)))
+                .thenReturn(rows);
+
+        LocationViewportResponse response = service.getViewport(37.0, 126.5, 38.0, 127.5, 9);
+
+        assertThat(response.getTotalCount()).isEqualTo(15);
+        assertThat(response.getClusters()).extracting(LocationClusterDTO::getCount).containsExactly(12L, 3L);
+        verify(repository, never()).findInBounds(anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("뒤집히거나 범위를 벗어난 좌표는 거부한다")
+    void rejectsInvalidBounds() {
+        assertThatThrownBy(() -> service.getViewport(38.0, 126.5, 37.0, 127.5, 9))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getViewport(-95.0, 126.5, 37.0, 127.5, 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
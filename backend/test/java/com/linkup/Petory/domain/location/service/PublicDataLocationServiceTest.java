@@ -0,0 +1,190 @@
+package com.linkup.Petory.domain.location.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.linkup.Petory.domain.location.entity.LocationService;
+import com.linkup.Petory.domain.location.repository.LocationServiceRepository;
+import com.linkup.Petory.domain.location.service.PublicDataLocationService.BatchImportResult;
+
+/**
+ * PublicDataLocationService 단위 테스트 (실제 LocationServiceBatchWriter + mock 저장소)
+ *
+ * 검증: DB·파일 내 중복을 미리 적재한 키로 걸러 라인별 존재 조회 없음, 라인 순서 유지,
+ * 저장 실패 시 체크포인트부터 재개, 문제 행만 골라 버리는 배치 분할 저장, 단계별 소요 시간 집계
+ */
+class PublicDataLocationServiceTest {
+
+    private static final String HEADER = String.join(",", Collections.nCopies(31, "h"));
+
+    @TempDir
+    Path dir;
+
+    private LocationServiceRepository repository;
+    private PublicDataLocationService service;
+    private final List<String> insertedNames = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(LocationServiceRepository.class);
+        service = new PublicDataLocationService(repository, new LocationServiceBatchWriter(repository),
+                mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "parseThreads", 3);
+        ReflectionTestUtils.setField(service, "queueCapacity", 2);
+        existing();
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> insert(invocation.getArgument(0)));
+    }
+
+    private int insert(List<LocationService> rows) {
+        rows.forEach(row -> insertedNames.add(row.getName()));
+        return rows.size();
+    }
+
+    /** DB에 이미 있는 (이름, 주소) */
+    @SuppressWarnings("unchecked")
+    private void existing(String... nameAndAddress) {
+        doAnswer(invocation -> {
+            BiConsumer<String, String> consumer = invocation.getArgument(0);
+            for (int i = 0; i < nameAndAddress.length; i += 2) {
+                consumer.accept(nameAndAddress[i], nameAndAddress[i + 1]);
+            }
+            return null;
+        }).when(repository).forEachNameAndAddress(any(BiConsumer.class));
+    }
+
+    /** 시설명·도로명주소·좌표만 채운 31개 필드 라인 */
+    private static String line(String name, String roadAddress) {
+        List<String> fields = new ArrayList<>(Collections.nCopies(31, ""));
+        fields.set(0, name);
+        fields.set(3, "카페");
+        fields.set(11, "37.5");
+        fields.set(12, "127.0");
+        fields.set(14, roadAddress);
+        fields.set(30, "2024-01-01");
+        return String.join(",", fields);
+    }
+
+    private Path csv(List<String> lines) throws IOException {
+        List<String> all = new ArrayList<>();
+        all.add(HEADER);
+        all.addAll(lines);
+        return Files.write(dir.resolve("public.csv"), all);
+    }
+
+    private static List<String> facilities(int count) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            lines.add(line("시설" + i, "서울시 " + i + "번길"));
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("DB와 파일 안의 중복을 미리 적재한 키로 거르고, 라인 순서대로 저장한다")
+    void dedupsAgainstDbAndFileInOrder() throws IOException {
+        existing("시설2", "서울시 2번길");
+        List<String> lines = facilities(1_200);
+        lines.add(line("시설1", "서울시 1번길"));
+        lines.add(line("", "주소만 있음"));
+        lines.add(line("\"따옴표 \"\"시설\"\"\"", "서울시 0번길"));
+        Path file = csv(lines);
+
+        BatchImportResult result = service.importFromCsv(file.toString());
+
+        assertThat(result.getTotalRead()).isEqualTo(1_203);
+        assertThat(result.getSaved()).isEqualTo(1_200);
+        assertThat(result.getDuplicate()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getLastCommittedLine()).isEqualTo(1_203);
+        assertThat(insertedNames).hasSize(1_200)
+                .startsWith("시설1", "시설3", "시설4")
+                .endsWith("시설1200", "따옴표 \"시설\"");
+        verify(repository, never()).existsByNameAndAddress(anyString(), anyString());
+        assertThat(Files.exists(Path.of(file + ".checkpoint"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 도중 DB 오류로 중단되면 체크포인트를 남기고, 다시 실행하면 그 다음 라인부터 이어서 저장한다")
+    void resumesFromCheckpointAfterFailure() throws IOException {
+        Path file = csv(facilities(1_200));
+        when(repository.insertAll(anyList()))
+                .thenAnswer(invocation -> insert(invocation.getArgument(0)))
+                .thenThrow(new QueryTimeoutException("연결 끊김"));
+
+        assertThatThrownBy(() -> service.importFromCsv(file.toString()))
+                .hasMessageContaining("마지막 저장 라인: 500");
+        assertThat(Files.readString(Path.of(file + ".checkpoint"))).isEqualTo("500");
+        assertThat(insertedNames).hasSize(500).endsWith("시설500");
+
+        doAnswer(invocation -> insert(invocation.getArgument(0))).when(repository).insertAll(anyList());
+        BatchImportResult resumed = service.importFromCsv(file.toString());
+
+        assertThat(resumed.getStartLine()).isEqualTo(500);
+        assertThat(resumed.getTotalRead()).isEqualTo(700);
+        assertThat(resumed.getSaved()).isEqualTo(700);
+        assertThat(insertedNames).hasSize(1_200).doesNotHaveDuplicates().endsWith("시설1200");
+        assertThat(Files.exists(Path.of(file + ".checkpoint"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("업로드 임포트는 startLine까지 건너뛴다")
+    void uploadSkipsToStartLine() throws IOException {
+        Path file = csv(facilities(10));
+        MockMultipartFile upload = new MockMultipartFile(
+                "file", "public.csv", "text/csv", Files.readAllBytes(file));
+
+        BatchImportResult result = service.importFromCsv(upload, 7);
+
+        assertThat(result.getTotalRead()).isEqualTo(3);
+        assertThat(insertedNames).containsExactly("시설8", "시설9", "시설10");
+    }
+
+    @Test
+    @DisplayName("배치에 문제 행이 있으면 반씩 나눠 다시 저장해 그 행만 버리고, 단계별 소요 시간을 채운다")
+    void bisectsBatchAroundBadRow() throws IOException {
+        Path file = csv(facilities(40));
+        when(repository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<LocationService> rows = invocation.getArgument(0);
+            if (rows.stream().anyMatch(row -> "시설17".equals(row.getName()))) {
+                throw new DataIntegrityViolationException("Data too long");
+            }
+            return insert(rows);
+        });
+
+        BatchImportResult result = service.importFromCsv(file.toString());
+
+        assertThat(result.getSaved()).isEqualTo(39);
+        assertThat(result.getError()).isEqualTo(1);
+        assertThat(insertedNames).hasSize(39).doesNotContain("시설17");
+        assertThat(result.getElapsedMillis()).isGreaterThanOrEqualTo(result.getWriteMillis());
+        assertThat(result.getReadMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(result.getParseMillis()).isGreaterThanOrEqualTo(0);
+    }
+}
@@ -0,0 +1,190 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
+import com.linkup.Petory.domain.meetup.repository.MeetupNearbyCandidate;
+import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+
+/**
+ * MeetupNearbyCache 단위 테스트 (Redis 문자열 값은 Map으로 흉내)
+ *
+ * 검증: geohash 인코딩·반경별 셀 정밀도, 셀 안 다른 좌표·같은 5분 구간은 한 번만 조회, 후보 필드 직렬화 왕복,
+ * 후보 조회 반경이 셀 안 모든 지점의 반경을 덮음, 상한 도달·Redis 장애 시 empty, 커밋 후 버전 증가로 무효화
+ */
+class MeetupNearbyCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 1, 12, 1);
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOps;
+    private MeetupRepository meetupRepository;
+    private MeetupNearbyCache cache;
+    private final Map<String, String> store = new HashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        meetupRepository = mock(MeetupRepository.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(anyString())).thenAnswer(inv -> store.get(inv.<String>getArgument(0)));
+        doAnswer(inv -> store.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(valueOps).set(anyString(), anyString(), any(Duration.class));
+        when(valueOps.increment(anyString())).thenAnswer(inv -> {
+            long next = Long.parseLong(store.getOrDefault(inv.<String>getArgument(0), "0")) + 1;
+            store.put(inv.getArgument(0), String.valueOf(next));
+            return next;
+        });
+        cache = new MeetupNearbyCache(redisTemplate, meetupRepository, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("geohash 인코딩이 표준과 같고, 셀 폭이 반경 이하인 가장 큰 셀을 고른다")
+    void geohashAndPrecision() {
+        assertThat(MeetupNearbyCache.Cell.of(37.5665, 126.9780, 5).geohash()).isEqualTo("wydm9");
+        assertThat(MeetupNearbyCache.Cell.of(57.64911, 10.40744, 6).geohash()).isEqualTo("u4pruy");
+
+        assertThat(MeetupNearbyCache.precisionFor(5.0)).isEqualTo(5);
+        assertThat(MeetupNearbyCache.precisionFor(1.5)).isEqualTo(6);
+        assertThat(MeetupNearbyCache.precisionFor(50.0)).isEqualTo(4);
+        assertThat(MeetupNearbyCache.precisionFor(0.01)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("셀 중심에서 반경 + 반대각선으로 조회하므로 셀 안 어느 지점의 반경도 후보 범위에 들어간다")
+    void candidateRadiusCoversWholeCell() {
+        MeetupNearbyCache.Cell cell = MeetupNearbyCache.Cell.of(37.5665, 126.9780, 5);
+        double radiusKm = 5.0;
+        double searchKm = radiusKm + cell.halfDiagonalKm();
+
+        double[][] corners = { { cell.minLat(), cell.minLng() }, { cell.minLat(), cell.maxLng() },
+                { cell.maxLat(), cell.minLng() }, { cell.maxLat(), cell.maxLng() } };
+        for (double[] corner : corners) {
+            assertThat(MeetupNearbyCache.distanceKm(cell.centerLat(), cell.centerLng(), corner[0], corner[1]))
+                    .isLessThanOrEqualTo(cell.halfDiagonalKm() + 1e-9);
+        }
+        assertThat(searchKm).isLessThan(radiusKm * 2);
+    }
+
+    @Test
+    @DisplayName("같은 셀·같은 5분 구간 요청은 DB를 한 번만 조회하고, 다음 구간은 다시 조회한다")
+    void missThenHitWithinBucket() {
+        when(meetupRepository.findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(), anyInt()))
+                .thenReturn(List.of(candidate(3L), candidate(1L), candidate(2L)));
+
+        assertThat(cache.findCandidates(37.5665, 126.9780, 5.0, NOW))
+                .contains(List.of(candidate(3L), candidate(1L), candidate(2L)));
+        assertThat(cache.findCandidates(37.5670, 126.9790, 5.0, NOW.plusMinutes(3)))
+                .contains(List.of(candidate(3L), candidate(1L), candidate(2L)));
+        verify(meetupRepository, times(1)).findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(),
+                anyInt());
+        verify(meetupRepository).findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(),
+                eq(LocalDateTime.of(2026, 5, 1, 12, 0)), eq(MeetupNearbyCache.CANDIDATE_LIMIT));
+
+        cache.findCandidates(37.5665, 126.9780, 5.0, NOW.plusMinutes(5));
+        verify(meetupRepository, times(2)).findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(),
+                anyInt());
+    }
+
+    @Test
+    @DisplayName("후보의 ID·위치·일시·상태는 캐시 값으로 직렬화했다가 그대로 복원되고, null 상태도 유지된다")
+    void candidateFieldsRoundTrip() {
+        List<MeetupNearbyCandidate> candidates = List.of(
+                new MeetupNearbyCandidate(7L, 37.5665123, 126.978456, NOW.plusDays(1), MeetupStatus.RECRUITING),
+                new MeetupNearbyCandidate(8L, -33.1, 151.25, NOW.plusHours(3).plusSeconds(7), null));
+
+        assertThat(MeetupNearbyCache.parseCandidates(MeetupNearbyCache.joinCandidates(candidates)))
+                .isEqualTo(candidates);
+        assertThat(MeetupNearbyCache.parseCandidates(MeetupNearbyCache.joinCandidates(List.of()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 후보도 캐시하고, 상한에 닿은 후보는 캐시하지 않고 empty를 반환한다")
+    void emptyCachedButLimitNot() {
+        when(meetupRepository.findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(), anyInt()))
+                .thenReturn(List.of());
+        assertThat(cache.findCandidates(35.0, 129.0, 5.0, NOW)).contains(List.of());
+        assertThat(cache.findCandidates(35.0, 129.0, 5.0, NOW)).contains(List.of());
+        verify(meetupRepository, times(1)).findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(),
+                anyInt());
+
+        List<MeetupNearbyCandidate> full = new ArrayList<>(LongStream.rangeClosed(1, MeetupNearbyCache.CANDIDATE_LIMIT)
+                .mapToObj(MeetupNearbyCacheTest::candidate).toList());
+        when(meetupRepository.findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(), anyInt()))
+                .thenReturn(full);
+        assertThat(cache.findCandidates(37.5665, 126.9780, 5.0, NOW)).isEmpty();
+        verify(valueOps, times(1)).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 장애나 비활성화 시 empty를 반환해 기존 쿼리를 쓰게 한다")
+    void redisFailureOrDisabledFallsBack() {
+        when(valueOps.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(cache.findCandidates(37.5665, 126.9780, 5.0, NOW)).isEmpty();
+
+        MeetupNearbyCache disabled = new MeetupNearbyCache(redisTemplate, meetupRepository, false);
+        assertThat(disabled.findCandidates(37.5665, 126.9780, 5.0, NOW)).isEmpty();
+        verify(meetupRepository, never()).findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(),
+                anyInt());
+    }
+
+    @Test
+    @DisplayName("무효화는 커밋 후에만 버전을 올리고, 이후 조회는 새 키로 다시 조회한다")
+    void invalidatesAfterCommit() {
+        when(meetupRepository.findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(), anyInt()))
+                .thenReturn(List.of(candidate(1L)));
+        cache.findCandidates(37.5665, 126.9780, 5.0, NOW);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAfterCommit();
+        verify(valueOps, never()).increment(MeetupNearbyCache.VERSION_KEY);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCommit());
+        assertThat(store.get(MeetupNearbyCache.VERSION_KEY)).isEqualTo("1");
+
+        cache.findCandidates(37.5665, 126.9780, 5.0, NOW);
+        verify(meetupRepository, times(2)).findNearbyCandidates(anyDouble(), anyDouble(), anyDouble(), any(),
+                anyInt());
+    }
+
+    private static MeetupNearbyCandidate candidate(long idx) {
+        return new MeetupNearbyCandidate(idx, 37.5665, 126.9780, NOW.plusDays(1), MeetupStatus.RECRUITING);
+    }
+}
@@ -0,0 +1,241 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.linkup.Petory.domain.meetup.repository.MeetupParticipantsRepository;
+import com.linkup.Petory.domain.meetup.service.MeetupSeatReservation.Result;
+
+/**
+ * MeetupSeatReservation 단위 테스트 (Lua 스크립트 의미를 흉내 낸 mock Redis)
+ *
+ * 검증: 키가 없으면 참여자 행 수로 채운 뒤 판정, 동시 예약 1000건에도 정원 초과 없음, 좌석 반환,
+ * 정원 변경, Redis 장애·비활성화 시 UNAVAILABLE(락 경로 대체), 락 경로 참가 후 좌석 키 삭제·재시도, 반영 대기 모임 꺼내기
+ */
+class MeetupSeatReservationTest {
+
+    private static final Long MEETUP = 7L;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private MeetupParticipantsRepository participantsRepository;
+    private MeetupSeatReservation reservation;
+
+    /** Redis Hash "meetup:seats:7" 상태 (null이면 키 없음) */
+    private Long max;
+    private Long taken;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        participantsRepository = mock(MeetupParticipantsRepository.class);
+        reservation = new MeetupSeatReservation(redisTemplate, participantsRepository, true);
+        doAnswer(invocation -> emulate(invocation.getArgument(0), invocation.getArguments()))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    /** 스크립트 본문으로 구분해 같은 의미로 처리 (Redis처럼 한 번에 하나씩) */
+    private synchronized Long emulate(RedisScript<?> script, Object[] arguments) {
+        String lua = script.getScriptAsString();
+        if (lua.contains("'max', ARGV[1], 'taken', ARGV[2]")) {
+            if (max == null) {
+                max = Long.parseLong((String) arguments[2]);
+                taken = Long.parseLong((String) arguments[3]);
+            }
+            return reserve();
+        }
+        if (lua.contains("'taken', -1")) {
+            if (max == null) {
+                return -1L;
+            }
+            return taken <= 0 ? 0L : --taken;
+        }
+        if (lua.contains("'max', ARGV[1]")) {
+            if (max == null) {
+                return 0L;
+            }
+            max = Long.parseLong((String) arguments[2]);
+            return 1L;
+        }
+        return max == null ? -1L : reserve();
+    }
+
+    private long reserve() {
+        if (taken >= max) {
+            return 0L;
+        }
+        taken++;
+        return 1L;
+    }
+
+    @Test
+    @DisplayName("키가 없으면 참여자 행 수로 채우고, 정원이 찰 때까지만 예약한다")
+    void seedsFromParticipantCountAndStopsAtCapacity() {
+        when(participantsRepository.countByMeetupIdx(MEETUP)).thenReturn(2L);
+
+        assertThat(reservation.tryReserve(MEETUP, 4)).isEqualTo(Result.RESERVED);
+        assertThat(reservation.tryReserve(MEETUP, 4)).isEqualTo(Result.RESERVED);
+        assertThat(reservation.tryReserve(MEETUP, 4)).isEqualTo(Result.FULL);
+        assertThat(taken).isEqualTo(4L);
+        verify(participantsRepository).countByMeetupIdx(MEETUP);
+    }
+
+    @Test
+    @DisplayName("동시 예약 1000건에도 정원만큼만 허용한다")
+    void concurrentReservationsNeverOverbook() throws Exception {
+        when(participantsRepository.countByMeetupIdx(MEETUP)).thenReturn(1L);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Result>> results = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return reservation.tryReserve(MEETUP, 51);
+            }));
+        }
+        start.countDown();
+
+        int reserved = 0;
+        for (Future<Result> result : results) {
+            if (result.get() == Result.RESERVED) {
+                reserved++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(reserved).isEqualTo(50);
+        assertThat(taken).isEqualTo(51L);
+    }
+
+    @Test
+    @DisplayName("좌석 반환 후 다시 예약할 수 있고, 정원을 늘리면 바로 반영된다")
+    void releaseAndCapacityChange() {
+        when(participantsRepository.countByMeetupIdx(MEETUP)).thenReturn(2L);
+        assertThat(reservation.tryReserve(MEETUP, 3)).isEqualTo(Result.RESERVED);
+        assertThat(reservation.tryReserve(MEETUP, 3)).isEqualTo(Result.FULL);
+
+        reservation.release(MEETUP);
+        assertThat(reservation.tryReserve(MEETUP, 3)).isEqualTo(Result.RESERVED);
+
+        reservation.updateCapacity(MEETUP, 4);
+        assertThat(reservation.tryReserve(MEETUP, 3)).isEqualTo(Result.RESERVED);
+        assertThat(taken).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 UNAVAILABLE을 반환하고, 반환 실패 시 좌석 키를 지워 다음에 다시 채우게 한다")
+    @SuppressWarnings("unchecked")
+    void redisFailureFallsBack() {
+        doAnswer(invocation -> {
+            throw new RedisConnectionFailureException("down");
+        }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        assertThat(reservation.tryReserve(MEETUP, 3)).isEqualTo(Result.UNAVAILABLE);
+        reservation.release(MEETUP);
+        verify(redisTemplate).delete(MeetupSeatReservation.KEY_PREFIX + MEETUP);
+    }
+
+    @Test
+    @DisplayName("락 경로 참가 후 좌석 키를 지우면 다음 예약은 참여자 행 수로 다시 채우고, 삭제 실패는 다음 주기에 재시도한다")
+    void invalidateReseedsFromParticipantRows() {
+        when(participantsRepository.countByMeetupIdx(MEETUP)).thenReturn(1L, 3L);
+        assertThat(reservation.tryReserve(MEETUP, 3)).isEqualTo(Result.RESERVED);
+        assertThat(taken).isEqualTo(2L);
+
+        String key = MeetupSeatReservation.KEY_PREFIX + MEETUP;
+        doAnswer(invocation -> {
+            throw new RedisConnectionFailureException("down");
+        }).doAnswer(invocation -> {
+            max = null;
+            taken = null;
+            return true;
+        }).when(redisTemplate).delete(key);
+
+        // 락 경로로 1명 더 참가 (참여자 행 3) - 첫 삭제는 실패해 보관, 재시도에서 삭제
+        reservation.invalidate(MEETUP);
+        assertThat(max).isNotNull();
+        reservation.retryInvalidations();
+        assertThat(max).isNull();
+
+        assertThat(reservation.tryReserve(MEETUP, 3)).isEqualTo(Result.FULL);
+        assertThat(taken).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("비활성화면 Redis를 쓰지 않고 UNAVAILABLE을 반환한다")
+    void disabledSkipsRedis() {
+        MeetupSeatReservation disabled = new MeetupSeatReservation(redisTemplate, participantsRepository, false);
+
+        assertThat(disabled.tryReserve(MEETUP, 3)).isEqualTo(Result.UNAVAILABLE);
+        disabled.release(MEETUP);
+        verifyNoInteractions(redisTemplate, participantsRepository);
+    }
+
+    @Test
+    @DisplayName("반영 대기 모임은 Redis Set에 모였다가 한 번만 꺼내진다")
+    void drainsDirtyMeetupsOnce() {
+        Set<String> dirty = new LinkedHashSet<>();
+        SetOperations<String, String> setOps = setOperations();
+        when(setOps.add(eq(MeetupSeatReservation.DIRTY_KEY), any(String[].class)))
+                .thenAnswer(inv -> dirty.add(inv.getArgument(1)) ? 1L : 0L);
+        when(setOps.pop(eq(MeetupSeatReservation.DIRTY_KEY), anyLong())).thenAnswer(inv -> {
+            List<String> popped = new ArrayList<>(dirty);
+            dirty.clear();
+            return popped;
+        });
+
+        reservation.markDirty(1L);
+        reservation.markDirty(2L);
+        reservation.markDirty(1L);
+
+        assertThat(reservation.drainDirty()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(reservation.drainDirty()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 반영 대상을 기록하지 못하면 노드 메모리에 보관했다가 꺼낸다")
+    void keepsDirtyMeetupLocallyWhenRedisDown() {
+        SetOperations<String, String> setOps = setOperations();
+        when(setOps.add(eq(MeetupSeatReservation.DIRTY_KEY), any(String[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(setOps.pop(eq(MeetupSeatReservation.DIRTY_KEY), anyLong()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        reservation.markDirty(MEETUP);
+
+        assertThat(reservation.drainDirty()).containsExactly(MEETUP);
+        assertThat(reservation.drainDirty()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SetOperations<String, String> setOperations() {
+        SetOperations<String, String> setOps = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOps);
+        return setOps;
+    }
+}
@@ -0,0 +1,179 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.linkup.Petory.domain.meetup.converter.MeetupParticipantsConverter;
+import com.linkup.Petory.domain.meetup.dto.MeetupDTO;
+import com.linkup.Petory.domain.meetup.entity.Meetup;
+import com.linkup.Petory.domain.meetup.entity.MeetupParticipants;
+import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
+import com.linkup.Petory.domain.meetup.exception.MeetupConflictException;
+import com.linkup.Petory.domain.meetup.exception.MeetupValidationException;
+import com.linkup.Petory.domain.meetup.repository.MeetupParticipantsRepository;
+import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+import com.linkup.Petory.domain.meetup.service.MeetupSeatReservation.Result;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+
+/**
+ * MeetupService 참가 경로 단위 테스트
+ *
+ * 검증: 좌석 예약 시 모임 행 락·인원 UPDATE 없이 참가하고 커밋 후 DB 반영 대상으로 표시,
+ * 정원 초과 거절, 롤백 시 좌석 반환(보상), 정원 축소는 참여자 행 수 기준, Redis 사용 불가 시 비관적 락 경로 대체(참여자 행 수로 정원 판정, 커밋 후 좌석 키 삭제)
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetupServiceJoinTest {
+
+    private static final Long MEETUP = 10L;
+
+    @InjectMocks
+    private MeetupService meetupService;
+
+    @Mock
+    private MeetupRepository meetupRepository;
+    @Mock
+    private MeetupParticipantsRepository meetupParticipantsRepository;
+    @Mock
+    private UsersRepository usersRepository;
+    @Mock
+    private MeetupParticipantsConverter participantsConverter;
+    @Mock
+    private MeetupSeatReservation seatReservation;
+
+    private Meetup meetup;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        Users organizer = Users.builder().idx(1L).id("organizer").build();
+        meetup = Meetup.builder()
+                .idx(MEETUP)
+                .organizer(organizer)
+                .maxParticipants(5)
+                .currentParticipants(1)
+                .status(MeetupStatus.RECRUITING)
+                .build();
+        when(meetupRepository.findByIdWithOrganizer(MEETUP)).thenReturn(Optional.of(meetup));
+        when(usersRepository.findByIdString("joiner"))
+                .thenReturn(Optional.of(Users.builder().idx(2L).id("joiner").emailVerified(true).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static void complete(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("좌석을 예약하면 모임 행 락·인원 UPDATE 없이 참가하고, 커밋 후 참여자 수 반영 대상으로 표시한다")
+    void reservedSeatJoinsWithoutRowLock() {
+        when(seatReservation.tryReserve(MEETUP, 5)).thenReturn(Result.RESERVED);
+        when(meetupParticipantsRepository.save(any(MeetupParticipants.class))).thenAnswer(i -> i.getArgument(0));
+
+        meetupService.joinMeetup(MEETUP, "joiner");
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(meetupParticipantsRepository).save(any(MeetupParticipants.class));
+        verify(meetupRepository, never()).findByIdWithLock(anyLong());
+        verify(meetupRepository, never()).incrementParticipantsIfAvailable(anyLong(), any());
+        verify(seatReservation).markDirty(MEETUP);
+        verify(seatReservation, never()).release(anyLong());
+    }
+
+    @Test
+    @DisplayName("좌석이 없으면 참가자를 저장하지 않고 정원 초과로 거절한다")
+    void fullSeatRejects() {
+        when(seatReservation.tryReserve(MEETUP, 5)).thenReturn(Result.FULL);
+
+        assertThatThrownBy(() -> meetupService.joinMeetup(MEETUP, "joiner"))
+                .isInstanceOf(MeetupConflictException.class)
+                .hasMessageContaining("가득");
+        verify(meetupParticipantsRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 후 저장이 실패해 롤백되면 좌석을 반환한다")
+    void rollbackReleasesSeat() {
+        when(seatReservation.tryReserve(MEETUP, 5)).thenReturn(Result.RESERVED);
+        when(meetupParticipantsRepository.save(any(MeetupParticipants.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThatThrownBy(() -> meetupService.joinMeetup(MEETUP, "joiner"))
+                .isInstanceOf(MeetupConflictException.class);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(seatReservation).release(MEETUP);
+        verify(seatReservation, never()).markDirty(anyLong());
+        verify(meetupRepository, never()).decrementParticipantsIfPositive(anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis를 쓸 수 없으면 비관적 락 경로로 참여자 행 수를 확인해 참가하고, 커밋 후 좌석 키를 지운다")
+    void unavailableFallsBackToRowLock() {
+        when(seatReservation.tryReserve(MEETUP, 5)).thenReturn(Result.UNAVAILABLE);
+        when(meetupRepository.findByIdWithLock(MEETUP)).thenReturn(Optional.of(meetup));
+        when(meetupParticipantsRepository.countByMeetupIdx(MEETUP)).thenReturn(3L);
+        when(meetupParticipantsRepository.save(any(MeetupParticipants.class))).thenAnswer(i -> i.getArgument(0));
+
+        meetupService.joinMeetup(MEETUP, "joiner");
+        verify(seatReservation, never()).invalidate(anyLong());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // current_participants(1)가 아니라 참여자 행 수(3) 기준으로 반영
+        assertThat(meetup.getCurrentParticipants()).isEqualTo(4);
+        assertThat(meetup.getStatus()).isEqualTo(MeetupStatus.RECRUITING);
+        verify(meetupRepository, never()).incrementParticipantsIfAvailable(anyLong(), any());
+        verify(seatReservation).invalidate(MEETUP);
+    }
+
+    @Test
+    @DisplayName("락 경로는 뒤처진 current_participants가 아니라 참여자 행 수로 정원 초과를 판정한다")
+    void rowLockPathChecksParticipantRows() {
+        when(seatReservation.tryReserve(MEETUP, 5)).thenReturn(Result.UNAVAILABLE);
+        when(meetupRepository.findByIdWithLock(MEETUP)).thenReturn(Optional.of(meetup));
+        when(meetupParticipantsRepository.countByMeetupIdx(MEETUP)).thenReturn(5L);
+
+        assertThatThrownBy(() -> meetupService.joinMeetup(MEETUP, "joiner"))
+                .isInstanceOf(MeetupConflictException.class)
+                .hasMessageContaining("가득");
+        verify(meetupParticipantsRepository, never()).save(any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정원 축소는 뒤처진 current_participants가 아니라 참여자 행 수보다 작으면 거절한다")
+    void capacityCannotDropBelowParticipantRows() {
+        // 요청자를 주최자로 바꿔 수정 권한 부여
+        when(usersRepository.findByIdString("joiner")).thenReturn(Optional.of(meetup.getOrganizer()));
+        when(meetupParticipantsRepository.countByMeetupIdx(MEETUP)).thenReturn(4L);
+
+        assertThatThrownBy(() -> meetupService.updateMeetup(MEETUP,
+                MeetupDTO.builder().maxParticipants(3).build(), "joiner"))
+                .isInstanceOf(MeetupValidationException.class);
+        assertThat(meetup.getMaxParticipants()).isEqualTo(5);
+        verify(meetupRepository, never()).save(any());
+    }
+}
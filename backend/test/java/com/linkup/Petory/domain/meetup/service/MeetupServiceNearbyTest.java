@@ -0,0 +1,96 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.linkup.Petory.domain.meetup.converter.MeetupConverter;
+import com.linkup.Petory.domain.meetup.dto.MeetupDTO;
+import com.linkup.Petory.domain.meetup.entity.Meetup;
+import com.linkup.Petory.domain.meetup.entity.MeetupStatus;
+import com.linkup.Petory.domain.meetup.repository.MeetupNearbyCandidate;
+import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+
+/**
+ * MeetupService 근처 모임 조회 단위 테스트
+ *
+ * 검증: 캐시 후보에서 반경·일시·상태 필터와 거리·일시 정렬을 메모리에서 하고, 엔티티는 상위 limit건만 조회
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetupServiceNearbyTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    @InjectMocks
+    private MeetupService meetupService;
+
+    @Mock
+    private MeetupRepository meetupRepository;
+    @Mock
+    private MeetupConverter converter;
+    @Mock
+    private MeetupNearbyCache nearbyCache;
+
+    @Test
+    @DisplayName("캐시 후보를 메모리에서 거르고 정렬한 뒤 상위 limit건 ID만 엔티티로 조회한다")
+    void loadsOnlyTopLimitFromCandidates() {
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        List<MeetupNearbyCandidate> candidates = List.of(
+                new MeetupNearbyCandidate(1L, LAT + 0.02, LNG, future, MeetupStatus.RECRUITING),
+                new MeetupNearbyCandidate(2L, LAT + 0.001, LNG, future, MeetupStatus.RECRUITING),
+                new MeetupNearbyCandidate(3L, LAT + 0.01, LNG, future, MeetupStatus.CLOSED),
+                new MeetupNearbyCandidate(4L, LAT, LNG, future, MeetupStatus.COMPLETED),
+                new MeetupNearbyCandidate(5L, LAT, LNG, LocalDateTime.now().minusHours(1), MeetupStatus.RECRUITING),
+                new MeetupNearbyCandidate(6L, LAT + 1.0, LNG, future, MeetupStatus.RECRUITING));
+        when(nearbyCache.findCandidates(eq(LAT), eq(LNG), eq(5.0), any())).thenReturn(Optional.of(candidates));
+        when(meetupRepository.findByIdxInWithOrganizer(any()))
+                .thenReturn(List.of(meetup(3L), meetup(2L)));
+        when(converter.toDTO(any(Meetup.class)))
+                .thenAnswer(inv -> MeetupDTO.builder().idx(inv.<Meetup>getArgument(0).getIdx()).build());
+
+        List<MeetupDTO> result = meetupService.getNearbyMeetups(LAT, LNG, 5.0, 2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(meetupRepository).findByIdxInWithOrganizer(ids.capture());
+        assertThat(ids.getValue()).containsExactly(2L, 3L);
+        assertThat(result).extracting(MeetupDTO::getIdx).containsExactly(2L, 3L);
+        assertThat(result.get(0).getDistance()).isLessThan(result.get(1).getDistance());
+        verify(meetupRepository, never()).findNearbyMeetupIds(anyDouble(), anyDouble(), anyDouble(), any(),
+                anyInt());
+    }
+
+    @Test
+    @DisplayName("반경 안 후보가 없으면 엔티티를 조회하지 않는다")
+    void noEntityLoadWhenNothingInRadius() {
+        when(nearbyCache.findCandidates(eq(LAT), eq(LNG), eq(5.0), any())).thenReturn(Optional.of(List.of(
+                new MeetupNearbyCandidate(1L, LAT + 1.0, LNG, LocalDateTime.now().plusDays(1),
+                        MeetupStatus.RECRUITING))));
+
+        assertThat(meetupService.getNearbyMeetups(LAT, LNG, 5.0, 10)).isEmpty();
+        verify(meetupRepository, never()).findByIdxInWithOrganizer(any());
+    }
+
+    private static Meetup meetup(long idx) {
+        return Meetup.builder().idx(idx).latitude(LAT).longitude(LNG).status(MeetupStatus.RECRUITING).build();
+    }
+}
@@ -15,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Propagation;
 
 import java.time.LocalDateTime;
@@ -57,6 +59,12 @@ class MeetupServiceRaceConditionTest {
     @Autowired
     private UsersRepository usersRepository;
 
+    @Autowired
+    private MeetupSeatReservation seatReservation;
+
+    @Autowired
+    private MeetupSeatReconcileScheduler seatReconcileScheduler;
+
     private Meetup testMeetup;
     private Users organizer;
     private List<Users> participants;
@@ -388,6 +396,9 @@ class MeetupServiceRaceConditionTest {
             executor.shutdownNow();
         }
 
+        // 좌석 예약 경로는 current_participants를 반영 스케줄러에서 갱신하므로, 검증 전에 반영을 끝낸다
+        seatReconcileScheduler.reconcile();
+
         // 최종 상태 확인
         Meetup finalMeetup = meetupRepository.findById(meetupIdx).orElse(null);
         assertNotNull(finalMeetup, "모임이 존재해야 함");
@@ -735,6 +746,9 @@ class MeetupServiceRaceConditionTest {
             executor.shutdownNow();
         }
 
+        // 좌석 예약 경로는 current_participants를 반영 스케줄러에서 갱신하므로, 검증 전에 반영을 끝낸다
+        seatReconcileScheduler.reconcile();
+
         // 최종 상태 확인
         Meetup finalMeetup = meetupRepository.findById(meetupIdx).orElse(null);
         assertNotNull(finalMeetup, "모임이 존재해야 함");
@@ -890,6 +904,7 @@ class MeetupServiceRaceConditionTest {
 
         executor.shutdown();
         executor.awaitTermination(10, TimeUnit.SECONDS);
+        seatReconcileScheduler.reconcile();
 
         Meetup finalMeetup = meetupRepository.findById(meetupIdx).orElse(null);
         assertNotNull(finalMeetup);
@@ -994,6 +1009,99 @@ class MeetupServiceRaceConditionTest {
         assertTrue(pessimisticAvg > 0 && atomicAvg > 0, "각 방식별 측정 시간이 기록되어야 함");
     }
 
+    @Test
+    @DisplayName("처리량 비교: 동시 참가 1000건 - 비관적 락 경로 vs Redis 좌석 예약 경로")
+    void benchmarkFlashJoinThroughput() throws InterruptedException {
+        int joiners = 1000;
+        int capacity = 501; // 모임장 포함 → 500명만 참가 가능
+        long timestamp = System.currentTimeMillis();
+        List<Users> users = new ArrayList<>();
+        for (int i = 0; i < joiners; i++) {
+            users.add(usersRepository.save(Users.builder()
+                    .id("flash_" + timestamp + "_" + i)
+                    .username("flash_" + timestamp + "_" + i)
+                    .email("flash_" + timestamp + "_" + i + "@example.com")
+                    .password("password")
+                    .role(Role.USER)
+                    .status(UserStatus.ACTIVE)
+                    .emailVerified(true)
+                    .build()));
+        }
+
+        MeetupSeatReservation target = AopTestUtils.getTargetObject(seatReservation);
+        Object enabled = ReflectionTestUtils.getField(target, "enabled");
+        try {
+            ReflectionTestUtils.setField(target, "enabled", false);
+            Meetup lockedMeetup = flashMeetup("락", capacity);
+            long lockedMillis = joinConcurrently(lockedMeetup.getIdx(), users);
+
+            ReflectionTestUtils.setField(target, "enabled", true);
+            Meetup reservedMeetup = flashMeetup("좌석 예약", capacity);
+            long reservedMillis = joinConcurrently(reservedMeetup.getIdx(), users);
+            seatReconcileScheduler.reconcile();
+
+            System.out.println("\n=== 동시 참가 " + joiners + "건 처리량 ===");
+            System.out.println(String.format("비관적 락: %dms (%.0f건/s)", lockedMillis, joiners * 1000.0 / lockedMillis));
+            System.out.println(String.format("좌석 예약: %dms (%.0f건/s)", reservedMillis, joiners * 1000.0 / reservedMillis));
+            System.out.println("(Redis 미연결 시 좌석 예약 경로도 락 경로로 대체되므로 두 값이 비슷함)");
+            System.out.println("================================\n");
+
+            for (Meetup meetup : List.of(lockedMeetup, reservedMeetup)) {
+                long joined = meetupParticipantsRepository.countByMeetupIdx(meetup.getIdx());
+                Meetup reloaded = meetupRepository.findById(meetup.getIdx()).orElseThrow();
+                assertEquals(capacity, joined, "정원만큼만 참가해야 함 (초과 없음)");
+                assertEquals(capacity, reloaded.getCurrentParticipants(), "참여자 수가 참여자 행 수와 같아야 함");
+            }
+        } finally {
+            ReflectionTestUtils.setField(target, "enabled", enabled);
+        }
+    }
+
+    private Meetup flashMeetup(String label, int capacity) {
+        Meetup meetup = meetupRepository.save(Meetup.builder()
+                .title("선착순 모임 (" + label + ") " + System.nanoTime())
+                .description("동시 참가 처리량 측정용 모임")
+                .location("서울시 강남구")
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .date(LocalDateTime.now().plusDays(1))
+                .organizer(organizer)
+                .maxParticipants(capacity)
+                .currentParticipants(1)
+                .status(MeetupStatus.RECRUITING)
+                .build());
+        meetupParticipantsRepository.save(MeetupParticipants.builder()
+                .meetup(meetup)
+                .user(organizer)
+                .joinedAt(LocalDateTime.now())
+                .build());
+        return meetup;
+    }
+
+    private long joinConcurrently(Long meetupIdx, List<Users> users) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(users.size());
+        for (Users user : users) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    meetupService.joinMeetup(meetupIdx, user.getId());
+                } catch (Exception e) {
+                    // 정원 초과 거절은 정상
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        long started = System.currentTimeMillis();
+        startLatch.countDown();
+        doneLatch.await(2, TimeUnit.MINUTES);
+        long elapsed = Math.max(1, System.currentTimeMillis() - started);
+        executor.shutdown();
+        return elapsed;
+    }
+
     private void testPessimisticLockApproach(Long meetupIdx, List<Users> testUsers) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(testUsers.size());
         CountDownLatch readyLatch = new CountDownLatch(testUsers.size());
@@ -0,0 +1,106 @@
+package com.linkup.Petory.domain.meetup.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.linkup.Petory.domain.meetup.event.MeetupScheduleChangedEvent;
+import com.linkup.Petory.domain.meetup.repository.MeetupRepository;
+
+/**
+ * MeetupStatusTimer 단위 테스트
+ *
+ * 검증: 앞으로 2시간 구간을 DB에서 적재, 일시 변경·삭제 이벤트로 등록·취소,
+ * 발화 시 단건 종료 UPDATE 후 근처 모임 캐시 무효화(이미 종료면 무효화 안 함), 비활성화 시 적재 안 함
+ */
+class MeetupStatusTimerTest {
+
+    private MeetupRepository meetupRepository;
+    private MeetupNearbyCache nearbyCache;
+    private MeetupStatusTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        meetupRepository = mock(MeetupRepository.class);
+        nearbyCache = mock(MeetupNearbyCache.class);
+        timer = new MeetupStatusTimer(meetupRepository, nearbyCache, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdown();
+    }
+
+    @Test
+    @DisplayName("적재 시 2시간 구간의 모임 일시를 등록한다")
+    void reloadRegistersUpcomingWindow() {
+        LocalDateTime soon = LocalDateTime.now().plusMinutes(10);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { 1L, soon });
+        rows.add(new Object[] { 2L, soon.plusMinutes(30) });
+        when(meetupRepository.findUpcomingDeadlines(any(), any())).thenReturn(rows);
+
+        timer.reload();
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> to = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(meetupRepository).findUpcomingDeadlines(from.capture(), to.capture());
+        assertThat(Duration.between(from.getValue(), to.getValue())).isBetween(
+                Duration.ofMinutes(119), Duration.ofHours(2));
+        assertThat(timer.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일시 변경 이벤트는 등록·교체하고, 삭제 이벤트는 취소한다")
+    void scheduleChangedEvents() {
+        timer.onScheduleChanged(new MeetupScheduleChangedEvent(1L, LocalDateTime.now().plusMinutes(5)));
+        timer.onScheduleChanged(new MeetupScheduleChangedEvent(1L, LocalDateTime.now().plusMinutes(50)));
+        timer.onScheduleChanged(new MeetupScheduleChangedEvent(2L, LocalDateTime.now().plusMinutes(5)));
+        timer.onScheduleChanged(new MeetupScheduleChangedEvent(3L, LocalDateTime.now().plusDays(3)));
+        assertThat(timer.pendingCount()).isEqualTo(2);
+
+        timer.onScheduleChanged(MeetupScheduleChangedEvent.removed(2L));
+        assertThat(timer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발화 시 해당 모임만 종료하고, 실제로 바뀐 경우에만 근처 모임 캐시를 무효화한다")
+    void completeSingleMeetup() {
+        when(meetupRepository.completeMeetupIfPast(eq(1L), any())).thenReturn(1);
+        when(meetupRepository.completeMeetupIfPast(eq(2L), any())).thenReturn(0);
+
+        timer.complete(1L);
+        verify(nearbyCache).invalidateAfterCommit();
+
+        timer.complete(2L);
+        verify(nearbyCache).invalidateAfterCommit();
+        verify(meetupRepository, never()).completePastMeetups(any());
+    }
+
+    @Test
+    @DisplayName("비활성화면 적재·등록하지 않는다")
+    void disabled() {
+        MeetupStatusTimer disabled = new MeetupStatusTimer(meetupRepository, nearbyCache, false);
+        disabled.start();
+        disabled.reload();
+        disabled.onScheduleChanged(new MeetupScheduleChangedEvent(1L, LocalDateTime.now().plusMinutes(5)));
+
+        assertThat(disabled.pendingCount()).isZero();
+        verify(meetupRepository, never()).findUpcomingDeadlines(any(), any());
+    }
+}
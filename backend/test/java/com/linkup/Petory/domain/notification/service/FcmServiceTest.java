@@ -0,0 +1,169 @@
+package com.linkup.Petory.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.linkup.Petory.domain.notification.repository.FcmTokenRepository;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * FcmService 발송 단위 테스트
+ *
+ * 검증: 토큰 500개 단위 sendEach 일괄 발송, 무효 토큰 일괄 삭제, 일시 오류 토큰만 재시도,
+ * 재시도는 호출 스레드가 아닌 전용 스케줄러에서 실행, 재시도 횟수 초과 시 중단과 결과별 지표
+ */
+class FcmServiceTest {
+
+    private static final long USER_ID = 100L;
+
+    private FcmTokenRepository fcmTokenRepository;
+    private FirebaseMessaging messaging;
+    private SimpleMeterRegistry meterRegistry;
+    private FcmService fcmService;
+
+    @BeforeEach
+    void setUp() {
+        fcmTokenRepository = mock(FcmTokenRepository.class);
+        messaging = mock(FirebaseMessaging.class);
+        meterRegistry = new SimpleMeterRegistry();
+        fcmService = fcmService(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fcmService.shutdown();
+    }
+
+    private FcmService fcmService(long retryBackoffMs) {
+        FcmService service = spy(new FcmService(fcmTokenRepository, mock(UsersRepository.class), meterRegistry, 3,
+                retryBackoffMs, 1));
+        doReturn(messaging).when(service).messaging();
+        return service;
+    }
+
+    private static SendResponse success() {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private static SendResponse failure(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
+    }
+
+    private static BatchResponse batch(SendResponse... responses) {
+        BatchResponse batch = mock(BatchResponse.class);
+        when(batch.getResponses()).thenReturn(List.of(responses));
+        return batch;
+    }
+
+    private double messages(String result) {
+        return meterRegistry.counter(FcmService.METRIC_MESSAGES, "result", result).count();
+    }
+
+    @Test
+    @DisplayName("기기 토큰을 sendEach로 한 번에 보내고, 무효 토큰은 삭제하며 일시 오류 토큰만 다시 보낸다")
+    @SuppressWarnings("unchecked")
+    void sendsInBatchDeletesInvalidAndRetriesTransient() throws Exception {
+        when(fcmTokenRepository.findTokensByUserIdx(USER_ID)).thenReturn(List.of("ok", "gone", "busy"));
+        BatchResponse first = batch(success(), failure(MessagingErrorCode.UNREGISTERED),
+                failure(MessagingErrorCode.UNAVAILABLE));
+        BatchResponse retried = batch(success());
+        when(messaging.sendEach(anyList())).thenReturn(first).thenReturn(retried);
+
+        fcmService.sendToUser(USER_ID, "제목", "내용");
+
+        ArgumentCaptor<List<Message>> sent = ArgumentCaptor.forClass(List.class);
+        verify(messaging, timeout(2000).times(2)).sendEach(sent.capture());
+        assertThat(sent.getAllValues().get(0)).hasSize(3);
+        assertThat(sent.getAllValues().get(1)).hasSize(1);
+        verify(fcmTokenRepository).deleteByTokenIn(List.of("gone"));
+        await().atMost(2, TimeUnit.SECONDS).until(() -> messages("success") == 2.0);
+        assertThat(messages("invalid")).isEqualTo(1.0);
+        assertThat(messages("retry")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰이 500개를 넘으면 500개씩 나눠 보낸다")
+    @SuppressWarnings("unchecked")
+    void splitsTokensIntoSendEachChunks() throws Exception {
+        List<String> tokens = IntStream.range(0, 501).mapToObj(i -> "t" + i).toList();
+        when(fcmTokenRepository.findTokensByUserIdx(USER_ID)).thenReturn(tokens);
+        when(messaging.sendEach(anyList())).thenAnswer(inv -> {
+            List<SendResponse> responses = new ArrayList<>();
+            for (int i = 0; i < ((List<Message>) inv.getArgument(0)).size(); i++) {
+                responses.add(success());
+            }
+            return batch(responses.toArray(SendResponse[]::new));
+        });
+
+        fcmService.sendToUser(USER_ID, "제목", "내용");
+
+        ArgumentCaptor<List<Message>> sent = ArgumentCaptor.forClass(List.class);
+        verify(messaging, times(2)).sendEach(sent.capture());
+        assertThat(sent.getAllValues()).extracting(List::size).containsExactly(500, 1);
+        verify(fcmTokenRepository, never()).deleteByTokenIn(anyList());
+    }
+
+    @Test
+    @DisplayName("요청 전체가 계속 실패하면 최대 시도 횟수까지만 보내고 실패로 기록한다")
+    void stopsAfterMaxAttempts() throws Exception {
+        when(fcmTokenRepository.findTokensByUserIdx(USER_ID)).thenReturn(List.of("a", "b"));
+        FirebaseMessagingException unavailable = mock(FirebaseMessagingException.class);
+        when(messaging.sendEach(anyList())).thenThrow(unavailable);
+
+        fcmService.sendToUser(USER_ID, "제목", "내용");
+
+        verify(messaging, timeout(2000).times(3)).sendEach(anyList());
+        await().atMost(2, TimeUnit.SECONDS).until(() -> messages("failure") == 2.0);
+        assertThat(messages("retry")).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("재시도 백오프는 호출 스레드를 막지 않는다 (첫 시도만 보내고 바로 반환)")
+    void retryBackoffDoesNotBlockCaller() throws Exception {
+        fcmService.shutdown();
+        fcmService = fcmService(60_000);
+        when(fcmTokenRepository.findTokensByUserIdx(USER_ID)).thenReturn(List.of("busy"));
+        when(messaging.sendEach(anyList())).thenReturn(batch(failure(MessagingErrorCode.UNAVAILABLE)));
+
+        fcmService.sendToUser(USER_ID, "제목", "내용");
+
+        verify(messaging, times(1)).sendEach(anyList());
+        assertThat(messages("retry")).isEqualTo(1.0);
+        assertThat(messages("failure")).isZero();
+    }
+}
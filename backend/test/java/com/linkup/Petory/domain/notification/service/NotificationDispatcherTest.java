@@ -0,0 +1,200 @@
+package com.linkup.Petory.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.linkup.Petory.domain.notification.converter.NotificationConverter;
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.entity.Notification;
+import com.linkup.Petory.domain.notification.entity.NotificationType;
+import com.linkup.Petory.domain.notification.event.NotificationCreatedEvent;
+import com.linkup.Petory.domain.notification.repository.NotificationRepository;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 알림 아웃박스·발송기 단위 테스트
+ *
+ * 검증: 알림 생성은 저장과 이벤트 발행만 수행, 채널별 병렬 발송과 전 채널 완료 후 발송 완료 표시,
+ * 채널별 지연 시간 기록, 풀 포화 시 거절 지표와 재발송 대기, 재발송 스케줄러의 대기열 확인
+ */
+class NotificationDispatcherTest {
+
+    private static final long USER_ID = 100L;
+
+    private NotificationRepository notificationRepository;
+    private NotificationInboxCache inboxCache;
+    private NotificationSseService sseService;
+    private FcmService fcmService;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        inboxCache = mock(NotificationInboxCache.class);
+        sseService = mock(NotificationSseService.class);
+        fcmService = mock(FcmService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private NotificationDispatcher dispatcher(int poolSize, int queueCapacity) {
+        dispatcher = new NotificationDispatcher(inboxCache, sseService, fcmService, notificationRepository,
+                meterRegistry, poolSize, queueCapacity);
+        return dispatcher;
+    }
+
+    private static NotificationDTO notification(long idx) {
+        return NotificationDTO.builder()
+                .idx(idx)
+                .userId(USER_ID)
+                .type(NotificationType.BOARD_COMMENT)
+                .title("새 댓글")
+                .content("댓글 내용")
+                .isRead(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("알림 생성은 row 저장과 이벤트 발행만 하고 Redis·SSE·FCM은 호출하지 않는다")
+    void createNotificationOnlyPersistsAndPublishes() {
+        UsersRepository usersRepository = mock(UsersRepository.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        when(usersRepository.findById(USER_ID)).thenReturn(Optional.of(Users.builder().idx(USER_ID).build()));
+        when(notificationRepository.save(any(Notification.class))).thenAnswer(inv -> {
+            Notification saved = inv.getArgument(0);
+            saved.setIdx(1L);
+            return saved;
+        });
+        NotificationService service = new NotificationService(notificationRepository, usersRepository,
+                new NotificationConverter(), inboxCache, mock(NotificationUnreadCounter.class), eventPublisher);
+
+        NotificationDTO dto = service.createNotification(USER_ID, NotificationType.BOARD_COMMENT, "새 댓글", "내용",
+                10L, "BOARD");
+
+        assertThat(dto.getIdx()).isEqualTo(1L);
+        verify(eventPublisher).publishEvent(any(NotificationCreatedEvent.class));
+        verifyNoInteractions(inboxCache);
+    }
+
+    @Test
+    @DisplayName("느린 FCM이 Redis·SSE 발송을 막지 않고, 세 채널이 모두 끝난 뒤 발송 완료를 표시한다")
+    void channelsRunInParallelAndMarkAfterAll() throws Exception {
+        CountDownLatch fcmRelease = new CountDownLatch(1);
+        doAnswer(inv -> fcmRelease.await(5, TimeUnit.SECONDS)).when(fcmService)
+                .sendToUser(eq(USER_ID), anyString(), anyString());
+        doAnswer(inv -> {
+            throw new IllegalStateException("redis down");
+        }).when(inboxCache).push(eq(USER_ID), any());
+        NotificationDispatcher dispatcher = dispatcher(3, 10);
+
+        assertThat(dispatcher.dispatch(notification(1L))).isTrue();
+
+        verify(sseService, timeout(2000)).sendNotification(eq(USER_ID), any());
+        verify(inboxCache, timeout(2000)).push(eq(USER_ID), any());
+        verify(notificationRepository, never()).markDispatched(anyLong());
+
+        fcmRelease.countDown();
+        verify(notificationRepository, timeout(2000)).markDispatched(1L);
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> assertThat(
+                meterRegistry.get("notification.dispatch.latency").tag("channel", "fcm").timer().count())
+                .isEqualTo(1));
+        assertThat(meterRegistry.get("notification.dispatch.failures").tag("channel", "redis").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("발송 풀이 가득 차면 거절 지표를 올리고 발송 완료를 표시하지 않는다 (재발송 대기)")
+    void saturatedPoolRejectsAndLeavesPending() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> release.await(5, TimeUnit.SECONDS)).when(fcmService)
+                .sendToUser(eq(USER_ID), anyString(), anyString());
+        doAnswer(inv -> release.await(5, TimeUnit.SECONDS)).when(sseService).sendNotification(eq(USER_ID), any());
+        doAnswer(inv -> release.await(5, TimeUnit.SECONDS)).when(inboxCache).push(eq(USER_ID), any());
+        NotificationDispatcher dispatcher = dispatcher(1, 2);
+
+        assertThat(dispatcher.dispatch(notification(1L))).isTrue();
+        assertThat(dispatcher.dispatch(notification(2L))).isFalse();
+        assertThat(meterRegistry.get("notification.dispatch.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(dispatcher.isIdle()).isFalse();
+
+        release.countDown();
+        verify(notificationRepository, timeout(2000)).markDispatched(1L);
+        verify(notificationRepository, never()).markDispatched(2L);
+    }
+
+    @Test
+    @DisplayName("재발송 스케줄러는 로컬 대기열이 비어 있을 때만 오래된 미발송 알림을 선점(lease)한 뒤 다시 보낸다")
+    void outboxSchedulerRedispatchesWhenIdle() {
+        NotificationDispatcher dispatcher = mock(NotificationDispatcher.class);
+        NotificationOutboxScheduler scheduler = new NotificationOutboxScheduler(notificationRepository,
+                new NotificationConverter(), dispatcher, 120, 300, 200);
+        Notification pending = Notification.builder().idx(5L).user(Users.builder().idx(USER_ID).build())
+                .type(NotificationType.BOARD_COMMENT).title("새 댓글").content("내용").build();
+        when(notificationRepository.claimUndispatchedCreatedBefore(any(), anyString(), any(), any(), eq(200)))
+                .thenReturn(List.of(pending));
+
+        when(dispatcher.isIdle()).thenReturn(false);
+        scheduler.redispatchPending();
+        verify(notificationRepository, never()).claimUndispatchedCreatedBefore(any(), anyString(), any(), any(),
+                eq(200));
+
+        when(dispatcher.isIdle()).thenReturn(true);
+        when(dispatcher.dispatch(any())).thenReturn(true);
+        scheduler.redispatchPending();
+        verify(notificationRepository).claimUndispatchedCreatedBefore(
+                argThat(before -> before.isBefore(LocalDateTime.now().minusSeconds(119))), anyString(), any(),
+                argThat(leaseUntil -> leaseUntil.isAfter(LocalDateTime.now().plusSeconds(299))), eq(200));
+        verify(dispatcher).dispatch(argThat(n -> n.getIdx() == 5L
+                && n.getUserId() == USER_ID));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 선점한 알림은 반환되지 않으므로 다시 보내지 않는다")
+    void outboxSchedulerSkipsAlreadyClaimed() {
+        NotificationDispatcher dispatcher = mock(NotificationDispatcher.class);
+        NotificationOutboxScheduler scheduler = new NotificationOutboxScheduler(notificationRepository,
+                new NotificationConverter(), dispatcher, 120, 300, 200);
+        when(dispatcher.isIdle()).thenReturn(true);
+        when(notificationRepository.claimUndispatchedCreatedBefore(any(), anyString(), any(), any(), eq(200)))
+                .thenReturn(List.of());
+
+        scheduler.redispatchPending();
+
+        verify(dispatcher, never()).dispatch(any());
+    }
+}
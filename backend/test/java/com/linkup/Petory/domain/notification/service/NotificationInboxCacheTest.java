@@ -0,0 +1,140 @@
+package com.linkup.Petory.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.entity.NotificationType;
+import com.linkup.Petory.domain.notification.event.NotificationReadEvent;
+
+/**
+ * NotificationInboxCache 단위 테스트 (Lua 스크립트는 Redis 없이 호출 인자로 검증)
+ *
+ * 검증: 알림 추가 시 최대 건수·TTL·idx·점수·JSON을 한 번에 전달, 표식 없는 목록·Redis 장애 시 캐시 미스,
+ * 캐시 적중 시 JSON 해석, DB 목록 채우기 인자, 읽음 처리는 항목 교체·전체 읽음은 삭제
+ */
+class NotificationInboxCacheTest {
+
+    private static final long USER = 1L;
+    private static final List<String> KEYS = List.of("notification:inbox:1", "notification:inbox:1:items");
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 15, 12, 0);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private RedisTemplate<String, String> redisTemplate;
+    private NotificationInboxCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        cache = new NotificationInboxCache(redisTemplate, objectMapper);
+    }
+
+    private static NotificationDTO notification(long idx, boolean read) {
+        return NotificationDTO.builder()
+                .idx(idx)
+                .userId(USER)
+                .type(NotificationType.BOARD_COMMENT)
+                .title("새 댓글")
+                .content("댓글" + idx)
+                .isRead(read)
+                .createdAt(AT.plusMinutes(idx))
+                .build();
+    }
+
+    /** execute 호출의 (스크립트, 키, 인자) - 마지막 호출 기준 */
+    private Invocation lastExecute() {
+        return mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(inv -> inv.getMethod().getName().equals("execute"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("알림 추가는 최대 건수·TTL·idx·생성 시각 점수·JSON을 스크립트 한 번으로 전달한다")
+    void pushSendsCapTtlAndItem() throws Exception {
+        cache.push(USER, notification(3L, false));
+
+        Object[] raw = lastExecute().getRawArguments();
+        assertThat((List<String>) raw[1]).isEqualTo(KEYS);
+        Object[] args = (Object[]) raw[2];
+        assertThat(args[0]).isEqualTo(Integer.toString(NotificationInboxCache.INBOX_SIZE));
+        assertThat(args[1]).isEqualTo("86400");
+        assertThat(args[2]).isEqualTo("3");
+        assertThat(Long.parseLong((String) args[3])).isPositive();
+        assertThat(objectMapper.readValue((String) args[4], NotificationDTO.class).getContent()).isEqualTo("댓글3");
+    }
+
+    @Test
+    @DisplayName("DB에서 채운 적 없는 목록(nil)이나 Redis 장애는 캐시 미스로 처리한다")
+    @SuppressWarnings("unchecked")
+    void coldKeyOrRedisFailureIsMiss() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("50"))).thenReturn(null);
+        assertThat(cache.getRecent(USER, 50)).isEmpty();
+
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("50")))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        assertThat(cache.getRecent(USER, 50)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 스크립트가 돌려준 순서(최신순)대로 알림을 반환한다")
+    @SuppressWarnings("unchecked")
+    void hitParsesItemsInOrder() throws Exception {
+        when(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("50"))).thenReturn(List.of(
+                objectMapper.writeValueAsString(notification(2L, false)),
+                objectMapper.writeValueAsString(notification(1L, true))));
+
+        List<NotificationDTO> recent = cache.getRecent(USER, 50).orElseThrow();
+
+        assertThat(recent).extracting(NotificationDTO::getIdx).containsExactly(2L, 1L);
+        assertThat(recent.get(1).getIsRead()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 목록으로 채울 때 알림마다 {idx, 점수, JSON}을 전달한다")
+    void fillSendsTriplesPerNotification() {
+        cache.fill(USER, List.of(notification(2L, false), notification(1L, false)));
+
+        Object[] args = (Object[]) lastExecute().getRawArguments()[2];
+        assertThat(args).hasSize(2 + 2 * 3);
+        assertThat(args[2]).isEqualTo("2");
+        assertThat(args[5]).isEqualTo("1");
+        assertThat(Long.parseLong((String) args[3])).isGreaterThan(Long.parseLong((String) args[6]));
+    }
+
+    @Test
+    @DisplayName("읽음 처리는 항목 Hash만 교체하고, 전체 읽음은 캐시를 삭제한다")
+    void readEventReplacesItemOrEvicts() throws Exception {
+        cache.onNotificationRead(new NotificationReadEvent(USER, notification(2L, true)));
+
+        Object[] raw = lastExecute().getRawArguments();
+        assertThat((List<String>) raw[1]).containsExactly("notification:inbox:1:items");
+        Object[] args = (Object[]) raw[2];
+        assertThat(args[0]).isEqualTo("2");
+        assertThat(objectMapper.readValue((String) args[1], NotificationDTO.class).getIsRead()).isTrue();
+        verify(redisTemplate, never()).delete(KEYS);
+
+        cache.onNotificationRead(new NotificationReadEvent(USER, null));
+        verify(redisTemplate).delete(KEYS);
+    }
+}
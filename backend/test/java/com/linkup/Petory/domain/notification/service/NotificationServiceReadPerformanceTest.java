@@ -1,11 +1,13 @@
 package com.linkup.Petory.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +15,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.linkup.Petory.domain.notification.converter.NotificationConverter;
 import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.dto.NotificationPageResponseDTO;
 import com.linkup.Petory.domain.notification.entity.Notification;
+import com.linkup.Petory.domain.notification.event.NotificationReadEvent;
 import com.linkup.Petory.domain.notification.repository.NotificationRepository;
+import com.linkup.Petory.domain.user.entity.Users;
 import com.linkup.Petory.domain.user.repository.UsersRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,16 +42,13 @@ class NotificationServiceReadPerformanceTest {
     private NotificationConverter notificationConverter;
 
     @Mock
-    private RedisTemplate<String, Object> notificationRedisTemplate;
+    private NotificationInboxCache inboxCache;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private NotificationUnreadCounter unreadCounter;
 
     @Mock
-    private NotificationSseService sseService;
-
-    @Mock
-    private FcmService fcmService;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -61,52 +62,99 @@ class NotificationServiceReadPerformanceTest {
 
         verify(notificationRepository).markAllAsReadByUserId(USER_ID);
         verify(usersRepository, never()).findById(USER_ID);
-        verify(notificationRedisTemplate).delete("notification:" + USER_ID);
+        verify(eventPublisher).publishEvent(new NotificationReadEvent(USER_ID, null));
     }
 
     @Test
-    @DisplayName("개선 후: 미읽음 개수는 Users 조회 없이 userId로 직접 COUNT한다")
-    void getUnreadCount_queriesByUserIdWithoutLoadingUser() {
-        when(notificationRepository.countUnreadByUserId(USER_ID)).thenReturn((long) UNREAD_COUNT);
+    @DisplayName("개선 후: 미읽음 개수는 COUNT 쿼리 없이 캐시된 카운터에서 읽는다")
+    void getUnreadCount_readsCachedCounter() {
+        when(unreadCounter.get(USER_ID)).thenReturn((long) UNREAD_COUNT);
 
         Long result = notificationService.getUnreadCount(USER_ID);
 
         assertThat(result).isEqualTo(UNREAD_COUNT);
-        verify(notificationRepository).countUnreadByUserId(USER_ID);
+        verify(notificationRepository, never()).countUnreadByUserId(USER_ID);
         verify(usersRepository, never()).findById(USER_ID);
     }
 
     @Test
-    @DisplayName("개선 후: 미읽음 목록은 Users 조회 없이 userId로 직접 조회한다")
+    @DisplayName("개선 후: 미읽음 목록은 Users 조회 없이 userId로 최신 50건만 조회한다")
     void getUnreadNotifications_queriesByUserIdWithoutLoadingUser() {
         Notification notification = Notification.builder().idx(1L).isRead(false).build();
         NotificationDTO dto = NotificationDTO.builder().idx(1L).isRead(false).build();
-        when(notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(USER_ID))
+        when(notificationRepository.findPageByUserId(USER_ID, null, true, NotificationInboxCache.INBOX_SIZE))
                 .thenReturn(List.of(notification));
         when(notificationConverter.toDTO(notification)).thenReturn(dto);
 
         List<NotificationDTO> result = notificationService.getUnreadNotifications(USER_ID);
 
         assertThat(result).containsExactly(dto);
-        verify(notificationRepository).findByUserIdAndIsReadFalseOrderByCreatedAtDesc(USER_ID);
+        verify(notificationRepository).findPageByUserId(USER_ID, null, true, NotificationInboxCache.INBOX_SIZE);
         verify(usersRepository, never()).findById(USER_ID);
     }
 
     @Test
-    @DisplayName("개선 후: 전체 목록은 Users 조회 없이 userId로 직접 조회한다")
-    void getUserNotifications_queriesByUserIdWithoutLoadingUser() {
+    @DisplayName("커서 페이징은 size + 1건을 조회해 다음 페이지 여부와 마지막 알림 idx 커서를 반환한다")
+    void getNotificationsPage_returnsNextCursorFromExtraRow() {
+        List<Notification> rows = List.of(
+                Notification.builder().idx(30L).isRead(false).build(),
+                Notification.builder().idx(20L).isRead(true).build(),
+                Notification.builder().idx(10L).isRead(false).build());
+        when(notificationRepository.findPageByUserId(USER_ID, 40L, false, 3)).thenReturn(rows);
+        when(notificationConverter.toDTO(any(Notification.class)))
+                .thenAnswer(inv -> NotificationDTO.builder().idx(((Notification) inv.getArgument(0)).getIdx()).build());
+
+        NotificationPageResponseDTO page = notificationService.getNotificationsPage(USER_ID, 40L, 2, false);
+
+        assertThat(page.notifications()).extracting(NotificationDTO::getIdx).containsExactly(30L, 20L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(20L);
+
+        when(notificationRepository.findPageByUserId(USER_ID, 20L, false, 3)).thenReturn(rows.subList(2, 3));
+        NotificationPageResponseDTO last = notificationService.getNotificationsPage(USER_ID, 20L, 2, false);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 읽은 알림을 다시 읽음 처리하면 이벤트를 발행하지 않는다 (미읽음 수 중복 감소 방지)")
+    void markAsRead_alreadyReadPublishesNothing() {
+        Notification notification = Notification.builder().idx(1L).isRead(true)
+                .user(Users.builder().idx(USER_ID).build()).build();
+        when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
+        when(notificationRepository.markAsRead(1L)).thenReturn(0);
+
+        notificationService.markAsRead(1L, USER_ID);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("개선 후: 전체 목록은 캐시 미스 시 최신 50건만 조회해 캐시를 채운다 (전체 목록 병합 없음)")
+    void getUserNotifications_loadsBoundedRecentOnCacheMiss() {
         Notification notification = Notification.builder().idx(1L).isRead(false).build();
         NotificationDTO dto = NotificationDTO.builder().idx(1L).isRead(false).build();
-        when(notificationRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get("notification:" + USER_ID)).thenReturn(null);
-        when(notificationRepository.findByUserIdOrderByCreatedAtDesc(USER_ID))
+        when(inboxCache.getRecent(USER_ID, NotificationInboxCache.INBOX_SIZE)).thenReturn(Optional.empty());
+        when(notificationRepository.findRecentByUserId(USER_ID, NotificationInboxCache.INBOX_SIZE))
                 .thenReturn(List.of(notification));
         when(notificationConverter.toDTO(notification)).thenReturn(dto);
 
         List<NotificationDTO> result = notificationService.getUserNotifications(USER_ID);
 
         assertThat(result).containsExactly(dto);
-        verify(notificationRepository).findByUserIdOrderByCreatedAtDesc(USER_ID);
+        verify(inboxCache).fill(USER_ID, List.of(dto));
         verify(usersRepository, never()).findById(USER_ID);
     }
+
+    @Test
+    @DisplayName("개선 후: 전체 목록은 캐시 적중 시 DB를 조회하지 않는다")
+    void getUserNotifications_servesFromCache() {
+        NotificationDTO dto = NotificationDTO.builder().idx(1L).isRead(false).build();
+        when(inboxCache.getRecent(USER_ID, NotificationInboxCache.INBOX_SIZE)).thenReturn(Optional.of(List.of(dto)));
+
+        List<NotificationDTO> result = notificationService.getUserNotifications(USER_ID);
+
+        assertThat(result).containsExactly(dto);
+        verify(notificationRepository, never()).findRecentByUserId(USER_ID, NotificationInboxCache.INBOX_SIZE);
+    }
 }
@@ -0,0 +1,209 @@
+package com.linkup.Petory.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * NotificationSseService 단위 테스트 (노드 두 개를 mock Redis로 연결)
+ *
+ * 검증: 사용자당 여러 연결에 전달, 연결 한도 초과 시 가장 오래된 연결 종료,
+ * 다른 노드 발행분 전달·자기 노드 발행분 무시, Last-Event-ID 이후 알림 재전송,
+ * heartbeat 실패 연결 정리와 연결 수 지표
+ */
+class NotificationSseServiceTest {
+
+    private static final long USER = 1L;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMessageListenerContainer container;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        container = mock(RedisMessageListenerContainer.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /** 보낸 이벤트를 문자열로 기록하는 emitter */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> events = new ArrayList<>();
+        boolean broken;
+        boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("client gone");
+            }
+            events.add(builder.build().stream().map(part -> part.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+    }
+
+    private NotificationSseService node(int maxConnections) {
+        return new NotificationSseService(redisTemplate, container, objectMapper, meterRegistry, maxConnections) {
+            @Override
+            SseEmitter newEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    private static NotificationDTO notification(long idx) {
+        return NotificationDTO.builder().idx(idx).userId(USER).title("새 댓글").content("댓글" + idx).build();
+    }
+
+    /** 마지막 execute 호출의 발행 메시지 (ARGV[6]) */
+    private String lastPublished() {
+        Object[] raw = mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(inv -> inv.getMethod().getName().equals("execute"))
+                .reduce((first, second) -> second)
+                .orElseThrow()
+                .getRawArguments();
+        return (String) ((Object[]) raw[2])[5];
+    }
+
+    @Test
+    @DisplayName("사용자의 모든 연결(탭·기기)에 알림을 보내고, 한도를 넘으면 가장 오래된 연결을 닫는다")
+    void deliversToEveryEmitterAndCapsPerUser() {
+        NotificationSseService service = node(2);
+        RecordingEmitter first = (RecordingEmitter) service.createConnection(USER, null);
+        RecordingEmitter second = (RecordingEmitter) service.createConnection(USER, null);
+
+        service.sendNotification(USER, notification(5L));
+
+        assertThat(first.events).hasSize(1);
+        assertThat(second.events.get(0)).contains("id:5").contains("event:notification").contains("댓글5");
+
+        RecordingEmitter third = (RecordingEmitter) service.createConnection(USER, null);
+        assertThat(first.completed).isTrue();
+        assertThat(service.getConnectionCount()).isEqualTo(2);
+        service.sendUnreadCount(USER, 3);
+        assertThat(first.events).hasSize(1);
+        assertThat(third.events.get(0)).contains("event:unreadCount").contains("data:3");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 알림은 이 노드의 연결로 전달하고, 자기 노드가 발행한 알림은 무시한다")
+    void fansOutAcrossNodesOnce() {
+        NotificationSseService nodeA = node(5);
+        NotificationSseService nodeB = node(5);
+        nodeB.subscribe();
+        verify(container).addMessageListener(nodeB, new ChannelTopic(NotificationSseService.CHANNEL));
+        RecordingEmitter onA = (RecordingEmitter) nodeA.createConnection(USER, null);
+        RecordingEmitter onB = (RecordingEmitter) nodeB.createConnection(USER, null);
+
+        nodeA.sendNotification(USER, notification(7L));
+        DefaultMessage published = new DefaultMessage(NotificationSseService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                lastPublished().getBytes(StandardCharsets.UTF_8));
+        nodeB.onMessage(published, null);
+        nodeA.onMessage(published, null);
+
+        assertThat(onA.events).hasSize(1);
+        assertThat(onB.events).hasSize(1);
+        assertThat(onB.events.get(0)).contains("id:7").contains("댓글7");
+
+        ArgumentCaptor<String> unread = ArgumentCaptor.forClass(String.class);
+        nodeA.sendUnreadCount(USER, 4);
+        verify(redisTemplate).convertAndSend(eq(NotificationSseService.CHANNEL), unread.capture());
+        nodeB.onMessage(new DefaultMessage(new byte[0], unread.getValue().getBytes(StandardCharsets.UTF_8)), null);
+        assertThat(onB.events.get(1)).contains("event:unreadCount").contains("data:4");
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 이후 버퍼에 남은 알림을 순서대로 다시 보낸다")
+    @SuppressWarnings("unchecked")
+    void replaysAfterLastEventId() throws Exception {
+        ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+        Set<TypedTuple<String>> missed = new LinkedHashSet<>();
+        missed.add(new DefaultTypedTuple<>(objectMapper.writeValueAsString(notification(11L)), 11.0));
+        missed.add(new DefaultTypedTuple<>(objectMapper.writeValueAsString(notification(12L)), 12.0));
+        when(zSet.rangeByScoreWithScores("notification:sse:replay:1", 11, Double.POSITIVE_INFINITY))
+                .thenReturn(missed);
+
+        RecordingEmitter emitter = (RecordingEmitter) node(5).createConnection(USER, "10");
+
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(0)).contains("id:11");
+        assertThat(emitter.events.get(1)).contains("id:12").contains("댓글12");
+    }
+
+    @Test
+    @DisplayName("알림은 재전송 버퍼 보관과 발행을 스크립트 한 번으로 처리한다 (최대 건수·TTL 전달)")
+    @SuppressWarnings("unchecked")
+    void buffersAndPublishesInOneScript() {
+        node(5).sendNotification(USER, notification(9L));
+
+        Object[] raw = mockingDetails(redisTemplate).getInvocations().stream()
+                .filter(inv -> inv.getMethod().getName().equals("execute"))
+                .findFirst().orElseThrow().getRawArguments();
+        assertThat((List<String>) raw[1]).containsExactly("notification:sse:replay:1");
+        Object[] args = (Object[]) raw[2];
+        assertThat(args[0]).isEqualTo("9");
+        assertThat(args[2]).isEqualTo(Integer.toString(NotificationSseService.REPLAY_SIZE));
+        assertThat(args[3]).isEqualTo("3600");
+        assertThat(args[4]).isEqualTo(NotificationSseService.CHANNEL);
+    }
+
+    @Test
+    @DisplayName("heartbeat 전송에 실패한 연결은 정리되고 연결 수 지표에 반영된다")
+    void heartbeatRemovesDeadConnections() {
+        NotificationSseService service = node(5);
+        RecordingEmitter alive = (RecordingEmitter) service.createConnection(USER, null);
+        RecordingEmitter dead = (RecordingEmitter) service.createConnection(USER, null);
+        service.createConnection(2L, null);
+        assertThat(meterRegistry.get("notification.sse.connections").gauge().value()).isEqualTo(3.0);
+
+        dead.broken = true;
+        assertThat(service.sendHeartbeat()).isEqualTo(1);
+
+        assertThat(alive.events).containsExactly(":heartbeat\n\n");
+        assertThat(meterRegistry.get("notification.sse.connections").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("notification.sse.users").gauge().value()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,116 @@
+package com.linkup.Petory.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.linkup.Petory.domain.notification.dto.NotificationDTO;
+import com.linkup.Petory.domain.notification.event.NotificationCreatedEvent;
+import com.linkup.Petory.domain.notification.event.NotificationReadEvent;
+import com.linkup.Petory.domain.notification.repository.NotificationRepository;
+
+/**
+ * NotificationUnreadCounter 단위 테스트
+ *
+ * 검증: 캐시 적중 시 COUNT 없음, 미스 시 DB COUNT 후 저장, Redis 장애 시 DB 대체,
+ * 생성·읽음·전체 읽음 시 증감한 값을 SSE로 전송, 키가 없을 때 증감 대신 DB에서 채움
+ */
+class NotificationUnreadCounterTest {
+
+    private static final long USER = 1L;
+    private static final String KEY = "notification:unread:1";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private NotificationRepository notificationRepository;
+    private NotificationSseService sseService;
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        notificationRepository = mock(NotificationRepository.class);
+        sseService = mock(NotificationSseService.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        counter = new NotificationUnreadCounter(redisTemplate, notificationRepository, sseService);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 시 COUNT 없이 반환하고, 미스 시 DB COUNT 값을 TTL과 함께 저장한다")
+    void getCountsOnlyOnMiss() {
+        when(valueOperations.get(KEY)).thenReturn("7");
+        assertThat(counter.get(USER)).isEqualTo(7L);
+        verify(notificationRepository, never()).countUnreadByUserId(USER);
+
+        when(valueOperations.get(KEY)).thenReturn(null);
+        when(notificationRepository.countUnreadByUserId(USER)).thenReturn(3L);
+        assertThat(counter.get(USER)).isEqualTo(3L);
+        verify(valueOperations).setIfAbsent(KEY, "3", Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Redis를 쓸 수 없으면 DB COUNT로 대체한다")
+    void redisFailureFallsBackToCount() {
+        when(valueOperations.get(KEY)).thenThrow(new QueryTimeoutException("timeout"));
+        when(notificationRepository.countUnreadByUserId(USER)).thenReturn(4L);
+
+        assertThat(counter.get(USER)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("알림 생성은 +1, 단건 읽음은 -1 한 값을 SSE로 보낸다")
+    @SuppressWarnings("unchecked")
+    void createdAndReadAdjustAndPush() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("1"), eq("3600"))).thenReturn(8L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("-1"), eq("3600"))).thenReturn(7L);
+        NotificationDTO notification = NotificationDTO.builder().idx(1L).userId(USER).build();
+
+        counter.onNotificationCreated(new NotificationCreatedEvent(notification));
+        verify(sseService).sendUnreadCount(USER, 8L);
+
+        counter.onNotificationRead(new NotificationReadEvent(USER, notification));
+        verify(sseService).sendUnreadCount(USER, 7L);
+        verify(notificationRepository, never()).countUnreadByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("카운터 키가 없으면 증감하지 않고 DB COUNT로 채운 값을 보낸다")
+    @SuppressWarnings("unchecked")
+    void missingKeyIsFilledFromDb() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("1"), eq("3600"))).thenReturn(null);
+        when(notificationRepository.countUnreadByUserId(USER)).thenReturn(5L);
+
+        counter.onNotificationCreated(new NotificationCreatedEvent(
+                NotificationDTO.builder().idx(1L).userId(USER).build()));
+
+        verify(valueOperations).setIfAbsent(KEY, "5", Duration.ofHours(1));
+        verify(sseService).sendUnreadCount(USER, 5L);
+    }
+
+    @Test
+    @DisplayName("전체 읽음은 카운터를 0으로 설정하고 0을 보낸다")
+    void readAllZeroes() {
+        counter.onNotificationRead(new NotificationReadEvent(USER, null));
+
+        verify(valueOperations).set(KEY, "0", Duration.ofHours(1));
+        verify(sseService).sendUnreadCount(USER, 0L);
+    }
+}
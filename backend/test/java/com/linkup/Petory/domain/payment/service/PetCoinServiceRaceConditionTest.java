@@ -20,10 +20,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.linkup.Petory.domain.payment.entity.PetCoinTransaction;
+import com.linkup.Petory.domain.payment.exception.InsufficientBalanceException;
 import com.linkup.Petory.domain.payment.repository.PetCoinTransactionRepository;
 import com.linkup.Petory.domain.payment.repository.SpringDataJpaPetCoinTransactionRepository;
+import com.linkup.Petory.domain.payment.repository.SpringDataJpaPetCoinWalletRepository;
 import com.linkup.Petory.domain.user.entity.Role;
 import com.linkup.Petory.domain.user.entity.UserStatus;
 import com.linkup.Petory.domain.user.entity.Users;
@@ -44,7 +47,10 @@ import org.slf4j.LoggerFactory;
  *
  * <p>해결: findByIdForUpdate 적용 후 "해결 후" 테스트가 통과해야 함.
  *
- * <p>DB 영향: 테스트 전용 User 생성, @AfterEach에서 거래내역·사용자 삭제로 실제 데이터 보호.
+ * <p>처리량 비교: users 행 비관적 락(이전 방식)과 pet_coin_wallet 조건부 UPDATE(현재 방식)를 같은 부하로 실행해
+ * 초당 처리 건수를 로그로 남김 (환경에 따라 수치가 달라 단정하지 않고 잔액 일관성만 검증).
+ *
+ * <p>DB 영향: 테스트 전용 User 생성, @AfterEach에서 거래내역·지갑·사용자 삭제로 실제 데이터 보호.
  *
  * @see docs/refactoring/payment/petcoin-service-race-condition.md
  */
@@ -64,6 +70,12 @@ class PetCoinServiceRaceConditionTest {
     @Autowired
     private SpringDataJpaPetCoinTransactionRepository jpaTransactionRepository;
 
+    @Autowired
+    private SpringDataJpaPetCoinWalletRepository jpaWalletRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     private static final Logger log = LoggerFactory.getLogger(PetCoinServiceRaceConditionTest.class);
 
     private Users testUser;
@@ -106,6 +118,7 @@ class PetCoinServiceRaceConditionTest {
                     jpaTransactionRepository.deleteAll(transactions);
                     log.info("[tearDown] 거래 내역 {}건 삭제 완료 (user_idx={})", transactions.size(), testUser.getIdx());
                 }
+                jpaWalletRepository.deleteById(testUser.getIdx());
                 usersRepository.deleteById(testUser.getIdx());
                 log.info("[tearDown] 테스트 사용자 삭제 완료: idx={}", testUser.getIdx());
             } catch (Exception e) {
@@ -387,4 +400,118 @@ class PetCoinServiceRaceConditionTest {
             log.warn("⚠️ refundCoins Race Condition 발생. findByIdForUpdate 적용 필요.");
         }
     }
+
+    @Test
+    @DisplayName("📊 처리량 비교: users 행 락 vs 지갑 조건부 UPDATE (동시 충전)")
+    void testThroughput_UsersRowLock_vs_Wallet() throws InterruptedException {
+        int threads = 10;
+        int opsPerThread = 20;
+        int amount = 1;
+        int totalOps = threads * opsPerThread;
+
+        // 이전 방식: users 행 FOR UPDATE → pet_coin_balance 갱신 (거래 내역 없이 락 구간만 재현)
+        double usersLockTps = measureThroughput("users 행 락", threads, opsPerThread,
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    Users locked = usersRepository.findByIdForUpdate(testUser.getIdx()).orElseThrow();
+                    locked.setPetCoinBalance(locked.getPetCoinBalance() + amount);
+                    usersRepository.save(locked);
+                }));
+
+        Users afterLockRun = usersRepository.findById(testUser.getIdx()).orElseThrow();
+        int walletInitial = petCoinService.getBalance(afterLockRun);
+
+        // 현재 방식: 지갑 조건부 UPDATE + 거래 내역 기록 (chargeCoins 전체 경로)
+        double walletTps = measureThroughput("지갑 조건부 UPDATE", threads, opsPerThread,
+                () -> petCoinService.chargeCoins(testUser, amount, "처리량비교"));
+
+        Users refreshedUser = usersRepository.findById(testUser.getIdx()).orElseThrow();
+        Integer finalBalance = petCoinService.getBalance(refreshedUser);
+
+        log.info("\n========== [처리량 비교] 결과 ==========");
+        log.info("users 행 락: {} tx/s, 지갑: {} tx/s ({}건씩)",
+                String.format("%.1f", usersLockTps), String.format("%.1f", walletTps), totalOps);
+        log.info("지갑 최종 잔액: {} (예상: {})", finalBalance, walletInitial + totalOps * amount);
+        log.info("======================================\n");
+
+        assertEquals(walletInitial + totalOps * amount, finalBalance,
+                "조건부 UPDATE는 동시 충전에서도 Lost Update가 없어야 함");
+        assertEquals(totalOps, transactionRepository
+                .findByUserOrderByCreatedAtDesc(testUser, Pageable.unpaged())
+                .getTotalElements(), "충전마다 거래 내역이 1건씩 기록되어야 함");
+    }
+
+    @Test
+    @DisplayName("✅ 지갑 조건부 차감: 동시 차감 시 잔액이 음수가 되지 않음")
+    void testDeductCoins_ConditionalUpdate_NoOverdraft() throws InterruptedException {
+        int concurrentCount = 15;
+        int deductAmount = 10;
+        int initialBalance = testUser.getPetCoinBalance(); // 100 → 최대 10건만 성공
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrentCount);
+        CountDownLatch readyLatch = new CountDownLatch(concurrentCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger rejectedCount = new AtomicInteger(0);
+
+        for (int i = 0; i < concurrentCount; i++) {
+            final int index = i;
+            executor.submit(() -> {
+                try {
+                    readyLatch.await();
+                    petCoinService.deductCoins(testUser, deductAmount, "TEST", (long) index, "초과차감테스트-" + index);
+                    successCount.incrementAndGet();
+                } catch (InsufficientBalanceException e) {
+                    rejectedCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("[차감-{}] 실패: {}", index, e.getMessage());
+                }
+            });
+            readyLatch.countDown();
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(15, TimeUnit.SECONDS));
+
+        Users refreshedUser = usersRepository.findById(testUser.getIdx()).orElseThrow();
+        Integer finalBalance = petCoinService.getBalance(refreshedUser);
+
+        log.info("[조건부 차감] 성공: {}건, 거절: {}건, 최종 잔액: {}", successCount.get(), rejectedCount.get(), finalBalance);
+
+        assertEquals(initialBalance / deductAmount, successCount.get());
+        assertEquals(concurrentCount - initialBalance / deductAmount, rejectedCount.get());
+        assertEquals(0, finalBalance);
+    }
+
+    /** threads개 스레드가 동시에 task를 opsPerThread번씩 실행하고 초당 처리 건수를 반환 */
+    private double measureThroughput(String label, int threads, int opsPerThread, Runnable task)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch readyLatch = new CountDownLatch(threads);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    readyLatch.await();
+                    for (int n = 0; n < opsPerThread; n++) {
+                        task.run();
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    log.error("[{}] 실패: {}", label, e.getMessage());
+                }
+            });
+            readyLatch.countDown();
+        }
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS), label + " 60초 내 완료");
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        assertEquals(threads * opsPerThread, successCount.get(), label + " 전체 성공");
+        double tps = successCount.get() / elapsedSeconds;
+        log.info("[{}] {}건 / {}s → {} tx/s", label, successCount.get(),
+                String.format("%.2f", elapsedSeconds), String.format("%.1f", tps));
+        return tps;
+    }
 }
@@ -0,0 +1,125 @@
+package com.linkup.Petory.domain.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.linkup.Petory.domain.payment.entity.PetCoinTransaction;
+import com.linkup.Petory.domain.payment.entity.TransactionType;
+import com.linkup.Petory.domain.payment.exception.InsufficientBalanceException;
+import com.linkup.Petory.domain.payment.repository.PetCoinEscrowRepository;
+import com.linkup.Petory.domain.payment.repository.PetCoinTransactionRepository;
+import com.linkup.Petory.domain.payment.repository.PetCoinWalletRepository;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.domain.user.exception.UserNotFoundException;
+
+/**
+ * PetCoinService 단위 테스트
+ *
+ * 검증: 지갑 조건부 UPDATE 결과로 거래 전후 잔액 기록, 지갑이 없으면 기존 잔액으로 생성 후 재시도,
+ * 잔액 부족·사용자 없음 예외, 잔액 조회의 지갑 우선·기존 잔액 폴백
+ */
+class PetCoinServiceTest {
+
+    private static final long USER_IDX = 7L;
+
+    private PetCoinWalletRepository walletRepository;
+    private PetCoinTransactionRepository transactionRepository;
+    private PetCoinService service;
+    private Users user;
+
+    @BeforeEach
+    void setUp() {
+        walletRepository = mock(PetCoinWalletRepository.class);
+        transactionRepository = mock(PetCoinTransactionRepository.class);
+        service = new PetCoinService(walletRepository, transactionRepository, mock(PetCoinEscrowRepository.class));
+        user = Users.builder().idx(USER_IDX).petCoinBalance(100).build();
+        when(transactionRepository.save(any(PetCoinTransaction.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("충전: 지갑 행만 증가시키고 증가 후 잔액 기준으로 거래 내역 기록")
+    void chargeCoins_recordsBalancesFromWallet() {
+        when(walletRepository.credit(USER_IDX, 30)).thenReturn(1);
+        when(walletRepository.findBalance(USER_IDX)).thenReturn(Optional.of(130));
+
+        PetCoinTransaction tx = service.chargeCoins(user, 30, null);
+
+        assertThat(tx.getTransactionType()).isEqualTo(TransactionType.CHARGE);
+        assertThat(tx.getBalanceBefore()).isEqualTo(100);
+        assertThat(tx.getBalanceAfter()).isEqualTo(130);
+        verify(walletRepository, never()).createFromLegacyBalance(anyLong());
+    }
+
+    @Test
+    @DisplayName("지급: 지갑이 없으면 기존 잔액으로 생성한 뒤 다시 증가")
+    void payoutCoins_seedsWalletOnFirstTransaction() {
+        when(walletRepository.credit(USER_IDX, 50)).thenReturn(0, 1);
+        when(walletRepository.createFromLegacyBalance(USER_IDX)).thenReturn(1);
+        when(walletRepository.findBalance(USER_IDX)).thenReturn(Optional.of(150));
+
+        PetCoinTransaction tx = service.payoutCoins(user, 50, "CARE_REQUEST", 3L, null);
+
+        assertThat(tx.getBalanceBefore()).isEqualTo(100);
+        assertThat(tx.getBalanceAfter()).isEqualTo(150);
+        assertThat(tx.getRelatedIdx()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("충전: 지갑 생성도 안 되면(사용자 없음) 예외")
+    void chargeCoins_unknownUser() {
+        when(walletRepository.credit(anyLong(), anyInt())).thenReturn(0);
+        when(walletRepository.createFromLegacyBalance(USER_IDX)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.chargeCoins(user, 10, null))
+                .isInstanceOf(UserNotFoundException.class);
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("차감: 조건부 UPDATE 성공 시 차감 후 잔액 기준으로 기록")
+    void deductCoins_conditionalUpdate() {
+        when(walletRepository.debitIfSufficient(USER_IDX, 40)).thenReturn(1);
+        when(walletRepository.findBalance(USER_IDX)).thenReturn(Optional.of(60));
+
+        PetCoinTransaction tx = service.deductCoins(user, 40, "CARE_REQUEST", 3L, null);
+
+        assertThat(tx.getTransactionType()).isEqualTo(TransactionType.DEDUCT);
+        assertThat(tx.getBalanceBefore()).isEqualTo(100);
+        assertThat(tx.getBalanceAfter()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("차감: 잔액 부족으로 갱신 0건이면 현재 잔액과 함께 예외, 거래 내역 없음")
+    void deductCoins_insufficientBalance() {
+        when(walletRepository.debitIfSufficient(USER_IDX, 500)).thenReturn(0);
+        when(walletRepository.createFromLegacyBalance(USER_IDX)).thenReturn(0);
+        when(walletRepository.findBalance(USER_IDX)).thenReturn(Optional.of(100));
+
+        assertThatThrownBy(() -> service.deductCoins(user, 500, "CARE_REQUEST", 3L, null))
+                .isInstanceOf(InsufficientBalanceException.class)
+                .hasMessageContaining("현재 잔액: 100");
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("잔액 조회: 지갑 우선, 지갑이 없으면 기존 잔액")
+    void getBalance_prefersWallet() {
+        when(walletRepository.findBalance(USER_IDX)).thenReturn(Optional.of(80), Optional.empty());
+
+        assertThat(service.getBalance(user)).isEqualTo(80);
+        assertThat(service.getBalance(user)).isEqualTo(100);
+    }
+}
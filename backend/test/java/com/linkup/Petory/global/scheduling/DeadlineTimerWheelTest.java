@@ -0,0 +1,114 @@
+package com.linkup.Petory.global.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeadlineTimerWheel 단위 테스트 (가상 시계로 tick 진행)
+ *
+ * 검증: 마감 tick에 정확히 한 번 발화, 재등록 시 이전 마감 대체, 취소, 지난 마감은 다음 tick에 발화,
+ * horizon 밖 마감 거부, 오래 멈춘 뒤에도 밀린 마감 모두 발화, 핸들러 예외가 다른 키에 영향 없음
+ */
+class DeadlineTimerWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong(START);
+    private final List<Long> fired = new ArrayList<>();
+    private DeadlineTimerWheel<Long> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new DeadlineTimerWheel<>("test", Duration.ofSeconds(1), 60, fired::add, now::get);
+    }
+
+    private void advanceTo(long millis) {
+        now.set(millis);
+        wheel.advance();
+    }
+
+    @Test
+    @DisplayName("마감 tick이 되면 한 번만 발화하고, 그 전에는 발화하지 않는다")
+    void firesOnceAtDeadline() {
+        wheel.schedule(1L, START + 5_500);
+        wheel.schedule(2L, START + 10_000);
+
+        advanceTo(START + 5_000);
+        assertThat(fired).isEmpty();
+        advanceTo(START + 6_000);
+        assertThat(fired).containsExactly(1L);
+        advanceTo(START + 20_000);
+        advanceTo(START + 30_000);
+        assertThat(fired).containsExactly(1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 등록하면 이전 마감은 무시되고, 취소한 키는 발화하지 않는다")
+    void rescheduleAndCancel() {
+        wheel.schedule(1L, START + 3_000);
+        wheel.schedule(1L, START + 8_000);
+        wheel.schedule(2L, START + 3_000);
+        wheel.cancel(2L);
+
+        advanceTo(START + 5_000);
+        assertThat(fired).isEmpty();
+        advanceTo(START + 8_000);
+        assertThat(fired).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감은 다음 tick에 발화하고, horizon 밖 마감은 등록하지 않는다(기존 등록도 해제)")
+    void pastDeadlineAndHorizon() {
+        wheel.schedule(1L, START - 60_000);
+        wheel.schedule(2L, START + 30_000);
+
+        assertThat(wheel.schedule(2L, START + wheel.horizon().toMillis() + 1_000)).isFalse();
+        assertThat(wheel.schedule(3L, START + wheel.horizon().toMillis())).isTrue();
+
+        advanceTo(START + 1_000);
+        assertThat(fired).containsExactly(1L);
+        advanceTo(START + 45_000);
+        assertThat(fired).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 멈췄다 재개해도 밀린 마감을 모두 발화하고, 이후 등록도 정상 동작한다")
+    void catchesUpAfterLongPause() {
+        wheel.schedule(1L, START + 10_000);
+        wheel.schedule(2L, START + 50_000);
+
+        advanceTo(START + 500_000);
+        assertThat(fired).containsExactlyInAnyOrder(1L, 2L);
+
+        wheel.schedule(3L, START + 502_000);
+        advanceTo(START + 502_000);
+        assertThat(fired).contains(3L);
+    }
+
+    @Test
+    @DisplayName("핸들러가 예외를 던져도 같은 tick의 다른 키는 발화한다")
+    void handlerFailureIsolated() {
+        List<Long> handled = new ArrayList<>();
+        DeadlineTimerWheel<Long> failing = new DeadlineTimerWheel<>("failing", Duration.ofSeconds(1), 60, key -> {
+            handled.add(key);
+            if (key == 1L) {
+                throw new IllegalStateException("boom");
+            }
+        }, now::get);
+        failing.schedule(1L, START + 2_000);
+        failing.schedule(2L, START + 2_000);
+
+        now.set(START + 2_000);
+        assertThat(failing.advance()).isEqualTo(2);
+        assertThat(handled).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
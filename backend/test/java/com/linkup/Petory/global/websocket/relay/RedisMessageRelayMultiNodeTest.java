@@ -0,0 +1,240 @@
+package com.linkup.Petory.global.websocket.relay;
+
+import com.linkup.Petory.domain.chat.controller.ChatWebSocketController;
+import com.linkup.Petory.domain.chat.dto.ChatMessageDTO;
+import com.linkup.Petory.domain.chat.dto.ChatWebSocketMessageRequest;
+import com.linkup.Petory.domain.chat.entity.MessageType;
+import com.linkup.Petory.domain.chat.service.ChatMessageService;
+import com.linkup.Petory.domain.chat.service.ChatTypingThrottle;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.domain.user.repository.UsersRepository;
+import com.linkup.Petory.global.security.RedisConfig;
+import com.linkup.Petory.global.websocket.security.StompPrincipal;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멀티 노드 WebSocket 릴레이 통합 테스트
+ *
+ * 같은 로컬 Redis(localhost:6379)를 바라보는 애플리케이션 컨텍스트 두 개(노드 A, B)를 띄우고,
+ * 노드 A의 ChatWebSocketController.sendMessage가 노드 B에 연결된 구독자에게 도달하는지 검증한다.
+ * 채팅 서비스·사용자 저장소는 목으로 대체하며, Redis에 연결할 수 없으면 건너뛴다.
+ */
+class RedisMessageRelayMultiNodeTest {
+
+    private static final String REDIS_HOST = "localhost";
+    private static final int REDIS_PORT = 6379;
+    private static final long CONVERSATION_ID = 7L;
+    private static final String DESTINATION = "/topic/conversation/" + CONVERSATION_ID;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        assumeTrue(redisReachable(), "로컬 Redis(" + REDIS_HOST + ":" + REDIS_PORT + ")가 없어 건너뜀");
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    private static boolean redisReachable() {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(REDIS_HOST, REDIS_PORT), 500);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(NodeConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "spring.main.banner-mode=off",
+                        "spring.data.redis.host=" + REDIS_HOST, "spring.data.redis.port=" + REDIS_PORT)
+                .run();
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node, String loginId) throws Exception {
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(Jackson2ObjectMapperBuilder.json().build());
+        client.setMessageConverter(converter);
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        return client.connectAsync("ws://localhost:" + port + "/ws?user=" + loginId,
+                new StompSessionHandlerAdapter() {
+                }).get(5, TimeUnit.SECONDS);
+    }
+
+    /** 채널을 구독 중인 Redis 클라이언트 수 (PUBLISH 수신자 수, 형식이 맞지 않는 메시지는 릴레이가 무시) */
+    @SuppressWarnings("unchecked")
+    private static long redisSubscribers(String destination) {
+        RedisTemplate<String, String> redisTemplate = nodeA.getBean("customStringRedisTemplate", RedisTemplate.class);
+        Long receivers = redisTemplate.convertAndSend(RedisMessageRelay.CHANNEL_PREFIX + destination, "probe");
+        return receivers != null ? receivers : 0;
+    }
+
+    @Test
+    @DisplayName("노드 A로 보낸 채팅 메시지가 노드 B의 구독자에게 전달되고, 구독이 없는 노드는 채널을 구독하지 않는다")
+    void sendMessageReachesSubscriberOnOtherNode() throws Exception {
+        ChatMessageService chatMessageService = nodeA.getBean(ChatMessageService.class);
+        when(chatMessageService.sendMessage(eq(CONVERSATION_ID), anyLong(), anyString(), any(MessageType.class)))
+                .thenAnswer(inv -> ChatMessageDTO.builder()
+                        .idx(100L)
+                        .conversationIdx(CONVERSATION_ID)
+                        .senderIdx(inv.getArgument(1))
+                        .content(inv.getArgument(2))
+                        .messageType(MessageType.TEXT.name())
+                        .createdAt(LocalDateTime.of(2026, 3, 15, 12, 0))
+                        .build());
+
+        BlockingQueue<ChatMessageDTO> received = new LinkedBlockingQueue<>();
+        StompSession subscriber = connect(nodeB, "bob");
+        subscriber.subscribe(DESTINATION, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChatMessageDTO.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((ChatMessageDTO) payload);
+            }
+        });
+
+        // 노드 B만 채널을 구독 (노드 A에는 로컬 구독자가 없음)
+        await().atMost(5, TimeUnit.SECONDS).until(() -> redisSubscribers(DESTINATION) == 1);
+        assertThat(nodeA.getBean(RedisMessageRelay.class).localSubscriberCount(DESTINATION)).isZero();
+        assertThat(nodeB.getBean(RedisMessageRelay.class).localSubscriberCount(DESTINATION)).isEqualTo(1);
+
+        StompSession sender = connect(nodeA, "alice");
+        ChatWebSocketMessageRequest request = new ChatWebSocketMessageRequest();
+        request.setConversationIdx(CONVERSATION_ID);
+        request.setContent("다른 노드로 안녕");
+        sender.send("/app/chat.send", request);
+
+        ChatMessageDTO message = received.poll(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.getContent()).isEqualTo("다른 노드로 안녕");
+        assertThat(message.getSenderIdx()).isEqualTo(1L);
+        assertThat(message.getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 3, 15, 12, 0));
+
+        // 마지막 로컬 구독자가 떠나면 노드 B도 채널 구독을 해제
+        subscriber.disconnect();
+        sender.disconnect();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> redisSubscribers(DESTINATION) == 0);
+    }
+
+    /**
+     * 노드 하나의 최소 구성: 운영과 같은 브로커 경로 + RedisConfig + 릴레이 + 채팅 WebSocket 컨트롤러
+     * JWT 인증 대신 쿼리 파라미터 user로 Principal을 정한다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableWebSocketMessageBroker
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebSocketServletAutoConfiguration.class,
+            JacksonAutoConfiguration.class })
+    @Import({ RedisConfig.class, RedisMessageRelay.class, ChatTypingThrottle.class, ChatWebSocketController.class })
+    static class NodeConfig implements WebSocketMessageBrokerConfigurer {
+
+        @Bean
+        ChatMessageService chatMessageService() {
+            return mock(ChatMessageService.class);
+        }
+
+        @Bean
+        UsersRepository usersRepository() {
+            UsersRepository usersRepository = mock(UsersRepository.class);
+            when(usersRepository.findByIdString("alice")).thenReturn(Optional.of(Users.builder().idx(1L).build()));
+            when(usersRepository.findByIdString("bob")).thenReturn(Optional.of(Users.builder().idx(2L).build()));
+            return usersRepository;
+        }
+
+        @Override
+        public void registerStompEndpoints(@NonNull StompEndpointRegistry registry) {
+            registry.addEndpoint("/ws").setHandshakeHandler(new DefaultHandshakeHandler() {
+                @Override
+                protected Principal determineUser(@NonNull ServerHttpRequest request,
+                        @NonNull WebSocketHandler wsHandler, @NonNull Map<String, Object> attributes) {
+                    String loginId = UriComponentsBuilder.fromUri(request.getURI()).build()
+                            .getQueryParams().getFirst("user");
+                    return new StompPrincipal(loginId);
+                }
+            });
+        }
+
+        @Override
+        public void configureMessageBroker(@NonNull MessageBrokerRegistry registry) {
+            registry.enableSimpleBroker("/topic", "/queue", "/user");
+            registry.setApplicationDestinationPrefixes("/app");
+            registry.setUserDestinationPrefix("/user");
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.linkup.Petory.global.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkup.Petory.domain.chat.dto.TypingStatusDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * RedisMessageRelay 단위 테스트
+ *
+ * 검증: 로컬 구독자가 있는 경로만 Redis 채널 구독, 마지막 구독 해제·세션 종료 시 채널 해제,
+ * 같은 구독 ID로 다른 경로를 구독하면 이전 경로 채널 해제,
+ * 로컬 전달 후 발행, 자기 노드 발행분 무시, 세션 종료 요청은 이 노드에서 처리하고 제어 채널로 다른 노드에 전달
+ */
+class RedisMessageRelayTest {
+
+    private static final String DESTINATION = "/topic/conversation/7";
+    private static final ChannelTopic CHANNEL = new ChannelTopic(RedisMessageRelay.CHANNEL_PREFIX + DESTINATION);
+
+    private SimpMessagingTemplate messagingTemplate;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMessageListenerContainer container;
+    private ApplicationEventPublisher eventPublisher;
+    private RedisMessageRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        redisTemplate = mock(RedisTemplate.class);
+        container = mock(RedisMessageListenerContainer.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        relay = new RedisMessageRelay(messagingTemplate, redisTemplate, container, new ObjectMapper(),
+                eventPublisher);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId,
+            String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        relay.handleSubscribe(new SessionSubscribeEvent(this,
+                frame(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination)));
+    }
+
+    @Test
+    @DisplayName("같은 경로의 첫 로컬 구독에서만 채널을 구독하고, 마지막 구독이 빠질 때 해제한다")
+    void subscribesChannelOnlyWhileLocalSubscribersExist() {
+        subscribe("s1", "sub-0", DESTINATION);
+        subscribe("s2", "sub-0", DESTINATION);
+        subscribe("s1", "sub-1", "/user/queue/errors");
+
+        verify(container, times(1)).addMessageListener(relay, CHANNEL);
+        verify(container, times(1)).addMessageListener(eq(relay), any(ChannelTopic.class));
+        assertThat(relay.localSubscriberCount(DESTINATION)).isEqualTo(2);
+
+        relay.handleUnsubscribe(new SessionUnsubscribeEvent(this,
+                frame(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+        verify(container, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        relay.handleDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, "s2", null, null), "s2", CloseStatus.NORMAL));
+        verify(container).removeMessageListener(relay, CHANNEL);
+        assertThat(relay.localSubscriberCount(DESTINATION)).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 세션·구독 ID로 다른 경로를 구독하면 이전 경로의 마지막 구독이 빠져 채널을 해제한다")
+    void resubscribeToOtherDestinationReleasesPreviousChannel() {
+        String other = "/topic/conversation/8";
+        subscribe("s1", "sub-0", DESTINATION);
+        subscribe("s1", "sub-0", other);
+
+        verify(container).removeMessageListener(relay, CHANNEL);
+        verify(container).addMessageListener(relay, new ChannelTopic(RedisMessageRelay.CHANNEL_PREFIX + other));
+        assertThat(relay.localSubscriberCount(DESTINATION)).isZero();
+        assertThat(relay.localSubscriberCount(other)).isEqualTo(1);
+
+        // 릴레이 대상이 아닌 경로로 옮겨도 이전 채널은 해제된다
+        subscribe("s1", "sub-0", "/user/queue/errors");
+        verify(container).removeMessageListener(relay,
+                new ChannelTopic(RedisMessageRelay.CHANNEL_PREFIX + other));
+        assertThat(relay.localSubscriberCount(other)).isZero();
+    }
+
+    @Test
+    @DisplayName("전송은 로컬 구독자에게 먼저 전달하고, /topic 경로만 노드 ID를 붙여 Redis에 발행한다")
+    void deliversLocallyAndPublishesTopics() {
+        relay.send(DESTINATION, new TypingStatusDTO(3L, true));
+        relay.send("/user/alice/queue/errors", "실패");
+
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(1)).convertAndSend(eq(CHANNEL.getTopic()), envelope.capture());
+        assertThat(envelope.getValue()).contains("\n{").endsWith("}");
+        verify(messagingTemplate).send(eq(DESTINATION), any());
+        verify(messagingTemplate).send(eq("/user/alice/queue/errors"), any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 발행분은 로컬로 전달하고, 자기 노드의 발행분은 무시한다")
+    @SuppressWarnings("unchecked")
+    void ignoresOwnPublications() {
+        relay.send(DESTINATION, new TypingStatusDTO(3L, true));
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(anyString(), envelope.capture());
+        relay.onMessage(new DefaultMessage(CHANNEL.getTopic().getBytes(StandardCharsets.UTF_8),
+                envelope.getValue().getBytes(StandardCharsets.UTF_8)), null);
+        verify(messagingTemplate, times(1)).send(eq(DESTINATION), any());
+
+        relay.onMessage(new DefaultMessage(CHANNEL.getTopic().getBytes(StandardCharsets.UTF_8),
+                "other-node\n{\"userId\":5}".getBytes(StandardCharsets.UTF_8)), null);
+
+        ArgumentCaptor<Message<byte[]>> delivered = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, times(2)).send(eq(DESTINATION), delivered.capture());
+        assertThat(new String(delivered.getValue().getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"userId\":5}");
+    }
+
+    @Test
+    @DisplayName("세션 종료 요청은 이 노드에 바로 발행하고 제어 채널로 보내며, 다른 노드의 요청만 받아 발행한다")
+    void revokesSessionsOnEveryNode() {
+        ChannelTopic control = new ChannelTopic(RedisMessageRelay.REVOKE_CHANNEL);
+        relay.subscribeControlChannel();
+        verify(container).addMessageListener(relay, control);
+
+        relay.revokeUserSessions(5L);
+        verify(eventPublisher, times(1)).publishEvent(new UserSessionsRevokedEvent(5L));
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(control.getTopic()), envelope.capture());
+        assertThat(envelope.getValue()).endsWith("\n5");
+
+        // 자기 노드 발행분은 이미 처리했으므로 무시
+        relay.onMessage(new DefaultMessage(control.getTopic().getBytes(StandardCharsets.UTF_8),
+                envelope.getValue().getBytes(StandardCharsets.UTF_8)), null);
+        verify(eventPublisher, times(1)).publishEvent(any(UserSessionsRevokedEvent.class));
+
+        relay.onMessage(new DefaultMessage(control.getTopic().getBytes(StandardCharsets.UTF_8),
+                "other-node\n6".getBytes(StandardCharsets.UTF_8)), null);
+        verify(eventPublisher).publishEvent(new UserSessionsRevokedEvent(6L));
+        verify(messagingTemplate, never()).send(anyString(), any());
+    }
+}
@@ -0,0 +1,154 @@
+package com.linkup.Petory.global.websocket.security;
+
+import com.linkup.Petory.domain.user.entity.Role;
+import com.linkup.Petory.domain.user.entity.UserStatus;
+import com.linkup.Petory.domain.user.entity.Users;
+import com.linkup.Petory.global.security.CustomUserDetails;
+import com.linkup.Petory.global.websocket.relay.UserSessionsRevokedEvent;
+import com.linkup.Petory.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 인증 인터셉터 + 세션 레지스트리 단위 테스트
+ *
+ * 검증: 인증 시 사용자 idx를 Principal·세션에 보관, CONNECT 세션 등록, 세션 종료 요청으로 인증 무효화·연결 종료 후 프레임 차단
+ */
+class WebSocketAuthChannelInterceptorTest {
+
+    private static final long USER_IDX = 42L;
+    private static final String LOGIN_ID = "petlover";
+    private static final String TOKEN = "access-token";
+
+    private JwtUtil jwtUtil;
+    private UserDetailsService userDetailsService;
+    private WebSocketSessionRegistry sessionRegistry;
+    private WebSocketAuthChannelInterceptor interceptor;
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = mock(JwtUtil.class);
+        userDetailsService = mock(UserDetailsService.class);
+        sessionRegistry = new WebSocketSessionRegistry();
+        interceptor = new WebSocketAuthChannelInterceptor(jwtUtil, userDetailsService, sessionRegistry);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static CustomUserDetails userDetails(UserStatus status) {
+        return CustomUserDetails.from(Users.builder().idx(USER_IDX).id(LOGIN_ID).role(Role.USER).status(status)
+                .build());
+    }
+
+    /** 핸드셰이크(WebSocketAuthenticationInterceptor)가 채운 것과 같은 세션 속성 */
+    private static Map<String, Object> handshakeAttributes() {
+        CustomUserDetails details = userDetails(UserStatus.ACTIVE);
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        attributes.put("userId", LOGIN_ID);
+        attributes.put("userIdx", USER_IDX);
+        attributes.put("authentication",
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+        return attributes;
+    }
+
+    private static Message<byte[]> frame(StompCommand command, Map<String, Object> attributes, String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(attributes);
+        if (token != null) {
+            accessor.setNativeHeader("Authorization", "Bearer " + token);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Principal userOf(Message<?> message) {
+        return StompHeaderAccessor.wrap(message).getUser();
+    }
+
+    @Test
+    @DisplayName("핸드셰이크에서 인증된 세션은 CONNECT 시 등록되고, Principal에 사용자 idx가 담긴다")
+    void connectCarriesUserIdxWithoutLookup() {
+        Message<?> result = interceptor.preSend(frame(StompCommand.CONNECT, handshakeAttributes(), null), channel);
+
+        assertThat(result).isNotNull();
+        assertThat(userOf(result)).isInstanceOfSatisfying(StompPrincipal.class, principal -> {
+            assertThat(principal.getName()).isEqualTo(LOGIN_ID);
+            assertThat(principal.getUserIdx()).isEqualTo(USER_IDX);
+        });
+        assertThat(sessionRegistry.sessionIdsOf(USER_IDX)).containsExactly("session-1");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("세션 종료 요청 후에는 세션 인증 캐시가 지워지고 연결이 닫히며 SEND 프레임이 차단된다")
+    void revocationInvalidatesAndClosesSession() throws Exception {
+        WebSocketSession connection = mock(WebSocketSession.class);
+        when(connection.getId()).thenReturn("session-1");
+        when(connection.isOpen()).thenReturn(true);
+        sessionRegistry.connectionOpened(connection);
+        Map<String, Object> attributes = handshakeAttributes();
+        interceptor.preSend(frame(StompCommand.CONNECT, attributes, null), channel);
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, attributes, null), channel)).isNotNull();
+
+        sessionRegistry.onUserSessionsRevoked(new UserSessionsRevokedEvent(USER_IDX));
+
+        verify(connection).close(CloseStatus.POLICY_VIOLATION);
+        assertThat(attributes).doesNotContainKeys("authentication", "userIdx");
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, attributes, null), channel)).isNull();
+
+        // 토큰을 다시 보내도 제재 계정은 재인증되지 않는다
+        when(jwtUtil.validateToken(TOKEN)).thenReturn(true);
+        when(jwtUtil.getIdFromToken(TOKEN)).thenReturn(LOGIN_ID);
+        when(userDetailsService.loadUserByUsername(LOGIN_ID)).thenReturn(userDetails(UserStatus.BANNED));
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, attributes, TOKEN), channel)).isNull();
+        assertThat(sessionRegistry.sessionIdsOf(USER_IDX)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰으로 인증한 경우에도 사용자 idx를 세션에 보관하고, 연결 해제 시 등록이 지워진다")
+    void tokenAuthenticationStoresUserIdx() {
+        when(jwtUtil.validateToken(TOKEN)).thenReturn(true);
+        when(jwtUtil.getIdFromToken(TOKEN)).thenReturn(LOGIN_ID);
+        when(userDetailsService.loadUserByUsername(LOGIN_ID)).thenReturn(userDetails(UserStatus.ACTIVE));
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+        Message<?> result = interceptor.preSend(frame(StompCommand.CONNECT, attributes, TOKEN), channel);
+
+        assertThat(attributes).containsEntry("userIdx", USER_IDX);
+        assertThat(((StompPrincipal) userOf(result)).getUserIdx()).isEqualTo(USER_IDX);
+        assertThat(sessionRegistry.sessionIdsOf(USER_IDX)).containsExactly("session-1");
+
+        sessionRegistry.handleDisconnect(new SessionDisconnectEvent(this,
+                frame(StompCommand.DISCONNECT, attributes, null), "session-1", CloseStatus.NORMAL));
+        assertThat(sessionRegistry.sessionIdsOf(USER_IDX)).isEmpty();
+    }
+}
@@ -115,10 +115,10 @@ export const getMessagesBefore = async (conversationIdx, beforeDate, size = 50)
 };
 
 /**
- * 메시지 읽음 처리
+ * 메시지 읽음 처리 (lastSeq: 마지막으로 읽은 메시지 순번, 없으면 대화방 끝까지)
  */
-export const markAsRead = async (conversationIdx, lastMessageIdx = null) => {
-  const params = lastMessageIdx != null ? { lastMessageIdx } : {};
+export const markAsRead = async (conversationIdx, lastSeq = null) => {
+  const params = lastSeq != null ? { lastSeq } : {};
   await api.post(`/messages/conversation/${conversationIdx}/read`, null, { params });
 };
 
@@ -42,10 +42,10 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
   const fileInputRef = useRef(null);
   const menuRef = useRef(null);
 
-  /** 수신 메시지 읽음: REST 호출을 묶어 서버·네트워크 부하 감소 */
+  /** 수신 메시지 읽음: 읽음 요청을 묶어 서버·네트워크 부하 감소 (메시지 seq 기준) */
   const READ_DEBOUNCE_MS = 500;
   const readDebounceTimerRef = useRef(null);
-  const pendingReadMessageIdxRef = useRef(null);
+  const pendingReadSeqRef = useRef(null);
 
   const clearReadDebounce = useCallback(() => {
     if (readDebounceTimerRef.current) {
@@ -54,40 +54,62 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
     }
   }, []);
 
+  // 읽음 처리 전송: WebSocket 연결 시 /app/chat.read, 아니면 HTTP API로 폴백
+  const sendReadReceipt = useCallback(
+    async (lastSeq) => {
+      if (!conversationIdx) return;
+      const client = stompClientRef.current;
+      if (client && client.connected) {
+        client.publish({
+          destination: `/app/chat.read`,
+          body: JSON.stringify({
+            conversationIdx: conversationIdx,
+            lastSeq: lastSeq,
+          }),
+          headers: {
+            Authorization: `Bearer ${localStorage.getItem('accessToken') || localStorage.getItem('token')}`,
+          },
+        });
+        return;
+      }
+      await markAsRead(conversationIdx, lastSeq);
+    },
+    [conversationIdx]
+  );
+
   const flushMarkAsRead = useCallback(
-    async (lastMessageIdx) => {
+    async (lastSeq) => {
       clearReadDebounce();
-      pendingReadMessageIdxRef.current = null;
+      pendingReadSeqRef.current = null;
       if (!conversationIdx) return;
       try {
-        await markAsRead(conversationIdx, lastMessageIdx);
+        await sendReadReceipt(lastSeq);
       } catch (err) {
         console.error('읽음 처리 실패:', err);
       }
     },
-    [conversationIdx, clearReadDebounce]
+    [conversationIdx, clearReadDebounce, sendReadReceipt]
   );
 
   const scheduleIncomingMessageRead = useCallback(
-    (messageIdx) => {
-      if (!conversationIdx || messageIdx == null) return;
-      const prev = pendingReadMessageIdxRef.current;
-      pendingReadMessageIdxRef.current =
-        prev == null ? messageIdx : Math.max(prev, messageIdx);
+    (seq) => {
+      if (!conversationIdx || seq == null) return;
+      const prev = pendingReadSeqRef.current;
+      pendingReadSeqRef.current = prev == null ? seq : Math.max(prev, seq);
 
       clearReadDebounce();
       readDebounceTimerRef.current = setTimeout(() => {
         readDebounceTimerRef.current = null;
-        const pending = pendingReadMessageIdxRef.current;
-        pendingReadMessageIdxRef.current = null;
+        const pending = pendingReadSeqRef.current;
+        pendingReadSeqRef.current = null;
         if (pending != null) {
-          markAsRead(conversationIdx, pending).catch((err) => {
+          sendReadReceipt(pending).catch((err) => {
             console.error('읽음 처리 실패:', err);
           });
         }
       }, READ_DEBOUNCE_MS);
     },
-    [conversationIdx, clearReadDebounce]
+    [conversationIdx, clearReadDebounce, sendReadReceipt]
   );
 
   const showToast = (message, type = 'error') => {
@@ -101,7 +123,7 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
     if (!conversationIdx || !user?.idx) return;
 
     clearReadDebounce();
-    pendingReadMessageIdxRef.current = null;
+    pendingReadSeqRef.current = null;
 
     setLoading(true);
     try {
@@ -114,7 +136,7 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
       // 읽음 처리 (초기 로드 — 디바운스 없이 즉시)
       if (sortedMessages.length > 0) {
         const lastMessage = sortedMessages[sortedMessages.length - 1];
-        await flushMarkAsRead(lastMessage.idx);
+        await flushMarkAsRead(lastMessage.seq);
       }
     } catch (error) {
       console.error('메시지 조회 실패:', error);
@@ -234,22 +256,19 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
               const messageData = JSON.parse(message.body);
               console.log('새 메시지 수신:', messageData);
 
-              // 중복 방지: 이미 있는 메시지는 추가하지 않음
+              // 중복 방지: 대화방 내 순번(seq)이 같은 메시지는 추가하지 않음
+              // (브로드캐스트 시점에는 아직 저장 전이라 idx가 없을 수 있음)
               setMessages(prev => {
-                const exists = prev.some(msg => msg.idx === messageData.idx);
+                const exists = prev.some(msg => msg.seq === messageData.seq);
                 if (exists) return prev;
                 const newMessages = [...prev, messageData];
-                // 시간순으로 정렬 (오래된 것부터 최신 순서 - 최신이 맨 아래)
-                return newMessages.sort((a, b) => {
-                  const timeA = new Date(a.createdAt).getTime();
-                  const timeB = new Date(b.createdAt).getTime();
-                  return timeA - timeB;
-                });
+                // 순번 순으로 정렬 (오래된 것부터 최신 순서 - 최신이 맨 아래)
+                return newMessages.sort((a, b) => a.seq - b.seq);
               });
 
               // 읽음 처리 (상대 메시지) — 디바운스로 연속 수신 시 1회에 가깝게 병합
               if (messageData.senderIdx !== user.idx) {
-                scheduleIncomingMessageRead(messageData.idx);
+                scheduleIncomingMessageRead(messageData.seq);
               }
             } catch (error) {
               console.error('메시지 파싱 실패:', error);
@@ -276,7 +295,7 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
     // cleanup
     return () => {
       clearReadDebounce();
-      pendingReadMessageIdxRef.current = null;
+      pendingReadSeqRef.current = null;
       if (stompClientRef.current) {
         stompClientRef.current.deactivate();
         stompClientRef.current = null;
@@ -326,8 +345,8 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
       } else {
         // HTTP API로 폴백
         const newMessage = await sendMessage(conversationIdx, imageUrl, 'IMAGE');
-        setMessages(prev => [...prev, newMessage]);
-        await flushMarkAsRead(newMessage.idx);
+        setMessages(prev => (prev.some(msg => msg.seq === newMessage.seq) ? prev : [...prev, newMessage]));
+        await flushMarkAsRead(newMessage.seq);
       }
     } catch (error) {
       console.error('이미지 업로드 실패:', error);
@@ -370,8 +389,8 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
       } else {
         // WebSocket이 연결되지 않은 경우 HTTP API로 폴백
         const newMessage = await sendMessage(conversationIdx, content);
-        setMessages(prev => [...prev, newMessage]);
-        await flushMarkAsRead(newMessage.idx);
+        setMessages(prev => (prev.some(msg => msg.seq === newMessage.seq) ? prev : [...prev, newMessage]));
+        await flushMarkAsRead(newMessage.seq);
       }
     } catch (error) {
       console.error('메시지 전송 실패:', error);
@@ -694,7 +713,7 @@ const ChatRoom = ({ conversationIdx, onClose, onBack, onAction }) => {
                 new Date(message.createdAt).getTime() - new Date(messages[index - 1].createdAt).getTime() > 60000;
 
               return (
-                <MessageWrapper key={message.idx || index} isMyMessage={isMyMessage}>
+                <MessageWrapper key={message.seq ?? index} isMyMessage={isMyMessage}>
                   {!isMyMessage && (
                     <SenderName>{message.senderUsername || otherParticipant?.username || '알 수 없음'}</SenderName>
                   )}